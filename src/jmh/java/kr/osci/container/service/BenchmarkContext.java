@@ -0,0 +1,85 @@
+package kr.osci.container.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.openapi.ApiClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.osci.container.config.AsyncConfig;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import kr.osci.container.repository.ContainerTemplateRepository;
+import kr.osci.container.service.activity.LocalActivitySource;
+import kr.osci.container.service.admission.AdmissionService;
+import kr.osci.container.service.placement.ClusterTargets;
+import kr.osci.container.service.placement.LeastLoadedPlacement;
+import kr.osci.container.service.placement.PlacementService;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * 벤치마크용 최소 스프링 컨텍스트
+ * - 실제 서비스 빈 + 메모리 리포지토리 + 네트워크 없는 K8s API 스텁
+ * - K8s 활성 경로(비동기 프로비저닝 포함)를 클러스터 없이 실행
+ */
+final class BenchmarkContext implements AutoCloseable {
+
+    private final AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+    private final InMemoryRepositories repositories = new InMemoryRepositories();
+
+    BenchmarkContext() {
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "kubernetes.enabled", "true",
+                "kubernetes.domain", "bench.local",
+                "kubernetes.registry", "registry.local",
+                "platform.admission.enabled", "false",
+                "platform.hibernation.activity-source", "local")));
+
+        context.registerBean(ContainerTemplateRepository.class, repositories::templateRepository);
+        context.registerBean(ContainerInstanceRepository.class, repositories::instanceRepository);
+        context.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+        context.registerBean(ObjectMapper.class, ObjectMapper::new);
+        context.registerBean(StubKubernetesApis.Apps.class, StubKubernetesApis.Apps::new);
+        context.registerBean(StubKubernetesApis.Core.class, StubKubernetesApis.Core::new);
+        context.registerBean(StubKubernetesApis.Networking.class, StubKubernetesApis.Networking::new);
+        // 워치는 시작하지 않음 - 캐시 미동기화 상태
+        context.registerBean(PodStatusCache.class, () -> new PodStatusCache(
+                new SharedInformerFactory(new ApiClient()), new ApiClient(), context) {
+            @Override
+            public void start() {
+            }
+        });
+        context.register(AsyncConfig.class, LocalActivitySource.class, PodSpecCompiler.class, TemplateCatalog.class,
+                InstanceMetrics.class, AdmissionService.class, KubernetesReadCache.class, KubernetesGuard.class,
+                KubernetesService.class, ClusterTargets.class, LeastLoadedPlacement.class, PlacementService.class,
+                ProvisioningService.class, ContainerService.class);
+        context.refresh();
+    }
+
+    ContainerTemplate addTemplate(String name, String image, int port, String envJson) {
+        ContainerTemplate template = context.getBean(ContainerTemplateRepository.class).save(ContainerTemplate.builder()
+                .name(name)
+                .image(image)
+                .port(port)
+                .envVariables(envJson)
+                .enabled(true)
+                .build());
+        context.getBean(TemplateCatalog.class).refresh();
+        return template;
+    }
+
+    InMemoryRepositories repositories() {
+        return repositories;
+    }
+
+    <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,65 @@
+package kr.osci.container.service;
+
+import kr.osci.container.dto.InstancePage;
+import kr.osci.container.entity.ContainerInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ContainerService 핫패스 - 스텁 K8s API 기준 생성/목록 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContainerServiceBenchmark {
+
+    @Param({"10", "100"})
+    public int instancesPerUser;
+
+    private BenchmarkContext context;
+    private ContainerService containerService;
+    private Long templateId;
+    private int userSeq;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new BenchmarkContext();
+        containerService = context.getBean(ContainerService.class);
+        templateId = context.addTemplate("VS Code", "code-server:latest", 8080, "{\"TZ\":\"Asia/Seoul\"}").getId();
+    }
+
+    // 반복마다 저장소를 비우고 조회 대상 사용자 인스턴스만 다시 채움 (메모리 누적 방지)
+    @Setup(Level.Iteration)
+    public void seed() {
+        context.repositories().clearInstances();
+        for (int i = 0; i < instancesPerUser; i++) {
+            containerService.createInstance(templateId, "bench-user");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ContainerInstance createInstance() {
+        // 사용자별 목록이 커지지 않도록 매번 다른 사용자
+        return containerService.createInstance(templateId, "user-" + (userSeq++));
+    }
+
+    @Benchmark
+    public InstancePage getUserInstances() {
+        return containerService.getUserInstances("bench-user", null, 50);
+    }
+}
@@ -0,0 +1,108 @@
+package kr.osci.container.service;
+
+import kr.osci.container.dto.InstanceSummary;
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import kr.osci.container.repository.ContainerTemplateRepository;
+import org.springframework.data.domain.Limit;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서비스 계층만 측정하기 위한 메모리 기반 리포지토리 (벤치마크에서 쓰는 메서드만 구현)
+ */
+final class InMemoryRepositories {
+
+    private final Map<Long, ContainerTemplate> templates = new ConcurrentHashMap<>();
+    private final Map<Long, ContainerInstance> instances = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    ContainerTemplateRepository templateRepository() {
+        return proxy(ContainerTemplateRepository.class, (proxy, method, args) -> switch (method.getName()) {
+            case "save" -> {
+                ContainerTemplate template = (ContainerTemplate) args[0];
+                if (template.getId() == null) {
+                    template.setId(ids.incrementAndGet());
+                }
+                templates.put(template.getId(), template);
+                yield template;
+            }
+            case "findById" -> Optional.ofNullable(templates.get((Long) args[0]));
+            case "findAll" -> new ArrayList<>(templates.values());
+            case "findByEnabledTrue" -> templates.values().stream()
+                    .filter(template -> Boolean.TRUE.equals(template.getEnabled()))
+                    .toList();
+            case "fingerprint" -> List.<Object[]>of(new Object[]{(long) templates.size()});
+            default -> objectMethod(proxy, method.getName(), args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    ContainerInstanceRepository instanceRepository() {
+        return proxy(ContainerInstanceRepository.class, (proxy, method, args) -> switch (method.getName()) {
+            case "save" -> save((ContainerInstance) args[0]);
+            case "saveAll" -> {
+                List<ContainerInstance> saved = new ArrayList<>();
+                ((Iterable<ContainerInstance>) args[0]).forEach(instance -> saved.add(save(instance)));
+                yield saved;
+            }
+            case "findById" -> Optional.ofNullable(instances.get((Long) args[0]));
+            case "findByPodName" -> instances.values().stream()
+                    .filter(instance -> instance.getPodName().equals(args[0]))
+                    .findFirst();
+            case "findByUserIdAndStatusIn" -> instances.values().stream()
+                    .filter(instance -> instance.getUserId().equals(args[0]))
+                    .filter(instance -> ((Collection<?>) args[1]).contains(instance.getStatus()))
+                    .toList();
+            case "findSummariesByUser" -> instances.values().stream()
+                    .filter(instance -> instance.getUserId().equals(args[0]))
+                    .filter(instance -> ((Collection<?>) args[1]).contains(instance.getStatus()))
+                    .filter(instance -> args[2] == null || instance.getId() < (Long) args[2])
+                    .sorted(Comparator.comparing(ContainerInstance::getId).reversed())
+                    .limit(((Limit) args[3]).max())
+                    .map(instance -> InstanceSummary.of(instance, instance.getTemplate()))
+                    .toList();
+            case "countGroupByStatus" -> List.of();
+            default -> objectMethod(proxy, method.getName(), args);
+        });
+    }
+
+    /**
+     * 반복(iteration) 사이 누적된 인스턴스 정리
+     */
+    void clearInstances() {
+        instances.clear();
+    }
+
+    private ContainerInstance save(ContainerInstance instance) {
+        if (instance.getId() == null) {
+            instance.setId(ids.incrementAndGet());
+        }
+        instances.put(instance.getId(), instance);
+        return instance;
+    }
+
+    private static Object objectMethod(Object proxy, String name, Object[] args) {
+        return switch (name) {
+            case "toString" -> "InMemoryRepository";
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            default -> throw new UnsupportedOperationException(name);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
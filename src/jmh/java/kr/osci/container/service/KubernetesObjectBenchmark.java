@@ -0,0 +1,80 @@
+package kr.osci.container.service;
+
+import kr.osci.container.entity.ContainerTemplate;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1Ingress;
+import io.kubernetes.client.openapi.models.V1Service;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kubernetes 객체 구성 비용
+ * - 템플릿 컴파일(환경변수 파싱 포함)은 템플릿 저장/로드 시 1회
+ * - 실행마다 발생하는 비용은 프로토타입 → Deployment, Service/Ingress 구성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KubernetesObjectBenchmark {
+
+    @Param({"{}", "{\"TZ\":\"Asia/Seoul\",\"LANG\":\"ko_KR.UTF-8\",\"PIP_INDEX_URL\":\"http://pypi.local/simple\"}"})
+    public String envJson;
+
+    private BenchmarkContext context;
+    private KubernetesService kubernetesService;
+    private PodSpecCompiler podSpecCompiler;
+    private ContainerTemplate template;
+    private PodSpecPrototype prototype;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new BenchmarkContext();
+        kubernetesService = context.getBean(KubernetesService.class);
+        podSpecCompiler = context.getBean(PodSpecCompiler.class);
+        template = context.addTemplate("Jupyter Notebook", "jupyter:latest", 8888, envJson);
+        prototype = context.getBean(TemplateCatalog.class).prototype(template);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<V1EnvVar> parseEnvVariables() {
+        return podSpecCompiler.parseEnvVariables(envJson);
+    }
+
+    @Benchmark
+    public PodSpecPrototype compileTemplate() {
+        return podSpecCompiler.compile(template);
+    }
+
+    @Benchmark
+    public V1Deployment buildDeployment() {
+        return prototype.toDeployment("jupyter-notebook-1a2b3c4d", "user-containers", Map.of());
+    }
+
+    @Benchmark
+    public V1Service buildService() {
+        return kubernetesService.buildService("jupyter-notebook-1a2b3c4d", 8888);
+    }
+
+    @Benchmark
+    public V1Ingress buildIngress() {
+        return kubernetesService.buildIngress("jupyter-notebook-1a2b3c4d", "1a2b3c4d.bench.local", 8888);
+    }
+}
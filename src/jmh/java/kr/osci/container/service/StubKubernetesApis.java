@@ -0,0 +1,54 @@
+package kr.osci.container.service;
+
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.apis.AppsV1Api;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.apis.NetworkingV1Api;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1Ingress;
+import io.kubernetes.client.openapi.models.V1Service;
+
+/**
+ * 네트워크 호출 없이 요청 본문을 그대로 돌려주는 K8s API 스텁
+ */
+final class StubKubernetesApis {
+
+    private StubKubernetesApis() {
+    }
+
+    static final class Apps extends AppsV1Api {
+        Apps() {
+            super(new ApiClient());
+        }
+
+        @Override
+        public V1Deployment createNamespacedDeployment(String namespace, V1Deployment body, String pretty,
+                                                       String dryRun, String fieldManager, String fieldValidation) {
+            return body;
+        }
+    }
+
+    static final class Core extends CoreV1Api {
+        Core() {
+            super(new ApiClient());
+        }
+
+        @Override
+        public V1Service createNamespacedService(String namespace, V1Service body, String pretty,
+                                                 String dryRun, String fieldManager, String fieldValidation) {
+            return body;
+        }
+    }
+
+    static final class Networking extends NetworkingV1Api {
+        Networking() {
+            super(new ApiClient());
+        }
+
+        @Override
+        public V1Ingress createNamespacedIngress(String namespace, V1Ingress body, String pretty,
+                                                 String dryRun, String fieldManager, String fieldValidation) {
+            return body;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package kr.osci.container.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class AsyncConfig {
+
+    // K8s 리소스 생성/삭제 전용 - 블로킹 API 호출을 가상 스레드에서 실행
+    @Bean(destroyMethod = "close")
+    public ExecutorService provisioningExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("provision-", 0).factory());
+    }
+
+    // K8s API 호출 실행 - 호출측은 KubernetesGuard 의 작업별 timeout 까지만 대기
+    @Bean(destroyMethod = "close")
+    public ExecutorService kubernetesCallExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("k8s-call-", 0).factory());
+    }
+}
@@ -16,6 +16,12 @@ public class DataInitializer implements CommandLineRunner {
 
     @Override
     public void run(String... args) {
+        // 파일 기반 DB 재시작 시 중복 등록 방지
+        if (templateRepository.count() > 0) {
+            log.info("Container templates already present: {} templates", templateRepository.count());
+            return;
+        }
+
         log.info("Initializing container templates...");
 
         // VS Code (code-server)
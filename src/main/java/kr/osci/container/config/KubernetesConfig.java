@@ -1,13 +1,17 @@
 package kr.osci.container.config;
 
+import io.kubernetes.client.informer.SharedInformerFactory;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.openapi.apis.AppsV1Api;
 import io.kubernetes.client.openapi.apis.NetworkingV1Api;
 import io.kubernetes.client.util.Config;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 import java.io.IOException;
 
@@ -15,14 +19,32 @@ import java.io.IOException;
 @ConditionalOnProperty(name = "kubernetes.enabled", havingValue = "true")
 public class KubernetesConfig {
 
+    // 지정 시 해당 API 서버로 직접 연결 (부하 테스트용 가짜 API 서버 등), 미지정 시 기본 설정
+    @Value("${kubernetes.api-url:}")
+    private String apiUrl;
+
     @Bean
+    @Primary
     public ApiClient apiClient() throws IOException {
         // 클러스터 내부에서 ServiceAccount 자동 인증 사용
-        ApiClient client = Config.defaultClient();
+        ApiClient client = createClient();
         io.kubernetes.client.openapi.Configuration.setDefaultApiClient(client);
         return client;
     }
 
+    // Informer(watch) 전용 클라이언트 - 장시간 연결을 위해 read timeout 비활성화
+    @Bean
+    public ApiClient informerApiClient() throws IOException {
+        ApiClient client = createClient();
+        client.setReadTimeout(0);
+        return client;
+    }
+
+    @Bean
+    public SharedInformerFactory sharedInformerFactory(@Qualifier("informerApiClient") ApiClient informerApiClient) {
+        return new SharedInformerFactory(informerApiClient);
+    }
+
     @Bean
     public CoreV1Api coreV1Api(ApiClient apiClient) {
         return new CoreV1Api(apiClient);
@@ -37,4 +59,15 @@ public class KubernetesConfig {
     public NetworkingV1Api networkingV1Api(ApiClient apiClient) {
         return new NetworkingV1Api(apiClient);
     }
-}
\ No newline at end of file
+
+    private ApiClient createClient() throws IOException {
+        return createClient(apiUrl);
+    }
+
+    /**
+     * API 서버 주소 지정 시 직접 연결, 미지정 시 기본 설정 (추가 배치 대상에서도 사용)
+     */
+    public static ApiClient createClient(String apiUrl) throws IOException {
+        return apiUrl == null || apiUrl.isBlank() ? Config.defaultClient() : Config.fromUrl(apiUrl, false);
+    }
+}
@@ -13,6 +13,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOriginPatterns("*")  // 모든 Origin 허용
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("X-Next-Cursor", "Retry-After", "ETag")  // 키셋 페이지 커서, 429/503 재시도 간격, 조건부 GET
                 .allowCredentials(true);
     }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+package kr.osci.container.controller;
+
+import kr.osci.container.dto.InstanceSummary;
+import kr.osci.container.dto.UsageReport;
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.entity.ResourceProfile;
+import kr.osci.container.service.ContainerService;
+import kr.osci.container.service.ImagePrePullService;
+import kr.osci.container.service.SharedIngressRouter;
+import kr.osci.container.service.lifecycle.LifecycleEventLog;
+import kr.osci.container.service.placement.ClusterCapacity;
+import kr.osci.container.service.placement.ClusterTargets;
+import kr.osci.container.service.placement.PlacementService;
+import kr.osci.container.service.resources.ResourceRecommender;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final ContainerService containerService;
+    private final ObjectProvider<SharedIngressRouter> sharedIngressRouter;
+    private final ObjectProvider<ImagePrePullService> imagePrePullService;
+    private final ObjectProvider<PlacementService> placementService;
+    private final ObjectProvider<ClusterCapacity> clusterCapacity;
+    private final ObjectProvider<ClusterTargets> clusterTargets;
+    private final ResourceRecommender resourceRecommender;
+    private final LifecycleEventLog lifecycleEventLog;
+
+    // 전체 사용자 인스턴스 목록 (상태/템플릿/사용자 필터, 최신순, 다음 페이지 커서는 X-Next-Cursor 헤더)
+    @GetMapping("/instances")
+    public ResponseEntity<List<InstanceSummary>> getInstances(
+            @RequestParam(required = false) List<ContainerInstance.ContainerStatus> status,
+            @RequestParam(required = false) Long templateId,
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return PageResponses.of(containerService.listInstances(status, templateId, userId, cursor, size));
+    }
+
+    // 인스턴스별 Ingress → 공유 Ingress 이전 (kubernetes.ingress.mode=shared 일 때만)
+    @PostMapping("/ingress/migrate")
+    public ResponseEntity<Map<String, Integer>> migrateIngresses() {
+        SharedIngressRouter router = sharedIngressRouter.getIfAvailable();
+        if (router == null) {
+            throw new IllegalArgumentException("Shared ingress mode is not enabled");
+        }
+        return ResponseEntity.ok(Map.of("migrated", router.migrateLegacyIngresses()));
+    }
+
+    // 템플릿별 이미지 사전 다운로드 노드 현황 (platform.prepull.enabled 일 때만)
+    @GetMapping("/prepull")
+    public List<ImagePrePullService.PullStatus> getPrePullStatus() {
+        ImagePrePullService prePull = imagePrePullService.getIfAvailable();
+        if (prePull == null) {
+            throw new IllegalArgumentException("Image pre-pull is not enabled");
+        }
+        return prePull.status();
+    }
+
+    // 배치 대상별 활성 인스턴스 수/용량
+    @GetMapping("/targets")
+    public List<Map<String, Object>> getTargets() {
+        PlacementService placement = placementService.getIfAvailable();
+        if (placement == null) {
+            throw new IllegalArgumentException("Kubernetes is not enabled");
+        }
+        return placement.currentLoads().values().stream()
+                .map(load -> Map.<String, Object>of(
+                        "name", load.target().name(),
+                        "namespace", load.target().namespace(),
+                        "capacity", load.target().capacity(),
+                        "active", load.active(),
+                        "templates", load.target().templates()))
+                .toList();
+    }
+
+    // 배치 대상별 노드 여유 자원 (platform.launch-queue.enabled 일 때만, 대기 목록은 /instances?status=QUEUED)
+    @GetMapping("/capacity")
+    public Map<String, ClusterCapacity.Resources> getCapacity() {
+        ClusterCapacity capacity = clusterCapacity.getIfAvailable();
+        if (capacity == null) {
+            throw new IllegalArgumentException("Launch queue is not enabled");
+        }
+        Map<String, ClusterCapacity.Resources> free = new LinkedHashMap<>();
+        capacity.headroom(clusterTargets.getObject().all()).forEach((name, headroom) -> free.put(name, headroom.free()));
+        return free;
+    }
+
+    // 템플릿별 관측 사용량 백분위와 추천 requests/limits (샘플 부족 시 recommended 없음)
+    @GetMapping("/resources/recommendations")
+    public List<ResourceRecommender.Recommendation> getResourceRecommendations() {
+        return resourceRecommender.recommendations();
+    }
+
+    // 추천 프로필을 템플릿에 반영 (이후 실행분부터 적용)
+    @PostMapping("/resources/{templateId}/apply")
+    public ResourceProfile applyResourceRecommendation(@PathVariable Long templateId) {
+        return resourceRecommender.apply(templateId);
+    }
+
+    // 기간 사용량 (실행 수/RUNNING 시간) - 사용자/템플릿/일별 합계, 기본 기간은 이번 달 1일~오늘
+    @GetMapping("/usage")
+    public List<UsageReport> getUsage(
+            @RequestParam(defaultValue = "USER") LifecycleEventLog.GroupBy groupBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) Long templateId) {
+        LocalDate today = LocalDate.now();
+        return lifecycleEventLog.report(groupBy,
+                from != null ? from : today.withDayOfMonth(1),
+                to != null ? to : today,
+                userId, templateId);
+    }
+}
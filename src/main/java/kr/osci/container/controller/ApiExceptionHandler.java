@@ -0,0 +1,49 @@
+package kr.osci.container.controller;
+
+import kr.osci.container.service.KubernetesUnavailableException;
+import kr.osci.container.service.admission.AdmissionRejectedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * API 공통 예외 응답
+ */
+@RestControllerAdvice
+@Slf4j
+public class ApiExceptionHandler {
+
+    // 잘못된 요청 값 (템플릿 검증 실패 등) → 400
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgument(IllegalArgumentException e) {
+        log.warn("Bad request: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+
+    // 승인 거절 (quota/속도 제한/진행 중 작업 상한) → 429 + Retry-After(초)
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<Map<String, String>> handleAdmissionRejected(AdmissionRejectedException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(e.getRetryAfter()))
+                .body(Map.of("error", e.getMessage(), "reason", e.getReason()));
+    }
+
+    // K8s API 장애 (circuit open/bulkhead 포화/시간 초과) → 503 + Retry-After(초)
+    @ExceptionHandler(KubernetesUnavailableException.class)
+    public ResponseEntity<Map<String, String>> handleKubernetesUnavailable(KubernetesUnavailableException e) {
+        log.warn("Kubernetes unavailable: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(e.getRetryAfter()))
+                .body(Map.of("error", e.getMessage(), "reason", e.getReason()));
+    }
+
+    private static String retryAfterSeconds(Duration retryAfter) {
+        return String.valueOf(Math.max(1, (retryAfter.toMillis() + 999) / 1000));
+    }
+}
@@ -1,14 +1,31 @@
 package kr.osci.container.controller;
 
-import kr.osci.container.entity.ContainerInstance;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
+import kr.osci.container.dto.BulkCreateRequest;
+import kr.osci.container.dto.BulkItemResult;
+import kr.osci.container.dto.BulkStopRequest;
+import kr.osci.container.dto.InstanceSummary;
 import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.entity.InstanceEvent;
+import kr.osci.container.entity.ResourceProfile;
+import kr.osci.container.service.BulkInstanceService;
 import kr.osci.container.service.ContainerService;
+import kr.osci.container.service.InstanceEventStream;
+import kr.osci.container.service.TemplateCatalog;
+import kr.osci.container.service.lifecycle.LifecycleEventLog;
+import kr.osci.container.service.queue.LaunchQueue;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 @RestController
 @RequestMapping("/api/containers")
@@ -16,11 +33,28 @@ import java.util.Map;
 public class ContainerController {
 
     private final ContainerService containerService;
+    private final BulkInstanceService bulkInstanceService;
+    private final InstanceEventStream instanceEventStream;
+    private final LifecycleEventLog lifecycleEventLog;
+    private final ObjectMapper objectMapper;
 
-    // 사용 가능한 템플릿 목록 조회
+    // 템플릿 목록 직렬화 결과 - 카탈로그 버전이 바뀔 때만 다시 직렬화
+    private final AtomicReference<JsonResponses.Cached> templatesJson = new AtomicReference<>();
+
+    // 사용 가능한 템플릿 목록 조회 (ETag 일치 시 304 - DB 조회/직렬화 없음)
     @GetMapping("/templates")
-    public ResponseEntity<List<ContainerTemplate>> getTemplates() {
-        return ResponseEntity.ok(containerService.getAvailableTemplates());
+    public ResponseEntity<byte[]> getTemplates(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        TemplateCatalog.Snapshot snapshot = containerService.getTemplateSnapshot();
+        JsonResponses.Cached cached = templatesJson.get();
+        if (cached == null || cached.version() < snapshot.version()) {
+            // 동시 요청이 더 오래된 스냅샷으로 덮어쓰지 않도록 버전이 클 때만 교체 (CAS)
+            JsonResponses.Cached serialized = JsonResponses.serialize(objectMapper, snapshot.version(), snapshot.enabled());
+            cached = templatesJson.accumulateAndGet(serialized,
+                    (current, next) -> current == null || current.version() < next.version() ? next : current);
+        }
+        // 템플릿 변경이 바로 보이도록 매번 재검증
+        return JsonResponses.of(ifNoneMatch, cached, CacheControl.noCache());
     }
 
     // 템플릿 추가
@@ -29,28 +63,81 @@ public class ContainerController {
         return ResponseEntity.ok(containerService.addTemplate(template));
     }
 
-    // 컨테이너 인스턴스 생성 (실행)
+    // 컨테이너 인스턴스 생성 (실행) - CPU/메모리 지정 시 템플릿 프로필 대신 사용 (예: memoryLimit=4Gi)
     @PostMapping("/instances")
-    public ResponseEntity<ContainerInstance> createInstance(
+    public ResponseEntity<InstanceSummary> createInstance(
             @RequestParam Long templateId,
-            @RequestParam(defaultValue = "default-user") String userId) {
-        return ResponseEntity.ok(containerService.createInstance(templateId, userId));
+            @RequestParam(defaultValue = "default-user") String userId,
+            @RequestParam(required = false) String cpuRequest,
+            @RequestParam(required = false) String memoryRequest,
+            @RequestParam(required = false) String cpuLimit,
+            @RequestParam(required = false) String memoryLimit) {
+        ResourceProfile resources = cpuRequest == null && memoryRequest == null && cpuLimit == null && memoryLimit == null
+                ? null : new ResourceProfile(cpuRequest, memoryRequest, cpuLimit, memoryLimit);
+        return ResponseEntity.ok(containerService.toSummary(containerService.createInstance(templateId, userId, resources)));
     }
 
-    // 사용자의 인스턴스 목록 조회
+    // 인스턴스 일괄 생성 (수업/워크숍)
+    @PostMapping("/instances/bulk")
+    public ResponseEntity<List<BulkItemResult>> createInstances(@Valid @RequestBody BulkCreateRequest request) {
+        return ResponseEntity.ok(bulkInstanceService.createInstances(request.templateId(), request.userIds()));
+    }
+
+    // 인스턴스 일괄 중지 (사용자/템플릿/라벨 조건)
+    @PostMapping("/instances/bulk/stop")
+    public ResponseEntity<List<BulkItemResult>> stopInstances(@Valid @RequestBody BulkStopRequest request) {
+        return ResponseEntity.ok(bulkInstanceService.stopInstances(request));
+    }
+
+    // 사용자의 인스턴스 목록 조회 (최신순, 다음 페이지 커서는 X-Next-Cursor 헤더)
     @GetMapping("/instances")
-    public ResponseEntity<List<ContainerInstance>> getUserInstances(
+    public ResponseEntity<byte[]> getUserInstances(
+            @RequestParam(defaultValue = "default-user") String userId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return PageResponses.of(containerService.getUserInstances(userId, cursor, size), ifNoneMatch, objectMapper);
+    }
+
+    // 사용자 인스턴스 상태 스트림 (SSE) - 폴링 대체
+    @GetMapping(value = "/instances/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamInstances(
             @RequestParam(defaultValue = "default-user") String userId) {
-        return ResponseEntity.ok(containerService.getUserInstances(userId));
+        return instanceEventStream.subscribe(userId);
     }
 
-    // 인스턴스 중지
+    // 인스턴스 중지 (STOPPING 표시 후 즉시 응답, STOPPED 확정은 이벤트 스트림으로 전달)
     @DeleteMapping("/instances/{instanceId}")
     public ResponseEntity<Void> stopInstance(@PathVariable Long instanceId) {
         containerService.stopInstance(instanceId);
         return ResponseEntity.ok().build();
     }
 
+    // 휴면 인스턴스 재개
+    @PostMapping("/instances/{instanceId}/resume")
+    public ResponseEntity<InstanceSummary> resumeInstance(@PathVariable Long instanceId) {
+        return ResponseEntity.ok(containerService.toSummary(containerService.resumeInstance(instanceId)));
+    }
+
+    // 사용 기록 (heartbeat)
+    @PostMapping("/instances/{instanceId}/activity")
+    public ResponseEntity<Void> recordActivity(@PathVariable Long instanceId) {
+        containerService.recordActivity(instanceId);
+        return ResponseEntity.ok().build();
+    }
+
+    // 대기열 위치 (대기 중이 아니면 404)
+    @GetMapping("/instances/{instanceId}/queue")
+    public ResponseEntity<LaunchQueue.Position> getQueuePosition(@PathVariable Long instanceId) {
+        return ResponseEntity.of(containerService.getQueuePosition(instanceId));
+    }
+
+    // 상태 전이 이력 (비동기 기록 - 최근 1~2초 전이는 아직 없을 수 있음)
+    @GetMapping("/instances/{instanceId}/events")
+    public List<InstanceEvent> getInstanceEvents(@PathVariable Long instanceId) {
+        return lifecycleEventLog.history(instanceId);
+    }
+
     // Pod 상태 확인 API (신규)
     @GetMapping("/instances/{instanceId}/status")
     public ResponseEntity<Map<String, String>> getInstanceStatus(@PathVariable Long instanceId) {
@@ -0,0 +1,93 @@
+package kr.osci.container.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 직렬화한 JSON 본문 + 내용 기반 강한 ETag 응답
+ * - If-None-Match 일치 시 본문 없이 304
+ * - ETag 는 본문 해시 (레플리카마다 카탈로그 버전 번호가 달라도 같은 내용이면 같은 값)
+ * - gzip 압축 시 컨테이너가 W/ 접두어를 붙일 수 있어 비교는 약한 비교 (GET 조건부 요청 기준)
+ */
+final class JsonResponses {
+
+    /**
+     * 직렬화 결과 - version 은 호출측 데이터 버전 (변경 시에만 다시 직렬화)
+     */
+    record Cached(long version, byte[] body, String etag) {
+    }
+
+    private JsonResponses() {
+    }
+
+    static Cached serialize(ObjectMapper objectMapper, long version, Object value) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response", e);
+        }
+        return new Cached(version, body, etag(body));
+    }
+
+    static ResponseEntity<byte[]> of(String ifNoneMatch, Cached cached, CacheControl cacheControl) {
+        return of(ifNoneMatch, cached, cacheControl, HttpHeaders.EMPTY);
+    }
+
+    /**
+     * headers: 304 에도 함께 보낼 헤더 (X-Next-Cursor 등)
+     */
+    static ResponseEntity<byte[]> of(String ifNoneMatch, Cached cached, CacheControl cacheControl,
+                                     HttpHeaders headers) {
+        if (matches(ifNoneMatch, cached.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .headers(headers)
+                    .eTag(cached.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .headers(headers)
+                .eTag(cached.etag())
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(cached.body());
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package kr.osci.container.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.osci.container.dto.InstancePage;
+import kr.osci.container.dto.InstanceSummary;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지 응답 - 본문은 목록, 다음 커서는 헤더로 전달 (마지막 페이지면 헤더 없음)
+ */
+final class PageResponses {
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private PageResponses() {
+    }
+
+    static ResponseEntity<List<InstanceSummary>> of(InstancePage page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.nextCursor()));
+        }
+        return response.body(page.items());
+    }
+
+    /**
+     * 조건부 GET - 본문 해시 ETag 가 If-None-Match 와 같으면 304 (커서 헤더는 유지)
+     * 목록은 다른 레플리카에서도 바뀌므로 매번 조회 후 비교 (전송량만 절약)
+     */
+    static ResponseEntity<byte[]> of(InstancePage page, String ifNoneMatch, ObjectMapper objectMapper) {
+        HttpHeaders headers = new HttpHeaders();
+        if (page.nextCursor() != null) {
+            headers.set(NEXT_CURSOR_HEADER, String.valueOf(page.nextCursor()));
+        }
+        return JsonResponses.of(ifNoneMatch, JsonResponses.serialize(objectMapper, 0, page.items()),
+                CacheControl.noCache().cachePrivate(), headers);
+    }
+}
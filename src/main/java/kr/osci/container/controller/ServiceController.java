@@ -1,11 +1,19 @@
 package kr.osci.container.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -13,9 +21,18 @@ import java.util.Map;
 
 @RestController
 @RequestMapping("/api/services")
+@RequiredArgsConstructor
 @Slf4j
 public class ServiceController {
 
+    // 설정값으로만 구성 - 재배포 전까지 바뀌지 않음
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5));
+
+    private final ObjectMapper objectMapper;
+
+    // 기동 시 한 번 직렬화
+    private JsonResponses.Cached servicesJson;
+
     @Value("${kubernetes.domain:localhost}")
     private String domain;
 
@@ -37,8 +54,18 @@ public class ServiceController {
     @Value("${platform.jupyterhub.subdomain:jupyterhub}")
     private String jupyterhubSubdomain;
 
+    @PostConstruct
+    void init() {
+        servicesJson = JsonResponses.serialize(objectMapper, 0, buildServices());
+    }
+
     @GetMapping
-    public List<Map<String, Object>> getServices() {
+    public ResponseEntity<byte[]> getServices(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return JsonResponses.of(ifNoneMatch, servicesJson, CACHE_CONTROL);
+    }
+
+    private List<Map<String, Object>> buildServices() {
         List<Map<String, Object>> services = new ArrayList<>();
 
         if (jupyterhubEnabled) {
@@ -0,0 +1,17 @@
+package kr.osci.container.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 일괄 생성 요청 - 템플릿 하나로 사용자 목록만큼 인스턴스 생성 (요청당 최대 MAX_USERS 명)
+ */
+public record BulkCreateRequest(
+        @NotNull Long templateId,
+        @NotEmpty @Size(max = BulkCreateRequest.MAX_USERS) List<String> userIds) {
+
+    public static final int MAX_USERS = 500;
+}
@@ -0,0 +1,32 @@
+package kr.osci.container.dto;
+
+import kr.osci.container.entity.ContainerInstance;
+
+/**
+ * 일괄 처리 항목별 결과
+ */
+public record BulkItemResult(
+        String userId,
+        Long instanceId,
+        String podName,
+        String accessUrl,
+        ContainerInstance.ContainerStatus status,
+        String error) {
+
+    public static BulkItemResult of(ContainerInstance instance, String error) {
+        return new BulkItemResult(
+                instance.getUserId(),
+                instance.getId(),
+                instance.getPodName(),
+                instance.getAccessUrl(),
+                instance.getStatus(),
+                error);
+    }
+
+    /**
+     * 승인 거절 등으로 인스턴스를 만들지 않은 항목
+     */
+    public static BulkItemResult rejected(String userId, String error) {
+        return new BulkItemResult(userId, null, null, null, null, error);
+    }
+}
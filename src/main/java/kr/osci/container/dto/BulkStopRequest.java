@@ -0,0 +1,26 @@
+package kr.osci.container.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+
+import java.util.List;
+
+/**
+ * 일괄 중지 요청 - 지정한 조건을 모두 만족하는 활성 인스턴스 중지 (null 조건은 무시)
+ * 조건이 하나도 없으면 전체 사용자 인스턴스가 대상이 되므로 거절 (400)
+ *
+ * @param userIds       대상 사용자
+ * @param templateId    대상 템플릿
+ * @param labelSelector Deployment 라벨 셀렉터 (예: pool=claimed)
+ */
+public record BulkStopRequest(
+        List<String> userIds,
+        Long templateId,
+        String labelSelector) {
+
+    @AssertTrue(message = "At least one of userIds, templateId or labelSelector is required")
+    public boolean isFiltered() {
+        return (userIds != null && !userIds.isEmpty())
+                || templateId != null
+                || (labelSelector != null && !labelSelector.isBlank());
+    }
+}
@@ -0,0 +1,20 @@
+package kr.osci.container.dto;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지 - nextCursor 는 다음 요청의 cursor 값 (마지막 페이지면 null)
+ */
+public record InstancePage(List<InstanceSummary> items, Long nextCursor) {
+
+    /**
+     * size + 1 건 조회 결과로 페이지 구성 (초과분이 있으면 다음 커서 설정)
+     */
+    public static InstancePage of(List<InstanceSummary> fetched, int size) {
+        if (fetched.size() <= size) {
+            return new InstancePage(fetched, null);
+        }
+        List<InstanceSummary> items = fetched.subList(0, size);
+        return new InstancePage(items, items.get(size - 1).id());
+    }
+}
@@ -0,0 +1,37 @@
+package kr.osci.container.dto;
+
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.entity.ContainerTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인스턴스 조회용 평면 DTO - 엔티티/지연 로딩 프록시 대신 응답에 사용
+ * (목록 조회는 JPQL 생성자 표현식으로 템플릿과 한 번에 조회)
+ */
+public record InstanceSummary(
+        Long id,
+        String userId,
+        Long templateId,
+        String templateName,
+        String templateIcon,
+        String podName,
+        String accessUrl,
+        ContainerInstance.ContainerStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime stoppedAt) {
+
+    public static InstanceSummary of(ContainerInstance instance, ContainerTemplate template) {
+        return new InstanceSummary(
+                instance.getId(),
+                instance.getUserId(),
+                template != null ? template.getId() : null,
+                template != null ? template.getName() : null,
+                template != null ? template.getIcon() : null,
+                instance.getPodName(),
+                instance.getAccessUrl(),
+                instance.getStatus(),
+                instance.getCreatedAt(),
+                instance.getStoppedAt());
+    }
+}
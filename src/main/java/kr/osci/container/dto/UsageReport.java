@@ -0,0 +1,19 @@
+package kr.osci.container.dto;
+
+/**
+ * 사용량 보고서 행 - group 은 사용자 ID / 템플릿 ID / 날짜(yyyy-MM-dd)
+ * (usage_rollups 집계에서 JPQL 생성자 표현식으로 조회)
+ */
+public record UsageReport(
+        String group,
+        long launches,
+        long runningMillis,
+        double runningHours) {
+
+    public UsageReport(String group, Long launches, Long runningMillis) {
+        this(group,
+                launches != null ? launches : 0,
+                runningMillis != null ? runningMillis : 0,
+                runningMillis != null ? runningMillis / 3_600_000.0 : 0);
+    }
+}
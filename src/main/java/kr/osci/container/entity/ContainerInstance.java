@@ -2,10 +2,19 @@ package kr.osci.container.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "container_instances")
+@Table(name = "container_instances", indexes = {
+        @Index(name = "idx_instances_user_status", columnList = "user_id, status"),
+        @Index(name = "ux_instances_pod_name", columnList = "pod_name", unique = true),
+        @Index(name = "idx_instances_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_instances_target_status", columnList = "target, status"),
+        @Index(name = "idx_instances_queue", columnList = "status, priority, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -13,8 +22,10 @@ import java.time.LocalDateTime;
 @Builder
 public class ContainerInstance {
 
+    // SEQUENCE + allocationSize 로 JDBC 배치 insert 가능 (IDENTITY 는 배치 불가)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "container_instances_seq")
+    @SequenceGenerator(name = "container_instances_seq", sequenceName = "container_instances_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -30,16 +41,39 @@ public class ContainerInstance {
     @Column(nullable = false)
     private String namespace;
 
+    // 배치 대상 이름 (null 이면 기본 대상)
+    @Column(length = 64)
+    private String target;
+
     private String accessUrl;
 
+    // 네이티브 enum 대신 varchar - 상태 추가 시 스키마 변경 불필요
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 32)
     private ContainerStatus status;
 
+    // 리소스 생성 시작 시각 (대기열 경유 시 실행 확정 시각)
     private LocalDateTime createdAt;
 
     private LocalDateTime stoppedAt;
 
+    // 용량 대기열 우선순위 (높을수록 먼저, 같으면 등록 순)
+    @Column(nullable = false)
+    private int priority;
+
+    // 대기열 등록 시각 (대기 시간 지표, 대기열 경유 시 요청 시각)
+    private LocalDateTime queuedAt;
+
+    // 마지막 사용 시각 (heartbeat, 휴면 판단 - DatabaseActivitySource 가 기록)
+    private LocalDateTime lastActivityAt;
+
+    // 실행 시 지정한 CPU/메모리 (null 이면 템플릿 값)
+    @Embedded
+    private ResourceProfile resources;
+
+    // STOPPING: 삭제 요청됨, 클러스터 객체가 사라지면 STOPPED
     public enum ContainerStatus {
-        PENDING, RUNNING, STOPPED, FAILED
+        QUEUED, PENDING, RUNNING, HIBERNATED, STOPPING, STOPPED, FAILED
     }
 }
\ No newline at end of file
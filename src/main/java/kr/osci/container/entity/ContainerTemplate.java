@@ -29,8 +29,28 @@ public class ContainerTemplate {
 
     private String description;
 
-    @Column(columnDefinition = "TEXT")
+    @Column(length = 8192)
     private String envVariables;
 
     private Boolean enabled;
+
+    // 미리 띄워둘 웜 풀 인스턴스 수 (null/0 이면 풀 미사용)
+    private Integer warmPoolSize;
+
+    // 사용자당 이 템플릿의 동시 활성 인스턴스 수 (null 이면 platform.admission.max-instances-per-user)
+    private Integer maxInstancesPerUser;
+
+    // 사용자당 분당 생성 요청 수 (null 이면 사용자 공통 한도만 적용)
+    private Integer createsPerMinute;
+
+    // 용량 대기열 우선순위 (null 이면 0, 높을수록 먼저 실행)
+    private Integer launchPriority;
+
+    // 인스턴스 CPU/메모리 requests·limits (null 이면 기본값)
+    @Embedded
+    private ResourceProfile resources;
+
+    // 저장마다 증가 - 다른 레플리카의 변경을 TemplateCatalog 가 감지
+    @Version
+    private Long version;
 }
@@ -0,0 +1,56 @@
+package kr.osci.container.entity;
+
+import jakarta.persistence.*;
+import kr.osci.container.event.InstanceStatusChangedEvent;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인스턴스 상태 전이 기록 (추가 전용 - 수정/삭제하지 않음)
+ */
+@Entity
+@Table(name = "instance_events", indexes = {
+        @Index(name = "idx_instance_events_instance", columnList = "instance_id, id"),
+        @Index(name = "idx_instance_events_occurred", columnList = "occurred_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InstanceEvent {
+
+    // 비동기 기록기가 묶어서 insert (JDBC 배치)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "instance_events_seq")
+    @SequenceGenerator(name = "instance_events_seq", sequenceName = "instance_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long instanceId;
+
+    @Column(nullable = false)
+    private String userId;
+
+    private Long templateId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 32, nullable = false)
+    private ContainerInstance.ContainerStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    public static InstanceEvent of(InstanceStatusChangedEvent event) {
+        return InstanceEvent.builder()
+                .instanceId(event.instanceId())
+                .userId(event.userId())
+                .templateId(event.templateId())
+                .status(event.status())
+                .occurredAt(event.occurredAt())
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package kr.osci.container.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+/**
+ * CPU/메모리 requests·limits (Kubernetes Quantity 문자열, null 이면 상위 설정 사용)
+ * - 템플릿: 템플릿 기본값 (null 필드는 PodSpecCompiler 기본값)
+ * - 인스턴스: 실행 시 지정한 값 (null 필드는 템플릿 값)
+ */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResourceProfile {
+
+    @Column(length = 32)
+    private String cpuRequest;
+
+    @Column(length = 32)
+    private String memoryRequest;
+
+    @Column(length = 32)
+    private String cpuLimit;
+
+    @Column(length = 32)
+    private String memoryLimit;
+
+    /**
+     * 비어 있는 필드를 base 값으로 채운 새 프로필
+     */
+    public ResourceProfile orElse(ResourceProfile base) {
+        if (base == null) {
+            return this;
+        }
+        return new ResourceProfile(
+                cpuRequest != null ? cpuRequest : base.cpuRequest,
+                memoryRequest != null ? memoryRequest : base.memoryRequest,
+                cpuLimit != null ? cpuLimit : base.cpuLimit,
+                memoryLimit != null ? memoryLimit : base.memoryLimit);
+    }
+}
@@ -0,0 +1,30 @@
+package kr.osci.container.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 진행 중인 RUNNING 구간 - accruedUntil 까지는 사용량 집계에 반영됨
+ * (RUNNING 진입 시 생성, 이탈 시 남은 구간 반영 후 삭제 - 행 수는 실행 중 인스턴스 수로 제한)
+ */
+@Entity
+@Table(name = "running_intervals")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RunningInterval {
+
+    @Id
+    private Long instanceId;
+
+    @Column(nullable = false)
+    private String userId;
+
+    @Column(nullable = false)
+    private Long templateId;
+
+    @Column(nullable = false)
+    private LocalDateTime accruedUntil;
+}
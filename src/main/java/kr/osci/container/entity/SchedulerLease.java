@@ -0,0 +1,27 @@
+package kr.osci.container.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 작업 임대 - 이름별 한 행, holder 가 expiresAt 까지 실행 권한을 가짐
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLease {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false)
+    private String holder;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,49 @@
+package kr.osci.container.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 일/사용자/템플릿별 사용량 집계 - 상태 전이 기록 시 증분 갱신 (보고서는 원본 이벤트를 읽지 않음)
+ */
+@Entity
+@Table(name = "usage_rollups", indexes = {
+        @Index(name = "idx_usage_rollups_user_day", columnList = "user_id, usage_date"),
+        @Index(name = "idx_usage_rollups_template_day", columnList = "template_id, usage_date")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsageRollup {
+
+    @EmbeddedId
+    private Key key;
+
+    // 새로 시작한 인스턴스 수 (휴면 재개 제외)
+    @Column(nullable = false)
+    private long launches;
+
+    // RUNNING 누적 시간 (ms, 날짜 경계에서 나눠 집계)
+    @Column(nullable = false)
+    private long runningMillis;
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(nullable = false)
+        private LocalDate usageDate;
+
+        @Column(nullable = false)
+        private String userId;
+
+        @Column(nullable = false)
+        private Long templateId;
+    }
+}
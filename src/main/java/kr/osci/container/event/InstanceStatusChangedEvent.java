@@ -0,0 +1,31 @@
+package kr.osci.container.event;
+
+import kr.osci.container.entity.ContainerInstance;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인스턴스 상태 전이 이벤트 - 모든 상태 변경 지점에서 발행 (SSE 스트림 등의 단일 이벤트 소스)
+ */
+public record InstanceStatusChangedEvent(
+        Long instanceId,
+        String userId,
+        Long templateId,
+        String podName,
+        String accessUrl,
+        ContainerInstance.ContainerStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime occurredAt) {
+
+    public static InstanceStatusChangedEvent of(ContainerInstance instance) {
+        return new InstanceStatusChangedEvent(
+                instance.getId(),
+                instance.getUserId(),
+                instance.getTemplate() != null ? instance.getTemplate().getId() : null,
+                instance.getPodName(),
+                instance.getAccessUrl(),
+                instance.getStatus(),
+                instance.getCreatedAt(),
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,10 @@
+package kr.osci.container.event;
+
+/**
+ * Pod 워치 이벤트 - app 라벨(podName) 기준 Pod phase 변경 알림
+ *
+ * @param appLabel Deployment/Pod 의 app 라벨 (= ContainerInstance.podName)
+ * @param phase    Pod phase (Pending/Running/Failed/...), Pod 삭제 시 NOT_FOUND
+ */
+public record PodPhaseChangedEvent(String appLabel, String phase) {
+}
@@ -0,0 +1,7 @@
+package kr.osci.container.event;
+
+/**
+ * 템플릿 추가/변경 이벤트 - 카탈로그 스냅샷 갱신 등에 사용
+ */
+public record TemplateChangedEvent(Long templateId) {
+}
@@ -1,13 +1,129 @@
 package kr.osci.container.repository;
 
+import kr.osci.container.dto.InstanceSummary;
 import kr.osci.container.entity.ContainerInstance;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ContainerInstanceRepository extends JpaRepository<ContainerInstance, Long> {
-    List<ContainerInstance> findByUserId(String userId);
+public interface ContainerInstanceRepository extends JpaRepository<ContainerInstance, Long>,
+        JpaSpecificationExecutor<ContainerInstance> {
     List<ContainerInstance> findByUserIdAndStatusIn(String userId, List<ContainerInstance.ContainerStatus> statuses);
+    Optional<ContainerInstance> findByPodName(String podName);
+    List<ContainerInstance> findByStatusIn(Collection<ContainerInstance.ContainerStatus> statuses);
+
+    // 사용자 인스턴스 목록 (키셋 페이지: id 내림차순, cursor 미만)
+    @Query("""
+            select new kr.osci.container.dto.InstanceSummary(
+                i.id, i.userId, t.id, t.name, t.icon, i.podName, i.accessUrl, i.status, i.createdAt, i.stoppedAt)
+            from ContainerInstance i join i.template t
+            where i.userId = :userId
+              and i.status in :statuses
+              and (:cursor is null or i.id < :cursor)
+            order by i.id desc""")
+    List<InstanceSummary> findSummariesByUser(@Param("userId") String userId,
+                                              @Param("statuses") Collection<ContainerInstance.ContainerStatus> statuses,
+                                              @Param("cursor") Long cursor,
+                                              Limit limit);
+
+    // 전체 인스턴스 목록 (관리자) - 템플릿/사용자 조건은 null 이면 무시
+    @Query("""
+            select new kr.osci.container.dto.InstanceSummary(
+                i.id, i.userId, t.id, t.name, t.icon, i.podName, i.accessUrl, i.status, i.createdAt, i.stoppedAt)
+            from ContainerInstance i join i.template t
+            where i.status in :statuses
+              and (:templateId is null or t.id = :templateId)
+              and (:userId is null or i.userId = :userId)
+              and (:cursor is null or i.id < :cursor)
+            order by i.id desc""")
+    List<InstanceSummary> findSummaries(@Param("statuses") Collection<ContainerInstance.ContainerStatus> statuses,
+                                        @Param("templateId") Long templateId,
+                                        @Param("userId") String userId,
+                                        @Param("cursor") Long cursor,
+                                        Limit limit);
+
+    // 사용자의 템플릿별 인스턴스 수 [templateId, count] (quota 확인)
+    @Query("select i.template.id, count(i) from ContainerInstance i "
+            + "where i.userId = :userId and i.status in :statuses group by i.template.id")
+    List<Object[]> countActiveByTemplate(@Param("userId") String userId,
+                                         @Param("statuses") Collection<ContainerInstance.ContainerStatus> statuses);
+
+    // 배치 대상별 인스턴스 수 [target, count] (target null = 기본 대상)
+    @Query("select i.target, count(i) from ContainerInstance i where i.status in :statuses group by i.target")
+    List<Object[]> countByTarget(@Param("statuses") Collection<ContainerInstance.ContainerStatus> statuses);
+
+    // 용량 대기열 - 우선순위 높은 순, 같으면 등록(id) 순
+    @Query("select i from ContainerInstance i where i.status = :status order by i.priority desc, i.id asc")
+    List<ContainerInstance> findQueue(@Param("status") ContainerInstance.ContainerStatus status, Limit limit);
+
+    // 대기열에서 앞선 항목 수 (우선순위가 높거나, 같고 먼저 등록)
+    @Query("select count(i) from ContainerInstance i where i.status = :status "
+            + "and (i.priority > :priority or (i.priority = :priority and i.id < :id))")
+    long countAhead(@Param("status") ContainerInstance.ContainerStatus status,
+                    @Param("priority") int priority,
+                    @Param("id") Long id);
+
+    long countByStatus(ContainerInstance.ContainerStatus status);
+
+    boolean existsByStatusAndPriorityGreaterThanEqual(ContainerInstance.ContainerStatus status, int priority);
+
+    // 대기열 항목 실행 확정 - 아직 from 상태인 경우에만 (다른 레플리카의 dispatch/취소와 경합 방지)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update ContainerInstance i set i.status = :to, i.target = :target, i.namespace = :namespace, "
+            + "i.accessUrl = :accessUrl, i.createdAt = :createdAt where i.id = :id and i.status = :from")
+    int assignTarget(@Param("id") Long id,
+                     @Param("from") ContainerInstance.ContainerStatus from,
+                     @Param("to") ContainerInstance.ContainerStatus to,
+                     @Param("target") String target,
+                     @Param("namespace") String namespace,
+                     @Param("accessUrl") String accessUrl,
+                     @Param("createdAt") LocalDateTime createdAt);
+
+    // 실행 중 구간이 없는 인스턴스 (RUNNING 이벤트 유실 보정)
+    @Query("select i from ContainerInstance i where i.status = :status and i.template is not null "
+            + "and not exists (select r from RunningInterval r where r.instanceId = i.id)")
+    List<ContainerInstance> findWithoutRunningInterval(@Param("status") ContainerInstance.ContainerStatus status);
+
+    // 조건부 상태 변경 - 아직 from 상태인 경우에만
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update ContainerInstance i set i.status = :to, i.stoppedAt = :stoppedAt where i.id = :id and i.status = :from")
+    int updateStatusIf(@Param("id") Long id,
+                       @Param("from") ContainerInstance.ContainerStatus from,
+                       @Param("to") ContainerInstance.ContainerStatus to,
+                       @Param("stoppedAt") LocalDateTime stoppedAt);
+
+    // 사용 기록 - 마지막 기록이 before 이전일 때만 (heartbeat 마다 쓰지 않도록)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update ContainerInstance i set i.lastActivityAt = :at "
+            + "where i.id = :id and (i.lastActivityAt is null or i.lastActivityAt < :before)")
+    int touchActivity(@Param("id") Long id,
+                      @Param("at") LocalDateTime at,
+                      @Param("before") LocalDateTime before);
+
+    // 상태별 인스턴스 수 [status, count]
+    @Query("select i.status, count(i) from ContainerInstance i group by i.status")
+    List<Object[]> countGroupByStatus();
+
+    // 일괄 조건부 상태 변경 - 단일 UPDATE 문, 아직 from 상태인 행만
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update ContainerInstance i set i.status = :to, i.stoppedAt = :stoppedAt where i.id in :ids and i.status = :from")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("from") ContainerInstance.ContainerStatus from,
+                     @Param("to") ContainerInstance.ContainerStatus to,
+                     @Param("stoppedAt") LocalDateTime stoppedAt);
 }
\ No newline at end of file
@@ -2,8 +2,14 @@ package kr.osci.container.repository;
 
 import kr.osci.container.entity.ContainerTemplate;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
 import java.util.List;
 
 public interface ContainerTemplateRepository extends JpaRepository<ContainerTemplate, Long> {
     List<ContainerTemplate> findByEnabledTrue();
+
+    // 변경 감지용 [count, max(id), sum(version)] - 추가/삭제/수정 시 달라짐 (행을 읽지 않는 집계 1회)
+    @Query("select count(t), coalesce(max(t.id), 0), coalesce(sum(t.version), 0) from ContainerTemplate t")
+    List<Object[]> fingerprint();
 }
\ No newline at end of file
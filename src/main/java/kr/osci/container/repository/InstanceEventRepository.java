@@ -0,0 +1,22 @@
+package kr.osci.container.repository;
+
+import kr.osci.container.entity.InstanceEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+public interface InstanceEventRepository extends JpaRepository<InstanceEvent, Long> {
+
+    // 인스턴스 상태 전이 이력 (기록 순)
+    List<InstanceEvent> findByInstanceIdOrderByIdAsc(Long instanceId);
+
+    // 이미 기록된 적 있는 인스턴스 (최초 실행 판단)
+    @Query("select distinct e.instanceId from InstanceEvent e where e.instanceId in :instanceIds")
+    Set<Long> findRecordedInstanceIds(@Param("instanceIds") Collection<Long> instanceIds);
+}
@@ -0,0 +1,33 @@
+package kr.osci.container.repository;
+
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.entity.RunningInterval;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RunningIntervalRepository extends JpaRepository<RunningInterval, Long> {
+
+    // 반영 시점 이동 - 아직 from 인 경우에만 (다른 레플리카가 같은 구간을 중복 반영하지 않도록)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RunningInterval r set r.accruedUntil = :to where r.instanceId = :instanceId and r.accruedUntil = :from")
+    int advance(@Param("instanceId") Long instanceId,
+                @Param("from") LocalDateTime from,
+                @Param("to") LocalDateTime to);
+
+    // 인스턴스가 더 이상 status 가 아닌 구간 (이탈 이벤트 유실 보정)
+    @Query("select r from RunningInterval r where not exists ("
+            + "select i from ContainerInstance i where i.id = r.instanceId and i.status = :status)")
+    List<RunningInterval> findStale(@Param("status") ContainerInstance.ContainerStatus status);
+
+    // 구간 종료 - 아직 accruedUntil 인 경우에만
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from RunningInterval r where r.instanceId = :instanceId and r.accruedUntil = :accruedUntil")
+    int close(@Param("instanceId") Long instanceId, @Param("accruedUntil") LocalDateTime accruedUntil);
+}
@@ -0,0 +1,34 @@
+package kr.osci.container.repository;
+
+import kr.osci.container.entity.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    // 임대 갱신/인수 - 이미 보유 중이거나 만료된 경우에만 (행이 없으면 0)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update SchedulerLease l set l.holder = :holder, l.expiresAt = :expiresAt "
+            + "where l.name = :name and (l.holder = :holder or l.expiresAt < :now)")
+    int renew(@Param("name") String name,
+              @Param("holder") String holder,
+              @Param("expiresAt") LocalDateTime expiresAt,
+              @Param("now") LocalDateTime now);
+
+    // 최초 임대 - 다른 레플리카가 먼저 넣었으면 기본 키 위반
+    @Transactional
+    @Modifying
+    @Query(value = "insert into scheduler_leases (name, holder, expires_at) values (:name, :holder, :expiresAt)",
+            nativeQuery = true)
+    int insert(@Param("name") String name,
+               @Param("holder") String holder,
+               @Param("expiresAt") LocalDateTime expiresAt);
+}
@@ -0,0 +1,60 @@
+package kr.osci.container.repository;
+
+import kr.osci.container.dto.UsageReport;
+import kr.osci.container.entity.UsageRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface UsageRollupRepository extends JpaRepository<UsageRollup, UsageRollup.Key> {
+
+    // 증분 반영 (여러 레플리카가 같은 행을 갱신해도 유실 없음) - 행이 없으면 0
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update UsageRollup r set r.launches = r.launches + :launches, "
+            + "r.runningMillis = r.runningMillis + :runningMillis where r.key = :key")
+    int increment(@Param("key") UsageRollup.Key key,
+                  @Param("launches") long launches,
+                  @Param("runningMillis") long runningMillis);
+
+    // 기간 내 사용자별 합계 - 사용자/템플릿 조건은 null 이면 무시
+    @Query("""
+            select new kr.osci.container.dto.UsageReport(r.key.userId, sum(r.launches), sum(r.runningMillis))
+            from UsageRollup r
+            where r.key.usageDate between :from and :to
+              and (:userId is null or r.key.userId = :userId)
+              and (:templateId is null or r.key.templateId = :templateId)
+            group by r.key.userId
+            order by r.key.userId""")
+    List<UsageReport> sumByUser(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                @Param("userId") String userId, @Param("templateId") Long templateId);
+
+    // 기간 내 템플릿별 합계
+    @Query("""
+            select new kr.osci.container.dto.UsageReport(cast(r.key.templateId as String), sum(r.launches), sum(r.runningMillis))
+            from UsageRollup r
+            where r.key.usageDate between :from and :to
+              and (:userId is null or r.key.userId = :userId)
+              and (:templateId is null or r.key.templateId = :templateId)
+            group by r.key.templateId
+            order by r.key.templateId""")
+    List<UsageReport> sumByTemplate(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                    @Param("userId") String userId, @Param("templateId") Long templateId);
+
+    // 기간 내 일별 합계
+    @Query("""
+            select new kr.osci.container.dto.UsageReport(cast(r.key.usageDate as String), sum(r.launches), sum(r.runningMillis))
+            from UsageRollup r
+            where r.key.usageDate between :from and :to
+              and (:userId is null or r.key.userId = :userId)
+              and (:templateId is null or r.key.templateId = :templateId)
+            group by r.key.usageDate
+            order by r.key.usageDate""")
+    List<UsageReport> sumByDay(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                               @Param("userId") String userId, @Param("templateId") Long templateId);
+}
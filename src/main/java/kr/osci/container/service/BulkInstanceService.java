@@ -0,0 +1,393 @@
+package kr.osci.container.service;
+
+import kr.osci.container.dto.BulkItemResult;
+import kr.osci.container.dto.BulkStopRequest;
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.event.InstanceStatusChangedEvent;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import kr.osci.container.service.admission.AdmissionService;
+import kr.osci.container.service.placement.ClusterTarget;
+import kr.osci.container.service.placement.ClusterTargets;
+import kr.osci.container.service.placement.PlacementService;
+import kr.osci.container.service.queue.LaunchQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * 수업/워크숍 단위 일괄 생성·중지
+ * - DB 는 배치 insert / 단일 UPDATE 로 처리
+ * - K8s 작업은 platform.bulk.concurrency 만큼만 동시에 실행
+ * - 생성/중지 항목은 AdmissionService 승인(사용자 quota/속도, 전체 속도, 작업 슬롯)을 거치고 거절 항목은 실패 결과로 반환
+ * - 생성은 사용자별 배치 대상을 한 번에 결정, 중지는 대상별 app in (...) 라벨 셀렉터로 Deployment deletecollection 호출
+ *   (Service/Ingress 는 연쇄 삭제, STOPPING 표시 후 Pod 가 사라지면 TeardownService 가 STOPPED 확정)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkInstanceService {
+
+    private static final List<ContainerInstance.ContainerStatus> ACTIVE_STATUSES = List.of(
+            ContainerInstance.ContainerStatus.QUEUED,
+            ContainerInstance.ContainerStatus.PENDING,
+            ContainerInstance.ContainerStatus.RUNNING,
+            ContainerInstance.ContainerStatus.HIBERNATED,
+            ContainerInstance.ContainerStatus.FAILED);
+
+    // 라벨 셀렉터 URL 길이 제한을 고려한 청크 크기
+    private static final int SELECTOR_CHUNK_SIZE = 50;
+
+    private final TemplateCatalog templateCatalog;
+    private final ContainerInstanceRepository instanceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AdmissionService admissionService;
+
+    @Autowired(required = false)
+    private ClusterTargets clusterTargets;
+
+    @Autowired(required = false)
+    private PlacementService placementService;
+
+    @Autowired(required = false)
+    private ProvisioningService provisioningService;
+
+    @Autowired(required = false)
+    private LaunchQueue launchQueue;
+
+    @Autowired(required = false)
+    private TeardownService teardownService;
+
+    @Value("${kubernetes.enabled:false}")
+    private boolean kubernetesEnabled;
+
+    @Value("${kubernetes.domain:localhost}")
+    private String domain;
+
+    @Value("${kubernetes.namespace:user-containers}")
+    private String namespace;
+
+    @Value("${kubernetes.ingress.port:8080}")
+    private int ingressPort;
+
+    @Value("${platform.bulk.concurrency:10}")
+    private int concurrency;
+
+    /**
+     * 사용자 목록만큼 인스턴스 일괄 생성 - 항목별 결과 반환 (userIds 순서)
+     * 항목별로 단건 생성과 같은 승인(quota/속도) 적용, 거절 항목은 인스턴스 없이 실패 결과
+     */
+    public List<BulkItemResult> createInstances(Long templateId, List<String> userIds) {
+        ContainerTemplate template = templateCatalog.find(templateId)
+                .orElseThrow(() -> new RuntimeException("Template not found: " + templateId));
+        String baseName = template.getName().toLowerCase().replaceAll(" ", "-");
+        boolean provision = kubernetesEnabled && provisioningService != null;
+
+        List<AdmissionService.Admission> admissions = admissionService.admitBulkCreate(userIds, template);
+        List<AdmissionService.Admission> admitted = admissions.stream()
+                .filter(admission -> admission.permit() != null)
+                .toList();
+        if (admitted.isEmpty()) {
+            return toResults(admissions, List.of());
+        }
+        List<String> admittedUsers = admitted.stream().map(AdmissionService.Admission::userId).toList();
+
+        // admitted 와 같은 순서
+        List<ContainerInstance> instances = new ArrayList<>(admitted.size());
+        List<String> suffixes = new ArrayList<>(admitted.size());
+        int queued = 0;
+        try {
+            // 배치 대상 일괄 결정 - 들어갈 대상이 없는 항목은 대기열 등록 (대기열 미사용 시 전체 거절)
+            List<ClusterTarget> placements = null;
+            if (provision && placementService != null) {
+                placements = launchQueue != null && launchQueue.mustWait(template)
+                        ? Collections.nCopies(admittedUsers.size(), (ClusterTarget) null)
+                        : placementService.placeAll(admittedUsers, template);
+                int unplaced = Collections.frequency(placements, null);
+                if (unplaced > 0 && launchQueue == null) {
+                    throw placementService.noCapacity();
+                }
+                if (unplaced > 0) {
+                    launchQueue.ensureRoom(unplaced);
+                }
+            }
+
+            for (int i = 0; i < admitted.size(); i++) {
+                String randomSuffix = UUID.randomUUID().toString().substring(0, 8);
+                ClusterTarget target = placements != null ? placements.get(i) : null;
+                ContainerInstance instance = ContainerInstance.builder()
+                        .template(template)
+                        .userId(admittedUsers.get(i))
+                        .podName(baseName + "-" + randomSuffix)
+                        .namespace(target != null ? target.namespace() : namespace)
+                        .target(target != null ? target.name() : null)
+                        .accessUrl(target != null
+                                ? target.accessUrl(randomSuffix)
+                                : "http://" + randomSuffix + "." + domain + ":" + ingressPort)
+                        .status(provision ? ContainerInstance.ContainerStatus.PENDING : ContainerInstance.ContainerStatus.RUNNING)
+                        .createdAt(LocalDateTime.now())
+                        .build();
+                if (placements != null && target == null) {
+                    launchQueue.markQueued(instance);
+                    queued++;
+                }
+                instances.add(instance);
+                suffixes.add(randomSuffix);
+            }
+
+            // 배치 insert (hibernate.jdbc.batch_size) - 이후 quota 는 DB 행으로 집계
+            instanceRepository.saveAll(instances);
+        } catch (RuntimeException e) {
+            admitted.forEach(admission -> admission.permit().close());
+            throw e;
+        }
+        admitted.forEach(admission -> admission.permit().releaseReservation());
+        instances.forEach(instance -> eventPublisher.publishEvent(InstanceStatusChangedEvent.of(instance)));
+        log.info("Bulk create: template={}, count={}, queued={}, rejected={}", template.getName(), instances.size(),
+                queued, admissions.size() - admitted.size());
+        if (queued > 0) {
+            launchQueue.enqueued(queued);
+        }
+
+        Semaphore permits = new Semaphore(concurrency);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(instances.size());
+        for (int i = 0; i < instances.size(); i++) {
+            ContainerInstance instance = instances.get(i);
+            AdmissionService.Permit permit = admitted.get(i).permit();
+            // 대기열 항목은 실행 시 LaunchQueue 가 작업 슬롯을 따로 확보
+            if (!provision || instance.getStatus() == ContainerInstance.ContainerStatus.QUEUED) {
+                permit.close();
+                futures.add(CompletableFuture.completedFuture(null));
+                continue;
+            }
+            permits.acquireUninterruptibly();
+            permit.awaitSlot();
+            futures.add(provisioningService.provision(instance, template, suffixes.get(i))
+                    .whenComplete((ignored, error) -> {
+                        permit.close();
+                        permits.release();
+                    }));
+        }
+
+        List<BulkItemResult> results = new ArrayList<>(instances.size());
+        for (int i = 0; i < instances.size(); i++) {
+            ContainerInstance instance = instances.get(i);
+            try {
+                futures.get(i).join();
+                results.add(BulkItemResult.of(instance, null));
+            } catch (Exception e) {
+                instance.setStatus(ContainerInstance.ContainerStatus.FAILED);
+                results.add(BulkItemResult.of(instance, rootMessage(e)));
+            }
+        }
+        return toResults(admissions, results);
+    }
+
+    // 요청 순서대로 결과 병합 - results 는 승인된 항목 순서, 거절 항목은 거절 사유
+    private static List<BulkItemResult> toResults(List<AdmissionService.Admission> admissions,
+                                                  List<BulkItemResult> results) {
+        List<BulkItemResult> merged = new ArrayList<>(admissions.size());
+        int next = 0;
+        for (AdmissionService.Admission admission : admissions) {
+            merged.add(admission.permit() == null
+                    ? BulkItemResult.rejected(admission.userId(), admission.rejection().getMessage())
+                    : results.get(next++));
+        }
+        return merged;
+    }
+
+    /**
+     * 조건에 맞는 활성 인스턴스 일괄 중지 - 항목별 결과 반환
+     * 대기 중 항목은 LaunchQueue 로 취소, 나머지는 항목별 중지 승인(사용자/전체 속도) 후 삭제하고
+     * 읽은 상태 그대로인 행만 조건부 UPDATE (그 사이 dispatch/다른 중지와 경합해도 덮어쓰지 않음)
+     */
+    public List<BulkItemResult> stopInstances(BulkStopRequest request) {
+        if (!request.isFiltered()) {
+            throw new IllegalArgumentException("At least one of userIds, templateId or labelSelector is required");
+        }
+        // 라벨은 K8s 에만 있음 - 셀렉터를 무시하면 나머지 조건 없이 전체 활성 인스턴스가 대상이 됨
+        if (hasLabelSelector(request) && (!kubernetesEnabled || clusterTargets == null)) {
+            throw new IllegalArgumentException("labelSelector requires Kubernetes to be enabled");
+        }
+        List<ContainerInstance> matched = instanceRepository.findAll(toSpecification(request));
+        if (matched.isEmpty()) {
+            return List.of();
+        }
+
+        // 결과는 matched 순서 - 취소에 실패해 다시 읽은 행은 최신 행으로 교체
+        List<ContainerInstance> targets = new ArrayList<>(matched.size());
+        List<ContainerInstance> stopping = new ArrayList<>();
+        int cancelled = 0;
+        for (ContainerInstance instance : matched) {
+            if (instance.getStatus() == ContainerInstance.ContainerStatus.QUEUED && launchQueue != null) {
+                if (launchQueue.cancel(instance)) {
+                    targets.add(instance);
+                    cancelled++;
+                    continue;
+                }
+                // 그 사이 실행이 확정됨 - 다시 조회해 일반 중지
+                instance = instanceRepository.findById(instance.getId()).orElse(instance);
+            }
+            targets.add(instance);
+            if (ACTIVE_STATUSES.contains(instance.getStatus())) {
+                stopping.add(instance);
+            }
+        }
+
+        Map<String, String> errors = new HashMap<>();
+        List<AdmissionService.Admission> admissions = admissionService.admitBulkStop(
+                stopping.stream().map(ContainerInstance::getUserId).toList());
+        List<ContainerInstance> admitted = new ArrayList<>(stopping.size());
+        for (int i = 0; i < stopping.size(); i++) {
+            AdmissionService.Admission admission = admissions.get(i);
+            if (admission.permit() == null) {
+                errors.put(stopping.get(i).getPodName(), admission.rejection().getMessage());
+            } else {
+                admission.permit().close();
+                admitted.add(stopping.get(i));
+            }
+        }
+
+        if (kubernetesEnabled && clusterTargets != null && !admitted.isEmpty()) {
+            Map<String, List<String>> podNamesByTarget = admitted.stream().collect(Collectors.groupingBy(
+                    clusterTargets::nameOf, LinkedHashMap::new,
+                    Collectors.mapping(ContainerInstance::getPodName, Collectors.toList())));
+            podNamesByTarget.forEach((targetName, podNames) -> {
+                Optional<ClusterTarget> target = clusterTargets.find(targetName);
+                if (target.isPresent()) {
+                    errors.putAll(deleteResources(target.get().kubernetes(), podNames));
+                } else {
+                    podNames.forEach(podName -> errors.put(podName, "Unknown cluster target: " + targetName));
+                }
+            });
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        boolean tearingDown = kubernetesEnabled && teardownService != null;
+        ContainerInstance.ContainerStatus status = tearingDown
+                ? ContainerInstance.ContainerStatus.STOPPING : ContainerInstance.ContainerStatus.STOPPED;
+        List<ContainerInstance> stopped = markStopped(admitted.stream()
+                .filter(instance -> !errors.containsKey(instance.getPodName()))
+                .toList(), status, now);
+        stopped.forEach(instance -> {
+            instance.setStatus(status);
+            instance.setStoppedAt(now);
+            eventPublisher.publishEvent(InstanceStatusChangedEvent.of(instance));
+        });
+        if (tearingDown) {
+            // 표시 전에 이미 사라진 Pod 는 삭제 이벤트를 놓쳤으므로 워치 캐시로 확정
+            stopped.forEach(instance -> clusterTargets.find(clusterTargets.nameOf(instance))
+                    .ifPresent(target -> teardownService.confirmIfGone(target, instance)));
+        }
+        log.info("Bulk stop: matched={}, cancelled={}, stopping={}, rejected={}", matched.size(),
+                cancelled, stopped.size(), stopping.size() - admitted.size());
+
+        return targets.stream()
+                .map(instance -> BulkItemResult.of(instance, errors.get(instance.getPodName())))
+                .toList();
+    }
+
+    /**
+     * 읽은 상태별 조건부 UPDATE 1회 - 그 사이 상태가 바뀐 행이 있으면 그 상태 묶음만 다시 읽어 한 건씩 처리
+     * @return 중지 표시된 인스턴스 (경합 시 다른 요청이 먼저 중지한 행 포함)
+     */
+    private List<ContainerInstance> markStopped(List<ContainerInstance> instances,
+                                                ContainerInstance.ContainerStatus status, LocalDateTime now) {
+        Map<ContainerInstance.ContainerStatus, List<ContainerInstance>> byStatus = instances.stream()
+                .collect(Collectors.groupingBy(ContainerInstance::getStatus,
+                        () -> new EnumMap<>(ContainerInstance.ContainerStatus.class), Collectors.toList()));
+        List<ContainerInstance> stopped = new ArrayList<>(instances.size());
+        byStatus.forEach((from, group) -> {
+            List<Long> ids = group.stream().map(ContainerInstance::getId).toList();
+            if (instanceRepository.updateStatus(ids, from, status, now) == ids.size()) {
+                stopped.addAll(group);
+                return;
+            }
+            for (ContainerInstance instance : group) {
+                ContainerInstance.ContainerStatus current = instanceRepository.findById(instance.getId())
+                        .map(ContainerInstance::getStatus)
+                        .orElse(null);
+                if (current == status) {
+                    stopped.add(instance);
+                } else if (current != null && ACTIVE_STATUSES.contains(current)
+                        && instanceRepository.updateStatusIf(instance.getId(), current, status, now) > 0) {
+                    stopped.add(instance);
+                }
+            }
+        });
+        return stopped;
+    }
+
+    /**
+     * 청크별 Deployment deletecollection 1회 (Service/Ingress 는 연쇄 삭제, 공유 Ingress 라우트는 청크별 일괄 제거)
+     * 호출마다 K8s 변경 작업 슬롯 하나 사용 (단건 중지와 같은 진행 중 작업 상한)
+     * @return 실패한 podName -> 오류 메시지
+     */
+    private Map<String, String> deleteResources(KubernetesService kubernetesService, List<String> podNames) {
+        Map<String, String> errors = new HashMap<>();
+        for (int from = 0; from < podNames.size(); from += SELECTOR_CHUNK_SIZE) {
+            List<String> chunk = podNames.subList(from, Math.min(from + SELECTOR_CHUNK_SIZE, podNames.size()));
+            try (AdmissionService.Permit slot = admissionService.awaitSlot()) {
+                kubernetesService.deleteCollection("app in (" + String.join(",", chunk) + ")");
+                // 공유 Ingress 모드: 청크 라우트를 한 배치로 제거
+                kubernetesService.deleteRoutes(chunk);
+            } catch (RuntimeException e) {
+                chunk.forEach(podName -> errors.put(podName, e.getMessage()));
+            }
+        }
+        return errors;
+    }
+
+    private static boolean hasLabelSelector(BulkStopRequest request) {
+        return request.labelSelector() != null && !request.labelSelector().isBlank();
+    }
+
+    private Specification<ContainerInstance> toSpecification(BulkStopRequest request) {
+        Specification<ContainerInstance> spec = (root, query, cb) -> root.get("status").in(ACTIVE_STATUSES);
+
+        if (request.userIds() != null && !request.userIds().isEmpty()) {
+            spec = spec.and((root, query, cb) -> root.get("userId").in(request.userIds()));
+        }
+        if (request.templateId() != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("template").get("id"), request.templateId()));
+        }
+        if (hasLabelSelector(request)) {
+            Set<String> podNames = clusterTargets.all().stream()
+                    .flatMap(target -> target.kubernetes().listDeployments(
+                            PodStatusCache.MANAGED_SELECTOR + "," + request.labelSelector()).stream())
+                    .map(deployment -> deployment.getMetadata().getName())
+                    .collect(Collectors.toSet());
+            spec = spec.and((root, query, cb) -> podNames.isEmpty()
+                    ? cb.disjunction()
+                    : root.get("podName").in(podNames));
+        }
+        return spec;
+    }
+
+    private static String rootMessage(Throwable error) {
+        Throwable cause = error;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+}
@@ -1,18 +1,36 @@
 package kr.osci.container.service;
 
+import kr.osci.container.dto.InstancePage;
+import kr.osci.container.dto.InstanceSummary;
 import kr.osci.container.entity.ContainerInstance;
 import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.entity.ResourceProfile;
+import kr.osci.container.event.InstanceStatusChangedEvent;
+import kr.osci.container.event.PodPhaseChangedEvent;
+import kr.osci.container.event.TemplateChangedEvent;
 import kr.osci.container.repository.ContainerInstanceRepository;
 import kr.osci.container.repository.ContainerTemplateRepository;
+import kr.osci.container.service.activity.ActivitySource;
+import kr.osci.container.service.admission.AdmissionService;
+import kr.osci.container.service.placement.ClusterTarget;
+import kr.osci.container.service.placement.ClusterTargets;
+import kr.osci.container.service.placement.PlacementService;
+import kr.osci.container.service.queue.LaunchQueue;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -20,12 +38,43 @@ import java.util.UUID;
 @Slf4j
 public class ContainerService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private static final List<ContainerInstance.ContainerStatus> ACTIVE_STATUSES =
+            List.of(ContainerInstance.ContainerStatus.RUNNING, ContainerInstance.ContainerStatus.PENDING,
+                    ContainerInstance.ContainerStatus.HIBERNATED, ContainerInstance.ContainerStatus.QUEUED,
+                    ContainerInstance.ContainerStatus.STOPPING);
+
     private final ContainerTemplateRepository templateRepository;
     private final ContainerInstanceRepository instanceRepository;
+    private final TemplateCatalog templateCatalog;
+    private final PodSpecCompiler podSpecCompiler;
+    private final AdmissionService admissionService;
+    private final ActivitySource activitySource;
+    private final InstanceMetrics instanceMetrics;
+    private final ApplicationEventPublisher eventPublisher;
 
     // Optional: K8s 비활성화 시 null
     @Autowired(required = false)
-    private KubernetesService kubernetesService;
+    private ClusterTargets clusterTargets;
+
+    @Autowired(required = false)
+    private PlacementService placementService;
+
+    @Autowired(required = false)
+    private ProvisioningService provisioningService;
+
+    @Autowired(required = false)
+    private WarmPoolService warmPoolService;
+
+    @Autowired(required = false)
+    private HibernationService hibernationService;
+
+    @Autowired(required = false)
+    private LaunchQueue launchQueue;
+
+    @Autowired(required = false)
+    private TeardownService teardownService;
 
     @Value("${kubernetes.enabled:false}")
     private boolean kubernetesEnabled;
@@ -33,73 +82,269 @@ public class ContainerService {
     @Value("${kubernetes.domain:localhost}")
     private String domain;
 
+    @Value("${kubernetes.namespace:user-containers}")
+    private String namespace;
+
     @Value("${kubernetes.ingress.port:8080}")
     private int ingressPort;
 
-    public List<ContainerTemplate> getAvailableTemplates() {
-        return templateRepository.findByEnabledTrue();
+    /**
+     * 카탈로그 스냅샷 (버전 - 응답 직렬화 캐시 키)
+     */
+    public TemplateCatalog.Snapshot getTemplateSnapshot() {
+        return templateCatalog.snapshot();
     }
 
     @Transactional
     public ContainerTemplate addTemplate(ContainerTemplate template) {
+        // 저장 전 Pod 스펙 구성 검증 (잘못된 환경변수 JSON 등은 실행 시점이 아닌 등록 시점에 거부)
+        podSpecCompiler.compile(template);
         template.setEnabled(true);
-        return templateRepository.save(template);
+        ContainerTemplate saved = templateRepository.save(template);
+        eventPublisher.publishEvent(new TemplateChangedEvent(saved.getId()));
+        return saved;
     }
 
-    @Transactional
+    /**
+     * PENDING 인스턴스 저장 후 즉시 반환 - K8s 리소스 생성은 ProvisioningService 가 비동기로 처리
+     * (트랜잭션 없이 저장하여 K8s 호출 동안 DB 커넥션을 잡지 않음)
+     * 용량 대기열 사용 시 배치할 대상이 없으면 QUEUED 로 저장 후 반환 (자원 반환 시 자동 실행)
+     */
     public ContainerInstance createInstance(Long templateId, String userId) {
-        ContainerTemplate template = templateRepository.findById(templateId)
+        return createInstance(templateId, userId, null);
+    }
+
+    /**
+     * resources: 실행 시 지정한 CPU/메모리 - 빈 필드는 템플릿 값 (지정 시 웜 풀 미사용)
+     */
+    public ContainerInstance createInstance(Long templateId, String userId, ResourceProfile resources) {
+        ContainerTemplate template = templateCatalog.find(templateId)
                 .orElseThrow(() -> new RuntimeException("Template not found: " + templateId));
+        if (resources != null) {
+            // 잘못된 값/상한 초과는 400
+            podSpecCompiler.resources(resources.orElse(template.getResources()));
+        }
 
-        String randomSuffix = UUID.randomUUID().toString().substring(0, 8);
-        String podName = template.getName().toLowerCase().replaceAll(" ", "-") + "-" + randomSuffix;
-        String accessUrl = "http://" + randomSuffix + "." + domain + ":" + ingressPort;
+        // quota/속도/진행 중 작업 수 확인 - 거절 시 429
+        AdmissionService.Permit permit = admissionService.admitCreate(userId, template);
+        boolean provisioning = false;
+        try {
+            // 웜 풀 우선 - 미리 띄워둔 인스턴스를 할당하고 기존 URL 그대로 반환
+            if (kubernetesEnabled && warmPoolService != null && resources == null) {
+                Optional<ContainerInstance> claimed = warmPoolService.claim(template, userId,
+                        entry -> bindPoolEntry(template, userId, entry), instanceRepository::delete);
+                if (claimed.isPresent()) {
+                    log.info("Warm pool instance claimed: {} for user {}", claimed.get().getPodName(), userId);
+                    eventPublisher.publishEvent(InstanceStatusChangedEvent.of(claimed.get()));
+                    return claimed.get();
+                }
+            }
 
+            String randomSuffix = UUID.randomUUID().toString().substring(0, 8);
+            String podName = template.getName().toLowerCase().replaceAll(" ", "-") + "-" + randomSuffix;
+            // 배치 대상 선택 - 들어갈 대상이 없으면 대기열 등록 (대기열 미사용 시 429)
+            ClusterTarget target = null;
+            boolean queued = false;
+            if (kubernetesEnabled && placementService != null) {
+                queued = launchQueue != null && launchQueue.mustWait(template);
+                if (!queued) {
+                    target = placementService.place(userId, template, resources);
+                    if (target == null && launchQueue == null) {
+                        throw placementService.noCapacity();
+                    }
+                    queued = target == null;
+                }
+            }
+            if (target != null) {
+                // API 서버 장애 중에는 PENDING 으로 저장하지 않고 바로 503
+                target.kubernetes().ensureAvailable();
+            }
+
+            // 접속 주소는 배치된 대상의 Ingress 도메인 기준 (대기열 항목은 실행 시 다시 지정)
+            String accessUrl = target != null
+                    ? target.accessUrl(randomSuffix)
+                    : "http://" + randomSuffix + "." + domain + ":" + ingressPort;
+
+            ContainerInstance instance = ContainerInstance.builder()
+                    .template(template)
+                    .userId(userId)
+                    .podName(podName)
+                    .namespace(target != null ? target.namespace() : namespace)
+                    .target(target != null ? target.name() : null)
+                    .accessUrl(accessUrl)
+                    .resources(resources)
+                    .status(ContainerInstance.ContainerStatus.PENDING)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+
+            if (queued) {
+                return launchQueue.enqueue(instance);
+            }
+
+            // K8s 활성화 시에만 실제 Pod 생성 - 작업 슬롯은 리소스 생성 완료 시 반환
+            if (kubernetesEnabled && provisioningService != null) {
+                ContainerInstance saved = saveAndPublish(instance);
+                permit.releaseReservation();
+                provisioningService.provision(saved, template, randomSuffix)
+                        .whenComplete((ignored, error) -> permit.close());
+                provisioning = true;
+                log.info("Kubernetes provisioning started: {}", podName);
+                return saved;
+            }
+
+            log.info("Kubernetes disabled - Mock instance created: {}", podName);
+            instance.setStatus(ContainerInstance.ContainerStatus.RUNNING);
+            return saveAndPublish(instance);
+        } finally {
+            if (!provisioning) {
+                permit.close();
+            }
+        }
+    }
+
+    /**
+     * 풀 항목에 대한 인스턴스 행 저장 - 이벤트는 라벨 교체로 점유가 확정된 뒤 발행
+     */
+    private ContainerInstance bindPoolEntry(ContainerTemplate template, String userId, WarmPoolService.PoolEntry entry) {
+        // 웜 풀은 기본 배치 대상에만 유지
+        ClusterTarget primary = clusterTargets.primary();
+        boolean running;
+        try {
+            running = "Running".equals(primary.kubernetes().getPodStatus(entry.podName()));
+        } catch (KubernetesUnavailableException e) {
+            // 확인 불가 - PENDING 으로 두고 Pod 워치 이벤트로 전환
+            running = false;
+        }
         ContainerInstance instance = ContainerInstance.builder()
                 .template(template)
                 .userId(userId)
-                .podName(podName)
-                .namespace("user-containers")
-                .accessUrl(accessUrl)
-                .status(ContainerInstance.ContainerStatus.PENDING)
+                .podName(entry.podName())
+                .namespace(primary.namespace())
+                .target(primary.name())
+                .accessUrl(warmPoolService.accessUrl(entry))
+                .status(running ? ContainerInstance.ContainerStatus.RUNNING : ContainerInstance.ContainerStatus.PENDING)
                 .createdAt(LocalDateTime.now())
                 .build();
+        return instanceRepository.save(instance);
+    }
 
-        // K8s 활성화 시에만 실제 Pod 생성
-        if (kubernetesEnabled && kubernetesService != null) {
-            kubernetesService.createContainer(template, userId, podName, randomSuffix);
-            log.info("Kubernetes Pod created: {}", podName);
-            instance.setStatus(ContainerInstance.ContainerStatus.PENDING);
-        } else {
-            log.info("Kubernetes disabled - Mock instance created: {}", podName);
-            instance.setStatus(ContainerInstance.ContainerStatus.RUNNING);
-        }
+    /**
+     * 사용자 인스턴스 목록 - RUNNING, PENDING, HIBERNATED, QUEUED 또는 STOPPING 상태만 반환 (STOPPED 제외), 최신순 키셋 페이지
+     */
+    public InstancePage getUserInstances(String userId, Long cursor, int size) {
+        int pageSize = clampPageSize(size);
+        return InstancePage.of(instanceRepository.findSummariesByUser(userId, ACTIVE_STATUSES, cursor,
+                Limit.of(pageSize + 1)), pageSize);
+    }
 
-        return instanceRepository.save(instance);
+    /**
+     * 전체 인스턴스 목록 (관리자) - 상태 미지정 시 전체 상태, 최신순 키셋 페이지
+     */
+    public InstancePage listInstances(Collection<ContainerInstance.ContainerStatus> statuses, Long templateId,
+                                      String userId, Long cursor, int size) {
+        int pageSize = clampPageSize(size);
+        Collection<ContainerInstance.ContainerStatus> filter = statuses == null || statuses.isEmpty()
+                ? EnumSet.allOf(ContainerInstance.ContainerStatus.class) : statuses;
+        return InstancePage.of(instanceRepository.findSummaries(filter, templateId, userId, cursor,
+                Limit.of(pageSize + 1)), pageSize);
     }
 
-    public List<ContainerInstance> getUserInstances(String userId) {
-        // RUNNING 또는 PENDING 상태만 반환 (STOPPED 제외)
-        return instanceRepository.findByUserIdAndStatusIn(userId,
-                List.of(ContainerInstance.ContainerStatus.RUNNING, ContainerInstance.ContainerStatus.PENDING));
+    /**
+     * 응답용 DTO 변환 - 템플릿 정보는 카탈로그에서 조회 (지연 로딩 프록시 초기화 없음)
+     */
+    public InstanceSummary toSummary(ContainerInstance instance) {
+        Long templateId = instance.getTemplate() != null ? instance.getTemplate().getId() : null;
+        ContainerTemplate template = templateId != null ? templateCatalog.find(templateId).orElse(null) : null;
+        return InstanceSummary.of(instance, template);
     }
 
-    @Transactional
+    private static int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * STOPPING 저장 후 즉시 반환 - K8s 리소스 삭제와 STOPPED 확정은 TeardownService 가 비동기로 처리
+     * (트랜잭션 없이 저장하여 K8s 호출 동안 DB 커넥션을 잡지 않음, 이미 중지 중/중지됨이면 무시)
+     */
     public void stopInstance(Long instanceId) {
         ContainerInstance instance = instanceRepository.findById(instanceId)
                 .orElseThrow(() -> new RuntimeException("Instance not found: " + instanceId));
 
-        // K8s 활성화 시에만 실제 Pod 삭제
-        if (kubernetesEnabled && kubernetesService != null) {
-            kubernetesService.deleteContainer(instance.getPodName());
-            log.info("Kubernetes Pod deleted: {}", instance.getPodName());
-        } else {
+        // 대기 중이면 K8s 리소스 없이 취소 - 그 사이 실행이 확정됐으면 다시 조회해 일반 중지
+        if (instance.getStatus() == ContainerInstance.ContainerStatus.QUEUED && launchQueue != null) {
+            if (launchQueue.cancel(instance)) {
+                return;
+            }
+            instance = instanceRepository.findById(instanceId)
+                    .orElseThrow(() -> new RuntimeException("Instance not found: " + instanceId));
+        }
+
+        if (instance.getStatus() == ContainerInstance.ContainerStatus.STOPPING
+                || instance.getStatus() == ContainerInstance.ContainerStatus.STOPPED) {
+            return;
+        }
+
+        // 작업 슬롯은 삭제 호출 완료 시 반환
+        AdmissionService.Permit permit = admissionService.admitStop(instance.getUserId());
+        boolean tearingDown = false;
+        try {
+            instance.setStoppedAt(LocalDateTime.now());
+
+            // K8s 활성화 시에만 실제 리소스 삭제
+            if (kubernetesEnabled && teardownService != null) {
+                // API 서버 장애 중에는 STOPPING 으로 저장하지 않고 바로 503
+                clusterTargets.of(instance).kubernetes().ensureAvailable();
+                instanceMetrics.stopRequested(instanceId);
+                instance.setStatus(ContainerInstance.ContainerStatus.STOPPING);
+                ContainerInstance saved = saveAndPublish(instance);
+                teardownService.teardown(saved)
+                        .whenComplete((ignored, error) -> permit.close());
+                tearingDown = true;
+                log.info("Kubernetes teardown started: {}", instance.getPodName());
+                return;
+            }
+
             log.info("Kubernetes disabled - Mock instance stopped: {}", instance.getPodName());
+            instanceMetrics.stopRequested(instanceId);
+            instance.setStatus(ContainerInstance.ContainerStatus.STOPPED);
+            saveAndPublish(instance);
+        } finally {
+            if (!tearingDown) {
+                permit.close();
+            }
+        }
+    }
+
+    /**
+     * 대기열 위치 - 대기 중이 아니면 empty
+     */
+    public Optional<LaunchQueue.Position> getQueuePosition(Long instanceId) {
+        ContainerInstance instance = instanceRepository.findById(instanceId)
+                .orElseThrow(() -> new RuntimeException("Instance not found: " + instanceId));
+        return launchQueue != null ? launchQueue.position(instance) : Optional.empty();
+    }
+
+    /**
+     * 휴면 인스턴스 재개 - 기존 URL 그대로 사용
+     */
+    public ContainerInstance resumeInstance(Long instanceId) {
+        ContainerInstance instance = instanceRepository.findById(instanceId)
+                .orElseThrow(() -> new RuntimeException("Instance not found: " + instanceId));
+
+        if (hibernationService != null) {
+            return hibernationService.resume(instance);
         }
+        activitySource.recordActivity(instance);
+        return instance;
+    }
 
-        instance.setStatus(ContainerInstance.ContainerStatus.STOPPED);
-        instance.setStoppedAt(LocalDateTime.now());
-        instanceRepository.save(instance);
+    /**
+     * 사용 기록 (휴면 판단용 heartbeat)
+     */
+    public void recordActivity(Long instanceId) {
+        ContainerInstance instance = instanceRepository.findById(instanceId)
+                .orElseThrow(() -> new RuntimeException("Instance not found: " + instanceId));
+        activitySource.recordActivity(instance);
     }
 
     // Pod 상태 확인 (신규)
@@ -107,14 +352,25 @@ public class ContainerService {
         ContainerInstance instance = instanceRepository.findById(instanceId)
                 .orElseThrow(() -> new RuntimeException("Instance not found: " + instanceId));
 
-        if (kubernetesEnabled && kubernetesService != null) {
-            String podStatus = kubernetesService.getPodStatus(instance.getPodName());
+        if (instance.getStatus() == ContainerInstance.ContainerStatus.QUEUED) {
+            return instance.getStatus().name();
+        }
+
+        if (kubernetesEnabled && clusterTargets != null) {
+            String podStatus;
+            try {
+                podStatus = clusterTargets.of(instance).kubernetes().getPodStatus(instance.getPodName());
+            } catch (KubernetesUnavailableException e) {
+                // 성능 저하 모드 - API 서버 장애 중에는 마지막으로 기록된 DB 상태 반환
+                log.debug("Serving last known status for {}: {}", instance.getPodName(), e.getMessage());
+                return instance.getStatus().name();
+            }
 
             // Pod 상태에 따라 Instance 상태 업데이트
             if ("Running".equals(podStatus)) {
-                if (instance.getStatus() != ContainerInstance.ContainerStatus.RUNNING) {
-                    instance.setStatus(ContainerInstance.ContainerStatus.RUNNING);
-                    instanceRepository.save(instance);
+                if (instance.getStatus() == ContainerInstance.ContainerStatus.PENDING
+                        || instance.getStatus() == ContainerInstance.ContainerStatus.FAILED) {
+                    transition(instance, ContainerInstance.ContainerStatus.RUNNING);
                 }
                 return "READY";
             } else if ("Pending".equals(podStatus)) {
@@ -126,4 +382,53 @@ public class ContainerService {
 
         return instance.getStatus().name();
     }
+
+    /**
+     * Pod 워치 이벤트 반영 - 폴링 없이 RUNNING/FAILED 전환
+     */
+    @EventListener
+    @Transactional
+    public void onPodPhaseChanged(PodPhaseChangedEvent event) {
+        instanceRepository.findByPodName(event.appLabel()).ifPresent(instance -> {
+            ContainerInstance.ContainerStatus current = instance.getStatus();
+            // 중지/휴면 인스턴스는 Pod 종료 이벤트로 상태를 바꾸지 않음 (STOPPING 확정은 TeardownService)
+            if (current == ContainerInstance.ContainerStatus.STOPPING
+                    || current == ContainerInstance.ContainerStatus.STOPPED
+                    || current == ContainerInstance.ContainerStatus.HIBERNATED) {
+                return;
+            }
+
+            ContainerInstance.ContainerStatus next = switch (event.phase()) {
+                case "Running" -> ContainerInstance.ContainerStatus.RUNNING;
+                case "Failed" -> ContainerInstance.ContainerStatus.FAILED;
+                default -> current;
+            };
+
+            if (next != current && transition(instance, next)) {
+                log.info("Instance {} status {} -> {} (pod phase: {})", instance.getPodName(), current, next, event.phase());
+            }
+        });
+    }
+
+    /**
+     * 조건부 상태 전이 - 읽은 뒤 중지/휴면 등으로 상태가 바뀌었으면 덮어쓰지 않음
+     * @return 이번 호출로 전이했으면 true
+     */
+    private boolean transition(ContainerInstance instance, ContainerInstance.ContainerStatus next) {
+        if (instanceRepository.updateStatusIf(instance.getId(), instance.getStatus(), next, instance.getStoppedAt()) == 0) {
+            return false;
+        }
+        instance.setStatus(next);
+        eventPublisher.publishEvent(InstanceStatusChangedEvent.of(instance));
+        return true;
+    }
+
+    /**
+     * 저장 후 상태 전이 이벤트 발행 (리스너는 커밋 이후 수신)
+     */
+    private ContainerInstance saveAndPublish(ContainerInstance instance) {
+        ContainerInstance saved = instanceRepository.save(instance);
+        eventPublisher.publishEvent(InstanceStatusChangedEvent.of(saved));
+        return saved;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package kr.osci.container.service;
+
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.event.InstanceStatusChangedEvent;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import kr.osci.container.service.activity.ActivitySource;
+import kr.osci.container.service.placement.ClusterTargets;
+import kr.osci.container.service.placement.PlacementService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유휴 인스턴스 휴면
+ * - 마지막 사용 후 idle-timeout 이 지난 RUNNING 인스턴스를 replicas 0 으로 축소하고 HIBERNATED 표시
+ * - 재개 시 replicas 1 로 복구 (Service/Ingress/URL 유지), 이후 RUNNING 전환은 Pod 워치가 담당
+ * - 재개도 새 실행과 같은 노드 여유 자원 확인을 거침 (자리가 없으면 429, 휴면 유지)
+ * - 상태는 조건부 update 로만 전환 - 그 사이 중지된 인스턴스를 HIBERNATED/PENDING 으로 덮어쓰지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = {"kubernetes.enabled", "platform.hibernation.enabled"}, havingValue = "true")
+public class HibernationService {
+
+    private final ClusterTargets clusterTargets;
+    private final PlacementService placementService;
+    private final TemplateCatalog templateCatalog;
+    private final ActivitySource activitySource;
+    private final ContainerInstanceRepository instanceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${platform.hibernation.idle-timeout:2h}")
+    private Duration idleTimeout;
+
+    // 사용 기록이 없는 인스턴스는 처음 관측한 시각부터 유휴 시간 계산 (재시작 직후 일괄 휴면 방지)
+    private final Map<String, Instant> firstSeen = new ConcurrentHashMap<>();
+
+    @Scheduled(fixedDelayString = "${platform.hibernation.check-interval:300000}")
+    public void hibernateIdleInstances() {
+        activitySource.refresh();
+        Instant threshold = Instant.now().minus(idleTimeout);
+
+        List<ContainerInstance> running = instanceRepository.findByStatusIn(List.of(ContainerInstance.ContainerStatus.RUNNING));
+        firstSeen.keySet().retainAll(running.stream().map(ContainerInstance::getPodName).toList());
+
+        for (ContainerInstance instance : running) {
+            Instant lastActivity = activitySource.lastActivity(instance)
+                    .orElseGet(() -> firstSeen.computeIfAbsent(instance.getPodName(), name -> Instant.now()));
+            if (lastActivity.isAfter(threshold)) {
+                continue;
+            }
+
+            try {
+                clusterTargets.of(instance).kubernetes().scaleDeployment(instance.getPodName(), 0);
+                // 축소 중 중지 요청이 들어왔으면 STOPPING 유지 (Deployment 는 teardown 이 삭제)
+                if (update(instance, ContainerInstance.ContainerStatus.RUNNING, ContainerInstance.ContainerStatus.HIBERNATED)) {
+                    log.info("Instance hibernated: {} (idle since {})", instance.getPodName(), lastActivity);
+                } else {
+                    log.info("Hibernation skipped: {} changed while scaling down", instance.getPodName());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to hibernate {}: {}", instance.getPodName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 휴면 인스턴스 재개 - 같은 Deployment 를 replicas 1 로 복구
+     */
+    public ContainerInstance resume(ContainerInstance instance) {
+        activitySource.recordActivity(instance);
+        if (instance.getStatus() != ContainerInstance.ContainerStatus.HIBERNATED) {
+            return instance;
+        }
+
+        templateCatalog.find(instance.getTemplate().getId())
+                .ifPresent(template -> placementService.ensureResumable(instance, template));
+        // 먼저 PENDING 으로 전환 - 그 사이 중지됐으면 확장하지 않고 현재 상태 반환
+        if (!update(instance, ContainerInstance.ContainerStatus.HIBERNATED, ContainerInstance.ContainerStatus.PENDING)) {
+            return instanceRepository.findById(instance.getId()).orElse(instance);
+        }
+        try {
+            clusterTargets.of(instance).kubernetes().scaleDeployment(instance.getPodName(), 1);
+        } catch (RuntimeException e) {
+            update(instance, ContainerInstance.ContainerStatus.PENDING, ContainerInstance.ContainerStatus.HIBERNATED);
+            throw e;
+        }
+        log.info("Instance resumed: {}", instance.getPodName());
+        return instance;
+    }
+
+    /**
+     * 아직 from 상태일 때만 전환 후 이벤트 발행
+     * @return 이번 호출로 전환했으면 true
+     */
+    private boolean update(ContainerInstance instance, ContainerInstance.ContainerStatus from,
+                           ContainerInstance.ContainerStatus to) {
+        if (instanceRepository.updateStatusIf(instance.getId(), from, to, instance.getStoppedAt()) == 0) {
+            return false;
+        }
+        instance.setStatus(to);
+        eventPublisher.publishEvent(InstanceStatusChangedEvent.of(instance));
+        return true;
+    }
+}
@@ -0,0 +1,316 @@
+package kr.osci.container.service;
+
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.*;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.event.TemplateChangedEvent;
+import kr.osci.container.service.placement.ClusterTarget;
+import kr.osci.container.service.placement.ClusterTargets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 템플릿 이미지 사전 다운로드 (노드별 캐시 워밍)
+ * - 배치 대상마다 활성 템플릿별 DaemonSet 1개 - init 컨테이너가 템플릿 이미지를 받아 즉시 종료, 이후 pause 컨테이너만 유지
+ * - 템플릿 추가/이미지 변경 시 DaemonSet 생성/교체, 비활성·삭제된 템플릿의 DaemonSet 은 제거
+ * - 노드별 다운로드 상태를 주기적으로 수집 (관리자 API, 실행 지연 지표의 cached/uncached 구분에 사용)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = {"kubernetes.enabled", "platform.prepull.enabled"}, havingValue = "true")
+public class ImagePrePullService {
+
+    public static final String TEMPLATE_LABEL = "prepull-template";
+    private static final String COMPONENT_LABEL = "component";
+    private static final String PREPULL = "prepull";
+    private static final String IMAGE_ANNOTATION = "container-platform/image";
+    private static final String POD_SELECTOR = COMPONENT_LABEL + "=" + PREPULL;
+    private static final String DAEMON_SET_SELECTOR = PodStatusCache.MANAGED_SELECTOR + "," + POD_SELECTOR;
+
+    public static final String PULLED = "pulled";
+    public static final String PULLING = "pulling";
+    public static final String FAILED = "failed";
+
+    // 이미지 자체를 받지 못한 대기 사유 (그 외 실행 오류는 이미지가 노드에 있는 상태)
+    private static final Set<String> PULL_FAILURE_REASONS = Set.of("ErrImagePull", "ImagePullBackOff", "InvalidImageName");
+
+    private final ClusterTargets clusterTargets;
+    private final TemplateCatalog templateCatalog;
+    private final ExecutorService provisioningExecutor;
+
+    @Value("${platform.prepull.pause-image:registry.k8s.io/pause:3.9}")
+    private String pauseImage;
+
+    @Value("${platform.prepull.max-unavailable:25%}")
+    private String maxUnavailable;
+
+    /**
+     * @param pulledAt 이미지가 노드에 준비된 시각 (pulled 가 아니면 null)
+     */
+    public record NodePullStatus(String node, String state, String reason, Instant pulledAt) {
+    }
+
+    public record PullStatus(String target, Long templateId, String templateName, String image,
+                             int desired, int pulled, int failed, List<NodePullStatus> nodes) {
+    }
+
+    // templateId -> "대상/노드" -> 상태 (마지막 수집 결과)
+    private volatile Map<Long, Map<String, NodePullStatus>> nodeStatus = Map.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        provisioningExecutor.execute(this::syncQuietly);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTemplateChanged(TemplateChangedEvent event) {
+        provisioningExecutor.execute(this::syncQuietly);
+    }
+
+    /**
+     * 수동 삭제 등으로 어긋난 DaemonSet 주기적 복구
+     */
+    @Scheduled(fixedDelayString = "${platform.prepull.sync-interval:300000}",
+            initialDelayString = "${platform.prepull.sync-interval:300000}")
+    public void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.warn("Image pre-pull sync failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 배치 대상마다 카탈로그의 활성 템플릿과 DaemonSet 목록을 맞춤 (이미지가 같으면 변경하지 않음)
+     */
+    public synchronized void sync() {
+        TemplateCatalog.Snapshot snapshot = templateCatalog.snapshot();
+        for (ClusterTarget target : clusterTargets.all()) {
+            try {
+                sync(target.kubernetes(), snapshot);
+            } catch (RuntimeException e) {
+                log.warn("Image pre-pull sync failed for target {}: {}", target.name(), e.getMessage());
+            }
+        }
+    }
+
+    private void sync(KubernetesService kubernetesService, TemplateCatalog.Snapshot snapshot) {
+        Map<String, V1DaemonSet> existing = kubernetesService.listDaemonSets(DAEMON_SET_SELECTOR).stream()
+                .collect(Collectors.toMap(daemonSet -> daemonSet.getMetadata().getName(), Function.identity()));
+
+        Set<String> desired = new HashSet<>();
+        for (ContainerTemplate template : snapshot.enabled()) {
+            PodSpecPrototype prototype = snapshot.prototypes().get(template.getId());
+            if (prototype == null) {
+                continue;
+            }
+            String name = daemonSetName(template.getId());
+            desired.add(name);
+
+            V1DaemonSet current = existing.get(name);
+            if (current != null && prototype.image().equals(annotation(current))) {
+                continue;
+            }
+            try {
+                kubernetesService.applyDaemonSet(buildDaemonSet(template.getId(), prototype.image()),
+                        current != null ? current.getMetadata().getResourceVersion() : null);
+            } catch (RuntimeException e) {
+                log.warn("Failed to apply pre-pull DaemonSet for template {}: {}", template.getId(), e.getMessage());
+            }
+        }
+
+        existing.keySet().stream()
+                .filter(name -> !desired.contains(name))
+                .forEach(kubernetesService::deleteDaemonSet);
+    }
+
+    /**
+     * 노드별 다운로드 상태 수집 - 사전 다운로드 Pod 의 init 컨테이너 상태 기준
+     */
+    @Scheduled(fixedDelayString = "${platform.prepull.status-refresh-interval:30000}")
+    public void refreshStatus() {
+        Map<Long, Map<String, NodePullStatus>> previous = nodeStatus;
+        Map<Long, Map<String, NodePullStatus>> next = new HashMap<>();
+        for (ClusterTarget target : clusterTargets.all()) {
+            List<V1Pod> pods;
+            try {
+                pods = target.kubernetes().listPods(POD_SELECTOR);
+            } catch (RuntimeException e) {
+                log.warn("Image pre-pull status refresh failed for target {}: {}", target.name(), e.getMessage());
+                // 조회 실패 대상은 직전 상태 유지
+                previous.forEach((templateId, nodes) -> nodes.forEach((key, status) -> {
+                    if (key.startsWith(target.name() + "/")) {
+                        next.computeIfAbsent(templateId, id -> new TreeMap<>()).put(key, status);
+                    }
+                }));
+                continue;
+            }
+
+            for (V1Pod pod : pods) {
+                Map<String, String> labels = pod.getMetadata().getLabels();
+                String node = pod.getSpec() != null ? pod.getSpec().getNodeName() : null;
+                if (labels == null || labels.get(TEMPLATE_LABEL) == null || node == null) {
+                    continue;
+                }
+                Long templateId = Long.valueOf(labels.get(TEMPLATE_LABEL));
+                String key = nodeKey(target, node);
+                NodePullStatus status = nodeStatus(pod, node, previous.getOrDefault(templateId, Map.of()).get(key));
+                next.computeIfAbsent(templateId, id -> new TreeMap<>()).put(key, status);
+            }
+        }
+        nodeStatus = next;
+    }
+
+    /**
+     * 템플릿별 노드 다운로드 현황 (조회 시점에 다시 수집)
+     */
+    public List<PullStatus> status() {
+        refreshStatus();
+        Map<Long, Map<String, NodePullStatus>> current = nodeStatus;
+        Map<Long, ContainerTemplate> templates = templateCatalog.snapshot().byId();
+
+        List<PullStatus> result = new ArrayList<>();
+        for (ClusterTarget target : clusterTargets.all()) {
+            for (V1DaemonSet daemonSet : target.kubernetes().listDaemonSets(DAEMON_SET_SELECTOR)) {
+                String templateLabel = daemonSet.getMetadata().getLabels().get(TEMPLATE_LABEL);
+                if (templateLabel == null) {
+                    continue;
+                }
+                Long templateId = Long.valueOf(templateLabel);
+                ContainerTemplate template = templates.get(templateId);
+                List<NodePullStatus> nodes = current.getOrDefault(templateId, Map.of()).entrySet().stream()
+                        .filter(entry -> entry.getKey().startsWith(target.name() + "/"))
+                        .map(Map.Entry::getValue)
+                        .toList();
+                Integer scheduled = daemonSet.getStatus() != null ? daemonSet.getStatus().getDesiredNumberScheduled() : null;
+                int desired = scheduled != null ? scheduled : nodes.size();
+                result.add(new PullStatus(target.name(), templateId, template != null ? template.getName() : null,
+                        annotation(daemonSet), desired, count(nodes, PULLED), count(nodes, FAILED), nodes));
+            }
+        }
+        result.sort(Comparator.comparing(PullStatus::templateId).thenComparing(PullStatus::target));
+        return result;
+    }
+
+    /**
+     * 인스턴스 Pod 가 배치된 노드에 실행 요청 전부터 이미지가 준비되어 있었는지
+     * @return cached | uncached | unknown (노드 미확인)
+     */
+    public String imageCache(Long templateId, String podName, LocalDateTime requestedAt) {
+        String node = clusterTargets.findPod(podName)
+                .filter(found -> found.getValue().getSpec() != null && found.getValue().getSpec().getNodeName() != null)
+                .map(found -> nodeKey(found.getKey(), found.getValue().getSpec().getNodeName()))
+                .orElse(null);
+        if (templateId == null || node == null) {
+            return "unknown";
+        }
+        NodePullStatus status = nodeStatus.getOrDefault(templateId, Map.of()).get(node);
+        boolean cached = status != null && status.pulledAt() != null
+                && !status.pulledAt().isAfter(requestedAt.atZone(ZoneId.systemDefault()).toInstant());
+        return cached ? "cached" : "uncached";
+    }
+
+    private static NodePullStatus nodeStatus(V1Pod pod, String node, NodePullStatus previous) {
+        List<V1ContainerStatus> statuses = pod.getStatus() != null ? pod.getStatus().getInitContainerStatuses() : null;
+        if (statuses == null || statuses.isEmpty()) {
+            return new NodePullStatus(node, PULLING, null, null);
+        }
+
+        V1ContainerState state = statuses.get(0).getState();
+        if (state != null && state.getTerminated() != null) {
+            return pulled(node, state.getTerminated().getStartedAt(), previous);
+        }
+        if (state != null && state.getRunning() != null) {
+            return pulled(node, state.getRunning().getStartedAt(), previous);
+        }
+        String reason = state != null && state.getWaiting() != null ? state.getWaiting().getReason() : null;
+        if (reason != null && PULL_FAILURE_REASONS.contains(reason)) {
+            return new NodePullStatus(node, FAILED, reason, null);
+        }
+        if (statuses.get(0).getLastState() != null && statuses.get(0).getLastState().getTerminated() != null) {
+            // 이미지에 셸이 없는 등 실행 오류로 재시작 대기 - 이미지는 이미 노드에 있음
+            return pulled(node, statuses.get(0).getLastState().getTerminated().getStartedAt(), previous);
+        }
+        return new NodePullStatus(node, PULLING, reason, null);
+    }
+
+    private static NodePullStatus pulled(String node, OffsetDateTime startedAt, NodePullStatus previous) {
+        // 시작 시각이 없으면 처음 관측한 시각 유지
+        Instant pulledAt = startedAt != null ? startedAt.toInstant()
+                : previous != null && previous.pulledAt() != null ? previous.pulledAt() : Instant.now();
+        return new NodePullStatus(node, PULLED, null, pulledAt);
+    }
+
+    private V1DaemonSet buildDaemonSet(Long templateId, String image) {
+        String name = daemonSetName(templateId);
+        Map<String, String> podLabels = Map.of(
+                COMPONENT_LABEL, PREPULL,
+                TEMPLATE_LABEL, String.valueOf(templateId));
+        // DaemonSet 에만 managed-by 부여 - 사전 다운로드 Pod 는 인스턴스 Pod 워치 대상에서 제외
+        Map<String, String> labels = new HashMap<>(podLabels);
+        labels.put("managed-by", "container-platform");
+
+        V1ResourceRequirements minimal = new V1ResourceRequirements()
+                .requests(Map.of("cpu", new Quantity("1m"), "memory", new Quantity("8Mi")))
+                .limits(Map.of("cpu", new Quantity("50m"), "memory", new Quantity("32Mi")));
+
+        return new V1DaemonSet()
+                .metadata(new V1ObjectMeta()
+                        .name(name)
+                        .labels(labels)
+                        .annotations(Map.of(IMAGE_ANNOTATION, image)))
+                .spec(new V1DaemonSetSpec()
+                        .selector(new V1LabelSelector().matchLabels(Map.of(TEMPLATE_LABEL, String.valueOf(templateId))))
+                        .updateStrategy(new V1DaemonSetUpdateStrategy()
+                                .type("RollingUpdate")
+                                .rollingUpdate(new V1RollingUpdateDaemonSet().maxUnavailable(new IntOrString(maxUnavailable))))
+                        .template(new V1PodTemplateSpec()
+                                .metadata(new V1ObjectMeta().labels(podLabels))
+                                .spec(new V1PodSpec()
+                                        .initContainers(List.of(new V1Container()
+                                                .name("pull")
+                                                .image(image)
+                                                .command(List.of("sh", "-c", "exit 0"))
+                                                .resources(minimal)))
+                                        .containers(List.of(new V1Container()
+                                                .name("pause")
+                                                .image(pauseImage)
+                                                .resources(minimal)))
+                                        .terminationGracePeriodSeconds(1L))));
+    }
+
+    private static String nodeKey(ClusterTarget target, String node) {
+        return target.name() + "/" + node;
+    }
+
+    private static String daemonSetName(Long templateId) {
+        return "prepull-template-" + templateId;
+    }
+
+    private static String annotation(V1DaemonSet daemonSet) {
+        Map<String, String> annotations = daemonSet.getMetadata().getAnnotations();
+        return annotations != null ? annotations.get(IMAGE_ANNOTATION) : null;
+    }
+
+    private static int count(List<NodePullStatus> nodes, String state) {
+        return (int) nodes.stream().filter(status -> state.equals(status.state())).count();
+    }
+}
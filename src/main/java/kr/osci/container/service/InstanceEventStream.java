@@ -0,0 +1,192 @@
+package kr.osci.container.service;
+
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.event.InstanceStatusChangedEvent;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인스턴스 상태 SSE 스트림
+ * - InstanceStatusChangedEvent 하나를 소스로 사용자별 구독자에게 fan-out
+ * - 구독자마다 고정 크기 버퍼 + 전용 가상 스레드로 전송 (느린 클라이언트는 오래된 이벤트부터 버림)
+ * - 구독 등록 후 스냅샷 조회 - 조회 중 발생한 변경은 보류했다가 스냅샷 뒤에 전송 (누락/역순 방지)
+ * - 주기적 heartbeat 로 프록시 idle timeout 방지 및 끊긴 연결 정리 (heartbeat 도 못 넣을 만큼 밀린 구독은 종료)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InstanceEventStream {
+
+    private static final List<ContainerInstance.ContainerStatus> ACTIVE_STATUSES =
+            List.of(ContainerInstance.ContainerStatus.RUNNING, ContainerInstance.ContainerStatus.PENDING,
+                    ContainerInstance.ContainerStatus.HIBERNATED, ContainerInstance.ContainerStatus.QUEUED,
+                    ContainerInstance.ContainerStatus.STOPPING);
+
+    private final ContainerInstanceRepository instanceRepository;
+
+    @Value("${platform.stream.timeout:1800000}")
+    private long timeoutMillis;
+
+    @Value("${platform.stream.buffer-size:32}")
+    private int bufferSize;
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * 구독 시작 - 현재 활성 인스턴스 스냅샷을 먼저 전송
+     */
+    public SseEmitter subscribe(String userId) {
+        Subscriber subscriber = new Subscriber(userId, newEmitter(), new ArrayBlockingQueue<>(bufferSize));
+        // 콜백보다 먼저 지정 - 스냅샷 조회 중 연결이 끊겨도 remove 가 전송 스레드를 정리
+        subscriber.sender = Thread.ofVirtual().name("sse-" + userId).unstarted(subscriber::drain);
+
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(error -> remove(subscriber));
+
+        // 스냅샷 조회 전에 등록 - 조회 중 발생한 변경은 보류 목록에 쌓임
+        subscribers.compute(userId, (id, targets) -> {
+            Set<Subscriber> set = targets != null ? targets : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+
+        List<ContainerInstance> snapshot;
+        try {
+            snapshot = instanceRepository.findByUserIdAndStatusIn(userId, ACTIVE_STATUSES);
+        } catch (RuntimeException e) {
+            remove(subscriber);
+            throw e;
+        }
+        subscriber.goLive(snapshot.stream()
+                .map(instance -> statusEvent(InstanceStatusChangedEvent.of(instance)))
+                .toList());
+
+        if (!subscriber.closed) {
+            subscriber.sender.start();
+        }
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(InstanceStatusChangedEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.userId());
+        if (targets == null) {
+            return;
+        }
+        targets.forEach(subscriber -> subscriber.publish(statusEvent(event)));
+    }
+
+    /**
+     * 버퍼가 가득 차 heartbeat 도 넣지 못하면 소비가 멈춘 클라이언트 - 연결 종료
+     */
+    @Scheduled(fixedDelayString = "${platform.stream.heartbeat-interval:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> {
+            if (!subscriber.queue.offer(SseEmitter.event().comment("heartbeat"))) {
+                log.debug("SSE subscriber too slow - closing: {}", subscriber.userId);
+                remove(subscriber);
+                subscriber.emitter.complete();
+            }
+        }));
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    // 테스트에서 전송 내용을 기록하는 emitter 로 교체
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private static SseEmitter.SseEventBuilder statusEvent(InstanceStatusChangedEvent event) {
+        return SseEmitter.event()
+                .name("status")
+                .id(event.instanceId() + ":" + event.status())
+                .data(event);
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (id, targets) -> {
+            targets.remove(subscriber);
+            return targets.isEmpty() ? null : targets;
+        });
+        subscriber.closed = true;
+        subscriber.sender.interrupt();
+    }
+
+    private final class Subscriber {
+        private final String userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private volatile Thread sender;
+        private volatile boolean closed;
+
+        // 스냅샷 전송 전까지 실시간 이벤트 보류 (this 로 보호)
+        private List<SseEmitter.SseEventBuilder> pending = new ArrayList<>();
+
+        private Subscriber(String userId, SseEmitter emitter, BlockingQueue<SseEmitter.SseEventBuilder> queue) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        /**
+         * 실시간 이벤트 - 스냅샷 전송 전이면 보류
+         */
+        private synchronized void publish(SseEmitter.SseEventBuilder event) {
+            if (pending != null) {
+                pending.add(event);
+            } else {
+                offer(event);
+            }
+        }
+
+        /**
+         * 스냅샷 → 보류된 이벤트 순으로 버퍼에 넣고 이후 이벤트는 바로 전달
+         */
+        private synchronized void goLive(List<SseEmitter.SseEventBuilder> snapshot) {
+            snapshot.forEach(this::offer);
+            pending.forEach(this::offer);
+            pending = null;
+        }
+
+        /**
+         * 버퍼가 가득 차면 가장 오래된 이벤트를 버리고 추가
+         */
+        private void offer(SseEmitter.SseEventBuilder event) {
+            while (!queue.offer(event)) {
+                queue.poll();
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!closed && !Thread.currentThread().isInterrupted()) {
+                    emitter.send(queue.take());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE subscriber disconnected: {}", userId);
+                remove(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package kr.osci.container.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.event.InstanceStatusChangedEvent;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인스턴스 라이프사이클 지표
+ * - 템플릿별 생성(재개) → RUNNING, 중지 요청 → STOPPED 소요 시간 히스토그램
+ * - RUNNING 소요 시간은 배치된 노드의 이미지 사전 다운로드 여부(image=cached/uncached/unknown)로 구분
+ * - 상태별 인스턴스 수 게이지 (주기적으로 DB 집계)
+ * - 측정 시작 시각은 STOPPED/FAILED 에서 제거, 다른 레플리카가 확정해 이벤트를 못 받은 항목은 주기적으로 만료
+ */
+@Component
+public class InstanceMetrics {
+
+    private final ContainerInstanceRepository instanceRepository;
+    private final TemplateCatalog templateCatalog;
+    // platform.prepull.enabled 일 때만 존재
+    private final ObjectProvider<ImagePrePullService> imagePrePullService;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<ContainerInstance.ContainerStatus, AtomicLong> countsByStatus =
+            new EnumMap<>(ContainerInstance.ContainerStatus.class);
+    private static final Duration DIRECT_RUNNING_WINDOW = Duration.ofSeconds(5);
+    // 이보다 오래된 측정 시작 시각은 종료 이벤트를 놓친 것으로 보고 버림
+    private static final Duration PENDING_EXPIRY = Duration.ofHours(1);
+
+    private final Map<Long, LocalDateTime> startRequestedAt = new ConcurrentHashMap<>();
+    private final Map<Long, LocalDateTime> stopRequestedAt = new ConcurrentHashMap<>();
+
+    public InstanceMetrics(ContainerInstanceRepository instanceRepository, TemplateCatalog templateCatalog,
+                           ObjectProvider<ImagePrePullService> imagePrePullService, MeterRegistry meterRegistry) {
+        this.instanceRepository = instanceRepository;
+        this.templateCatalog = templateCatalog;
+        this.imagePrePullService = imagePrePullService;
+        this.meterRegistry = meterRegistry;
+
+        for (ContainerInstance.ContainerStatus status : ContainerInstance.ContainerStatus.values()) {
+            AtomicLong count = new AtomicLong();
+            countsByStatus.put(status, count);
+            Gauge.builder("container.instances", count, AtomicLong::get)
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 중지 요청 시각 기록 - STOPPED 이벤트 수신 시 소요 시간 계산
+     */
+    public void stopRequested(Long instanceId) {
+        stopRequestedAt.put(instanceId, LocalDateTime.now());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(InstanceStatusChangedEvent event) {
+        switch (event.status()) {
+            // 생성 또는 휴면 재개 시점부터 측정
+            case PENDING -> startRequestedAt.put(event.instanceId(), event.occurredAt());
+            case RUNNING -> {
+                LocalDateTime from = startRequestedAt.remove(event.instanceId());
+                // 웜 풀 할당처럼 생성과 동시에 RUNNING 인 경우
+                if (from == null && event.createdAt() != null
+                        && Duration.between(event.createdAt(), event.occurredAt()).compareTo(DIRECT_RUNNING_WINDOW) < 0) {
+                    from = event.createdAt();
+                }
+                if (from != null) {
+                    record("container.instance.time_to_running", event, from,
+                            Tags.of("image", imageCache(event, from)));
+                }
+            }
+            case STOPPED -> {
+                startRequestedAt.remove(event.instanceId());
+                LocalDateTime requestedAt = stopRequestedAt.remove(event.instanceId());
+                if (requestedAt != null) {
+                    record("container.instance.time_to_stopped", event, requestedAt, Tags.empty());
+                }
+            }
+            case FAILED -> {
+                startRequestedAt.remove(event.instanceId());
+                stopRequestedAt.remove(event.instanceId());
+            }
+            default -> {
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${platform.metrics.status-refresh-interval:15000}")
+    public void refreshStatusCounts() {
+        Map<ContainerInstance.ContainerStatus, Long> counts = new EnumMap<>(ContainerInstance.ContainerStatus.class);
+        for (Object[] row : instanceRepository.countGroupByStatus()) {
+            if (row[0] != null) {
+                counts.put((ContainerInstance.ContainerStatus) row[0], (Long) row[1]);
+            }
+        }
+        countsByStatus.forEach((status, gauge) -> gauge.set(counts.getOrDefault(status, 0L)));
+    }
+
+    /**
+     * 종료 이벤트를 받지 못한 측정 시작 시각 정리 (다른 레플리카에서 확정, 저장 실패 등)
+     */
+    @Scheduled(fixedDelayString = "${platform.metrics.pending-sweep-interval:600000}")
+    public void expirePending() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(PENDING_EXPIRY);
+        startRequestedAt.values().removeIf(at -> at.isBefore(cutoff));
+        stopRequestedAt.values().removeIf(at -> at.isBefore(cutoff));
+    }
+
+    private void record(String name, InstanceStatusChangedEvent event, LocalDateTime from, Tags tags) {
+        Duration elapsed = Duration.between(from, event.occurredAt());
+        if (elapsed.isNegative()) {
+            return;
+        }
+        Timer.builder(name)
+                .tag("template", templateName(event.templateId()))
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsed);
+    }
+
+    private String imageCache(InstanceStatusChangedEvent event, LocalDateTime requestedAt) {
+        ImagePrePullService prePull = imagePrePullService.getIfAvailable();
+        return prePull != null ? prePull.imageCache(event.templateId(), event.podName(), requestedAt) : "unknown";
+    }
+
+    private String templateName(Long templateId) {
+        ContainerTemplate template = templateId == null ? null : templateCatalog.snapshot().byId().get(templateId);
+        return template != null ? template.getName() : "unknown";
+    }
+}
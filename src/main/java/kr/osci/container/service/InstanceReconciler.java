@@ -0,0 +1,328 @@
+package kr.osci.container.service;
+
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1Ingress;
+import io.kubernetes.client.openapi.models.V1IngressServiceBackend;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.event.InstanceStatusChangedEvent;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import kr.osci.container.service.placement.ClusterTarget;
+import kr.osci.container.service.placement.ClusterTargets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * DB ↔ 클러스터 주기적 정합성 보정
+ * - 사이클마다 배치 대상별 관리 대상 Deployment/Pod 1회 목록 조회 + 미중지 인스턴스 1회 조회 후 메모리에서 비교
+ * - 크래시/축출/수동 삭제된 인스턴스는 FAILED/STOPPED 로, DB 행이 없는 리소스는 삭제
+ * - STOPPING 인스턴스: Deployment 와 Pod 가 모두 없으면 STOPPED 확정, grace-period 지나도 Deployment 가 남아 있으면 재삭제
+ * - Deployment 없이 남은 Service/Ingress 삭제
+ * - 소유 관계 없이 생성된 이전 Service/Ingress (app 라벨만 있음) 는 Deployment 가 있으면 소유자 지정, 없으면 삭제
+ * - 생성 직후/웜 풀 할당 직후의 일시적 불일치를 피하기 위해 두 사이클 연속 관측된 경우에만 조치
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "kubernetes.enabled", havingValue = "true")
+public class InstanceReconciler {
+
+    private static final List<ContainerInstance.ContainerStatus> ACTIVE_STATUSES = List.of(
+            ContainerInstance.ContainerStatus.PENDING,
+            ContainerInstance.ContainerStatus.RUNNING,
+            ContainerInstance.ContainerStatus.HIBERNATED,
+            ContainerInstance.ContainerStatus.STOPPING,
+            ContainerInstance.ContainerStatus.FAILED);
+
+    // 이전 버전이 만든 Service/Ingress - app 라벨만 있고 managed-by 라벨/소유자 없음
+    static final String LEGACY_SELECTOR = "app,!managed-by";
+
+    private final ClusterTargets clusterTargets;
+    private final ContainerInstanceRepository instanceRepository;
+    private final TeardownService teardownService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${platform.reconciler.grace-period:120s}")
+    private Duration gracePeriod;
+
+    // 직전 사이클에서 불일치로 관측된 대상 (kind:name)
+    private Set<String> suspects = Set.of();
+
+    @Scheduled(fixedDelayString = "${platform.reconciler.interval:60000}",
+            initialDelayString = "${platform.reconciler.initial-delay:30000}")
+    public void reconcile() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            reconcileOnce();
+        } catch (RuntimeException e) {
+            outcome = "error";
+            log.error("Reconcile cycle failed", e);
+        } finally {
+            sample.stop(meterRegistry.timer("container.reconciler.cycle", "outcome", outcome));
+        }
+    }
+
+    void reconcileOnce() {
+        Map<String, Map<String, ContainerInstance>> instancesByTarget = instanceRepository.findByStatusIn(ACTIVE_STATUSES)
+                .stream()
+                .collect(Collectors.groupingBy(clusterTargets::nameOf, Collectors.toMap(
+                        ContainerInstance::getPodName, Function.identity(), (a, b) -> a)));
+
+        Set<String> observed = new HashSet<>();
+        for (ClusterTarget target : clusterTargets.all()) {
+            try {
+                reconcileTarget(target, instancesByTarget.getOrDefault(target.name(), Map.of()), observed);
+            } catch (RuntimeException e) {
+                // 한 대상의 API 오류가 다른 대상 보정을 막지 않도록 - 해당 대상 관측은 다음 사이클로
+                log.error("Reconcile failed for target {}", target.name(), e);
+                meterRegistry.counter("container.reconciler.target_errors", "target", target.name()).increment();
+            }
+        }
+        instancesByTarget.keySet().stream()
+                .filter(name -> clusterTargets.find(name).isEmpty())
+                .forEach(name -> log.warn("Instances reference unknown cluster target: {}", name));
+
+        suspects = observed;
+    }
+
+    private void reconcileTarget(ClusterTarget target, Map<String, ContainerInstance> instances, Set<String> observed) {
+        KubernetesService kubernetesService = target.kubernetes();
+        PodStatusCache podStatusCache = target.pods();
+        String selector = PodStatusCache.MANAGED_SELECTOR;
+        Map<String, V1Deployment> deployments = byName(kubernetesService.listDeployments(selector), V1Deployment::getMetadata);
+        List<V1Pod> podList = podStatusCache.hasSynced() ? podStatusCache.listPods() : kubernetesService.listPods(selector);
+        Map<String, V1Pod> pods = podList.stream()
+                .filter(pod -> pod.getMetadata() != null && pod.getMetadata().getLabels() != null
+                        && pod.getMetadata().getLabels().containsKey("app"))
+                .collect(Collectors.toMap(pod -> pod.getMetadata().getLabels().get("app"), Function.identity(),
+                        (a, b) -> "Running".equals(PodStatusCache.effectivePhase(a)) ? a : b));
+
+        // 1. DB 기준: 중지 확정 / 리소스 유실 / Pod 실패 / Pod 기동 반영
+        instances.forEach((podName, instance) -> {
+            if (instance.getStatus() == ContainerInstance.ContainerStatus.STOPPING) {
+                reconcileStopping(kubernetesService, instance, deployments.containsKey(podName),
+                        pods.containsKey(podName), observed);
+                return;
+            }
+            if (!deployments.containsKey(podName)) {
+                // FAILED 는 생성 실패/롤백으로 Deployment 가 없는 것이 정상 - 사용자가 확인 후 중지
+                if (instance.getStatus() == ContainerInstance.ContainerStatus.FAILED) {
+                    return;
+                }
+                if (isOld(instance.getCreatedAt()) && confirm(observed, "missing:" + podName)) {
+                    update(instance, ContainerInstance.ContainerStatus.STOPPED, "missing_deployment");
+                }
+                return;
+            }
+
+            V1Pod pod = pods.get(podName);
+            String phase = pod == null ? "NOT_FOUND" : PodStatusCache.effectivePhase(pod);
+            if ("Running".equals(phase)) {
+                if (instance.getStatus() != ContainerInstance.ContainerStatus.RUNNING) {
+                    update(instance, ContainerInstance.ContainerStatus.RUNNING, "pod_running");
+                }
+            } else if ("Failed".equals(phase)) {
+                if (instance.getStatus() != ContainerInstance.ContainerStatus.FAILED) {
+                    update(instance, ContainerInstance.ContainerStatus.FAILED, "pod_failed");
+                }
+            } else if (instance.getStatus() == ContainerInstance.ContainerStatus.RUNNING
+                    && "NOT_FOUND".equals(phase) && confirm(observed, "podless:" + podName)) {
+                update(instance, ContainerInstance.ContainerStatus.FAILED, "pod_missing");
+            }
+        });
+
+        // 2. 클러스터 기준: DB 행 없는 Deployment (웜 풀 제외)
+        deployments.forEach((podName, deployment) -> {
+            Map<String, String> labels = deployment.getMetadata().getLabels();
+            boolean warm = labels != null && "warm".equals(labels.get(WarmPoolService.POOL_LABEL));
+            if (warm || instances.containsKey(podName) || !isOld(deployment.getMetadata().getCreationTimestamp())) {
+                return;
+            }
+            if (confirm(observed, "orphan:" + podName)) {
+                log.info("Orphaned deployment removed: {}", podName);
+                kubernetesService.deleteContainer(podName);
+                drift("orphan_deployment");
+            }
+        });
+
+        // 3. Deployment 없이 남은 Service/Ingress
+        for (V1Service service : kubernetesService.listServices(selector)) {
+            collectDangling(kubernetesService, service.getMetadata(), deployments, observed, "service");
+        }
+        for (V1Ingress ingress : kubernetesService.listIngresses(selector)) {
+            Map<String, String> labels = ingress.getMetadata().getLabels();
+            if (labels != null && SharedIngressRouter.SHARED.equals(labels.get(SharedIngressRouter.ROUTING_LABEL))) {
+                // 공유 Ingress 는 삭제하지 않고 Deployment 없는 라우트만 제거
+                collectDanglingRoutes(kubernetesService, ingress, deployments, observed);
+            } else {
+                collectDangling(kubernetesService, ingress.getMetadata(), deployments, observed, "ingress");
+            }
+        }
+
+        // 4. 소유 관계 없이 생성된 이전 Service/Ingress
+        if (kubernetesService.hasLegacyObjects()) {
+            migrateLegacy(target, deployments, observed);
+        }
+    }
+
+    /**
+     * 이전 Service/Ingress 를 Deployment 소유로 전환 (없는 Deployment 의 객체는 삭제)
+     * 더 이상 남은 객체가 없으면 deleteContainer 의 이름 기준 삭제 중단
+     */
+    private void migrateLegacy(ClusterTarget target, Map<String, V1Deployment> deployments, Set<String> observed) {
+        KubernetesService kubernetesService = target.kubernetes();
+        List<V1Service> services = kubernetesService.listServices(LEGACY_SELECTOR);
+        List<V1Ingress> ingresses = kubernetesService.listIngresses(LEGACY_SELECTOR);
+        if (services.isEmpty() && ingresses.isEmpty()) {
+            kubernetesService.legacyObjectsMigrated();
+            log.info("No legacy services/ingresses left on target {}", target.name());
+            return;
+        }
+
+        for (V1Service service : services) {
+            String name = service.getMetadata().getName();
+            V1Deployment owner = deployments.get(name);
+            if (owner != null) {
+                kubernetesService.adoptService(name, KubernetesService.ownerReference(owner));
+                drift("legacy_service_adopted");
+            } else if (isOld(service.getMetadata().getCreationTimestamp()) && confirm(observed, "legacy-service:" + name)) {
+                log.info("Legacy service removed: {}", name);
+                kubernetesService.deleteService(name);
+                drift("orphan_service");
+            }
+        }
+        for (V1Ingress ingress : ingresses) {
+            String name = ingress.getMetadata().getName();
+            V1Deployment owner = deployments.get(name);
+            if (owner != null) {
+                kubernetesService.adoptIngress(name, KubernetesService.ownerReference(owner));
+                drift("legacy_ingress_adopted");
+            } else if (isOld(ingress.getMetadata().getCreationTimestamp()) && confirm(observed, "legacy-ingress:" + name)) {
+                log.info("Legacy ingress removed: {}", name);
+                kubernetesService.deleteIngressObject(name);
+                drift("orphan_ingress");
+            }
+        }
+    }
+
+    /**
+     * 삭제 이벤트 유실 시 STOPPED 확정, 삭제 호출 실패로 남은 Deployment 는 재삭제
+     */
+    private void reconcileStopping(KubernetesService kubernetesService, ContainerInstance instance,
+                                   boolean hasDeployment, boolean hasPod, Set<String> observed) {
+        String podName = instance.getPodName();
+        if (!hasDeployment) {
+            if (!hasPod && teardownService.confirm(instance, "reconciler")) {
+                drift("stop_confirmed");
+            }
+            return;
+        }
+        if (isOld(instance.getStoppedAt()) && confirm(observed, "stopping:" + podName)) {
+            log.info("Retrying teardown: {}", podName);
+            kubernetesService.deleteContainer(podName);
+            drift("stop_retried");
+        }
+    }
+
+    private void collectDangling(KubernetesService kubernetesService, V1ObjectMeta metadata,
+                                 Map<String, V1Deployment> deployments, Set<String> observed, String kind) {
+        String name = metadata.getName();
+        if (deployments.containsKey(name) || !isOld(metadata.getCreationTimestamp())) {
+            return;
+        }
+        if (confirm(observed, kind + ":" + name)) {
+            log.info("Orphaned {} removed: {}", kind, name);
+            if ("service".equals(kind)) {
+                kubernetesService.deleteService(name);
+            } else {
+                kubernetesService.deleteIngress(name);
+            }
+            drift("orphan_" + kind);
+        }
+    }
+
+    private void collectDanglingRoutes(KubernetesService kubernetesService, V1Ingress ingress,
+                                       Map<String, V1Deployment> deployments, Set<String> observed) {
+        if (ingress.getSpec() == null || ingress.getSpec().getRules() == null) {
+            return;
+        }
+        ingress.getSpec().getRules().stream()
+                .filter(rule -> rule.getHttp() != null && !rule.getHttp().getPaths().isEmpty())
+                .map(rule -> rule.getHttp().getPaths().get(0).getBackend().getService())
+                .filter(Objects::nonNull)
+                .map(V1IngressServiceBackend::getName)
+                .filter(name -> !deployments.containsKey(name))
+                .filter(name -> confirm(observed, "route:" + name))
+                .forEach(name -> {
+                    log.info("Orphaned route removed: {} ({})", name, ingress.getMetadata().getName());
+                    kubernetesService.deleteIngress(name);
+                    drift("orphan_route");
+                });
+    }
+
+    /**
+     * 이번 사이클 관측 기록 - 직전 사이클에도 관측되었으면 true
+     */
+    private boolean confirm(Set<String> observed, String key) {
+        observed.add(key);
+        return suspects.contains(key);
+    }
+
+    /**
+     * 조건부 상태 전이 - 목록 조회 이후 중지/휴면 등으로 상태가 바뀌었으면 다음 사이클에 다시 판단
+     */
+    private void update(ContainerInstance instance, ContainerInstance.ContainerStatus status, String kind) {
+        LocalDateTime stoppedAt = status == ContainerInstance.ContainerStatus.STOPPED
+                ? LocalDateTime.now() : instance.getStoppedAt();
+        if (instanceRepository.updateStatusIf(instance.getId(), instance.getStatus(), status, stoppedAt) == 0) {
+            log.debug("Reconcile {} skipped: {} changed since listing", kind, instance.getPodName());
+            return;
+        }
+        log.info("Reconcile {}: {} {} -> {}", kind, instance.getPodName(), instance.getStatus(), status);
+        instance.setStatus(status);
+        instance.setStoppedAt(stoppedAt);
+        eventPublisher.publishEvent(InstanceStatusChangedEvent.of(instance));
+        drift(kind);
+    }
+
+    private void drift(String kind) {
+        meterRegistry.counter("container.reconciler.drift", "kind", kind).increment();
+    }
+
+    private boolean isOld(LocalDateTime createdAt) {
+        return createdAt == null || createdAt.isBefore(LocalDateTime.now().minus(gracePeriod));
+    }
+
+    private boolean isOld(OffsetDateTime createdAt) {
+        return createdAt == null || createdAt.isBefore(OffsetDateTime.now().minus(gracePeriod));
+    }
+
+    private static <T> Map<String, T> byName(List<T> items, Function<T, V1ObjectMeta> metadata) {
+        Map<String, T> map = new HashMap<>();
+        items.forEach(item -> map.put(metadata.apply(item).getName(), item));
+        return map;
+    }
+}
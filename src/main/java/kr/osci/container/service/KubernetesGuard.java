@@ -0,0 +1,281 @@
+package kr.osci.container.service;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * K8s API 호출 격리 (API 서버/배치 대상별 인스턴스)
+ * - bulkhead: 조회/변경 호출별 동시 실행 상한, bulkhead-wait 안에 자리가 나지 않으면 거절
+ * - timeout: 호출은 kubernetesCallExecutor(가상 스레드)에서 실행하고 호출측은 작업별 timeout 까지만 대기
+ *   (기본 조회 read-timeout / 변경 mutate-timeout, operations.<작업명> 으로 개별 지정)
+ * - circuit breaker: 연속 failure-threshold 회 실패(시간 초과/연결 오류/5xx/429) 시 open-duration 동안 즉시 거절,
+ *   이후 호출 1건만 시험 실행(half-open) - 성공하면 복구, 실패하면 다시 open
+ * - 4xx(404/409 등)는 API 서버가 정상 응답한 것이므로 실패로 세지 않음
+ * - 거절은 KubernetesUnavailableException (503)
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "kubernetes.enabled", havingValue = "true")
+public class KubernetesGuard {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    @FunctionalInterface
+    public interface Call<T> {
+        T execute() throws ApiException;
+    }
+
+    /**
+     * kubernetes.resilience 설정
+     *
+     * @param operations 작업명(listNamespacedPod 등)별 timeout - 미지정 작업은 read-timeout / mutate-timeout
+     */
+    public record Settings(
+            @DefaultValue("50") int maxConcurrentReads,
+            @DefaultValue("30") int maxConcurrentMutations,
+            @DefaultValue("200ms") Duration bulkheadWait,
+            @DefaultValue("5s") Duration readTimeout,
+            @DefaultValue("15s") Duration mutateTimeout,
+            Map<String, Duration> operations,
+            @DefaultValue("5") int failureThreshold,
+            @DefaultValue("30s") Duration openDuration) {
+
+        public Settings {
+            operations = operations == null ? Map.of() : Map.copyOf(operations);
+        }
+    }
+
+    // 거절 시 Retry-After (circuit-open 은 남은 open 시간)
+    private static final Duration RETRY_SOON = Duration.ofSeconds(1);
+
+    private final String target;
+    private final Settings settings;
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore reads;
+    private final Semaphore mutations;
+
+    // 아래 상태는 this 로 보호
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probing;
+
+    @Autowired
+    public KubernetesGuard(Environment environment,
+                           @Qualifier("kubernetesCallExecutor") ExecutorService executor,
+                           MeterRegistry meterRegistry) {
+        this(Binder.get(environment).bind("kubernetes.placement.primary.name", String.class).orElse("default"),
+                Binder.get(environment).bindOrCreate("kubernetes.resilience", Settings.class),
+                executor, meterRegistry);
+    }
+
+    private KubernetesGuard(String target, Settings settings, ExecutorService executor, MeterRegistry meterRegistry) {
+        this.target = target;
+        this.settings = settings;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.reads = new Semaphore(settings.maxConcurrentReads());
+        this.mutations = new Semaphore(settings.maxConcurrentMutations());
+
+        Gauge.builder("kubernetes.circuit.state", this, guard -> guard.state().ordinal())
+                .description("0=closed, 1=open, 2=half-open")
+                .tag("target", target)
+                .register(meterRegistry);
+        Gauge.builder("kubernetes.bulkhead.active", reads, s -> settings.maxConcurrentReads() - s.availablePermits())
+                .tags("target", target, "kind", "read")
+                .register(meterRegistry);
+        Gauge.builder("kubernetes.bulkhead.active", mutations, s -> settings.maxConcurrentMutations() - s.availablePermits())
+                .tags("target", target, "kind", "mutate")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 추가 배치 대상용 - 설정/실행기는 공유, bulkhead 와 circuit 상태는 대상별
+     */
+    public KubernetesGuard forTarget(String targetName) {
+        return new KubernetesGuard(targetName, settings, executor, meterRegistry);
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * circuit 이 열려 있으면 즉시 거절 (비동기 작업 접수 전 확인용, 시험 호출 자리는 차지하지 않음)
+     */
+    public synchronized void ensureAvailable() {
+        if (state == State.OPEN && remainingOpen() > 0) {
+            throw reject("circuit-open", "Kubernetes API unavailable (circuit open): " + target,
+                    Duration.ofMillis(remainingOpen()));
+        }
+    }
+
+    public <T> T execute(String operation, Call<T> call) throws ApiException {
+        boolean read = isRead(operation);
+        boolean probe = admit();
+
+        Semaphore bulkhead = read ? reads : mutations;
+        if (!acquire(bulkhead)) {
+            if (probe) {
+                releaseProbe();
+            }
+            throw reject("bulkhead-full", "Too many concurrent Kubernetes " + (read ? "reads" : "mutations")
+                    + ": " + target, RETRY_SOON);
+        }
+
+        Duration timeout = settings.operations().getOrDefault(operation,
+                read ? settings.readTimeout() : settings.mutateTimeout());
+        Future<T> future = executor.submit(call::execute);
+        try {
+            T result = future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            onSuccess(probe);
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            onFailure(probe, operation, "timeout after " + timeout.toMillis() + "ms");
+            throw reject("timeout", "Kubernetes API call timed out: " + operation, RETRY_SOON);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ApiException apiException) {
+                if (isFailure(apiException)) {
+                    onFailure(probe, operation, "HTTP " + apiException.getCode());
+                } else {
+                    onSuccess(probe);
+                }
+                throw apiException;
+            }
+            onFailure(probe, operation, String.valueOf(cause));
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            if (probe) {
+                releaseProbe();
+            }
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while calling Kubernetes API: " + operation, e);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    // 조회 작업 여부 (작업명 접두어 기준)
+    private static boolean isRead(String operation) {
+        return operation.startsWith("list") || operation.startsWith("read") || operation.startsWith("get");
+    }
+
+    // 연결 오류(code 0), 과부하(429), 서버 오류(5xx) 만 API 서버 장애로 판단
+    private static boolean isFailure(ApiException e) {
+        return e.getCode() == 0 || e.getCode() == 429 || e.getCode() >= 500;
+    }
+
+    private boolean acquire(Semaphore bulkhead) {
+        try {
+            return bulkhead.tryAcquire(settings.bulkheadWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * circuit 확인 - open 이면 거절, open-duration 경과 후 첫 호출은 시험 호출
+     * @return 시험 호출이면 true
+     */
+    private synchronized boolean admit() {
+        if (state == State.OPEN) {
+            long remaining = remainingOpen();
+            if (remaining > 0) {
+                throw reject("circuit-open", "Kubernetes API unavailable (circuit open): " + target,
+                        Duration.ofMillis(remaining));
+            }
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probing) {
+                throw reject("circuit-open", "Kubernetes API unavailable (probing recovery): " + target, RETRY_SOON);
+            }
+            probing = true;
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized void onSuccess(boolean probe) {
+        if (probe) {
+            probing = false;
+            transition(State.CLOSED);
+            log.info("Kubernetes API recovered: {}", target);
+        }
+        if (state == State.CLOSED) {
+            consecutiveFailures = 0;
+        }
+    }
+
+    private synchronized void onFailure(boolean probe, String operation, String cause) {
+        meterRegistry.counter("kubernetes.circuit.failures", "target", target, "operation", operation).increment();
+        if (probe) {
+            probing = false;
+            open();
+            log.warn("Kubernetes API still unavailable: {} ({} {})", target, operation, cause);
+            return;
+        }
+        if (state == State.CLOSED && ++consecutiveFailures >= settings.failureThreshold()) {
+            open();
+            log.warn("Kubernetes API circuit opened after {} consecutive failures: {} (last: {} {})",
+                    consecutiveFailures, target, operation, cause);
+        }
+    }
+
+    private synchronized void releaseProbe() {
+        probing = false;
+    }
+
+    private void open() {
+        openedAt = System.currentTimeMillis();
+        consecutiveFailures = 0;
+        transition(State.OPEN);
+    }
+
+    private void transition(State next) {
+        if (state != next) {
+            state = next;
+            meterRegistry.counter("kubernetes.circuit.transitions", "target", target, "state", next.name()).increment();
+        }
+    }
+
+    private long remainingOpen() {
+        return openedAt + settings.openDuration().toMillis() - System.currentTimeMillis();
+    }
+
+    private KubernetesUnavailableException reject(String reason, String message, Duration retryAfter) {
+        meterRegistry.counter("kubernetes.guard.rejections", "target", target, "reason", reason).increment();
+        return new KubernetesUnavailableException(reason, message, retryAfter);
+    }
+}
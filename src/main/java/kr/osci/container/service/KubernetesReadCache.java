@@ -0,0 +1,128 @@
+package kr.osci.container.service;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * K8s 조회 결과 단일 호출 병합 + 짧은 TTL 캐시
+ * - 같은 키의 동시 조회는 진행 중인 호출 하나를 공유 (coalesced)
+ * - 성공 결과만 ttl 동안 재사용 (hit), 실패는 캐시하지 않음
+ * - 최대 max-entries 개, 초과 시 가장 오래 사용하지 않은 항목부터 제거
+ * - 반환 객체는 호출자 간 공유되므로 수정 금지
+ * - 배치 대상마다 별도 인스턴스, 메트릭은 target 태그로 구분
+ */
+@Component
+@ConditionalOnProperty(name = "kubernetes.enabled", havingValue = "true")
+public class KubernetesReadCache {
+
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws ApiException;
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        // 완료 전에는 만료되지 않음
+        private volatile long expiresAt = Long.MAX_VALUE;
+    }
+
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+
+    private final Counter hits;
+    private final Counter coalesced;
+    private final Counter misses;
+
+    public KubernetesReadCache(@Value("${kubernetes.placement.primary.name:default}") String target,
+                               @Value("${kubernetes.read-cache.ttl:500ms}") Duration ttl,
+                               @Value("${kubernetes.read-cache.max-entries:10000}") int maxEntries,
+                               MeterRegistry meterRegistry) {
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.hits = meterRegistry.counter("kubernetes.read.cache", "target", target, "result", "hit");
+        this.coalesced = meterRegistry.counter("kubernetes.read.cache", "target", target, "result", "coalesced");
+        this.misses = meterRegistry.counter("kubernetes.read.cache", "target", target, "result", "miss");
+        Gauge.builder("kubernetes.read.cache.size", this, KubernetesReadCache::size)
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T read(String key, Loader<T> loader) throws ApiException {
+        Entry entry;
+        boolean owner = false;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && !entry.future.isDone()) {
+                coalesced.increment();
+            } else if (entry != null && System.nanoTime() - entry.expiresAt < 0) {
+                hits.increment();
+            } else {
+                entry = new Entry();
+                entries.put(key, entry);
+                owner = true;
+                misses.increment();
+            }
+        }
+
+        if (owner) {
+            load(key, entry, loader);
+        }
+
+        try {
+            return (T) entry.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ApiException apiException) {
+                throw apiException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 키 접두어로 무효화 (변경 작업 후 해당 종류의 조회 결과 폐기)
+     */
+    public void invalidate(String keyPrefix) {
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> key.startsWith(keyPrefix));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void load(String key, Entry entry, Loader<?> loader) {
+        try {
+            Object value = loader.load();
+            entry.expiresAt = System.nanoTime() + ttlNanos;
+            entry.future.complete(value);
+        } catch (ApiException | RuntimeException e) {
+            synchronized (entries) {
+                entries.remove(key, entry);
+            }
+            entry.future.completeExceptionally(e);
+        }
+    }
+}
@@ -1,21 +1,34 @@
 package kr.osci.container.service;
 
-import kr.osci.container.entity.ContainerInstance;
 import kr.osci.container.entity.ContainerTemplate;
+import io.kubernetes.client.Metrics;
+import io.kubernetes.client.custom.PodMetrics;
+import io.kubernetes.client.custom.V1Patch;
+import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.JSON;
 import io.kubernetes.client.openapi.apis.AppsV1Api;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.openapi.apis.NetworkingV1Api;
 import io.kubernetes.client.openapi.models.*;
+import io.kubernetes.client.util.PatchUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 //
 @Service
 @RequiredArgsConstructor
@@ -23,225 +36,686 @@ import java.util.Map;
 @ConditionalOnProperty(name = "kubernetes.enabled", havingValue = "true")
 public class KubernetesService {
 
+    // 조회 캐시 키 접두어 (리소스 종류별 무효화 단위)
+    private static final String DEPLOYMENTS = "deployments:";
+    private static final String PODS = "pods:";
+    private static final String SERVICES = "services:";
+    private static final String INGRESSES = "ingresses:";
+    private static final String DAEMON_SETS = "daemonsets:";
+    private static final String NODES = "nodes:";
+
+    // 소유 객체(ReplicaSet/Pod/Service/Ingress)는 가비지 컬렉터가 뒤이어 삭제
+    private static final String BACKGROUND_PROPAGATION = "Background";
+
     private final CoreV1Api coreV1Api;
     private final AppsV1Api appsV1Api;
     private final NetworkingV1Api networkingV1Api;
+    private final PodStatusCache podStatusCache;
+    private final TemplateCatalog templateCatalog;
+    private final KubernetesReadCache readCache;
+    private final KubernetesGuard guard;
+    // kubernetes.ingress.mode=shared 일 때만 존재 (순환 의존 방지를 위해 지연 조회)
+    private final ObjectProvider<SharedIngressRouter> sharedIngressRouter;
+    private final MeterRegistry meterRegistry;
 
     @Value("${kubernetes.namespace:user-containers}")
     private String namespace;
 
-    @Value("${kubernetes.registry:192.168.2.2:32000}")
-    private String registry;
-
     @Value("${kubernetes.domain:192.168.2.2.nip.io}")
     private String domain;
 
-    @Value("${kubernetes.ingress.port:30080}")
-    private int ingressPort;
+    // 공유 Ingress 라우팅은 기본 배치 대상에서만 사용 (추가 대상은 인스턴스별 Ingress)
+    private boolean sharedRoutes = true;
+
+    // 소유 관계 없이 생성된 이전 Service/Ingress 가 남아 있을 수 있음 - InstanceReconciler 가 없음을 확인하면 false
+    private volatile boolean legacyObjects = true;
 
     /**
-     * 사용자별 컨테이너 Pod, Service, Ingress 생성
+     * 추가 배치 대상용 인스턴스 - API 클라이언트/Pod 워치 캐시/조회 캐시/호출 격리는 대상별로 사용
      */
-    public ContainerInstance createContainer(ContainerTemplate template, String userId, String podName, String randomSuffix) {
-        try {
-            String appLabel = podName;
-            String imagePath = registry + "/" + template.getImage();
-            String host = randomSuffix + "." + domain;
-            String accessUrl = "http://" + host + ":" + ingressPort;
-
-            // 1. Deployment 생성
-            createDeployment(appLabel, imagePath, template.getPort(), template.getEnvVariables());
-
-            // 2. Service 생성
-            createService(appLabel, template.getPort());
+    public KubernetesService forTarget(String targetName, String targetNamespace, String targetDomain,
+                                       ApiClient apiClient, PodStatusCache targetPods,
+                                       KubernetesReadCache targetReadCache) {
+        KubernetesService target = new KubernetesService(new CoreV1Api(apiClient), new AppsV1Api(apiClient),
+                new NetworkingV1Api(apiClient), targetPods, templateCatalog, targetReadCache,
+                guard.forTarget(targetName), sharedIngressRouter, meterRegistry);
+        target.namespace = targetNamespace;
+        target.domain = targetDomain;
+        target.sharedRoutes = false;
+        return target;
+    }
 
-            // 3. Ingress 생성
-            createIngress(appLabel, host, template.getPort());
+    /**
+     * 인스턴스 Ingress 호스트 도메인 (&lt;randomSuffix&gt;.domain)
+     */
+    public String domain() {
+        return domain;
+    }
 
-            log.info("Created container: {} with URL: {}", podName, accessUrl);
+    /**
+     * 사용자별 Deployment 생성 - 반환값(uid 포함)으로 Service/Ingress 소유 관계 지정
+     */
+    public V1Deployment createDeployment(ContainerTemplate template, String podName) {
+        return createDeployment(template, podName, Map.of());
+    }
 
-            return ContainerInstance.builder()
-                    .podName(podName)
-                    .namespace(namespace)
-                    .accessUrl(accessUrl)
-                    .status(ContainerInstance.ContainerStatus.RUNNING)
-                    .build();
+    /**
+     * Deployment 생성 - 템플릿 프로토타입에 인스턴스 이름/라벨만 채워 구성
+     * extraLabels 는 Deployment 메타데이터에만 부여 (Pod selector 에는 미포함)
+     */
+    public V1Deployment createDeployment(ContainerTemplate template, String podName, Map<String, String> extraLabels) {
+        return createDeployment(template, podName, extraLabels, null);
+    }
 
+    /**
+     * resources 가 있으면 템플릿 프로필 대신 사용 (실행 시 지정한 프로필)
+     */
+    public V1Deployment createDeployment(ContainerTemplate template, String podName, Map<String, String> extraLabels,
+                                         V1ResourceRequirements resources) {
+        PodSpecPrototype prototype = templateCatalog.prototype(template);
+        if (resources != null) {
+            prototype = prototype.withResources(resources);
+        }
+        V1Deployment deployment = prototype.toDeployment(podName, namespace, extraLabels);
+        try {
+            V1Deployment created = call("createNamespacedDeployment",
+                    () -> appsV1Api.createNamespacedDeployment(namespace, deployment, null, null, null, null));
+            readCache.invalidate(DEPLOYMENTS);
+            log.info("Deployment created: {}", podName);
+            return created;
         } catch (ApiException e) {
-            log.error("Failed to create container: {}", e.getResponseBody(), e);
-            throw new RuntimeException("Kubernetes API error: " + e.getResponseBody());
+            throw apiError("Deployment", podName, e);
         }
     }
 
     /**
-     * Deployment 생성
+     * 사용자별 Service 생성 - owner(Deployment) 삭제 시 함께 삭제
      */
-    private void createDeployment(String name, String image, int port, String envJson) throws ApiException {
-        Map<String, String> labels = new HashMap<>();
-        labels.put("app", name);
-        labels.put("managed-by", "container-platform");
+    public void createService(ContainerTemplate template, String podName, V1OwnerReference owner) {
+        V1Service service = buildService(podName, template.getPort());
+        service.getMetadata().ownerReferences(List.of(owner));
+        try {
+            call("createNamespacedService", () -> coreV1Api.createNamespacedService(namespace, service, null, null, null, null));
+            readCache.invalidate(SERVICES);
+            log.info("Service created: {}", podName);
+        } catch (ApiException e) {
+            throw apiError("Service", podName, e);
+        }
+    }
 
-        // 환경변수 파싱
-        List<V1EnvVar> envVars = parseEnvVariables(envJson);
+    /**
+     * 사용자별 Ingress 생성 - owner(Deployment) 삭제 시 함께 삭제 (공유 Ingress 라우트는 소유 관계 없음)
+     */
+    public void createIngress(ContainerTemplate template, String podName, String randomSuffix,
+                              V1OwnerReference owner) {
+        String host = randomSuffix + "." + domain;
+        SharedIngressRouter router = router();
+        if (router != null) {
+            // 공유 Ingress 모드 - 라우트 추가 (배치 patch 적용까지 대기)
+            try {
+                router.addRoute(podName, host, template.getPort()).join();
+                log.info("Route added: {} with host: {}", podName, host);
+                return;
+            } catch (CompletionException e) {
+                log.error("Failed to add route {}: {}", podName, e.getCause().getMessage(), e.getCause());
+                throw new RuntimeException("Kubernetes API error: " + e.getCause().getMessage());
+            }
+        }
 
-        // 컨테이너 생성
-        V1Container container = new V1Container()
-                .name(name)
-                .image(image)
-                .ports(List.of(new V1ContainerPort().containerPort(port)))
-                .env(envVars)
-                .resources(new V1ResourceRequirements()
-                        .requests(Map.of(
-                                "memory", new io.kubernetes.client.custom.Quantity("256Mi"),
-                                "cpu", new io.kubernetes.client.custom.Quantity("100m")
-                        ))
-                        .limits(Map.of(
-                                "memory", new io.kubernetes.client.custom.Quantity("1Gi"),
-                                "cpu", new io.kubernetes.client.custom.Quantity("500m")
-                        ))
-                );
+        V1Ingress ingress = buildIngress(podName, host, template.getPort());
+        ingress.getMetadata().ownerReferences(List.of(owner));
+        try {
+            call("createNamespacedIngress", () -> networkingV1Api.createNamespacedIngress(namespace, ingress, null, null, null, null));
+            readCache.invalidate(INGRESSES);
+            log.info("Ingress created: {} with host: {}", podName, host);
+        } catch (ApiException e) {
+            throw apiError("Ingress", podName, e);
+        }
+    }
 
-        // 이미지별 인증 비활성화 설정
-        if (image.contains("code-server")) {
-            // code-server: 패스워드 비활성화
-            container.args(List.of("--auth", "none", "--bind-addr", "0.0.0.0:" + port));
-        } else if (image.contains("jupyter")) {
-            // Jupyter: 토큰 비활성화
-            container.args(List.of(
-                    "jupyter", "notebook",
-                    "--ip=0.0.0.0",
-                    "--port=" + port,
-                    "--no-browser",
-                    "--allow-root",
-                    "--NotebookApp.token=''",
-                    "--NotebookApp.password=''"
-            ));
-        }
-
-        V1Deployment deployment = new V1Deployment()
-                .metadata(new V1ObjectMeta().name(name).namespace(namespace).labels(labels))
-                .spec(new V1DeploymentSpec()
-                        .replicas(1)
-                        .selector(new V1LabelSelector().matchLabels(labels))
-                        .template(new V1PodTemplateSpec()
-                                .metadata(new V1ObjectMeta().labels(labels))
-                                .spec(new V1PodSpec()
-                                        .containers(List.of(container))
-                                )
-                        )
-                );
+    /**
+     * Deployment 를 소유자로 지정하는 참조 (같은 네임스페이스 객체에만 지정 가능)
+     */
+    public static V1OwnerReference ownerReference(V1Deployment deployment) {
+        return new V1OwnerReference()
+                .apiVersion("apps/v1")
+                .kind("Deployment")
+                .name(deployment.getMetadata().getName())
+                .uid(deployment.getMetadata().getUid());
+    }
 
-        appsV1Api.createNamespacedDeployment(namespace, deployment, null, null, null, null);
-        log.info("Deployment created: {}", name);
+    private RuntimeException apiError(String kind, String podName, ApiException e) {
+        log.error("Failed to create {} {}: {}", kind, podName, e.getResponseBody(), e);
+        return new RuntimeException("Kubernetes API error: " + e.getResponseBody());
     }
 
     /**
-     * Service 생성
+     * Service 객체 구성
      */
-    private void createService(String name, int port) throws ApiException {
+    V1Service buildService(String name, int port) {
         Map<String, String> labels = new HashMap<>();
         labels.put("app", name);
+        labels.put("managed-by", "container-platform");
 
-        V1Service service = new V1Service()
+        return new V1Service()
                 .metadata(new V1ObjectMeta().name(name).namespace(namespace).labels(labels))
                 .spec(new V1ServiceSpec()
-                        .selector(labels)
+                        .selector(Map.of("app", name))
                         .ports(List.of(
                                 new V1ServicePort()
                                         .port(port)
                                         .targetPort(new io.kubernetes.client.custom.IntOrString(port))
                         ))
                 );
-
-        coreV1Api.createNamespacedService(namespace, service, null, null, null, null);
-        log.info("Service created: {}", name);
     }
 
     /**
-     * Ingress 생성
+     * Ingress 객체 구성
      */
-    private void createIngress(String name, String host, int port) throws ApiException {
+    V1Ingress buildIngress(String name, String host, int port) {
         Map<String, String> labels = new HashMap<>();
         labels.put("app", name);
+        labels.put("managed-by", "container-platform");
 
-        V1Ingress ingress = new V1Ingress()
-                .metadata(new V1ObjectMeta()
-                        .name(name)
-                        .namespace(namespace)
-                        .labels(labels)
-                        .annotations(Map.of(
-                                "nginx.ingress.kubernetes.io/proxy-read-timeout", "3600",
-                                "nginx.ingress.kubernetes.io/proxy-send-timeout", "3600"
-                        ))
-                )
+        return new V1Ingress()
+                .metadata(ingressMetadata(name, labels))
+                .spec(new V1IngressSpec()
+                        .ingressClassName("nginx")
+                        .rules(List.of(buildIngressRule(name, host, port)))
+                );
+    }
+
+    /**
+     * 공유 Ingress 객체 구성 (routing=shared, 규칙은 SharedIngressRouter 가 관리)
+     */
+    V1Ingress buildSharedIngress(String name, List<V1IngressRule> rules) {
+        Map<String, String> labels = new HashMap<>();
+        labels.put("managed-by", "container-platform");
+        labels.put(SharedIngressRouter.ROUTING_LABEL, SharedIngressRouter.SHARED);
+
+        return new V1Ingress()
+                .metadata(ingressMetadata(name, labels))
                 .spec(new V1IngressSpec()
                         .ingressClassName("nginx")
-                        .rules(List.of(
-                                new V1IngressRule()
-                                        .host(host)
-                                        .http(new V1HTTPIngressRuleValue()
-                                                .paths(List.of(
-                                                        new V1HTTPIngressPath()
-                                                                .path("/")
-                                                                .pathType("Prefix")
-                                                                .backend(new V1IngressBackend()
-                                                                        .service(new V1IngressServiceBackend()
-                                                                                .name(name)
-                                                                                .port(new V1ServiceBackendPort().number(port))
-                                                                        )
-                                                                )
-                                                ))
+                        .rules(rules)
+                );
+    }
+
+    /**
+     * 호스트 → 인스턴스 Service 라우팅 규칙
+     */
+    V1IngressRule buildIngressRule(String serviceName, String host, int port) {
+        return new V1IngressRule()
+                .host(host)
+                .http(new V1HTTPIngressRuleValue()
+                        .paths(List.of(
+                                new V1HTTPIngressPath()
+                                        .path("/")
+                                        .pathType("Prefix")
+                                        .backend(new V1IngressBackend()
+                                                .service(new V1IngressServiceBackend()
+                                                        .name(serviceName)
+                                                        .port(new V1ServiceBackendPort().number(port))
+                                                )
                                         )
                         ))
                 );
+    }
 
-        networkingV1Api.createNamespacedIngress(namespace, ingress, null, null, null, null);
-        log.info("Ingress created: {} with host: {}", name, host);
+    private V1ObjectMeta ingressMetadata(String name, Map<String, String> labels) {
+        return new V1ObjectMeta()
+                .name(name)
+                .namespace(namespace)
+                .labels(labels)
+                .annotations(Map.of(
+                        "nginx.ingress.kubernetes.io/proxy-read-timeout", "3600",
+                        "nginx.ingress.kubernetes.io/proxy-send-timeout", "3600"
+                ));
+    }
+
+    /**
+     * 라벨 셀렉터로 Deployment 목록 조회
+     */
+    public List<V1Deployment> listDeployments(String labelSelector) {
+        try {
+            return readCache.read(DEPLOYMENTS + labelSelector, () -> call("listNamespacedDeployment",
+                    () -> appsV1Api.listNamespacedDeployment(namespace, null, null, null, null,
+                            labelSelector, null, null, null, null, null))).getItems();
+        } catch (ApiException e) {
+            throw listError("deployments", labelSelector, e);
+        }
     }
 
     /**
-     * 컨테이너 삭제 (Deployment/Service/Ingress)
+     * 라벨 셀렉터로 Pod 목록 조회 (워치 캐시 미동기화 시 사용)
+     */
+    public List<V1Pod> listPods(String labelSelector) {
+        try {
+            return readPods(labelSelector).getItems();
+        } catch (ApiException e) {
+            throw listError("pods", labelSelector, e);
+        }
+    }
+
+    /**
+     * 라벨 셀렉터로 Service 목록 조회
+     */
+    public List<V1Service> listServices(String labelSelector) {
+        try {
+            return readCache.read(SERVICES + labelSelector, () -> call("listNamespacedService",
+                    () -> coreV1Api.listNamespacedService(namespace, null, null, null, null,
+                            labelSelector, null, null, null, null, null))).getItems();
+        } catch (ApiException e) {
+            throw listError("services", labelSelector, e);
+        }
+    }
+
+    /**
+     * 라벨 셀렉터로 Ingress 목록 조회
+     */
+    public List<V1Ingress> listIngresses(String labelSelector) {
+        try {
+            return readCache.read(INGRESSES + labelSelector, () -> call("listNamespacedIngress",
+                    () -> networkingV1Api.listNamespacedIngress(namespace, null, null, null, null,
+                            labelSelector, null, null, null, null, null))).getItems();
+        } catch (ApiException e) {
+            throw listError("ingresses", labelSelector, e);
+        }
+    }
+
+    /**
+     * Pod 목록 조회 - 동일 셀렉터 동시 조회는 한 번만 호출, 짧은 TTL 동안 결과 재사용
+     */
+    private V1PodList readPods(String labelSelector) throws ApiException {
+        return readCache.read(PODS + labelSelector, () -> call("listNamespacedPod",
+                () -> coreV1Api.listNamespacedPod(namespace, null, null, null, null,
+                        labelSelector, null, null, null, null, null)));
+    }
+
+    private RuntimeException listError(String kind, String labelSelector, ApiException e) {
+        log.error("Failed to list {}: {}", kind, labelSelector, e);
+        return new RuntimeException("Kubernetes API error: " + e.getResponseBody());
+    }
+
+    /**
+     * Deployment replicas 변경 (휴면 0 / 재개 1) - Service/Ingress 는 그대로 유지
+     */
+    public void scaleDeployment(String name, int replicas) {
+        String patch = "{\"spec\":{\"replicas\":" + replicas + "}}";
+        try {
+            call("patchNamespacedDeployment", () -> PatchUtils.patch(V1Deployment.class,
+                    () -> appsV1Api.patchNamespacedDeploymentCall(
+                            name, namespace, new V1Patch(patch), null, null, null, null, null, null),
+                    V1Patch.PATCH_FORMAT_JSON_MERGE_PATCH,
+                    appsV1Api.getApiClient()));
+            readCache.invalidate(DEPLOYMENTS);
+            readCache.invalidate(PODS);
+            log.info("Deployment scaled: {} replicas={}", name, replicas);
+        } catch (ApiException e) {
+            log.error("Failed to scale deployment {}: {}", name, e.getResponseBody(), e);
+            throw new RuntimeException("Kubernetes API error: " + e.getResponseBody());
+        }
+    }
+
+    /**
+     * Deployment 라벨 교체 - JSON Patch test 연산으로 expectedValue 일 때만 적용 (동시 점유 방지)
+     */
+    public boolean relabelDeployment(String name, String label, String expectedValue, String newValue) {
+        return relabelDeployment(name, label, expectedValue, newValue, Map.of());
+    }
+
+    /**
+     * 라벨 교체와 함께 addLabels 도 같은 패치로 부여 - test 실패 시 어느 라벨도 바뀌지 않음
+     * @return test 연산 실패(422, 다른 레플리카가 먼저 교체) 또는 Deployment 가 없으면(404) false
+     *         그 외 API 오류는 예외 (점유 여부를 알 수 없으므로 호출측이 항목을 유지)
+     */
+    public boolean relabelDeployment(String name, String label, String expectedValue, String newValue,
+                                     Map<String, String> addLabels) {
+        List<Map<String, String>> operations = new ArrayList<>();
+        operations.add(Map.of("op", "test", "path", labelPath(label), "value", expectedValue));
+        operations.add(Map.of("op", "replace", "path", labelPath(label), "value", newValue));
+        addLabels.forEach((key, value) -> operations.add(Map.of("op", "add", "path", labelPath(key), "value", value)));
+        String patch = appsV1Api.getApiClient().getJSON().serialize(operations);
+        try {
+            call("patchNamespacedDeployment", () -> PatchUtils.patch(V1Deployment.class,
+                    () -> appsV1Api.patchNamespacedDeploymentCall(
+                            name, namespace, new V1Patch(patch), null, null, null, null, null, null),
+                    V1Patch.PATCH_FORMAT_JSON_PATCH,
+                    appsV1Api.getApiClient()));
+            readCache.invalidate(DEPLOYMENTS);
+            log.info("Deployment relabeled: {} {}={}", name, label, newValue);
+            return true;
+        } catch (ApiException e) {
+            if (e.getCode() == 422 || e.getCode() == 404) {
+                log.warn("Deployment relabel rejected: {} ({})", name, e.getCode());
+                return false;
+            }
+            log.error("Failed to relabel deployment {}: {}", name, e.getResponseBody(), e);
+            throw new RuntimeException("Kubernetes API error: " + e.getResponseBody());
+        }
+    }
+
+    // JSON Pointer 경로 (RFC 6901: ~ → ~0, / → ~1)
+    private static String labelPath(String label) {
+        return "/metadata/labels/" + label.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * 컨테이너 삭제 - Deployment 1회 삭제 (background propagation 으로 ReplicaSet/Pod/Service/Ingress 연쇄 삭제)
+     * 공유 Ingress 라우트는 소유 관계가 없으므로 직접 제거
+     * 소유자 없이 생성된 이전 Service/Ingress 가 남아 있을 수 있는 동안은 이름으로 함께 삭제
+     * 이미 없으면(404) 삭제된 것으로 보고, 그 외 오류는 예외
      */
     public void deleteContainer(String podName) {
+        if (router() != null) {
+            deleteIngress(podName);
+        } else if (legacyObjects) {
+            deleteIngressObject(podName);
+        }
+        if (legacyObjects) {
+            deleteService(podName);
+        }
         try {
-            // Ingress 삭제
-            try {
-                networkingV1Api.deleteNamespacedIngress(podName, namespace, null, null, null, null, null, null);
-                log.info("Ingress deleted: {}", podName);
-            } catch (ApiException e) {
-                log.warn("Ingress not found or already deleted: {}", podName);
+            call("deleteNamespacedDeployment", () -> appsV1Api.deleteNamespacedDeployment(
+                    podName, namespace, null, null, null, null, BACKGROUND_PROPAGATION, null));
+            log.info("Deployment deleted (cascading): {}", podName);
+        } catch (ApiException e) {
+            if (e.getCode() != 404) {
+                log.error("Failed to delete container {}: {}", podName, e.getResponseBody(), e);
+                throw new RuntimeException("Kubernetes API error: " + e.getResponseBody());
             }
+            log.info("Deployment already deleted: {}", podName);
+        } finally {
+            invalidateCascade();
+        }
+    }
 
-            // Service 삭제
-            try {
-                coreV1Api.deleteNamespacedService(podName, namespace, null, null, null, null, null, null);
-                log.info("Service deleted: {}", podName);
-            } catch (ApiException e) {
-                log.warn("Service not found or already deleted: {}", podName);
+    /**
+     * 라벨 셀렉터로 Deployment 일괄 삭제 (deletecollection 1회 호출, 소유 객체는 background propagation 으로 연쇄 삭제)
+     */
+    public void deleteCollection(String labelSelector) {
+        try {
+            call("deleteCollectionNamespacedDeployment", () -> appsV1Api.deleteCollectionNamespacedDeployment(
+                    namespace, null, null, null, null, null, labelSelector,
+                    null, null, BACKGROUND_PROPAGATION, null, null, null, null));
+            invalidateCascade();
+            log.info("Deployments deleted (cascading): {}", labelSelector);
+        } catch (ApiException e) {
+            log.error("Failed to delete collection: {}", labelSelector, e);
+            throw new RuntimeException("Kubernetes API error: " + e.getResponseBody());
+        }
+    }
+
+    /**
+     * Ingress 삭제 (없으면 무시) - 공유 Ingress 모드에서는 라우트 제거
+     * (이전 방식 인스턴스별 Ingress 가 남아 있으면 함께 삭제)
+     */
+    public void deleteIngress(String podName) {
+        SharedIngressRouter router = router();
+        if (router == null) {
+            deleteIngressObject(podName);
+            return;
+        }
+
+        try {
+            router.removeRoute(podName).join();
+            log.info("Route removed: {}", podName);
+        } catch (CompletionException e) {
+            log.warn("Failed to remove route {}: {}", podName, e.getCause().getMessage());
+        }
+        if (router.hasLegacyIngresses()) {
+            deleteIngressObject(podName);
+        }
+    }
+
+    /**
+     * 공유 Ingress 모드에서 여러 인스턴스 라우트 일괄 제거 (같은 배치 patch 로 처리)
+     * 인스턴스별 Ingress 모드에서는 deleteCollection 이 처리하므로 무시
+     */
+    public void deleteRoutes(Collection<String> podNames) {
+        SharedIngressRouter router = router();
+        if (router == null) {
+            return;
+        }
+        CompletableFuture<?>[] removals = podNames.stream()
+                .map(router::removeRoute)
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(removals).join();
+        } catch (CompletionException e) {
+            log.warn("Failed to remove routes: {}", e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Ingress 객체 삭제 (없으면 무시)
+     */
+    void deleteIngressObject(String name) {
+        try {
+            call("deleteNamespacedIngress", () -> networkingV1Api.deleteNamespacedIngress(
+                    name, namespace, null, null, null, null, null, null));
+            readCache.invalidate(INGRESSES);
+            log.info("Ingress deleted: {}", name);
+        } catch (ApiException e) {
+            log.warn("Ingress not found or already deleted: {}", name);
+        }
+    }
+
+    // ===== 공유 Ingress (SharedIngressRouter 전용, 캐시 미사용 / 충돌 판단을 위해 ApiException 그대로 전달) =====
+
+    Optional<V1Ingress> readIngress(String name) throws ApiException {
+        try {
+            return Optional.of(call("readNamespacedIngress",
+                    () -> networkingV1Api.readNamespacedIngress(name, namespace, null)));
+        } catch (ApiException e) {
+            if (e.getCode() == 404) {
+                return Optional.empty();
             }
+            throw e;
+        }
+    }
 
-            // Deployment 삭제
-            try {
-                appsV1Api.deleteNamespacedDeployment(podName, namespace, null, null, null, null, null, null);
-                log.info("Deployment deleted: {}", podName);
-            } catch (ApiException e) {
-                log.warn("Deployment not found or already deleted: {}", podName);
+    void createIngressObject(V1Ingress ingress) throws ApiException {
+        call("createNamespacedIngress", () -> networkingV1Api.createNamespacedIngress(namespace, ingress, null, null, null, null));
+        readCache.invalidate(INGRESSES);
+    }
+
+    /**
+     * 규칙 전체 교체 - resourceVersion 이 다르면 409 (다른 레플리카의 동시 변경)
+     */
+    void replaceIngressRules(String name, String resourceVersion, List<V1IngressRule> rules) throws ApiException {
+        JSON json = networkingV1Api.getApiClient().getJSON();
+        String patch = "{\"metadata\":{\"resourceVersion\":" + json.serialize(resourceVersion) + "},"
+                + "\"spec\":{\"rules\":" + json.serialize(rules) + "}}";
+        call("patchNamespacedIngress", () -> PatchUtils.patch(V1Ingress.class,
+                () -> networkingV1Api.patchNamespacedIngressCall(
+                        name, namespace, new V1Patch(patch), null, null, null, null, null, null),
+                V1Patch.PATCH_FORMAT_JSON_MERGE_PATCH,
+                networkingV1Api.getApiClient()));
+        readCache.invalidate(INGRESSES);
+    }
+
+    /**
+     * 규칙이 모두 사라진 공유 Ingress 삭제 - resourceVersion 이 다르면 409
+     */
+    void deleteIngressIfUnchanged(String name, String resourceVersion) throws ApiException {
+        V1DeleteOptions options = new V1DeleteOptions()
+                .preconditions(new V1Preconditions().resourceVersion(resourceVersion));
+        call("deleteNamespacedIngress", () -> networkingV1Api.deleteNamespacedIngress(
+                name, namespace, null, null, null, null, null, options));
+        readCache.invalidate(INGRESSES);
+    }
+
+    /**
+     * 소유자 없이 생성된 이전 Service/Ingress 가 남아 있을 수 있는지
+     */
+    public boolean hasLegacyObjects() {
+        return legacyObjects;
+    }
+
+    /**
+     * 이전 Service/Ingress 정리 완료 - 이후 삭제는 Deployment 연쇄 삭제에만 의존
+     */
+    public void legacyObjectsMigrated() {
+        legacyObjects = false;
+    }
+
+    /**
+     * 이전 Service 에 소유자/관리 라벨 지정 (이후 Deployment 삭제 시 연쇄 삭제)
+     */
+    public void adoptService(String name, V1OwnerReference owner) {
+        try {
+            call("patchNamespacedService", () -> PatchUtils.patch(V1Service.class,
+                    () -> coreV1Api.patchNamespacedServiceCall(
+                            name, namespace, new V1Patch(adoptionPatch(owner)), null, null, null, null, null, null),
+                    V1Patch.PATCH_FORMAT_JSON_MERGE_PATCH,
+                    coreV1Api.getApiClient()));
+            readCache.invalidate(SERVICES);
+            log.info("Service adopted by deployment: {}", name);
+        } catch (ApiException e) {
+            // 사이에 삭제된 경우(404)는 정리할 것이 없으므로 무시
+            if (e.getCode() != 404) {
+                log.error("Failed to adopt service {}: {}", name, e.getResponseBody(), e);
+                throw new RuntimeException("Kubernetes API error: " + e.getResponseBody());
+            }
+        }
+    }
+
+    /**
+     * 이전 Ingress 에 소유자/관리 라벨 지정
+     */
+    public void adoptIngress(String name, V1OwnerReference owner) {
+        try {
+            call("patchNamespacedIngress", () -> PatchUtils.patch(V1Ingress.class,
+                    () -> networkingV1Api.patchNamespacedIngressCall(
+                            name, namespace, new V1Patch(adoptionPatch(owner)), null, null, null, null, null, null),
+                    V1Patch.PATCH_FORMAT_JSON_MERGE_PATCH,
+                    networkingV1Api.getApiClient()));
+            readCache.invalidate(INGRESSES);
+            log.info("Ingress adopted by deployment: {}", name);
+        } catch (ApiException e) {
+            // 사이에 삭제된 경우(404)는 정리할 것이 없으므로 무시
+            if (e.getCode() != 404) {
+                log.error("Failed to adopt ingress {}: {}", name, e.getResponseBody(), e);
+                throw new RuntimeException("Kubernetes API error: " + e.getResponseBody());
             }
+        }
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to delete container: {}", podName, e);
-            throw new RuntimeException("Failed to delete container: " + podName);
+    private String adoptionPatch(V1OwnerReference owner) {
+        return coreV1Api.getApiClient().getJSON().serialize(Map.of("metadata", Map.of(
+                "labels", Map.of("managed-by", "container-platform"),
+                "ownerReferences", List.of(owner))));
+    }
+
+    /**
+     * Service 삭제 (없으면 무시)
+     */
+    public void deleteService(String podName) {
+        try {
+            call("deleteNamespacedService", () -> coreV1Api.deleteNamespacedService(
+                    podName, namespace, null, null, null, null, null, null));
+            readCache.invalidate(SERVICES);
+            log.info("Service deleted: {}", podName);
+        } catch (ApiException e) {
+            log.warn("Service not found or already deleted: {}", podName);
         }
     }
 
+    // Deployment 삭제 후 연쇄 삭제되는 객체 조회 캐시 무효화
+    private void invalidateCascade() {
+        readCache.invalidate(DEPLOYMENTS);
+        readCache.invalidate(PODS);
+        readCache.invalidate(SERVICES);
+        readCache.invalidate(INGRESSES);
+    }
+
     /**
-     * Pod 상태 확인
+     * 라벨 셀렉터로 DaemonSet 목록 조회
+     */
+    public List<V1DaemonSet> listDaemonSets(String labelSelector) {
+        try {
+            return readCache.read(DAEMON_SETS + labelSelector, () -> call("listNamespacedDaemonSet",
+                    () -> appsV1Api.listNamespacedDaemonSet(namespace, null, null, null, null,
+                            labelSelector, null, null, null, null, null))).getItems();
+        } catch (ApiException e) {
+            throw listError("daemonsets", labelSelector, e);
+        }
+    }
+
+    /**
+     * DaemonSet 생성, 이미 있으면 스펙 교체 (resourceVersion 은 조회 결과 사용)
+     */
+    public void applyDaemonSet(V1DaemonSet daemonSet, String resourceVersion) {
+        String name = daemonSet.getMetadata().getName();
+        try {
+            if (resourceVersion == null) {
+                call("createNamespacedDaemonSet", () -> appsV1Api.createNamespacedDaemonSet(
+                        namespace, daemonSet, null, null, null, null));
+                log.info("DaemonSet created: {}", name);
+            } else {
+                daemonSet.getMetadata().resourceVersion(resourceVersion);
+                call("replaceNamespacedDaemonSet", () -> appsV1Api.replaceNamespacedDaemonSet(
+                        name, namespace, daemonSet, null, null, null, null));
+                log.info("DaemonSet updated: {}", name);
+            }
+            readCache.invalidate(DAEMON_SETS);
+        } catch (ApiException e) {
+            log.error("Failed to apply DaemonSet {}: {}", name, e.getResponseBody(), e);
+            throw new RuntimeException("Kubernetes API error: " + e.getResponseBody());
+        }
+    }
+
+    /**
+     * DaemonSet 삭제 (없으면 무시)
+     */
+    public void deleteDaemonSet(String name) {
+        try {
+            call("deleteNamespacedDaemonSet", () -> appsV1Api.deleteNamespacedDaemonSet(
+                    name, namespace, null, null, null, null, null, null));
+            readCache.invalidate(DAEMON_SETS);
+            log.info("DaemonSet deleted: {}", name);
+        } catch (ApiException e) {
+            log.warn("DaemonSet not found or already deleted: {}", name);
+        }
+    }
+
+    /**
+     * 노드 목록 조회 (클러스터 범위, 라벨 셀렉터 비어 있으면 전체)
+     */
+    public List<V1Node> listNodes(String labelSelector) {
+        String selector = labelSelector == null || labelSelector.isBlank() ? null : labelSelector;
+        try {
+            return readCache.read(NODES + labelSelector, () -> call("listNode",
+                    () -> coreV1Api.listNode(null, null, null, null, selector,
+                            null, null, null, null, null))).getItems();
+        } catch (ApiException e) {
+            throw listError("nodes", labelSelector, e);
+        }
+    }
+
+    /**
+     * 네임스페이스 Pod 사용량 (metrics.k8s.io, metrics-server 필요)
+     */
+    public List<PodMetrics> listPodMetrics() {
+        try {
+            return call("getPodMetrics", () -> new Metrics(coreV1Api.getApiClient()).getPodMetrics(namespace)).getItems();
+        } catch (ApiException e) {
+            throw listError("pod metrics", namespace, e);
+        }
+    }
+
+    /**
+     * Pod 상태 확인 - 워치 캐시 동기화 후에는 API 호출 없이 캐시 조회
+     * (미동기화 시 조회 캐시 경유 - 같은 Pod 동시 폴링은 TTL 당 1회 호출)
      */
     public String getPodStatus(String podName) {
+        if (podStatusCache.hasSynced()) {
+            return podStatusCache.getPhase(podName);
+        }
+
         try {
-            V1PodList podList = coreV1Api.listNamespacedPod(
-                    namespace, null, null, null, null,
-                    "app=" + podName, null, null, null, null, null);
+            V1PodList podList = readPods("app=" + podName);
 
             if (podList.getItems().isEmpty()) {
                 return "NOT_FOUND";
@@ -260,23 +734,52 @@ public class KubernetesService {
     }
 
     /**
-     * 환경변수 JSON 파싱
+     * API 서버 장애로 circuit 이 열려 있으면 KubernetesUnavailableException (비동기 작업 접수 전 확인)
      */
-    private List<V1EnvVar> parseEnvVariables(String envJson) {
-        if (envJson == null || envJson.isEmpty() || envJson.equals("{}")) {
-            return List.of();
-        }
+    public void ensureAvailable() {
+        guard.ensureAvailable();
+    }
+
+    private SharedIngressRouter router() {
+        return sharedRoutes ? sharedIngressRouter.getIfAvailable() : null;
+    }
+
+    @FunctionalInterface
+    private interface ApiCall<T> {
+        T execute() throws ApiException;
+    }
+
+    /**
+     * K8s API 호출 - KubernetesGuard(bulkhead/timeout/circuit breaker) 경유
+     * 격리 거절·시간 초과는 KubernetesUnavailableException
+     */
+    private <T> T call(String operation, ApiCall<T> apiCall) throws ApiException {
+        return guard.execute(operation, () -> timed(operation, apiCall));
+    }
 
+    /**
+     * K8s API 호출 계측 - 작업/결과별 지연 시간 및 오류 수 기록
+     */
+    private <T> T timed(String operation, ApiCall<T> apiCall) throws ApiException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
         try {
-            com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            Map<String, String> envMap = mapper.readValue(envJson, Map.class);
-
-            return envMap.entrySet().stream()
-                    .map(entry -> new V1EnvVar().name(entry.getKey()).value(entry.getValue()))
-                    .toList();
-        } catch (Exception e) {
-            log.warn("Failed to parse env variables: {}", envJson, e);
-            return List.of();
+            return apiCall.execute();
+        } catch (ApiException e) {
+            outcome = "error";
+            meterRegistry.counter("kubernetes.api.errors",
+                    "operation", operation, "code", String.valueOf(e.getCode())).increment();
+            throw e;
+        } catch (RuntimeException e) {
+            outcome = "error";
+            meterRegistry.counter("kubernetes.api.errors", "operation", operation, "code", "client").increment();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("kubernetes.api.calls")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package kr.osci.container.service;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * K8s API 호출 불가 (503 Service Unavailable + Retry-After)
+ */
+@Getter
+public class KubernetesUnavailableException extends RuntimeException {
+
+    // circuit-open | bulkhead-full | timeout
+    private final String reason;
+    private final Duration retryAfter;
+
+    public KubernetesUnavailableException(String reason, String message, Duration retryAfter) {
+        super(message);
+        this.reason = reason;
+        this.retryAfter = retryAfter;
+    }
+}
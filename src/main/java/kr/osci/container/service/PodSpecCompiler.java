@@ -0,0 +1,171 @@
+package kr.osci.container.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1Probe;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import io.kubernetes.client.openapi.models.V1TCPSocketAction;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.entity.ResourceProfile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 템플릿 → PodSpecPrototype 변환
+ * - 환경변수 JSON 검증/파싱, 이미지별 실행 인자, 템플릿 리소스 프로필, readiness probe 를 한 번만 구성
+ * - 잘못된 환경변수 JSON 은 IllegalArgumentException (템플릿 등록 시 400)
+ */
+@Component
+@RequiredArgsConstructor
+public class PodSpecCompiler {
+
+    // Kubernetes 환경변수 이름 규칙 (C_IDENTIFIER 완화형)
+    private static final Pattern ENV_NAME = Pattern.compile("[-._a-zA-Z][-._a-zA-Z0-9]*");
+
+    // 템플릿/실행 시 값이 없을 때의 기본 requests·limits
+    private static final String DEFAULT_CPU_REQUEST = "100m";
+    private static final String DEFAULT_MEMORY_REQUEST = "256Mi";
+    private static final String DEFAULT_CPU_LIMIT = "500m";
+    private static final String DEFAULT_MEMORY_LIMIT = "1Gi";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${kubernetes.registry:192.168.2.2:32000}")
+    private String registry;
+
+    // 템플릿/실행 시 지정 가능한 limit 상한
+    @Value("${platform.resources.max-cpu-limit:4}")
+    private String maxCpuLimit;
+
+    @Value("${platform.resources.max-memory-limit:8Gi}")
+    private String maxMemoryLimit;
+
+    public PodSpecPrototype compile(ContainerTemplate template) {
+        if (template.getImage() == null || template.getImage().isBlank()) {
+            throw new IllegalArgumentException("Template image is required");
+        }
+        if (template.getPort() == null || template.getPort() < 1 || template.getPort() > 65535) {
+            throw new IllegalArgumentException("Template port must be between 1 and 65535");
+        }
+        int port = template.getPort();
+        return new PodSpecPrototype(
+                registry + "/" + template.getImage(),
+                port,
+                parseEnvVariables(template.getEnvVariables()),
+                startupArgs(template.getImage(), port),
+                resources(template.getResources()),
+                new V1Probe()
+                        .tcpSocket(new V1TCPSocketAction().port(new IntOrString(port)))
+                        .initialDelaySeconds(5)
+                        .periodSeconds(10));
+    }
+
+    /**
+     * 프로필 → requests/limits (빈 필드는 기본값)
+     * - 잘못된 Quantity, request > limit, 상한 초과는 IllegalArgumentException
+     */
+    public V1ResourceRequirements resources(ResourceProfile profile) {
+        ResourceProfile resolved = profile != null ? profile : new ResourceProfile();
+        Quantity cpuRequest = quantity("cpuRequest", resolved.getCpuRequest(), DEFAULT_CPU_REQUEST);
+        Quantity memoryRequest = quantity("memoryRequest", resolved.getMemoryRequest(), DEFAULT_MEMORY_REQUEST);
+        Quantity cpuLimit = quantity("cpuLimit", resolved.getCpuLimit(), DEFAULT_CPU_LIMIT);
+        Quantity memoryLimit = quantity("memoryLimit", resolved.getMemoryLimit(), DEFAULT_MEMORY_LIMIT);
+
+        if (cpuRequest.getNumber().compareTo(cpuLimit.getNumber()) > 0) {
+            throw new IllegalArgumentException("cpuRequest must not exceed cpuLimit");
+        }
+        if (memoryRequest.getNumber().compareTo(memoryLimit.getNumber()) > 0) {
+            throw new IllegalArgumentException("memoryRequest must not exceed memoryLimit");
+        }
+        if (cpuLimit.getNumber().compareTo(new Quantity(maxCpuLimit).getNumber()) > 0) {
+            throw new IllegalArgumentException("cpuLimit exceeds maximum " + maxCpuLimit);
+        }
+        if (memoryLimit.getNumber().compareTo(new Quantity(maxMemoryLimit).getNumber()) > 0) {
+            throw new IllegalArgumentException("memoryLimit exceeds maximum " + maxMemoryLimit);
+        }
+
+        return new V1ResourceRequirements()
+                .requests(Map.of("memory", memoryRequest, "cpu", cpuRequest))
+                .limits(Map.of("memory", memoryLimit, "cpu", cpuLimit));
+    }
+
+    private static Quantity quantity(String field, String value, String defaultValue) {
+        String text = value == null || value.isBlank() ? defaultValue : value.trim();
+        Quantity quantity;
+        try {
+            quantity = new Quantity(text);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + text);
+        }
+        if (quantity.getNumber().signum() <= 0) {
+            throw new IllegalArgumentException(field + " must be positive: " + text);
+        }
+        return quantity;
+    }
+
+    /**
+     * 환경변수 JSON 파싱 - {"NAME": "value"} 형태만 허용 (숫자/불리언 값은 문자열로 변환)
+     */
+    List<V1EnvVar> parseEnvVariables(String envJson) {
+        if (envJson == null || envJson.isBlank()) {
+            return List.of();
+        }
+
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(envJson);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid envVariables JSON: " + e.getOriginalMessage());
+        }
+        if (root == null || !root.isObject()) {
+            throw new IllegalArgumentException("envVariables must be a JSON object");
+        }
+
+        List<V1EnvVar> envVars = new ArrayList<>(root.size());
+        for (Iterator<Map.Entry<String, JsonNode>> it = root.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> entry = it.next();
+            if (!ENV_NAME.matcher(entry.getKey()).matches()) {
+                throw new IllegalArgumentException("Invalid env variable name: " + entry.getKey());
+            }
+            if (!entry.getValue().isValueNode() || entry.getValue().isNull()) {
+                throw new IllegalArgumentException("Env variable " + entry.getKey() + " must have a scalar value");
+            }
+            envVars.add(new V1EnvVar().name(entry.getKey()).value(entry.getValue().asText()));
+        }
+        return envVars;
+    }
+
+    /**
+     * 이미지별 인증 비활성화 설정
+     */
+    private static List<String> startupArgs(String image, int port) {
+        if (image.contains("code-server")) {
+            // code-server: 패스워드 비활성화
+            return List.of("--auth", "none", "--bind-addr", "0.0.0.0:" + port);
+        }
+        if (image.contains("jupyter")) {
+            // Jupyter: 토큰 비활성화
+            return List.of(
+                    "jupyter", "notebook",
+                    "--ip=0.0.0.0",
+                    "--port=" + port,
+                    "--no-browser",
+                    "--allow-root",
+                    "--NotebookApp.token=''",
+                    "--NotebookApp.password=''"
+            );
+        }
+        return null;
+    }
+}
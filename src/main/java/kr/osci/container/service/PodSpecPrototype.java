@@ -0,0 +1,105 @@
+package kr.osci.container.service;
+
+import io.kubernetes.client.openapi.models.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 템플릿별로 미리 구성한 Pod 스펙 (PodSpecCompiler 가 템플릿 저장/로드 시 생성)
+ * - 검증/파싱은 한 번만 - 실행 시에는 인스턴스 이름/라벨만 채운 Deployment 를 새로 구성
+ * - env/resources/probe 는 K8s 모델 객체(가변)라 프로토타입 자체는 수정 금지, 호출자 간 공유
+ * - toDeployment 는 이 객체들의 사본을 넣으므로 반환된 Deployment 는 호출자가 자유롭게 수정 가능
+ */
+public record PodSpecPrototype(
+        String image,
+        int port,
+        List<V1EnvVar> env,
+        List<String> args,
+        V1ResourceRequirements resources,
+        V1Probe readinessProbe) {
+
+    public PodSpecPrototype {
+        env = List.copyOf(env);
+        args = args == null ? null : List.copyOf(args);
+    }
+
+    /**
+     * 리소스만 바꾼 사본 (실행 시 지정한 프로필)
+     */
+    public PodSpecPrototype withResources(V1ResourceRequirements overridden) {
+        return new PodSpecPrototype(image, port, env, args, overridden, readinessProbe);
+    }
+
+    /**
+     * 인스턴스용 Deployment 구성 - extraLabels 는 Deployment 메타데이터에만 부여 (Pod selector 에는 미포함)
+     */
+    public V1Deployment toDeployment(String name, String namespace, Map<String, String> extraLabels) {
+        Map<String, String> labels = new HashMap<>();
+        labels.put("app", name);
+        labels.put("managed-by", "container-platform");
+
+        Map<String, String> deploymentLabels = new HashMap<>(labels);
+        deploymentLabels.putAll(extraLabels);
+
+        V1Container container = new V1Container()
+                .name(name)
+                .image(image)
+                .ports(new ArrayList<>(List.of(new V1ContainerPort().containerPort(port))))
+                .env(copyEnv(env))
+                .args(args == null ? null : new ArrayList<>(args))
+                .resources(copyResources(resources))
+                .readinessProbe(copyProbe(readinessProbe));
+
+        return new V1Deployment()
+                .metadata(new V1ObjectMeta().name(name).namespace(namespace).labels(deploymentLabels))
+                .spec(new V1DeploymentSpec()
+                        .replicas(1)
+                        .selector(new V1LabelSelector().matchLabels(labels))
+                        .template(new V1PodTemplateSpec()
+                                .metadata(new V1ObjectMeta().labels(labels))
+                                .spec(new V1PodSpec()
+                                        .containers(new ArrayList<>(List.of(container)))
+                                )
+                        )
+                );
+    }
+
+    private static List<V1EnvVar> copyEnv(List<V1EnvVar> env) {
+        List<V1EnvVar> copy = new ArrayList<>(env.size());
+        for (V1EnvVar var : env) {
+            copy.add(new V1EnvVar().name(var.getName()).value(var.getValue()).valueFrom(var.getValueFrom()));
+        }
+        return copy;
+    }
+
+    // Quantity 는 불변이므로 맵만 복사
+    private static V1ResourceRequirements copyResources(V1ResourceRequirements resources) {
+        if (resources == null) {
+            return null;
+        }
+        return new V1ResourceRequirements()
+                .requests(resources.getRequests() == null ? null : new HashMap<>(resources.getRequests()))
+                .limits(resources.getLimits() == null ? null : new HashMap<>(resources.getLimits()));
+    }
+
+    // PodSpecCompiler 는 tcpSocket probe 만 생성 - 그 외 action 객체는 공유
+    private static V1Probe copyProbe(V1Probe probe) {
+        if (probe == null) {
+            return null;
+        }
+        V1TCPSocketAction tcpSocket = probe.getTcpSocket() == null ? null
+                : new V1TCPSocketAction().host(probe.getTcpSocket().getHost()).port(probe.getTcpSocket().getPort());
+        return new V1Probe()
+                .tcpSocket(tcpSocket)
+                .httpGet(probe.getHttpGet())
+                .exec(probe.getExec())
+                .initialDelaySeconds(probe.getInitialDelaySeconds())
+                .periodSeconds(probe.getPeriodSeconds())
+                .timeoutSeconds(probe.getTimeoutSeconds())
+                .successThreshold(probe.getSuccessThreshold())
+                .failureThreshold(probe.getFailureThreshold());
+    }
+}
@@ -0,0 +1,239 @@
+package kr.osci.container.service;
+
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.informer.SharedIndexInformer;
+import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.osci.container.event.PodPhaseChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * managed-by=container-platform Pod 워치 캐시
+ * - SharedIndexInformer 가 list + watch(resourceVersion 이어받기, 410 Gone 시 재-list)와 주기적 resync 를 처리
+ * - app 라벨 인덱스로 상태 조회는 API 호출 없이 맵 조회
+ * - phase 변경 시 PodPhaseChangedEvent 발행
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "kubernetes.enabled", havingValue = "true")
+public class PodStatusCache {
+
+    public static final String MANAGED_SELECTOR = "managed-by=container-platform";
+    private static final String APP_INDEX = "app";
+
+    // phase 와 무관하게 즉시 기동 실패로 보는 대기 사유
+    private static final Set<String> FAILED_WAITING_REASONS = Set.of("CrashLoopBackOff");
+
+    // 레지스트리 일시 장애/뒤늦게 생성되는 Secret·ConfigMap 으로 회복될 수 있는 대기 사유
+    // - Pod 생성 후 PENDING_FAILURE_GRACE 동안은 Pending 유지, 이후에도 남아 있으면 실패
+    private static final Set<String> PENDING_WAITING_REASONS = Set.of(
+            "ImagePullBackOff", "ErrImagePull", "InvalidImageName", "CreateContainerConfigError");
+    static final Duration PENDING_FAILURE_GRACE = Duration.ofMinutes(5);
+
+    private final SharedInformerFactory informerFactory;
+    private final CoreV1Api informerCoreV1Api;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${kubernetes.namespace:user-containers}")
+    private String namespace;
+
+    @Value("${kubernetes.informer.resync-period:300000}")
+    private long resyncPeriodMillis;
+
+    private SharedIndexInformer<V1Pod> podInformer;
+
+    public PodStatusCache(SharedInformerFactory informerFactory,
+                          @Qualifier("informerApiClient") ApiClient informerApiClient,
+                          ApplicationEventPublisher eventPublisher) {
+        this.informerFactory = informerFactory;
+        // watch 는 장시간 연결이므로 read timeout 이 없는 전용 클라이언트 사용
+        this.informerCoreV1Api = new CoreV1Api(informerApiClient);
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 추가 배치 대상용 워치 캐시 (빈이 아니므로 start/stop 은 호출측이 관리)
+     */
+    public static PodStatusCache forTarget(SharedInformerFactory informerFactory, ApiClient informerApiClient,
+                                           ApplicationEventPublisher eventPublisher, String namespace,
+                                           long resyncPeriodMillis) {
+        PodStatusCache cache = new PodStatusCache(informerFactory, informerApiClient, eventPublisher);
+        cache.namespace = namespace;
+        cache.resyncPeriodMillis = resyncPeriodMillis;
+        return cache;
+    }
+
+    @PostConstruct
+    public void start() {
+        podInformer = informerFactory.sharedIndexInformerFor(
+                params -> informerCoreV1Api.listNamespacedPodCall(
+                        namespace, null, null, null, null,
+                        MANAGED_SELECTOR, null, params.resourceVersion, null,
+                        params.timeoutSeconds, params.watch, null),
+                V1Pod.class, V1PodList.class, resyncPeriodMillis);
+
+        podInformer.addIndexers(Map.of(APP_INDEX, pod -> {
+            String app = appLabel(pod);
+            return app == null ? List.of() : List.of(app);
+        }));
+
+        podInformer.addEventHandler(new ResourceEventHandler<>() {
+            @Override
+            public void onAdd(V1Pod pod) {
+                publish(pod);
+            }
+
+            @Override
+            public void onUpdate(V1Pod oldPod, V1Pod newPod) {
+                // phase/대기 사유 변경 또는 resync(동일 resourceVersion) 시에만 전파
+                // (대기 사유 변경도 전파해야 pull 재시도 중 유예 시간이 지난 Pod 가 Failed 로 반영됨)
+                boolean resync = Objects.equals(resourceVersion(oldPod), resourceVersion(newPod));
+                if (resync || !Objects.equals(effectivePhase(oldPod), effectivePhase(newPod))
+                        || !Objects.equals(waitingReason(oldPod), waitingReason(newPod))) {
+                    publish(newPod);
+                }
+            }
+
+            @Override
+            public void onDelete(V1Pod pod, boolean deletedFinalStateUnknown) {
+                String app = appLabel(pod);
+                if (app != null) {
+                    eventPublisher.publishEvent(new PodPhaseChangedEvent(app, getPhase(app)));
+                }
+            }
+        });
+
+        informerFactory.startAllRegisteredInformers();
+        log.info("Pod informer started: namespace={}, selector={}", namespace, MANAGED_SELECTOR);
+    }
+
+    @PreDestroy
+    public void stop() {
+        informerFactory.stopAllRegisteredInformers();
+    }
+
+    /**
+     * 초기 list 완료 여부 (미완료 시 호출측은 API 직접 조회로 폴백)
+     */
+    public boolean hasSynced() {
+        return podInformer != null && podInformer.hasSynced();
+    }
+
+    /**
+     * app 라벨 기준 Pod phase 조회 (맵 조회)
+     */
+    public String getPhase(String appLabel) {
+        return findPod(appLabel)
+                .map(PodStatusCache::effectivePhase)
+                .orElse("NOT_FOUND");
+    }
+
+    /**
+     * app 라벨 기준 대표 Pod - 롤링 중 여러 개면 Running 우선, 그다음 최신
+     */
+    public Optional<V1Pod> findPod(String appLabel) {
+        if (podInformer == null) {
+            return Optional.empty();
+        }
+        List<V1Pod> pods = podInformer.getIndexer().byIndex(APP_INDEX, appLabel);
+        return pods.stream()
+                .filter(pod -> pod.getMetadata() != null && pod.getMetadata().getDeletionTimestamp() == null)
+                .max(Comparator.comparing((V1Pod pod) -> "Running".equals(effectivePhase(pod)))
+                        .thenComparing(pod -> pod.getMetadata().getCreationTimestamp(),
+                                Comparator.nullsFirst(Comparator.naturalOrder())));
+    }
+
+    /**
+     * 캐시된 전체 관리 대상 Pod
+     */
+    public List<V1Pod> listPods() {
+        return podInformer == null ? List.of() : podInformer.getIndexer().list();
+    }
+
+    private void publish(V1Pod pod) {
+        String app = appLabel(pod);
+        if (app != null) {
+            eventPublisher.publishEvent(new PodPhaseChangedEvent(app, effectivePhase(pod)));
+        }
+    }
+
+    /**
+     * Pod phase + 삭제 진행/컨테이너 대기 사유를 반영한 상태
+     * - 이미지 pull/설정 오류는 유예 시간이 지나야 Failed (그 전에는 Pod phase 그대로, 보통 Pending)
+     */
+    static String effectivePhase(V1Pod pod) {
+        if (pod.getMetadata() != null && pod.getMetadata().getDeletionTimestamp() != null) {
+            return "Terminating";
+        }
+        if (pod.getStatus() == null || pod.getStatus().getPhase() == null) {
+            return "UNKNOWN";
+        }
+        List<V1ContainerStatus> statuses = pod.getStatus().getContainerStatuses();
+        if (statuses != null) {
+            for (V1ContainerStatus status : statuses) {
+                String reason = status.getState() != null && status.getState().getWaiting() != null
+                        ? status.getState().getWaiting().getReason() : null;
+                if (reason == null) {
+                    continue;
+                }
+                if (FAILED_WAITING_REASONS.contains(reason)
+                        || (PENDING_WAITING_REASONS.contains(reason) && pendingTooLong(pod))) {
+                    return "Failed";
+                }
+            }
+        }
+        return pod.getStatus().getPhase();
+    }
+
+    /**
+     * 첫 번째 대기 중 컨테이너의 사유 (없으면 null)
+     */
+    static String waitingReason(V1Pod pod) {
+        List<V1ContainerStatus> statuses = pod.getStatus() != null ? pod.getStatus().getContainerStatuses() : null;
+        if (statuses == null) {
+            return null;
+        }
+        return statuses.stream()
+                .filter(status -> status.getState() != null && status.getState().getWaiting() != null)
+                .map(status -> status.getState().getWaiting().getReason())
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static boolean pendingTooLong(V1Pod pod) {
+        OffsetDateTime created = pod.getMetadata() != null ? pod.getMetadata().getCreationTimestamp() : null;
+        return created != null && created.plus(PENDING_FAILURE_GRACE).isBefore(OffsetDateTime.now());
+    }
+
+    private static String appLabel(V1Pod pod) {
+        if (pod.getMetadata() == null || pod.getMetadata().getLabels() == null) {
+            return null;
+        }
+        return pod.getMetadata().getLabels().get("app");
+    }
+
+    private static String resourceVersion(V1Pod pod) {
+        return pod.getMetadata() == null ? null : pod.getMetadata().getResourceVersion();
+    }
+}
@@ -0,0 +1,123 @@
+package kr.osci.container.service;
+
+import io.kubernetes.client.openapi.models.V1OwnerReference;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.event.InstanceStatusChangedEvent;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import kr.osci.container.service.placement.ClusterTargets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 비동기 프로비저닝 파이프라인
+ * - PENDING 인스턴스 저장 후 호출되어 즉시 반환 (HTTP 스레드/DB 커넥션 점유 없음)
+ * - 전용 executor 에서 인스턴스의 배치 대상에 Deployment 생성 후 Service/Ingress 를 병렬 생성
+ *   (Service/Ingress 는 Deployment 소유 - Deployment 1회 삭제로 함께 정리)
+ * - 하나라도 실패하면 Deployment 를 삭제해 롤백하고 인스턴스를 FAILED 로 표시
+ * - 이후 RUNNING 전환은 Pod 워치 이벤트가 담당
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "kubernetes.enabled", havingValue = "true")
+public class ProvisioningService {
+
+    private final ClusterTargets clusterTargets;
+    private final PodSpecCompiler podSpecCompiler;
+    private final ContainerInstanceRepository instanceRepository;
+    private final ExecutorService provisioningExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 인스턴스 리소스 생성 - 실패 시 FAILED 표시 후 예외로 완료
+     */
+    public CompletableFuture<Void> provision(ContainerInstance instance, ContainerTemplate template, String randomSuffix) {
+        Long instanceId = instance.getId();
+        KubernetesService kubernetes = clusterTargets.of(instance).kubernetes();
+        // 실행 시 지정한 프로필 - 빈 필드는 템플릿 값
+        V1ResourceRequirements resources = instance.getResources() != null
+                ? podSpecCompiler.resources(instance.getResources().orElse(template.getResources())) : null;
+        return createResources(kubernetes, template, instance.getPodName(), randomSuffix, Map.of(), resources)
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        markFailed(instanceId);
+                    }
+                });
+    }
+
+    /**
+     * 기본 배치 대상에 Deployment/Service/Ingress 생성 (웜 풀) - 실패 시 롤백 후 예외로 완료
+     */
+    public CompletableFuture<Void> createResources(ContainerTemplate template, String podName,
+                                                   String randomSuffix, Map<String, String> deploymentLabels) {
+        return createResources(clusterTargets.primary().kubernetes(), template, podName, randomSuffix,
+                deploymentLabels, null);
+    }
+
+    private CompletableFuture<Void> createResources(KubernetesService kubernetesService, ContainerTemplate template,
+                                                    String podName, String randomSuffix,
+                                                    Map<String, String> deploymentLabels,
+                                                    V1ResourceRequirements resources) {
+        CompletableFuture<V1OwnerReference> deployment = CompletableFuture.supplyAsync(
+                () -> KubernetesService.ownerReference(
+                        kubernetesService.createDeployment(template, podName, deploymentLabels, resources)),
+                provisioningExecutor);
+        CompletableFuture<Void> service = deployment.thenAcceptAsync(
+                owner -> kubernetesService.createService(template, podName, owner), provisioningExecutor);
+        CompletableFuture<Void> ingress = deployment.thenAcceptAsync(
+                owner -> kubernetesService.createIngress(template, podName, randomSuffix, owner), provisioningExecutor);
+
+        return CompletableFuture.allOf(service, ingress)
+                .handleAsync((ignored, error) -> {
+                    if (error != null) {
+                        log.error("Provisioning failed: {} - rolling back", podName, error);
+                        if (succeeded(deployment)) {
+                            rollback(kubernetesService, podName);
+                        }
+                        throw new CompletionException(error);
+                    }
+                    log.info("Kubernetes resources created: {}", podName);
+                    return null;
+                }, provisioningExecutor);
+    }
+
+    /**
+     * Deployment 삭제 - 생성된 Service/Ingress 는 소유 관계로 함께 삭제
+     */
+    private void rollback(KubernetesService kubernetesService, String podName) {
+        try {
+            kubernetesService.deleteContainer(podName);
+        } catch (RuntimeException e) {
+            log.warn("Rollback failed: {} ({})", podName, e.getMessage());
+        }
+    }
+
+    /**
+     * 생성 실패 - 아직 기동 중(PENDING/RUNNING)일 때만 FAILED (그 사이 중지된 인스턴스는 덮어쓰지 않음)
+     */
+    private void markFailed(Long instanceId) {
+        instanceRepository.findById(instanceId)
+                .filter(instance -> instance.getStatus() == ContainerInstance.ContainerStatus.PENDING
+                        || instance.getStatus() == ContainerInstance.ContainerStatus.RUNNING)
+                .filter(instance -> instanceRepository.updateStatusIf(instanceId, instance.getStatus(),
+                        ContainerInstance.ContainerStatus.FAILED, instance.getStoppedAt()) > 0)
+                .ifPresent(instance -> {
+                    instance.setStatus(ContainerInstance.ContainerStatus.FAILED);
+                    eventPublisher.publishEvent(InstanceStatusChangedEvent.of(instance));
+                });
+    }
+
+    private static boolean succeeded(CompletableFuture<?> future) {
+        return future.isDone() && !future.isCompletedExceptionally();
+    }
+}
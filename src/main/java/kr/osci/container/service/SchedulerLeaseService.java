@@ -0,0 +1,49 @@
+package kr.osci.container.service;
+
+import kr.osci.container.repository.SchedulerLeaseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 예약 작업 단일 실행 - DB 임대 행으로 레플리카 중 한 곳만 실행
+ * - 보유자는 실행 주기마다 갱신하므로 계속 같은 레플리카가 실행, 보유자가 사라지면 만료 후 다른 레플리카가 인수
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SchedulerLeaseService {
+
+    private final SchedulerLeaseRepository leaseRepository;
+
+    // 레플리카 식별자 (Pod 이름 + 프로세스별 난수)
+    private final String holder = System.getenv().getOrDefault("HOSTNAME", "local")
+            + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    /**
+     * 임대 획득/갱신 - 다른 레플리카가 만료 전 보유 중이면 false
+     */
+    public boolean tryAcquire(String name, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(ttl);
+        if (leaseRepository.renew(name, holder, expiresAt, now) > 0) {
+            return true;
+        }
+        if (leaseRepository.existsById(name)) {
+            return false;
+        }
+        try {
+            leaseRepository.insert(name, holder, expiresAt);
+            log.info("Scheduler lease acquired: name={}, holder={}", name, holder);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 다른 레플리카가 먼저 넣음
+            return false;
+        }
+    }
+}
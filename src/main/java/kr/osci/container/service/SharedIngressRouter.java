@@ -0,0 +1,237 @@
+package kr.osci.container.service;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1Ingress;
+import io.kubernetes.client.openapi.models.V1IngressRule;
+import io.kubernetes.client.openapi.models.V1IngressServiceBackend;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 공유 Ingress 라우팅 (kubernetes.ingress.mode=shared)
+ * - 인스턴스마다 Ingress 를 만들지 않고 소수의 공유 Ingress(샤드)에 호스트 규칙을 추가/제거
+ * - 샤드는 podName 해시로 고정, batch-window 동안 모인 변경은 샤드당 patch 1회로 적용
+ * - resourceVersion 조건부 patch 로 다른 레플리카와의 동시 변경 시 재시도
+ * - 기존 인스턴스별 Ingress 는 기동 시(또는 관리자 API) 공유 Ingress 로 이전 후 삭제
+ */
+@Service
+@Slf4j
+@ConditionalOnExpression("${kubernetes.enabled:false} and '${kubernetes.ingress.mode:per-instance}' == 'shared'")
+public class SharedIngressRouter {
+
+    public static final String ROUTING_LABEL = "routing";
+    public static final String SHARED = "shared";
+
+    // 인스턴스별 Ingress - 이전 버전 객체는 app 라벨만 있으므로 managed-by 가 아닌 app/routing 라벨로 구분
+    static final String LEGACY_SELECTOR = "app,!" + ROUTING_LABEL;
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final KubernetesService kubernetesService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kubernetes.ingress.shards:4}")
+    private int shards;
+
+    @Value("${kubernetes.ingress.shard-prefix:container-routes}")
+    private String shardPrefix;
+
+    @Value("${kubernetes.ingress.migrate-on-startup:true}")
+    private boolean migrateOnStartup;
+
+    // 라우트 변경 (host == null 이면 제거)
+    private record Change(String podName, String host, int port, CompletableFuture<Void> done) {
+    }
+
+    // 샤드별 대기 중 변경 (같은 podName 의 마지막 변경만 유효)
+    private final Map<String, Map<String, Change>> pending = new HashMap<>();
+
+    private volatile boolean legacyIngresses = true;
+
+    public SharedIngressRouter(KubernetesService kubernetesService, MeterRegistry meterRegistry) {
+        this.kubernetesService = kubernetesService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public CompletableFuture<Void> addRoute(String podName, String host, int port) {
+        return enqueue(new Change(podName, host, port, new CompletableFuture<>()));
+    }
+
+    public CompletableFuture<Void> removeRoute(String podName) {
+        return enqueue(new Change(podName, null, 0, new CompletableFuture<>()));
+    }
+
+    /**
+     * 이전 방식 인스턴스별 Ingress 가 남아 있을 수 있는지 (이전 완료 전까지 삭제 시 함께 정리)
+     */
+    public boolean hasLegacyIngresses() {
+        return legacyIngresses;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!migrateOnStartup) {
+            return;
+        }
+        try {
+            migrateLegacyIngresses();
+        } catch (RuntimeException e) {
+            log.warn("Ingress migration failed - will retry on next startup or via admin API", e);
+        }
+    }
+
+    /**
+     * 인스턴스별 Ingress → 공유 Ingress 이전 - 라우트 반영 확인 후 기존 Ingress 삭제
+     * @return 이전한 Ingress 수
+     */
+    public int migrateLegacyIngresses() {
+        List<V1Ingress> legacy = kubernetesService.listIngresses(LEGACY_SELECTOR);
+
+        Map<String, CompletableFuture<Void>> routes = new LinkedHashMap<>();
+        for (V1Ingress ingress : legacy) {
+            List<V1IngressRule> rules = ingress.getSpec() != null ? ingress.getSpec().getRules() : null;
+            if (rules == null || rules.isEmpty()) {
+                continue;
+            }
+            V1IngressRule rule = rules.get(0);
+            String podName = ingress.getMetadata().getName();
+            Integer port = backend(rule).map(service -> service.getPort().getNumber()).orElse(null);
+            if (rule.getHost() == null || port == null) {
+                log.warn("Skipping ingress without host/port: {}", podName);
+                continue;
+            }
+            routes.put(podName, addRoute(podName, rule.getHost(), port));
+        }
+
+        int migrated = 0;
+        boolean failed = false;
+        for (Map.Entry<String, CompletableFuture<Void>> route : routes.entrySet()) {
+            try {
+                route.getValue().join();
+                kubernetesService.deleteIngressObject(route.getKey());
+                migrated++;
+            } catch (RuntimeException e) {
+                failed = true;
+                log.warn("Failed to migrate ingress {}: {}", route.getKey(), e.getMessage());
+            }
+        }
+
+        // 건너뛴/실패한/그 사이 생성된 Ingress 가 없다는 것을 확인한 뒤에만 이름 기준 삭제 중단
+        legacyIngresses = failed || !kubernetesService.listIngresses(LEGACY_SELECTOR).isEmpty();
+        meterRegistry.counter("kubernetes.ingress.migrated").increment(migrated);
+        log.info("Ingress migration finished: migrated={}, failed={}, remaining={}", migrated, failed, legacyIngresses);
+        return migrated;
+    }
+
+    /**
+     * 대기 중 변경을 샤드별 patch 1회로 적용
+     */
+    @Scheduled(fixedDelayString = "${kubernetes.ingress.batch-window:200}")
+    public void flush() {
+        Map<String, Map<String, Change>> batch;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new HashMap<>(pending);
+            pending.clear();
+        }
+
+        batch.forEach((shard, changes) -> {
+            try {
+                apply(shard, changes.values());
+                changes.values().forEach(change -> change.done().complete(null));
+                meterRegistry.counter("kubernetes.ingress.route.batches").increment();
+                meterRegistry.counter("kubernetes.ingress.route.changes").increment(changes.size());
+            } catch (Exception e) {
+                log.error("Failed to update shared ingress {}", shard, e);
+                changes.values().forEach(change -> change.done().completeExceptionally(e));
+            }
+        });
+    }
+
+    private CompletableFuture<Void> enqueue(Change change) {
+        String shard = shardFor(change.podName());
+        synchronized (pending) {
+            Change replaced = pending.computeIfAbsent(shard, key -> new LinkedHashMap<>()).put(change.podName(), change);
+            if (replaced != null) {
+                // 같은 배치 안에서 덮어쓴 변경은 이후 변경과 함께 완료
+                change.done().whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        replaced.done().completeExceptionally(error);
+                    } else {
+                        replaced.done().complete(null);
+                    }
+                });
+            }
+        }
+        return change.done();
+    }
+
+    private String shardFor(String podName) {
+        return shardPrefix + "-" + Math.floorMod(podName.hashCode(), shards);
+    }
+
+    /**
+     * 현재 규칙을 읽어 변경 반영 후 조건부 patch - 충돌(409) 시 다시 읽고 재시도
+     */
+    private void apply(String shard, Collection<Change> changes) throws ApiException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Optional<V1Ingress> current = kubernetesService.readIngress(shard);
+                Map<String, V1IngressRule> rules = new LinkedHashMap<>();
+                current.map(ingress -> ingress.getSpec().getRules()).orElse(List.of())
+                        .forEach(rule -> rules.put(rule.getHost(), rule));
+                Map<String, V1IngressRule> before = new LinkedHashMap<>(rules);
+
+                for (Change change : changes) {
+                    rules.values().removeIf(rule -> backendName(rule).map(change.podName()::equals).orElse(false));
+                    if (change.host() != null) {
+                        rules.put(change.host(), kubernetesService.buildIngressRule(change.podName(), change.host(), change.port()));
+                    }
+                }
+
+                if (rules.equals(before)) {
+                    return;
+                }
+                List<V1IngressRule> next = new ArrayList<>(rules.values());
+                if (current.isEmpty()) {
+                    kubernetesService.createIngressObject(kubernetesService.buildSharedIngress(shard, next));
+                } else if (next.isEmpty()) {
+                    // 규칙 없는 Ingress 는 허용되지 않으므로 삭제 (다음 추가 시 재생성)
+                    kubernetesService.deleteIngressIfUnchanged(shard, current.get().getMetadata().getResourceVersion());
+                } else {
+                    kubernetesService.replaceIngressRules(shard, current.get().getMetadata().getResourceVersion(), next);
+                }
+                log.debug("Shared ingress {} updated: {} changes, {} routes", shard, changes.size(), next.size());
+                return;
+            } catch (ApiException e) {
+                if (e.getCode() != 409 || attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                meterRegistry.counter("kubernetes.ingress.route.conflicts").increment();
+            }
+        }
+    }
+
+    private static Optional<V1IngressServiceBackend> backend(V1IngressRule rule) {
+        if (rule.getHttp() == null || rule.getHttp().getPaths() == null || rule.getHttp().getPaths().isEmpty()) {
+            return Optional.empty();
+        }
+        var backend = rule.getHttp().getPaths().get(0).getBackend();
+        return Optional.ofNullable(backend != null ? backend.getService() : null);
+    }
+
+    private static Optional<String> backendName(V1IngressRule rule) {
+        return backend(rule).map(V1IngressServiceBackend::getName);
+    }
+}
@@ -0,0 +1,99 @@
+package kr.osci.container.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.event.InstanceStatusChangedEvent;
+import kr.osci.container.event.PodPhaseChangedEvent;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import kr.osci.container.service.placement.ClusterTarget;
+import kr.osci.container.service.placement.ClusterTargets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 인스턴스 비동기 정리 (STOPPING → STOPPED)
+ * - STOPPING 저장 후 호출되어 즉시 반환, Deployment 1회 삭제(Service/Ingress 연쇄 삭제)는 전용 executor 에서 실행
+ * - Pod 가 사라지면 STOPPED 확정: 삭제 직후 워치 캐시에 이미 없으면 바로, 아니면 Pod 삭제 이벤트 수신 시
+ * - 확정은 아직 STOPPING 인 경우에만 조건부 update (여러 레플리카가 같은 이벤트를 받아도 1회만 발행)
+ * - 삭제 실패/이벤트 유실로 남은 STOPPING 은 InstanceReconciler 가 재삭제·확정
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "kubernetes.enabled", havingValue = "true")
+public class TeardownService {
+
+    private final ClusterTargets clusterTargets;
+    private final ContainerInstanceRepository instanceRepository;
+    private final ExecutorService provisioningExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * STOPPING 인스턴스 리소스 삭제 - 실패 시 STOPPING 그대로 두고 예외로 완료
+     */
+    public CompletableFuture<Void> teardown(ContainerInstance instance) {
+        ClusterTarget target = clusterTargets.of(instance);
+        String podName = instance.getPodName();
+        return CompletableFuture.runAsync(() -> {
+                    target.kubernetes().deleteContainer(podName);
+                    confirmIfGone(target, instance);
+                }, provisioningExecutor)
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        meterRegistry.counter("container.teardown.failures", "target", target.name()).increment();
+                        log.warn("Teardown failed: {} - left STOPPING for reconciler ({})",
+                                podName, error.getCause() != null ? error.getCause().getMessage() : error.getMessage());
+                    }
+                });
+    }
+
+    /**
+     * 삭제 요청 이후 Pod 가 워치 캐시에 없으면 STOPPED 확정 (캐시 미동기화 시 삭제 이벤트/보정에 맡김)
+     */
+    public void confirmIfGone(ClusterTarget target, ContainerInstance instance) {
+        PodStatusCache pods = target.pods();
+        if (pods.hasSynced() && "NOT_FOUND".equals(pods.getPhase(instance.getPodName()))) {
+            confirm(instance, "deleted");
+        }
+    }
+
+    /**
+     * 마지막 Pod 삭제 이벤트 - STOPPING 인스턴스 확정
+     */
+    @EventListener
+    public void onPodPhaseChanged(PodPhaseChangedEvent event) {
+        if (!"NOT_FOUND".equals(event.phase())) {
+            return;
+        }
+        instanceRepository.findByPodName(event.appLabel())
+                .filter(instance -> instance.getStatus() == ContainerInstance.ContainerStatus.STOPPING)
+                .ifPresent(instance -> confirm(instance, "pod_deleted"));
+    }
+
+    /**
+     * STOPPING → STOPPED (stoppedAt 은 중지 요청 시각 유지)
+     * @return 이번 호출로 확정했으면 true
+     */
+    public boolean confirm(ContainerInstance instance, String via) {
+        LocalDateTime stoppedAt = instance.getStoppedAt() != null ? instance.getStoppedAt() : LocalDateTime.now();
+        if (instanceRepository.updateStatusIf(instance.getId(), ContainerInstance.ContainerStatus.STOPPING,
+                ContainerInstance.ContainerStatus.STOPPED, stoppedAt) == 0) {
+            return false;
+        }
+        instance.setStatus(ContainerInstance.ContainerStatus.STOPPED);
+        instance.setStoppedAt(stoppedAt);
+        eventPublisher.publishEvent(InstanceStatusChangedEvent.of(instance));
+        meterRegistry.counter("container.teardown.confirmed", "via", via).increment();
+        log.info("Instance stopped: {} ({})", instance.getPodName(), via);
+        return true;
+    }
+}
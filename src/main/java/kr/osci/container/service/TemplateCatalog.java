@@ -0,0 +1,150 @@
+package kr.osci.container.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.event.TemplateChangedEvent;
+import kr.osci.container.repository.ContainerTemplateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 템플릿 카탈로그 인메모리 스냅샷
+ * - 기동 완료(DataInitializer 이후) 시 로드, 템플릿 변경 커밋 후 통째로 교체
+ * - 다른 레플리카의 변경은 주기적 지문(count/max id/sum version) 비교로 감지 후 교체
+ * - 카탈로그 조회/인스턴스 생성 시 DB 조회 없이 사용
+ * - version 은 변경마다 증가 (HTTP ETag 용)
+ * - 템플릿별 PodSpecPrototype 을 적재 시 함께 구성 (실행마다 파싱하지 않음)
+ */
+@Service
+@Slf4j
+public class TemplateCatalog {
+
+    public record Snapshot(long version, List<ContainerTemplate> enabled, Map<Long, ContainerTemplate> byId,
+                           Map<Long, PodSpecPrototype> prototypes) {
+    }
+
+    private final ContainerTemplateRepository templateRepository;
+    private final PodSpecCompiler podSpecCompiler;
+    private final AtomicReference<Snapshot> snapshot =
+            new AtomicReference<>(new Snapshot(0, List.of(), Map.of(), Map.of()));
+
+    // 현재 스냅샷을 적재할 때의 지문
+    private volatile String fingerprint = "";
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter refreshes;
+
+    public TemplateCatalog(ContainerTemplateRepository templateRepository, PodSpecCompiler podSpecCompiler,
+                           MeterRegistry meterRegistry) {
+        this.templateRepository = templateRepository;
+        this.podSpecCompiler = podSpecCompiler;
+        this.hits = meterRegistry.counter("container.template.catalog.lookups", "result", "hit");
+        this.misses = meterRegistry.counter("container.template.catalog.lookups", "result", "miss");
+        this.refreshes = meterRegistry.counter("container.template.catalog.refreshes");
+        Gauge.builder("container.template.catalog.version", snapshot, ref -> ref.get().version())
+                .register(meterRegistry);
+    }
+
+    public Snapshot snapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * ID 조회 - 스냅샷에 없으면 DB 조회 후 스냅샷 재적재 (lookups hit/miss 지표는 이 조회만 집계)
+     */
+    public Optional<ContainerTemplate> find(Long templateId) {
+        ContainerTemplate template = snapshot.get().byId().get(templateId);
+        if (template != null) {
+            hits.increment();
+            return Optional.of(template);
+        }
+
+        misses.increment();
+        Optional<ContainerTemplate> loaded = templateRepository.findById(templateId);
+        loaded.ifPresent(found -> refresh());
+        return loaded;
+    }
+
+    /**
+     * 템플릿의 Pod 스펙 프로토타입 - 스냅샷에 없으면 즉시 구성 (잘못된 템플릿은 IllegalArgumentException)
+     */
+    public PodSpecPrototype prototype(ContainerTemplate template) {
+        PodSpecPrototype prototype = snapshot.get().prototypes().get(template.getId());
+        return prototype != null ? prototype : podSpecCompiler.compile(template);
+    }
+
+    // 스냅샷을 사용하는 다른 리스너보다 먼저 갱신
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onReady() {
+        refresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onTemplateChanged(TemplateChangedEvent event) {
+        refresh();
+    }
+
+    /**
+     * 다른 레플리카의 템플릿 변경 반영 - 지문이 달라졌을 때만 재적재 (버전/ETag 유지)
+     */
+    @Scheduled(fixedDelayString = "${platform.template-catalog.check-interval:30000}",
+            initialDelayString = "${platform.template-catalog.check-interval:30000}")
+    public void refreshIfChanged() {
+        if (!fingerprint().equals(fingerprint)) {
+            refresh();
+        }
+    }
+
+    /**
+     * 전체 템플릿 재적재 후 새 스냅샷으로 원자적 교체
+     */
+    public synchronized void refresh() {
+        // 목록보다 먼저 읽음 - 그 사이 변경은 다음 확인에서 다시 감지
+        String loading = fingerprint();
+        List<ContainerTemplate> templates = templateRepository.findAll();
+        Map<Long, ContainerTemplate> byId = templates.stream()
+                .collect(Collectors.toUnmodifiableMap(ContainerTemplate::getId, Function.identity()));
+        List<ContainerTemplate> enabled = templates.stream()
+                .filter(template -> Boolean.TRUE.equals(template.getEnabled()))
+                .toList();
+
+        Map<Long, PodSpecPrototype> prototypes = new HashMap<>();
+        for (ContainerTemplate template : templates) {
+            try {
+                prototypes.put(template.getId(), podSpecCompiler.compile(template));
+            } catch (IllegalArgumentException e) {
+                log.warn("Template {} has an invalid pod spec: {}", template.getId(), e.getMessage());
+            }
+        }
+
+        Snapshot next = new Snapshot(snapshot.get().version() + 1, enabled, byId, Map.copyOf(prototypes));
+        snapshot.set(next);
+        fingerprint = loading;
+        refreshes.increment();
+        log.info("Template catalog refreshed: version={}, templates={}", next.version(), templates.size());
+    }
+
+    private String fingerprint() {
+        return templateRepository.fingerprint().stream().findFirst().map(Arrays::toString).orElse("");
+    }
+}
@@ -0,0 +1,222 @@
+package kr.osci.container.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.entity.ContainerTemplate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * 템플릿별 웜 풀 - 미리 생성해둔 Deployment/Service/Ingress 를 사용자에게 할당
+ * - 풀 인스턴스는 Deployment 라벨 pool=warm, 할당 시 pool=claimed 로 교체하며 같은 패치로 user/instance-id 라벨 부여
+ * - 주기적으로 ContainerTemplate.warmPoolSize 만큼 보충
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = {"kubernetes.enabled", "platform.warm-pool.enabled"}, havingValue = "true")
+public class WarmPoolService {
+
+    public static final String POOL_LABEL = "pool";
+    private static final String WARM = "warm";
+    private static final String CLAIMED = "claimed";
+    private static final String TEMPLATE_LABEL = "template-id";
+    private static final String SUFFIX_LABEL = "host-suffix";
+    public static final String USER_LABEL = "user";
+    public static final String INSTANCE_LABEL = "instance-id";
+    // 라벨 값 형식: 63자 이하, 영숫자로 시작/끝, 중간은 영숫자 . _ -
+    private static final Pattern LABEL_INVALID = Pattern.compile("[^A-Za-z0-9._-]");
+    private static final int LABEL_MAX = 63;
+
+    private final KubernetesService kubernetesService;
+    private final ProvisioningService provisioningService;
+    private final TemplateCatalog templateCatalog;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kubernetes.domain:localhost}")
+    private String domain;
+
+    @Value("${kubernetes.ingress.port:8080}")
+    private int ingressPort;
+
+    private final Map<Long, Deque<PoolEntry>> pools = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    public record PoolEntry(String podName, String randomSuffix) {
+    }
+
+    /**
+     * 재시작 시 클러스터의 기존 웜 풀 Deployment 복구
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restorePools() {
+        List<V1Deployment> deployments;
+        try {
+            deployments = kubernetesService.listDeployments(PodStatusCache.MANAGED_SELECTOR + "," + POOL_LABEL + "=" + WARM);
+        } catch (RuntimeException e) {
+            log.warn("Warm pool restore skipped: {}", e.getMessage());
+            return;
+        }
+
+        for (V1Deployment deployment : deployments) {
+            Map<String, String> labels = deployment.getMetadata().getLabels();
+            String templateId = labels.get(TEMPLATE_LABEL);
+            String suffix = labels.get(SUFFIX_LABEL);
+            if (templateId == null || suffix == null) {
+                continue;
+            }
+            pool(Long.valueOf(templateId)).add(new PoolEntry(deployment.getMetadata().getName(), suffix));
+        }
+        pools.forEach((templateId, pool) -> log.info("Warm pool restored: template={}, size={}", templateId, pool.size()));
+    }
+
+    /**
+     * 풀에서 하나 할당 - bind 로 인스턴스 행을 먼저 저장한 뒤 pool=claimed + user/instance-id 라벨을 한 번의 패치로 적용
+     * - test 연산 실패(다른 레플리카가 먼저 점유) 시 unbind 로 행을 되돌리고 다음 항목 시도
+     * - 비어 있으면 empty (콜드 생성으로 폴백)
+     */
+    public Optional<ContainerInstance> claim(ContainerTemplate template, String userId,
+                                             Function<PoolEntry, ContainerInstance> bind,
+                                             Consumer<ContainerInstance> unbind) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Deque<PoolEntry> pool = pool(template.getId());
+
+        ContainerInstance claimed = null;
+        PoolEntry entry;
+        while (claimed == null && (entry = pool.pollFirst()) != null) {
+            ContainerInstance instance = bind.apply(entry);
+            boolean relabeled;
+            try {
+                relabeled = kubernetesService.relabelDeployment(entry.podName(), POOL_LABEL, WARM, CLAIMED, Map.of(
+                        USER_LABEL, labelValue(userId),
+                        INSTANCE_LABEL, String.valueOf(instance.getId())));
+            } catch (RuntimeException e) {
+                // API 서버 장애 등 - 항목은 풀에 되돌리고 예외 전파
+                unbind.accept(instance);
+                pool.addFirst(entry);
+                throw e;
+            }
+            if (relabeled) {
+                claimed = instance;
+            } else {
+                unbind.accept(instance);
+            }
+        }
+
+        String result = claimed != null ? "hit" : "miss";
+        sample.stop(Timer.builder("container.warmpool.claim.latency")
+                .tag("templateId", String.valueOf(template.getId()))
+                .tag("result", result)
+                .register(meterRegistry));
+        Counter.builder("container.warmpool.claims")
+                .tag("templateId", String.valueOf(template.getId()))
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+
+        return Optional.ofNullable(claimed);
+    }
+
+    /**
+     * 임의 문자열을 라벨 값 형식으로 정리 (이메일 등 사용자 ID)
+     */
+    static String labelValue(String value) {
+        String sanitized = LABEL_INVALID.matcher(value).replaceAll("_");
+        if (sanitized.length() > LABEL_MAX) {
+            sanitized = sanitized.substring(0, LABEL_MAX);
+        }
+        return sanitized.replaceAll("^[^A-Za-z0-9]+|[^A-Za-z0-9]+$", "");
+    }
+
+    public String accessUrl(PoolEntry entry) {
+        return "http://" + entry.randomSuffix() + "." + domain + ":" + ingressPort;
+    }
+
+    /**
+     * 풀 보충 / 초과분 정리
+     */
+    @Scheduled(fixedDelayString = "${platform.warm-pool.refill-interval:30000}")
+    public void refill() {
+        for (ContainerTemplate template : templateCatalog.snapshot().enabled()) {
+            int target = template.getWarmPoolSize() == null ? 0 : template.getWarmPoolSize();
+            Deque<PoolEntry> pool = pool(template.getId());
+            AtomicInteger creating = inFlight.computeIfAbsent(template.getId(), id -> new AtomicInteger());
+
+            int missing = target - pool.size() - creating.get();
+            for (int i = 0; i < missing; i++) {
+                create(template, pool, creating);
+            }
+
+            while (pool.size() > target) {
+                PoolEntry excess = pool.pollLast();
+                if (excess == null) {
+                    break;
+                }
+                boolean relabeled;
+                try {
+                    relabeled = kubernetesService.relabelDeployment(excess.podName(), POOL_LABEL, WARM, CLAIMED);
+                } catch (RuntimeException e) {
+                    // API 서버 장애 등 - 항목은 풀에 되돌리고 다음 주기에 재시도
+                    pool.addLast(excess);
+                    log.warn("Warm pool trim deferred: template={}, pod={}: {}", template.getName(),
+                            excess.podName(), e.getMessage());
+                    break;
+                }
+                // 점유 후 삭제 실패 시 pool=claimed 인 행 없는 Deployment 는 InstanceReconciler 가 정리
+                if (relabeled) {
+                    kubernetesService.deleteContainer(excess.podName());
+                }
+            }
+        }
+    }
+
+    private void create(ContainerTemplate template, Deque<PoolEntry> pool, AtomicInteger creating) {
+        String randomSuffix = UUID.randomUUID().toString().substring(0, 8);
+        String podName = template.getName().toLowerCase().replaceAll(" ", "-") + "-" + randomSuffix;
+
+        creating.incrementAndGet();
+        provisioningService.createResources(template, podName, randomSuffix, Map.of(
+                        POOL_LABEL, WARM,
+                        TEMPLATE_LABEL, String.valueOf(template.getId()),
+                        SUFFIX_LABEL, randomSuffix))
+                .whenComplete((ignored, error) -> {
+                    creating.decrementAndGet();
+                    if (error == null) {
+                        pool.addLast(new PoolEntry(podName, randomSuffix));
+                        log.info("Warm pool instance ready: template={}, pod={}", template.getName(), podName);
+                    }
+                });
+    }
+
+    private Deque<PoolEntry> pool(Long templateId) {
+        return pools.computeIfAbsent(templateId, id -> {
+            Deque<PoolEntry> pool = new ConcurrentLinkedDeque<>();
+            Gauge.builder("container.warmpool.size", pool, Deque::size)
+                    .tag("templateId", String.valueOf(id))
+                    .register(meterRegistry);
+            return pool;
+        });
+    }
+}
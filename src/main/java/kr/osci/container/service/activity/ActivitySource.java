@@ -0,0 +1,29 @@
+package kr.osci.container.service.activity;
+
+import kr.osci.container.entity.ContainerInstance;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 인스턴스 마지막 사용 시각 제공자 (휴면 판단용)
+ */
+public interface ActivitySource {
+
+    /**
+     * 판단 주기 시작 시 호출 - 외부 지표 일괄 수집 등
+     */
+    default void refresh() {
+    }
+
+    /**
+     * 마지막 사용 시각, 알 수 없으면 empty
+     */
+    Optional<Instant> lastActivity(ContainerInstance instance);
+
+    /**
+     * 사용 기록 (클라이언트 heartbeat 등)
+     */
+    default void recordActivity(ContainerInstance instance) {
+    }
+}
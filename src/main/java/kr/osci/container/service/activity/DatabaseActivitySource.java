@@ -0,0 +1,44 @@
+package kr.osci.container.service.activity;
+
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+/**
+ * DB 사용 기록 (기본값) - 프론트엔드 heartbeat(POST /instances/{id}/activity) 를 인스턴스 행에 기록
+ * - heartbeat 를 어느 레플리카가 받아도 휴면 판단 레플리카가 같은 값을 읽음
+ * - write-interval 안의 반복 heartbeat 는 조건부 update 로 건너뜀 (행 잠금/쓰기 최소화)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "platform.hibernation.activity-source", havingValue = "database", matchIfMissing = true)
+public class DatabaseActivitySource implements ActivitySource {
+
+    private final ContainerInstanceRepository instanceRepository;
+
+    @Value("${platform.hibernation.activity-write-interval:60s}")
+    private Duration writeInterval;
+
+    @Override
+    public Optional<Instant> lastActivity(ContainerInstance instance) {
+        return Optional.ofNullable(instance.getLastActivityAt())
+                .map(at -> at.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    @Override
+    public void recordActivity(ContainerInstance instance) {
+        LocalDateTime now = LocalDateTime.now();
+        if (instanceRepository.touchActivity(instance.getId(), now, now.minus(writeInterval)) > 0) {
+            instance.setLastActivityAt(now);
+        }
+    }
+}
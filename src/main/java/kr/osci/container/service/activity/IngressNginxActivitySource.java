@@ -0,0 +1,87 @@
+package kr.osci.container.service.activity;
+
+import kr.osci.container.entity.ContainerInstance;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ingress-nginx 컨트롤러 Prometheus 지표 기반 사용 기록
+ * - nginx_ingress_controller_requests 의 backend Service 별 누적 요청 수가 늘었으면 그 시점을 마지막 사용으로 기록
+ * - ingress 라벨이 아닌 service 라벨 기준 (공유 Ingress 모드에서는 ingress 라벨이 샤드 이름이라 인스턴스 구분 불가,
+ *   인스턴스별 Service 이름은 두 모드 모두 podName)
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "platform.hibernation.activity-source", havingValue = "ingress-nginx")
+public class IngressNginxActivitySource implements ActivitySource {
+
+    private static final Pattern REQUESTS = Pattern.compile(
+            "^nginx_ingress_controller_requests\\{([^}]*)}\\s+([0-9.eE+]+)");
+    private static final Pattern SERVICE_LABEL = Pattern.compile("(?:^|,)service=\"([^\"]+)\"");
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final Map<String, Double> requestCounts = new ConcurrentHashMap<>();
+    private final Map<String, Instant> lastActivity = new ConcurrentHashMap<>();
+
+    @Value("${platform.hibernation.ingress-metrics-url:http://ingress-nginx-controller-metrics.ingress-nginx:10254/metrics}")
+    private String metricsUrl;
+
+    @Override
+    public void refresh() {
+        String body;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(metricsUrl)).timeout(Duration.ofSeconds(10)).GET().build();
+            body = httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        } catch (Exception e) {
+            log.warn("Failed to scrape ingress metrics: {}", e.getMessage());
+            return;
+        }
+
+        // 상태코드/메서드/ingress 별 시리즈를 Service 단위로 합산
+        Map<String, Double> totals = new HashMap<>();
+        body.lines().forEach(line -> {
+            Matcher matcher = REQUESTS.matcher(line);
+            if (!matcher.find()) {
+                return;
+            }
+            Matcher service = SERVICE_LABEL.matcher(matcher.group(1));
+            if (service.find()) {
+                totals.merge(service.group(1), Double.parseDouble(matcher.group(2)), Double::sum);
+            }
+        });
+
+        Instant now = Instant.now();
+        totals.forEach((service, total) -> {
+            Double previous = requestCounts.put(service, total);
+            if (previous == null || total > previous) {
+                lastActivity.put(service, now);
+            }
+        });
+    }
+
+    @Override
+    public Optional<Instant> lastActivity(ContainerInstance instance) {
+        // Service 이름 = podName
+        return Optional.ofNullable(lastActivity.get(instance.getPodName()));
+    }
+
+    @Override
+    public void recordActivity(ContainerInstance instance) {
+        lastActivity.put(instance.getPodName(), Instant.now());
+    }
+}
@@ -0,0 +1,44 @@
+package kr.osci.container.service.activity;
+
+import kr.osci.container.entity.ContainerInstance;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬 사용 기록 - 프론트엔드 heartbeat(POST /instances/{id}/activity) 를 이 레플리카 메모리에만 기록
+ * - 단일 레플리카 전용: 여러 레플리카에서는 다른 레플리카가 받은 heartbeat 를 보지 못해 사용 중인 인스턴스를 휴면시킴
+ *   (여러 레플리카는 database 사용)
+ * - 휴면 판단 주기마다 idle-timeout 의 두 배보다 오래된 기록 정리 (그 전에 휴면/중지된 인스턴스)
+ */
+@Component
+@ConditionalOnProperty(name = "platform.hibernation.activity-source", havingValue = "local")
+public class LocalActivitySource implements ActivitySource {
+
+    private final Map<String, Instant> lastActivity = new ConcurrentHashMap<>();
+
+    @Value("${platform.hibernation.idle-timeout:2h}")
+    private Duration idleTimeout;
+
+    @Override
+    public void refresh() {
+        Instant expired = Instant.now().minus(idleTimeout.multipliedBy(2));
+        lastActivity.values().removeIf(at -> at.isBefore(expired));
+    }
+
+    @Override
+    public Optional<Instant> lastActivity(ContainerInstance instance) {
+        return Optional.ofNullable(lastActivity.get(instance.getPodName()));
+    }
+
+    @Override
+    public void recordActivity(ContainerInstance instance) {
+        lastActivity.put(instance.getPodName(), Instant.now());
+    }
+}
@@ -0,0 +1,22 @@
+package kr.osci.container.service.admission;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 요청 거절 (429 Too Many Requests + Retry-After)
+ */
+@Getter
+public class AdmissionRejectedException extends RuntimeException {
+
+    // quota | user-rate | global-rate | in-flight | capacity | queue-full
+    private final String reason;
+    private final Duration retryAfter;
+
+    public AdmissionRejectedException(String reason, String message, Duration retryAfter) {
+        super(message);
+        this.reason = reason;
+        this.retryAfter = retryAfter;
+    }
+}
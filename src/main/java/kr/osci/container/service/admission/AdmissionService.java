@@ -0,0 +1,368 @@
+package kr.osci.container.service.admission;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 생성/중지 요청 승인 (K8s 호출 전 단계)
+ * - 사용자별 동시 인스턴스 quota: 활성 행(QUEUED/PENDING/RUNNING/HIBERNATED) + 저장 전 예약분, 템플릿별 한도 우선
+ * - 토큰 버킷: 사용자별/전체 생성·중지 속도 (템플릿별 사용자 생성 속도 추가 가능)
+ * - 전체 진행 중 K8s 변경 작업 수 상한
+ * - 일괄 생성은 항목별로 같은 기준 적용 (전체 속도는 거절 대신 토큰이 생길 때까지 대기, 작업 슬롯은 항목 실행 직전 확보)
+ * - 일괄 중지도 항목별 사용자 중지 속도 적용, 작업 슬롯은 deletecollection 호출마다 확보
+ * - 거절 시 AdmissionRejectedException → 429 + Retry-After
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdmissionService {
+
+    private static final List<ContainerInstance.ContainerStatus> QUOTA_STATUSES = List.of(
+            ContainerInstance.ContainerStatus.QUEUED,
+            ContainerInstance.ContainerStatus.PENDING,
+            ContainerInstance.ContainerStatus.RUNNING,
+            ContainerInstance.ContainerStatus.HIBERNATED);
+
+    private static final Duration IN_FLIGHT_RETRY_AFTER = Duration.ofSeconds(1);
+    private static final int LOCK_STRIPES = 64;
+
+    private final ContainerInstanceRepository instanceRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${platform.admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${platform.admission.max-instances-per-user:5}")
+    private int maxInstancesPerUser;
+
+    @Value("${platform.admission.quota-retry-after:60s}")
+    private Duration quotaRetryAfter;
+
+    @Value("${platform.admission.user-creates-per-minute:6}")
+    private int userCreatesPerMinute;
+
+    @Value("${platform.admission.user-stops-per-minute:20}")
+    private int userStopsPerMinute;
+
+    @Value("${platform.admission.global-creates-per-second:20}")
+    private int globalCreatesPerSecond;
+
+    @Value("${platform.admission.global-stops-per-second:50}")
+    private int globalStopsPerSecond;
+
+    @Value("${platform.admission.max-in-flight-mutations:50}")
+    private int maxInFlightMutations;
+
+    private final Map<String, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+    // quota 확인 후 행 저장 전까지의 예약 수 (userId, userId:templateId)
+    private final Map<String, AtomicInteger> reservations = new ConcurrentHashMap<>();
+    private final Object[] userLocks = new Object[LOCK_STRIPES];
+
+    private TokenBucket globalCreates;
+    private TokenBucket globalStops;
+    private Semaphore inFlight;
+
+    @PostConstruct
+    void init() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            userLocks[i] = new Object();
+        }
+        globalCreates = new TokenBucket(globalCreatesPerSecond, Duration.ofSeconds(1));
+        globalStops = new TokenBucket(globalStopsPerSecond, Duration.ofSeconds(1));
+        inFlight = new Semaphore(maxInFlightMutations);
+        Gauge.builder("container.admission.in_flight", inFlight, s -> maxInFlightMutations - s.availablePermits())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 일괄 생성 항목별 승인 결과 - 거절 시 permit 은 null
+     */
+    public record Admission(String userId, Permit permit, AdmissionRejectedException rejection) {
+    }
+
+    /**
+     * 생성 승인 - 행 저장 후 releaseReservation(), K8s 작업 완료 후 close()
+     */
+    public Permit admitCreate(String userId, ContainerTemplate template) {
+        if (!enabled) {
+            return Permit.NONE;
+        }
+        return admitCreate(userId, template, false);
+    }
+
+    /**
+     * 일괄 생성 승인 - 항목별 quota/사용자 속도 확인, 거절 항목은 rejection 으로 반환
+     * K8s 변경 작업 슬롯은 잡지 않음 (항목 실행 직전 Permit.awaitSlot())
+     */
+    public List<Admission> admitBulkCreate(List<String> userIds, ContainerTemplate template) {
+        List<Admission> admissions = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            if (!enabled) {
+                admissions.add(new Admission(userId, Permit.NONE, null));
+                continue;
+            }
+            try {
+                admissions.add(new Admission(userId, admitCreate(userId, template, true), null));
+            } catch (AdmissionRejectedException e) {
+                admissions.add(new Admission(userId, null, e));
+            }
+        }
+        return admissions;
+    }
+
+    private Permit admitCreate(String userId, ContainerTemplate template, boolean bulk) {
+        List<TokenBucket> consumed = new ArrayList<>();
+        try {
+            if (bulk) {
+                consumeWaiting(globalCreates, consumed);
+            } else {
+                consume(globalCreates, consumed, "global-rate", "Too many create requests");
+            }
+            consume(userBucket("create:" + userId, userCreatesPerMinute), consumed,
+                    "user-rate", "Too many create requests for user " + userId);
+            if (template.getCreatesPerMinute() != null) {
+                consume(userBucket("create:" + userId + ":" + template.getId(), template.getCreatesPerMinute()), consumed,
+                        "user-rate", "Too many " + template.getName() + " create requests for user " + userId);
+            }
+
+            if (bulk) {
+                reserveQuota(userId, template);
+                return new Permit(this, userId, template.getId(), false);
+            }
+            if (!inFlight.tryAcquire()) {
+                throw reject("in-flight", "Too many Kubernetes operations in progress", IN_FLIGHT_RETRY_AFTER);
+            }
+            try {
+                reserveQuota(userId, template);
+            } catch (AdmissionRejectedException e) {
+                inFlight.release();
+                throw e;
+            }
+            return new Permit(this, userId, template.getId(), true);
+        } catch (AdmissionRejectedException e) {
+            consumed.forEach(TokenBucket::refund);
+            throw e;
+        }
+    }
+
+    /**
+     * 중지 승인 - K8s 삭제 완료 후 close()
+     */
+    public Permit admitStop(String userId) {
+        if (!enabled) {
+            return Permit.NONE;
+        }
+
+        List<TokenBucket> consumed = new ArrayList<>();
+        try {
+            consume(globalStops, consumed, "global-rate", "Too many stop requests");
+            consume(userBucket("stop:" + userId, userStopsPerMinute), consumed,
+                    "user-rate", "Too many stop requests for user " + userId);
+            if (!inFlight.tryAcquire()) {
+                throw reject("in-flight", "Too many Kubernetes operations in progress", IN_FLIGHT_RETRY_AFTER);
+            }
+            return new Permit(this, null, null, true);
+        } catch (AdmissionRejectedException e) {
+            consumed.forEach(TokenBucket::refund);
+            throw e;
+        }
+    }
+
+    /**
+     * 일괄 중지 항목별 승인 - 사용자 중지 속도 확인, 거절 항목은 rejection 으로 반환
+     * K8s 변경 작업 슬롯은 잡지 않음 (삭제 호출 직전 awaitSlot())
+     */
+    public List<Admission> admitBulkStop(List<String> userIds) {
+        List<Admission> admissions = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            if (!enabled) {
+                admissions.add(new Admission(userId, Permit.NONE, null));
+                continue;
+            }
+            List<TokenBucket> consumed = new ArrayList<>();
+            try {
+                consumeWaiting(globalStops, consumed);
+                consume(userBucket("stop:" + userId, userStopsPerMinute), consumed,
+                        "user-rate", "Too many stop requests for user " + userId);
+                admissions.add(new Admission(userId, new Permit(this, null, null, false), null));
+            } catch (AdmissionRejectedException e) {
+                consumed.forEach(TokenBucket::refund);
+                admissions.add(new Admission(userId, null, e));
+            }
+        }
+        return admissions;
+    }
+
+    /**
+     * K8s 변경 작업 슬롯 하나 확보 (일괄 중지의 청크별 삭제 호출) - 자리가 날 때까지 대기, 호출 완료 후 close()
+     */
+    public Permit awaitSlot() {
+        if (!enabled) {
+            return Permit.NONE;
+        }
+        Permit permit = new Permit(this, null, null, false);
+        permit.awaitSlot();
+        return permit;
+    }
+
+    /**
+     * 대기열 인스턴스 실행 승인 - quota/속도는 등록 시 확인했으므로 K8s 변경 작업 슬롯만 확보
+     * @return 슬롯이 없으면 empty (다음 dispatch 에서 재시도)
+     */
+    public Optional<Permit> admitDispatch() {
+        if (!enabled) {
+            return Optional.of(Permit.NONE);
+        }
+        return inFlight.tryAcquire() ? Optional.of(new Permit(this, null, null, true)) : Optional.empty();
+    }
+
+    /**
+     * 가득 찬(유휴) 사용자 버킷 정리
+     */
+    @Scheduled(fixedDelayString = "${platform.admission.bucket-cleanup-interval:60000}")
+    public void evictIdleBuckets() {
+        userBuckets.values().removeIf(TokenBucket::isFull);
+    }
+
+    private void reserveQuota(String userId, ContainerTemplate template) {
+        String userKey = userId;
+        String templateKey = userId + ":" + template.getId();
+        int templateLimit = template.getMaxInstancesPerUser() != null ? template.getMaxInstancesPerUser() : maxInstancesPerUser;
+
+        synchronized (userLocks[Math.floorMod(userId.hashCode(), LOCK_STRIPES)]) {
+            long total = reserved(userKey);
+            long forTemplate = reserved(templateKey);
+            for (Object[] row : instanceRepository.countActiveByTemplate(userId, QUOTA_STATUSES)) {
+                long count = (Long) row[1];
+                total += count;
+                if (template.getId().equals(row[0])) {
+                    forTemplate += count;
+                }
+            }
+
+            if (total >= maxInstancesPerUser) {
+                throw reject("quota", "Instance quota exceeded: " + maxInstancesPerUser + " active instances per user",
+                        quotaRetryAfter);
+            }
+            if (forTemplate >= templateLimit) {
+                throw reject("quota", "Instance quota exceeded: " + templateLimit + " active "
+                        + template.getName() + " instances per user", quotaRetryAfter);
+            }
+
+            reservations.computeIfAbsent(userKey, k -> new AtomicInteger()).incrementAndGet();
+            reservations.computeIfAbsent(templateKey, k -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    private void releaseQuota(String userId, Long templateId) {
+        synchronized (userLocks[Math.floorMod(userId.hashCode(), LOCK_STRIPES)]) {
+            decrement(userId);
+            decrement(userId + ":" + templateId);
+        }
+    }
+
+    private long reserved(String key) {
+        AtomicInteger count = reservations.get(key);
+        return count != null ? count.get() : 0;
+    }
+
+    private void decrement(String key) {
+        reservations.computeIfPresent(key, (k, count) -> count.decrementAndGet() <= 0 ? null : count);
+    }
+
+    private TokenBucket userBucket(String key, int perMinute) {
+        return userBuckets.computeIfAbsent(key, k -> new TokenBucket(perMinute, Duration.ofMinutes(1)));
+    }
+
+    private void consume(TokenBucket bucket, List<TokenBucket> consumed, String reason, String message) {
+        long waitNanos = bucket.tryConsume();
+        if (waitNanos > 0) {
+            throw reject(reason, message, Duration.ofNanos(waitNanos));
+        }
+        consumed.add(bucket);
+    }
+
+    // 일괄 작업은 전체 속도 한도를 넘지 않도록 다음 토큰까지 대기
+    private void consumeWaiting(TokenBucket bucket, List<TokenBucket> consumed) {
+        long waitNanos;
+        while ((waitNanos = bucket.tryConsume()) > 0) {
+            LockSupport.parkNanos(waitNanos);
+        }
+        consumed.add(bucket);
+    }
+
+    private AdmissionRejectedException reject(String reason, String message, Duration retryAfter) {
+        meterRegistry.counter("container.admission.rejections", "reason", reason).increment();
+        log.warn("Admission rejected ({}): {}", reason, message);
+        return new AdmissionRejectedException(reason, message, retryAfter);
+    }
+
+    /**
+     * 승인 결과 - quota 예약과 K8s 변경 작업 슬롯 보유 (각각 한 번만 반환)
+     */
+    public static final class Permit implements AutoCloseable {
+
+        static final Permit NONE = new Permit(null, null, null, false);
+
+        private final AdmissionService owner;
+        private final String userId;
+        private final Long templateId;
+        private final AtomicBoolean reserved;
+        private final AtomicBoolean holding;
+
+        private Permit(AdmissionService owner, String userId, Long templateId, boolean holding) {
+            this.owner = owner;
+            this.userId = userId;
+            this.templateId = templateId;
+            this.reserved = new AtomicBoolean(userId != null);
+            this.holding = new AtomicBoolean(holding);
+        }
+
+        /**
+         * K8s 변경 작업 슬롯 확보 (일괄 생성 항목 실행 직전) - 자리가 날 때까지 대기
+         */
+        public void awaitSlot() {
+            if (owner != null && !holding.get()) {
+                owner.inFlight.acquireUninterruptibly();
+                holding.set(true);
+            }
+        }
+
+        /**
+         * 인스턴스 행 저장 후 호출 - 이후 quota 는 DB 행으로 집계
+         */
+        public void releaseReservation() {
+            if (reserved.compareAndSet(true, false)) {
+                owner.releaseQuota(userId, templateId);
+            }
+        }
+
+        @Override
+        public void close() {
+            releaseReservation();
+            if (holding.compareAndSet(true, false)) {
+                owner.inFlight.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package kr.osci.container.service.lifecycle;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kr.osci.container.dto.UsageReport;
+import kr.osci.container.entity.InstanceEvent;
+import kr.osci.container.event.InstanceStatusChangedEvent;
+import kr.osci.container.repository.InstanceEventRepository;
+import kr.osci.container.repository.UsageRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인스턴스 라이프사이클 기록/사용량 보고서
+ * - 상태 전이 이벤트는 커밋 후 메모리 큐에만 넣고 반환 (요청 경로에서 DB 쓰기 없음, 큐가 가득 차면 버림)
+ * - flush-interval 마다 batch-size 단위로 묶어 LifecycleEventWriter 로 기록 (실패한 묶음은 max-attempts 까지 재시도)
+ * - checkpoint-interval 마다 실행 중 구간을 집계에 반영 - 보고서의 실행 시간은 최대 그만큼 늦음
+ * - 같은 주기에 DB 상태 기준으로 구간 보정 (버려진 이벤트로 열리지 않았거나 닫히지 않은 구간)
+ * - 보고서는 usage_rollups 만 조회 (기간 내 일수 × 사용자/템플릿 수에 비례, 이벤트 누적량과 무관)
+ */
+@Component
+@Slf4j
+public class LifecycleEventLog {
+
+    public enum GroupBy {
+        USER, TEMPLATE, DAY
+    }
+
+    private final LifecycleEventWriter writer;
+    private final InstanceEventRepository eventRepository;
+    private final UsageRollupRepository rollupRepository;
+
+    private final BlockingQueue<InstanceStatusChangedEvent> queue;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration checkpointInterval;
+
+    private final Counter written;
+    private final Counter dropped;
+
+    // flush/shutdown 동시 실행 방지 (가상 스레드 고정을 피하기 위해 synchronized 대신 lock)
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private List<InstanceStatusChangedEvent> retry = List.of();
+    private int attempts;
+    private LocalDateTime lastCheckpoint = LocalDateTime.now();
+
+    public LifecycleEventLog(LifecycleEventWriter writer, InstanceEventRepository eventRepository,
+                             UsageRollupRepository rollupRepository, MeterRegistry meterRegistry,
+                             @Value("${platform.lifecycle-log.queue-capacity:100000}") int queueCapacity,
+                             @Value("${platform.lifecycle-log.batch-size:500}") int batchSize,
+                             @Value("${platform.lifecycle-log.max-attempts:3}") int maxAttempts,
+                             @Value("${platform.lifecycle-log.checkpoint-interval:5m}") Duration checkpointInterval) {
+        this.writer = writer;
+        this.eventRepository = eventRepository;
+        this.rollupRepository = rollupRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.checkpointInterval = checkpointInterval;
+        this.written = meterRegistry.counter("container.lifecycle.events", "result", "written");
+        this.dropped = meterRegistry.counter("container.lifecycle.events", "result", "dropped");
+        Gauge.builder("container.lifecycle.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(InstanceStatusChangedEvent event) {
+        if (!queue.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${platform.lifecycle-log.flush-interval:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            if (!retry.isEmpty() && !write(retry)) {
+                return;
+            }
+            List<InstanceStatusChangedEvent> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                if (!write(batch)) {
+                    return;
+                }
+                batch = new ArrayList<>(batchSize);
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            if (Duration.between(lastCheckpoint, now).compareTo(checkpointInterval) >= 0) {
+                checkpoint(now);
+                lastCheckpoint = now;
+            }
+        } catch (RuntimeException e) {
+            log.error("Lifecycle event flush failed", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 보정 먼저 - 이미 중지된 인스턴스 구간이 now 까지 반영되지 않도록
+     */
+    private void checkpoint(LocalDateTime now) {
+        try {
+            int repaired = writer.repair(now);
+            if (repaired > 0) {
+                log.info("Repaired {} running intervals left by dropped lifecycle events", repaired);
+            }
+        } catch (RuntimeException e) {
+            // 다른 레플리카가 같은 구간을 먼저 연 경우 등 - 다음 주기에 다시 보정
+            log.warn("Lifecycle interval repair failed: {}", e.getMessage());
+        }
+        try {
+            writer.checkpoint(now);
+        } catch (RuntimeException e) {
+            log.error("Lifecycle usage checkpoint failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 인스턴스 상태 전이 이력 (기록 전 큐에 있는 항목은 제외)
+     */
+    public List<InstanceEvent> history(Long instanceId) {
+        return eventRepository.findByInstanceIdOrderByIdAsc(instanceId);
+    }
+
+    /**
+     * 기간(from~to, 양끝 포함) 사용량 합계 - 사용자/템플릿 조건은 null 이면 전체
+     */
+    public List<UsageReport> report(GroupBy groupBy, LocalDate from, LocalDate to, String userId, Long templateId) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        return switch (groupBy) {
+            case USER -> rollupRepository.sumByUser(from, to, userId, templateId);
+            case TEMPLATE -> rollupRepository.sumByTemplate(from, to, userId, templateId);
+            case DAY -> rollupRepository.sumByDay(from, to, userId, templateId);
+        };
+    }
+
+    /**
+     * 묶음 기록 - 실패 시 다음 주기에 재시도, max-attempts 초과 시 버림
+     * @return 성공 또는 포기 시 true (false 면 이번 주기 중단)
+     */
+    private boolean write(List<InstanceStatusChangedEvent> batch) {
+        try {
+            writer.write(batch);
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            if (++attempts < maxAttempts) {
+                log.warn("Failed to write {} lifecycle events (attempt {}): {}", batch.size(), attempts, e.getMessage());
+                retry = batch;
+                return false;
+            }
+            log.error("Dropping {} lifecycle events after {} attempts", batch.size(), attempts, e);
+            dropped.increment(batch.size());
+        }
+        retry = List.of();
+        attempts = 0;
+        return true;
+    }
+}
@@ -0,0 +1,181 @@
+package kr.osci.container.service.lifecycle;
+
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.entity.InstanceEvent;
+import kr.osci.container.entity.RunningInterval;
+import kr.osci.container.entity.UsageRollup;
+import kr.osci.container.event.InstanceStatusChangedEvent;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import kr.osci.container.repository.InstanceEventRepository;
+import kr.osci.container.repository.RunningIntervalRepository;
+import kr.osci.container.repository.UsageRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 상태 전이 묶음 기록 (LifecycleEventLog 전용, 묶음당 트랜잭션 1개)
+ * - instance_events 에 추가 (JDBC 배치 insert)
+ * - 최초 QUEUED/PENDING/RUNNING 기록 시 실행 수 +1 (휴면 재개 등 이후 전이는 제외)
+ * - RUNNING 진입 시 구간 시작, 이탈 시 남은 구간을 날짜별로 나눠 usage_rollups 에 반영
+ * - 집계 행/구간 갱신은 조건부 update 로 처리 (여러 레플리카가 동시에 기록해도 중복 반영 없음)
+ * - 큐 초과/기록 포기로 유실된 전이는 repair 가 DB 상태 기준으로 구간을 열고 닫아 보정
+ */
+@Component
+@RequiredArgsConstructor
+public class LifecycleEventWriter {
+
+    private static final Set<ContainerInstance.ContainerStatus> LAUNCH_STATUSES = EnumSet.of(
+            ContainerInstance.ContainerStatus.QUEUED,
+            ContainerInstance.ContainerStatus.PENDING,
+            ContainerInstance.ContainerStatus.RUNNING);
+
+    // 다른 레플리카의 반영과 경합 시 재시도 횟수
+    private static final int CLOSE_ATTEMPTS = 3;
+
+    private final InstanceEventRepository eventRepository;
+    private final RunningIntervalRepository intervalRepository;
+    private final ContainerInstanceRepository instanceRepository;
+    private final UsageRollupRepository rollupRepository;
+
+    @Transactional
+    public void write(List<InstanceStatusChangedEvent> events) {
+        Set<Long> candidates = events.stream()
+                .filter(event -> LAUNCH_STATUSES.contains(event.status()))
+                .map(InstanceStatusChangedEvent::instanceId)
+                .collect(Collectors.toSet());
+        Set<Long> recorded = candidates.isEmpty()
+                ? new HashSet<>() : new HashSet<>(eventRepository.findRecordedInstanceIds(candidates));
+
+        eventRepository.saveAll(events.stream().map(InstanceEvent::of).toList());
+
+        Map<UsageRollup.Key, long[]> deltas = new HashMap<>();
+        for (InstanceStatusChangedEvent event : events) {
+            boolean first = recorded.add(event.instanceId());
+            if (event.templateId() == null) {
+                continue;
+            }
+            if (first && LAUNCH_STATUSES.contains(event.status())) {
+                delta(deltas, event.occurredAt().toLocalDate(), event.userId(), event.templateId())[0]++;
+            }
+            if (event.status() == ContainerInstance.ContainerStatus.RUNNING) {
+                open(event);
+            } else {
+                close(event, deltas);
+            }
+        }
+        apply(deltas);
+    }
+
+    /**
+     * 진행 중인 RUNNING 구간을 now 까지 반영 (보고서가 실행 중 인스턴스 사용량도 포함하도록)
+     * @return 반영한 구간 수
+     */
+    @Transactional
+    public int checkpoint(LocalDateTime now) {
+        Map<UsageRollup.Key, long[]> deltas = new HashMap<>();
+        int advanced = 0;
+        for (RunningInterval interval : intervalRepository.findAll()) {
+            LocalDateTime from = interval.getAccruedUntil();
+            if (from.isBefore(now) && intervalRepository.advance(interval.getInstanceId(), from, now) == 1) {
+                accrue(deltas, interval, from, now);
+                advanced++;
+            }
+        }
+        apply(deltas);
+        return advanced;
+    }
+
+    /**
+     * 이벤트 유실 보정 - DB 상태가 RUNNING 이 아닌 구간은 닫고, 구간 없는 RUNNING 인스턴스는 now 부터 구간 시작
+     * - 닫는 시점은 stoppedAt (없거나 이미 반영된 시점 이전이면 추가 반영 없이 종료)
+     * @return 보정한 구간 수
+     */
+    @Transactional
+    public int repair(LocalDateTime now) {
+        Map<UsageRollup.Key, long[]> deltas = new HashMap<>();
+        int repaired = 0;
+
+        List<RunningInterval> stale = intervalRepository.findStale(ContainerInstance.ContainerStatus.RUNNING);
+        Map<Long, LocalDateTime> stoppedAt = new HashMap<>();
+        instanceRepository.findAllById(stale.stream().map(RunningInterval::getInstanceId).toList())
+                .forEach(instance -> {
+                    if (instance.getStoppedAt() != null) {
+                        stoppedAt.put(instance.getId(), instance.getStoppedAt());
+                    }
+                });
+        for (RunningInterval interval : stale) {
+            LocalDateTime from = interval.getAccruedUntil();
+            LocalDateTime to = stoppedAt.getOrDefault(interval.getInstanceId(), from);
+            if (to.isAfter(now)) {
+                to = now;
+            }
+            if (intervalRepository.close(interval.getInstanceId(), from) == 1) {
+                accrue(deltas, interval, from, to);
+                repaired++;
+            }
+        }
+
+        for (ContainerInstance instance : instanceRepository.findWithoutRunningInterval(
+                ContainerInstance.ContainerStatus.RUNNING)) {
+            intervalRepository.save(new RunningInterval(
+                    instance.getId(), instance.getUserId(), instance.getTemplate().getId(), now));
+            repaired++;
+        }
+        apply(deltas);
+        return repaired;
+    }
+
+    private void open(InstanceStatusChangedEvent event) {
+        if (!intervalRepository.existsById(event.instanceId())) {
+            intervalRepository.save(new RunningInterval(
+                    event.instanceId(), event.userId(), event.templateId(), event.occurredAt()));
+        }
+    }
+
+    private void close(InstanceStatusChangedEvent event, Map<UsageRollup.Key, long[]> deltas) {
+        for (int attempt = 0; attempt < CLOSE_ATTEMPTS; attempt++) {
+            Optional<RunningInterval> interval = intervalRepository.findById(event.instanceId());
+            if (interval.isEmpty()) {
+                return;
+            }
+            LocalDateTime from = interval.get().getAccruedUntil();
+            if (intervalRepository.close(event.instanceId(), from) == 1) {
+                accrue(deltas, interval.get(), from, event.occurredAt());
+                return;
+            }
+        }
+    }
+
+    // from~to 를 날짜 경계에서 나눠 반영
+    private static void accrue(Map<UsageRollup.Key, long[]> deltas, RunningInterval interval,
+                               LocalDateTime from, LocalDateTime to) {
+        LocalDateTime cursor = from;
+        while (cursor.isBefore(to)) {
+            LocalDateTime nextDay = cursor.toLocalDate().plusDays(1).atStartOfDay();
+            LocalDateTime end = to.isBefore(nextDay) ? to : nextDay;
+            delta(deltas, cursor.toLocalDate(), interval.getUserId(), interval.getTemplateId())[1]
+                    += Duration.between(cursor, end).toMillis();
+            cursor = end;
+        }
+    }
+
+    // [실행 수, RUNNING ms]
+    private static long[] delta(Map<UsageRollup.Key, long[]> deltas, LocalDate day, String userId, Long templateId) {
+        return deltas.computeIfAbsent(new UsageRollup.Key(day, userId, templateId), key -> new long[2]);
+    }
+
+    private void apply(Map<UsageRollup.Key, long[]> deltas) {
+        deltas.forEach((key, delta) -> {
+            if (rollupRepository.increment(key, delta[0], delta[1]) == 0) {
+                rollupRepository.save(new UsageRollup(key, delta[0], delta[1]));
+            }
+        });
+    }
+}
@@ -0,0 +1,241 @@
+package kr.osci.container.service.placement;
+
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1Node;
+import io.kubernetes.client.openapi.models.V1NodeCondition;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.entity.ResourceProfile;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import kr.osci.container.service.PodSpecCompiler;
+import kr.osci.container.service.TemplateCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 배치 대상별 남은 노드 자원 (platform.launch-queue.enabled)
+ * - Ready/스케줄 가능 노드의 allocatable(조회 캐시 경유) 에서 관리 대상 Pod 요청량(워치 캐시) 차감
+ * - 노드 미배정 Pod, 아직 Pod 가 없는 PENDING 인스턴스의 요청량도 예약분으로 차감
+ * - 노드 단위 first-fit 으로 판단 (합계가 남아도 한 노드에 들어가지 않으면 부족)
+ * - 관리 대상이 아닌 Pod(시스템/DaemonSet) 몫은 node-reserve-ratio 만큼 allocatable 에서 제외
+ * - 노드 조회 실패 시 용량 확인 없이 허용 (대기열 도입 이전 동작)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = {"kubernetes.enabled", "platform.launch-queue.enabled"}, havingValue = "true")
+public class ClusterCapacity {
+
+    private final ClusterTargets clusterTargets;
+    private final ContainerInstanceRepository instanceRepository;
+    private final TemplateCatalog templateCatalog;
+    private final PodSpecCompiler podSpecCompiler;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${platform.launch-queue.node-selector:}")
+    private String nodeSelector;
+
+    @Value("${platform.launch-queue.node-reserve-ratio:0.1}")
+    private double nodeReserveRatio;
+
+    /**
+     * CPU(milli) / 메모리(byte) 요청량
+     */
+    public record Resources(long milliCpu, long memoryBytes) {
+
+        public static final Resources NONE = new Resources(0, 0);
+
+        public static Resources of(Map<String, Quantity> quantities) {
+            if (quantities == null) {
+                return NONE;
+            }
+            Quantity cpu = quantities.get("cpu");
+            Quantity memory = quantities.get("memory");
+            return new Resources(
+                    cpu != null ? cpu.getNumber().movePointRight(3).longValue() : 0,
+                    memory != null ? memory.getNumber().longValue() : 0);
+        }
+
+        public Resources plus(Resources other) {
+            return new Resources(milliCpu + other.milliCpu, memoryBytes + other.memoryBytes);
+        }
+    }
+
+    /**
+     * 대상 하나의 노드별 여유 자원 - 배치 1회 동안 reserve 로 차감하며 사용 (스레드 간 공유 금지)
+     */
+    public static final class Headroom {
+
+        // 조회 실패 시 - 모든 요청 허용
+        static final Headroom UNKNOWN = new Headroom(null);
+
+        private final Map<String, long[]> nodes;
+
+        private Headroom(Map<String, long[]> nodes) {
+            this.nodes = nodes;
+        }
+
+        public boolean fits(Resources request) {
+            return nodes == null || node(request) != null;
+        }
+
+        /**
+         * 들어갈 수 있는 첫 노드에서 차감
+         * @return 들어갈 노드가 없으면 false
+         */
+        public boolean reserve(Resources request) {
+            if (nodes == null) {
+                return true;
+            }
+            long[] node = node(request);
+            if (node == null) {
+                return false;
+            }
+            node[0] -= request.milliCpu();
+            node[1] -= request.memoryBytes();
+            return true;
+        }
+
+        /**
+         * 전체 노드 여유 합계 (조회 실패 시 null)
+         */
+        public Resources free() {
+            if (nodes == null) {
+                return null;
+            }
+            Resources total = Resources.NONE;
+            for (long[] node : nodes.values()) {
+                total = total.plus(new Resources(Math.max(node[0], 0), Math.max(node[1], 0)));
+            }
+            return total;
+        }
+
+        private void consume(String nodeName, Resources request) {
+            long[] node = nodes.get(nodeName);
+            if (node != null) {
+                node[0] -= request.milliCpu();
+                node[1] -= request.memoryBytes();
+            }
+        }
+
+        private long[] node(Resources request) {
+            for (long[] node : nodes.values()) {
+                if (node[0] >= request.milliCpu() && node[1] >= request.memoryBytes()) {
+                    return node;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 인스턴스 1개의 요청량 - override(실행 시 지정 프로필)가 없으면 템플릿 프로필
+     */
+    public Resources request(ContainerTemplate template, ResourceProfile override) {
+        V1ResourceRequirements resources = override != null
+                ? podSpecCompiler.resources(override.orElse(template.getResources()))
+                : templateCatalog.prototype(template).resources();
+        return Resources.of(resources != null ? resources.getRequests() : null);
+    }
+
+    /**
+     * 대상별 현재 여유 자원 (PENDING 인스턴스는 DB 1회 조회)
+     */
+    public Map<String, Headroom> headroom(Collection<ClusterTarget> targets) {
+        Map<String, List<ContainerInstance>> pending = instanceRepository
+                .findByStatusIn(List.of(ContainerInstance.ContainerStatus.PENDING)).stream()
+                .collect(Collectors.groupingBy(clusterTargets::nameOf));
+
+        Map<String, Headroom> headroom = new LinkedHashMap<>();
+        for (ClusterTarget target : targets) {
+            headroom.put(target.name(), headroom(target, pending.getOrDefault(target.name(), List.of())));
+        }
+        return headroom;
+    }
+
+    private Headroom headroom(ClusterTarget target, List<ContainerInstance> pending) {
+        List<V1Node> nodes;
+        try {
+            nodes = target.kubernetes().listNodes(nodeSelector);
+        } catch (RuntimeException e) {
+            meterRegistry.counter("container.capacity.errors", "target", target.name()).increment();
+            log.warn("Node capacity unavailable for target {} - admitting without capacity check: {}",
+                    target.name(), e.getMessage());
+            return Headroom.UNKNOWN;
+        }
+
+        Map<String, long[]> free = new LinkedHashMap<>();
+        for (V1Node node : nodes) {
+            if (!schedulable(node)) {
+                continue;
+            }
+            Resources allocatable = Resources.of(node.getStatus().getAllocatable());
+            free.put(node.getMetadata().getName(), new long[]{
+                    (long) (allocatable.milliCpu() * (1 - nodeReserveRatio)),
+                    (long) (allocatable.memoryBytes() * (1 - nodeReserveRatio))});
+        }
+        Headroom headroom = new Headroom(free);
+
+        List<Resources> unscheduled = new ArrayList<>();
+        Set<String> observed = new HashSet<>();
+        for (V1Pod pod : target.pods().listPods()) {
+            String phase = pod.getStatus() != null ? pod.getStatus().getPhase() : null;
+            if ("Succeeded".equals(phase) || "Failed".equals(phase) || pod.getSpec() == null) {
+                continue;
+            }
+            Map<String, String> labels = pod.getMetadata() != null ? pod.getMetadata().getLabels() : null;
+            if (labels != null && labels.get("app") != null) {
+                observed.add(labels.get("app"));
+            }
+            Resources requested = podRequests(pod);
+            if (pod.getSpec().getNodeName() != null) {
+                headroom.consume(pod.getSpec().getNodeName(), requested);
+            } else {
+                unscheduled.add(requested);
+            }
+        }
+
+        // Deployment 생성 직후 아직 Pod 가 보이지 않는 인스턴스
+        for (ContainerInstance instance : pending) {
+            if (!observed.contains(instance.getPodName()) && instance.getTemplate() != null) {
+                templateCatalog.find(instance.getTemplate().getId())
+                        .map(template -> request(template, instance.getResources()))
+                        .ifPresent(unscheduled::add);
+            }
+        }
+        unscheduled.forEach(headroom::reserve);
+        return headroom;
+    }
+
+    private static boolean schedulable(V1Node node) {
+        if (node.getStatus() == null || node.getStatus().getAllocatable() == null) {
+            return false;
+        }
+        if (node.getSpec() != null && Boolean.TRUE.equals(node.getSpec().getUnschedulable())) {
+            return false;
+        }
+        List<V1NodeCondition> conditions = node.getStatus().getConditions();
+        return conditions != null && conditions.stream()
+                .anyMatch(condition -> "Ready".equals(condition.getType()) && "True".equals(condition.getStatus()));
+    }
+
+    private static Resources podRequests(V1Pod pod) {
+        Resources total = Resources.NONE;
+        for (V1Container container : pod.getSpec().getContainers()) {
+            if (container.getResources() != null) {
+                total = total.plus(Resources.of(container.getResources().getRequests()));
+            }
+        }
+        return total;
+    }
+}
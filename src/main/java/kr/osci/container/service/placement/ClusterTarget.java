@@ -0,0 +1,38 @@
+package kr.osci.container.service.placement;
+
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.service.KubernetesService;
+import kr.osci.container.service.PodStatusCache;
+
+import java.util.List;
+
+/**
+ * 인스턴스 배치 대상 (클러스터 + 네임스페이스)
+ *
+ * @param domain      Ingress 접속 도메인 (인스턴스 호스트는 &lt;randomSuffix&gt;.domain)
+ * @param ingressPort Ingress 접속 포트
+ * @param capacity    동시 활성 인스턴스 상한 (0 이면 무제한)
+ * @param templates   이 대상을 선호하는 템플릿 이름 (template-affinity 전략, 비어 있으면 범용)
+ */
+public record ClusterTarget(String name, String namespace, String domain, int ingressPort, int capacity,
+                            List<String> templates, KubernetesService kubernetes, PodStatusCache pods) {
+
+    public ClusterTarget {
+        templates = templates == null ? List.of() : List.copyOf(templates);
+    }
+
+    /**
+     * 이 대상에 배치된 인스턴스 접속 주소
+     */
+    public String accessUrl(String randomSuffix) {
+        return "http://" + randomSuffix + "." + domain + ":" + ingressPort;
+    }
+
+    public boolean prefers(ContainerTemplate template) {
+        return templates.contains(template.getName());
+    }
+
+    public boolean general() {
+        return templates.isEmpty();
+    }
+}
@@ -0,0 +1,147 @@
+package kr.osci.container.service.placement;
+
+import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.osci.container.config.KubernetesConfig;
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.service.KubernetesReadCache;
+import kr.osci.container.service.KubernetesService;
+import kr.osci.container.service.PodStatusCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 배치 대상 목록
+ * - 기본 대상: 기존 단일 클러스터 빈(KubernetesService/PodStatusCache) 그대로 사용
+ * - 추가 대상(kubernetes.placement.targets): 대상별 ApiClient, Pod 워치, 조회 캐시를 직접 구성
+ * - 인스턴스의 target 컬럼으로 대상 조회 (null 은 기본 대상 - 다중 대상 도입 이전 행)
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "kubernetes.enabled", havingValue = "true")
+public class ClusterTargets {
+
+    private final ClusterTarget primary;
+    private final Map<String, ClusterTarget> targets = new LinkedHashMap<>();
+    private final List<PodStatusCache> ownedCaches = new ArrayList<>();
+
+    public ClusterTargets(KubernetesService kubernetesService, PodStatusCache podStatusCache,
+                          ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry,
+                          Environment environment,
+                          @Value("${kubernetes.namespace:user-containers}") String namespace,
+                          @Value("${kubernetes.ingress.port:8080}") int ingressPort) {
+        Binder binder = Binder.get(environment);
+        PlacementProperties properties = binder.bindOrCreate("kubernetes.placement", PlacementProperties.class);
+        Duration readCacheTtl = binder.bind("kubernetes.read-cache.ttl", Duration.class).orElse(Duration.ofMillis(500));
+        int readCacheEntries = binder.bind("kubernetes.read-cache.max-entries", Integer.class).orElse(10000);
+        long resyncPeriod = binder.bind("kubernetes.informer.resync-period", Long.class).orElse(300000L);
+
+        PlacementProperties.Target primaryProperties = properties.primary();
+        String domain = kubernetesService.domain();
+        this.primary = new ClusterTarget(primaryProperties.name(), namespace, domain, ingressPort,
+                primaryProperties.capacity(), primaryProperties.templates(), kubernetesService, podStatusCache);
+        targets.put(primary.name(), primary);
+
+        for (PlacementProperties.Target target : properties.targets()) {
+            if (targets.containsKey(target.name())) {
+                throw new IllegalStateException("Duplicate cluster target: " + target.name());
+            }
+            String targetNamespace = target.namespace() != null ? target.namespace() : namespace;
+            String targetDomain = target.domain() != null ? target.domain() : domain;
+            int targetPort = target.ingressPort() != null ? target.ingressPort() : ingressPort;
+            ApiClient apiClient = client(target.apiUrl());
+            ApiClient informerClient = client(target.apiUrl());
+            informerClient.setReadTimeout(0);
+
+            PodStatusCache pods = PodStatusCache.forTarget(new SharedInformerFactory(informerClient), informerClient,
+                    eventPublisher, targetNamespace, resyncPeriod);
+            KubernetesReadCache readCache = new KubernetesReadCache(target.name(), readCacheTtl, readCacheEntries,
+                    meterRegistry);
+            KubernetesService kubernetes = kubernetesService.forTarget(target.name(), targetNamespace, targetDomain,
+                    apiClient, pods, readCache);
+
+            ownedCaches.add(pods);
+            targets.put(target.name(), new ClusterTarget(target.name(), targetNamespace, targetDomain, targetPort,
+                    target.capacity(), target.templates(), kubernetes, pods));
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        ownedCaches.forEach(PodStatusCache::start);
+        targets.values().forEach(target ->
+                log.info("Cluster target: name={}, namespace={}, domain={}, capacity={}", target.name(),
+                        target.namespace(), target.domain(), target.capacity() > 0 ? target.capacity() : "unlimited"));
+    }
+
+    @PreDestroy
+    public void stop() {
+        ownedCaches.forEach(PodStatusCache::stop);
+    }
+
+    public ClusterTarget primary() {
+        return primary;
+    }
+
+    public Collection<ClusterTarget> all() {
+        return Collections.unmodifiableCollection(targets.values());
+    }
+
+    public boolean single() {
+        return targets.size() == 1;
+    }
+
+    public Optional<ClusterTarget> find(String name) {
+        return Optional.ofNullable(name == null ? primary : targets.get(name));
+    }
+
+    /**
+     * 인스턴스가 배치된 대상 - 설정에서 제거된 대상이면 IllegalStateException
+     */
+    public ClusterTarget of(ContainerInstance instance) {
+        return find(instance.getTarget())
+                .orElseThrow(() -> new IllegalStateException("Unknown cluster target: " + instance.getTarget()));
+    }
+
+    /**
+     * 대상 이름 (null 은 기본 대상)
+     */
+    public String nameOf(ContainerInstance instance) {
+        return instance.getTarget() != null ? instance.getTarget() : primary.name();
+    }
+
+    /**
+     * 전체 대상의 Pod 워치 캐시에서 Pod 조회 (podName 은 대상 간에도 고유)
+     */
+    public Optional<Map.Entry<ClusterTarget, V1Pod>> findPod(String podName) {
+        for (ClusterTarget target : targets.values()) {
+            Optional<V1Pod> pod = target.pods().findPod(podName);
+            if (pod.isPresent()) {
+                return Optional.of(Map.entry(target, pod.get()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static ApiClient client(String apiUrl) {
+        try {
+            return KubernetesConfig.createClient(apiUrl);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
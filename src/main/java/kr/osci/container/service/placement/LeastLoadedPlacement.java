@@ -0,0 +1,21 @@
+package kr.osci.container.service.placement;
+
+import kr.osci.container.entity.ContainerTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 사용률(활성 인스턴스 / capacity)이 가장 낮은 대상에 배치
+ */
+@Component
+@ConditionalOnProperty(name = "kubernetes.placement.strategy", havingValue = "least-loaded", matchIfMissing = true)
+public class LeastLoadedPlacement implements PlacementStrategy {
+
+    @Override
+    public ClusterTarget select(List<TargetLoad> candidates, String userId, ContainerTemplate template) {
+        return Collections.min(candidates, TargetLoad.LEAST_LOADED).target();
+    }
+}
@@ -0,0 +1,37 @@
+package kr.osci.container.service.placement;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * kubernetes.placement 설정
+ *
+ * @param primary 기본 대상 (kubernetes.api-url / kubernetes.namespace 의 클러스터) 이름·용량·선호 템플릿
+ * @param targets 추가 대상 - 대상마다 별도 API 클라이언트/Pod 워치/조회 캐시 사용
+ */
+public record PlacementProperties(
+        @DefaultValue("least-loaded") String strategy,
+        @DefaultValue Target primary,
+        List<Target> targets) {
+
+    public PlacementProperties {
+        targets = targets == null ? List.of() : List.copyOf(targets);
+    }
+
+    /**
+     * @param apiUrl      API 서버 주소 (미지정 시 기본 설정 - 클러스터 내부 ServiceAccount)
+     * @param domain      이 대상 Ingress 의 접속 도메인 (미지정 시 kubernetes.domain)
+     * @param ingressPort 이 대상 Ingress 접속 포트 (미지정 시 kubernetes.ingress.port)
+     * @param capacity    동시 활성 인스턴스 상한 (0 이면 무제한)
+     */
+    public record Target(
+            @DefaultValue("default") String name,
+            String apiUrl,
+            String namespace,
+            String domain,
+            Integer ingressPort,
+            @DefaultValue("0") int capacity,
+            List<String> templates) {
+    }
+}
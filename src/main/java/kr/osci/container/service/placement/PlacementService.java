@@ -0,0 +1,150 @@
+package kr.osci.container.service.placement;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.entity.ResourceProfile;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import kr.osci.container.service.admission.AdmissionRejectedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 새 인스턴스 배치 - 대상별 활성 인스턴스 수(DB 1회 집계)로 용량 확인 후 전략에 위임
+ * - 대상이 하나뿐이고 용량 제한이 없으면 집계 없이 기본 대상
+ * - 용량 대기열 사용 시 노드 여유 자원(ClusterCapacity)에 들어가는 대상만 후보
+ * - 들어갈 대상이 없으면 null - 호출자가 대기열 등록 또는 noCapacity() 로 429
+ * - 정리 중(STOPPING) 인스턴스도 Pod 가 사라질 때까지 자원을 쓰므로 부하에 포함
+ * - 휴면 재개는 이미 대상 부하에 포함되어 있어 노드 여유 자원만 확인 (ensureResumable)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "kubernetes.enabled", havingValue = "true")
+public class PlacementService {
+
+    private static final List<ContainerInstance.ContainerStatus> ACTIVE_STATUSES = List.of(
+            ContainerInstance.ContainerStatus.PENDING,
+            ContainerInstance.ContainerStatus.RUNNING,
+            ContainerInstance.ContainerStatus.HIBERNATED,
+            ContainerInstance.ContainerStatus.STOPPING);
+
+    private final ClusterTargets clusterTargets;
+    private final PlacementStrategy placementStrategy;
+    private final ContainerInstanceRepository instanceRepository;
+    private final MeterRegistry meterRegistry;
+    // platform.launch-queue.enabled 일 때만 존재
+    private final ObjectProvider<ClusterCapacity> clusterCapacity;
+
+    @Value("${kubernetes.placement.retry-after:30s}")
+    private Duration retryAfter;
+
+    /**
+     * @return 배치 대상, 모든 대상이 가득 차면 null
+     */
+    public ClusterTarget place(String userId, ContainerTemplate template) {
+        return place(userId, template, null);
+    }
+
+    /**
+     * override: 실행 시 지정한 리소스 프로필 (노드 여유 자원 판단에 사용)
+     */
+    public ClusterTarget place(String userId, ContainerTemplate template, ResourceProfile override) {
+        return placeAll(List.of(userId), template, override).get(0);
+    }
+
+    /**
+     * 여러 사용자 일괄 배치 - 집계 1회 후 배치할 때마다 메모리에서 부하/자원 반영
+     * @return userIds 순서대로 배치 대상 (들어갈 대상이 없으면 null)
+     */
+    public List<ClusterTarget> placeAll(List<String> userIds, ContainerTemplate template) {
+        return placeAll(userIds, template, null);
+    }
+
+    private List<ClusterTarget> placeAll(List<String> userIds, ContainerTemplate template, ResourceProfile override) {
+        ClusterTarget primary = clusterTargets.primary();
+        ClusterCapacity capacity = clusterCapacity.getIfAvailable();
+        if (clusterTargets.single() && primary.capacity() == 0 && capacity == null) {
+            return userIds.stream().map(userId -> primary).toList();
+        }
+
+        Map<String, TargetLoad> loads = currentLoads();
+        Map<String, ClusterCapacity.Headroom> headroom = capacity != null ? capacity.headroom(clusterTargets.all()) : null;
+        ClusterCapacity.Resources request = capacity != null ? capacity.request(template, override) : null;
+
+        List<ClusterTarget> placed = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            List<TargetLoad> candidates = loads.values().stream()
+                    .filter(load -> !load.full())
+                    .filter(load -> headroom == null || headroom.get(load.target().name()).fits(request))
+                    .toList();
+            if (candidates.isEmpty()) {
+                placed.add(null);
+                continue;
+            }
+
+            ClusterTarget target = placementStrategy.select(candidates, userId, template);
+            loads.computeIfPresent(target.name(), (name, load) -> load.plusOne());
+            if (headroom != null) {
+                headroom.get(target.name()).reserve(request);
+            }
+            meterRegistry.counter("container.placement.decisions", "target", target.name()).increment();
+            placed.add(target);
+        }
+        return placed;
+    }
+
+    /**
+     * 휴면 인스턴스 재개 전 확인 - 배치된 대상의 노드에 다시 올라갈 자리가 없으면 429
+     * (용량 대기열 미사용 시 노드 자원 확인 없음 - 대상 용량은 휴면 중에도 차지하고 있음)
+     */
+    public void ensureResumable(ContainerInstance instance, ContainerTemplate template) {
+        ClusterCapacity capacity = clusterCapacity.getIfAvailable();
+        if (capacity == null) {
+            return;
+        }
+        ClusterTarget target = clusterTargets.of(instance);
+        ClusterCapacity.Headroom headroom = capacity.headroom(List.of(target)).get(target.name());
+        if (!headroom.fits(capacity.request(template, instance.getResources()))) {
+            meterRegistry.counter("container.placement.resume.rejections", "target", target.name()).increment();
+            throw noCapacity();
+        }
+    }
+
+    /**
+     * 배치할 대상이 없을 때의 거절 (용량 대기열 미사용 시) → 429
+     */
+    public AdmissionRejectedException noCapacity() {
+        meterRegistry.counter("container.placement.rejections").increment();
+        log.warn("Placement rejected: all cluster targets are at capacity");
+        return new AdmissionRejectedException("capacity", "No cluster capacity available", retryAfter);
+    }
+
+    /**
+     * 대상별 활성 인스턴스 수 (설정 순서 유지)
+     */
+    public Map<String, TargetLoad> currentLoads() {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : instanceRepository.countByTarget(ACTIVE_STATUSES)) {
+            String name = row[0] != null ? (String) row[0] : clusterTargets.primary().name();
+            counts.merge(name, (Long) row[1], Long::sum);
+        }
+
+        Map<String, TargetLoad> loads = new LinkedHashMap<>();
+        for (ClusterTarget target : clusterTargets.all()) {
+            loads.put(target.name(), new TargetLoad(target, counts.getOrDefault(target.name(), 0L)));
+        }
+        return loads;
+    }
+}
@@ -0,0 +1,14 @@
+package kr.osci.container.service.placement;
+
+import kr.osci.container.entity.ContainerTemplate;
+
+import java.util.List;
+
+/**
+ * 새 인스턴스의 배치 대상 선택 (kubernetes.placement.strategy)
+ * - candidates 는 용량이 남은 대상만, 설정 순서대로 전달 (비어 있지 않음)
+ */
+public interface PlacementStrategy {
+
+    ClusterTarget select(List<TargetLoad> candidates, String userId, ContainerTemplate template);
+}
@@ -0,0 +1,28 @@
+package kr.osci.container.service.placement;
+
+import java.util.Comparator;
+
+/**
+ * 배치 시점의 대상별 활성 인스턴스 수
+ */
+public record TargetLoad(ClusterTarget target, long active) {
+
+    /**
+     * 사용률 낮은 순, 같으면 활성 인스턴스 적은 순 (무제한 대상은 사용률 0)
+     */
+    public static final Comparator<TargetLoad> LEAST_LOADED = Comparator
+            .comparingDouble(TargetLoad::utilization)
+            .thenComparingLong(TargetLoad::active);
+
+    public double utilization() {
+        return target.capacity() > 0 ? (double) active / target.capacity() : 0;
+    }
+
+    public boolean full() {
+        return target.capacity() > 0 && active >= target.capacity();
+    }
+
+    TargetLoad plusOne() {
+        return new TargetLoad(target, active + 1);
+    }
+}
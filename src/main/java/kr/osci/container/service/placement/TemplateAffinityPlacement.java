@@ -0,0 +1,31 @@
+package kr.osci.container.service.placement;
+
+import kr.osci.container.entity.ContainerTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 템플릿 선호 대상 우선 (GPU 노드 클러스터 등)
+ * - templates 에 해당 템플릿이 있는 대상 → 범용 대상(templates 미지정) → 나머지 순으로 후보 선택
+ * - 후보 중에서는 사용률이 가장 낮은 대상
+ */
+@Component
+@ConditionalOnProperty(name = "kubernetes.placement.strategy", havingValue = "template-affinity")
+public class TemplateAffinityPlacement implements PlacementStrategy {
+
+    @Override
+    public ClusterTarget select(List<TargetLoad> candidates, String userId, ContainerTemplate template) {
+        List<TargetLoad> preferred = candidates.stream()
+                .filter(load -> load.target().prefers(template))
+                .toList();
+        if (preferred.isEmpty()) {
+            preferred = candidates.stream()
+                    .filter(load -> load.target().general())
+                    .toList();
+        }
+        return Collections.min(preferred.isEmpty() ? candidates : preferred, TargetLoad.LEAST_LOADED).target();
+    }
+}
@@ -0,0 +1,37 @@
+package kr.osci.container.service.placement;
+
+import kr.osci.container.entity.ContainerTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 사용자별 고정 대상 (rendezvous hashing)
+ * - 같은 사용자는 항상 같은 대상, 대상 추가/제거 시 해당 대상 몫의 사용자만 이동
+ * - 선호 대상이 가득 차면 다음 순위 대상
+ */
+@Component
+@ConditionalOnProperty(name = "kubernetes.placement.strategy", havingValue = "hash-by-user")
+public class UserHashPlacement implements PlacementStrategy {
+
+    @Override
+    public ClusterTarget select(List<TargetLoad> candidates, String userId, ContainerTemplate template) {
+        return candidates.stream()
+                .map(TargetLoad::target)
+                .max(Comparator.comparingLong(target -> score(userId, target.name())))
+                .orElseThrow();
+    }
+
+    // FNV-1a 64bit
+    private static long score(String userId, String targetName) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : (userId + "/" + targetName).getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
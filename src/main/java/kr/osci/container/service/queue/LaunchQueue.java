@@ -0,0 +1,313 @@
+package kr.osci.container.service.queue;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.event.InstanceStatusChangedEvent;
+import kr.osci.container.event.PodPhaseChangedEvent;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import kr.osci.container.service.ProvisioningService;
+import kr.osci.container.service.TemplateCatalog;
+import kr.osci.container.service.admission.AdmissionRejectedException;
+import kr.osci.container.service.admission.AdmissionService;
+import kr.osci.container.service.placement.ClusterTarget;
+import kr.osci.container.service.placement.PlacementService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 용량 대기열 (platform.launch-queue.enabled)
+ * - 배치할 대상(노드 여유 자원/대상별 상한)이 없으면 QUEUED 행으로 저장 - 재시작 후에도 유지
+ * - 순서: 템플릿 launchPriority 높은 순, 같으면 등록 순 - 앞선 항목이 있으면 새 요청도 대기열로
+ * - 인스턴스 중지/실패/휴면, Pod 삭제 시 및 dispatch-interval 마다 앞에서부터 실행
+ * - 맨 앞 항목이 들어가지 않으면 뒤 항목도 대기 (작은 요청의 새치기 방지)
+ * - 실행 확정은 QUEUED 조건부 UPDATE - 여러 레플리카/취소와 경합해도 한 번만 실행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = {"kubernetes.enabled", "platform.launch-queue.enabled"}, havingValue = "true")
+public class LaunchQueue {
+
+    private final ContainerInstanceRepository instanceRepository;
+    private final TemplateCatalog templateCatalog;
+    private final PlacementService placementService;
+    private final ProvisioningService provisioningService;
+    private final AdmissionService admissionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService provisioningExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${platform.launch-queue.max-depth:1000}")
+    private int maxDepth;
+
+    @Value("${platform.launch-queue.dispatch-batch:20}")
+    private int dispatchBatch;
+
+    @Value("${platform.launch-queue.retry-after:30s}")
+    private Duration retryAfter;
+
+    /**
+     * 대기열 위치 (1 부터)
+     */
+    public record Position(long position, long depth, LocalDateTime queuedAt) {
+    }
+
+    private final AtomicLong depth = new AtomicLong();
+    private final ReentrantLock dispatching = new ReentrantLock();
+    private final AtomicBoolean dispatchRequested = new AtomicBoolean();
+    private volatile boolean rerun;
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("container.launch.queue.depth", depth, AtomicLong::get).register(meterRegistry);
+        refreshDepth();
+    }
+
+    public static int priorityOf(ContainerTemplate template) {
+        return template.getLaunchPriority() != null ? template.getLaunchPriority() : 0;
+    }
+
+    /**
+     * 같거나 높은 우선순위의 대기 항목이 있으면 새 요청도 대기 (순서 보장)
+     */
+    public boolean mustWait(ContainerTemplate template) {
+        return depth.get() > 0
+                && instanceRepository.existsByStatusAndPriorityGreaterThanEqual(
+                        ContainerInstance.ContainerStatus.QUEUED, priorityOf(template));
+    }
+
+    /**
+     * count 개 추가 가능 여부 - 초과 시 AdmissionRejectedException(queue-full) → 429
+     */
+    public void ensureRoom(int count) {
+        long queued = instanceRepository.countByStatus(ContainerInstance.ContainerStatus.QUEUED);
+        if (queued + count > maxDepth) {
+            meterRegistry.counter("container.admission.rejections", "reason", "queue-full").increment();
+            log.warn("Launch queue full: depth={}, max={}", queued, maxDepth);
+            throw new AdmissionRejectedException("queue-full", "Launch queue is full", retryAfter);
+        }
+    }
+
+    /**
+     * 저장 전 인스턴스를 대기 상태로 표시 (일괄 생성은 saveAll 후 enqueued)
+     */
+    public void markQueued(ContainerInstance instance) {
+        instance.setStatus(ContainerInstance.ContainerStatus.QUEUED);
+        instance.setPriority(priorityOf(instance.getTemplate()));
+        instance.setQueuedAt(LocalDateTime.now());
+    }
+
+    /**
+     * 대기열 등록 - 저장 후 즉시 dispatch 시도 (그 사이 자원이 반환됐을 수 있음)
+     */
+    public ContainerInstance enqueue(ContainerInstance instance) {
+        ensureRoom(1);
+        markQueued(instance);
+        ContainerInstance saved = instanceRepository.save(instance);
+        eventPublisher.publishEvent(InstanceStatusChangedEvent.of(saved));
+        log.info("Instance queued: {} (priority {})", saved.getPodName(), saved.getPriority());
+        enqueued(1);
+        return saved;
+    }
+
+    /**
+     * markQueued 로 저장한 항목 수 반영 후 dispatch 요청
+     */
+    public void enqueued(int count) {
+        depth.addAndGet(count);
+        meterRegistry.counter("container.launch.queue.enqueued").increment(count);
+        requestDispatch();
+    }
+
+    public Optional<Position> position(ContainerInstance instance) {
+        if (instance.getStatus() != ContainerInstance.ContainerStatus.QUEUED) {
+            return Optional.empty();
+        }
+        long ahead = instanceRepository.countAhead(ContainerInstance.ContainerStatus.QUEUED,
+                instance.getPriority(), instance.getId());
+        return Optional.of(new Position(ahead + 1,
+                instanceRepository.countByStatus(ContainerInstance.ContainerStatus.QUEUED), instance.getQueuedAt()));
+    }
+
+    /**
+     * 대기 중 인스턴스 취소 - 이미 실행이 확정됐으면 false (호출자가 일반 중지 처리)
+     */
+    public boolean cancel(ContainerInstance instance) {
+        LocalDateTime now = LocalDateTime.now();
+        if (instanceRepository.updateStatusIf(instance.getId(), ContainerInstance.ContainerStatus.QUEUED,
+                ContainerInstance.ContainerStatus.STOPPED, now) == 0) {
+            return false;
+        }
+        instance.setStatus(ContainerInstance.ContainerStatus.STOPPED);
+        instance.setStoppedAt(now);
+        eventPublisher.publishEvent(InstanceStatusChangedEvent.of(instance));
+        recordWait(instance, "cancelled");
+        depth.updateAndGet(value -> Math.max(value - 1, 0));
+        log.info("Queued instance cancelled: {}", instance.getPodName());
+        return true;
+    }
+
+    /**
+     * 자원 반환 시점 - 대기 항목이 있으면 dispatch
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(InstanceStatusChangedEvent event) {
+        switch (event.status()) {
+            case STOPPED, FAILED, HIBERNATED -> requestDispatch();
+            default -> {
+            }
+        }
+    }
+
+    @EventListener
+    public void onPodPhaseChanged(PodPhaseChangedEvent event) {
+        // 삭제된 Pod 의 요청량은 워치 캐시에서 빠진 뒤에야 반영됨
+        if ("NOT_FOUND".equals(event.phase())) {
+            requestDispatch();
+        }
+    }
+
+    /**
+     * 비동기 dispatch 요청 - 진행 중 요청이 있으면 합침
+     */
+    public void requestDispatch() {
+        if (depth.get() > 0 && dispatchRequested.compareAndSet(false, true)) {
+            provisioningExecutor.execute(() -> {
+                dispatchRequested.set(false);
+                dispatch();
+            });
+        }
+    }
+
+    /**
+     * 앞에서부터 배치 가능한 만큼 실행 (이벤트 누락 대비 주기 실행 포함)
+     */
+    @Scheduled(fixedDelayString = "${platform.launch-queue.dispatch-interval:5000}")
+    public void dispatch() {
+        if (!dispatching.tryLock()) {
+            rerun = true;
+            return;
+        }
+        try {
+            do {
+                rerun = false;
+                dispatchOnce();
+            } while (rerun);
+        } catch (RuntimeException e) {
+            log.warn("Launch queue dispatch failed: {}", e.getMessage());
+        } finally {
+            dispatching.unlock();
+            refreshDepth();
+        }
+    }
+
+    private void dispatchOnce() {
+        while (true) {
+            List<ContainerInstance> head = instanceRepository.findQueue(ContainerInstance.ContainerStatus.QUEUED,
+                    Limit.of(dispatchBatch));
+            for (ContainerInstance instance : head) {
+                if (!dispatch(instance)) {
+                    return;
+                }
+            }
+            if (head.size() < dispatchBatch) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return 다음 항목 계속 진행 여부 (자원/작업 슬롯 부족 시 false)
+     */
+    private boolean dispatch(ContainerInstance instance) {
+        Optional<ContainerTemplate> template = templateCatalog.find(instance.getTemplate().getId());
+        if (template.isEmpty()) {
+            log.warn("Template of queued instance {} no longer exists - marking failed", instance.getPodName());
+            if (instanceRepository.updateStatusIf(instance.getId(), ContainerInstance.ContainerStatus.QUEUED,
+                    ContainerInstance.ContainerStatus.FAILED, null) > 0) {
+                instance.setStatus(ContainerInstance.ContainerStatus.FAILED);
+                eventPublisher.publishEvent(InstanceStatusChangedEvent.of(instance));
+            }
+            return true;
+        }
+
+        ClusterTarget target = placementService.place(instance.getUserId(), template.get(), instance.getResources());
+        if (target == null) {
+            return false;
+        }
+        Optional<AdmissionService.Permit> permit = admissionService.admitDispatch();
+        if (permit.isEmpty()) {
+            return false;
+        }
+        // 리소스 생성 시점으로 createdAt 갱신 (reconciler 유예 기간 기준, 요청 시각은 queuedAt)
+        // 접속 주소도 실제 배치된 대상의 Ingress 도메인으로 교체
+        LocalDateTime now = LocalDateTime.now();
+        String randomSuffix = randomSuffix(instance.getPodName());
+        String accessUrl = target.accessUrl(randomSuffix);
+        if (instanceRepository.assignTarget(instance.getId(), ContainerInstance.ContainerStatus.QUEUED,
+                ContainerInstance.ContainerStatus.PENDING, target.name(), target.namespace(), accessUrl, now) == 0) {
+            // 다른 레플리카가 실행했거나 취소됨
+            permit.get().close();
+            return true;
+        }
+
+        instance.setStatus(ContainerInstance.ContainerStatus.PENDING);
+        instance.setTarget(target.name());
+        instance.setNamespace(target.namespace());
+        instance.setAccessUrl(accessUrl);
+        instance.setCreatedAt(now);
+        eventPublisher.publishEvent(InstanceStatusChangedEvent.of(instance));
+        recordWait(instance, "dispatched");
+        depth.updateAndGet(value -> Math.max(value - 1, 0));
+        log.info("Queued instance dispatched: {} -> {}", instance.getPodName(), target.name());
+
+        provisioningService.provision(instance, template.get(), randomSuffix)
+                .whenComplete((ignored, error) -> permit.get().close());
+        return true;
+    }
+
+    private void recordWait(ContainerInstance instance, String outcome) {
+        if (instance.getQueuedAt() == null) {
+            return;
+        }
+        String templateName = templateCatalog.find(instance.getTemplate().getId())
+                .map(ContainerTemplate::getName)
+                .orElse("unknown");
+        Timer.builder("container.launch.queue.wait")
+                .tag("template", templateName)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.between(instance.getQueuedAt(), LocalDateTime.now()));
+    }
+
+    private void refreshDepth() {
+        depth.set(instanceRepository.countByStatus(ContainerInstance.ContainerStatus.QUEUED));
+    }
+
+    // podName = {템플릿명}-{suffix} (Ingress 호스트/접속 URL 은 등록 시 suffix 로 이미 결정)
+    private static String randomSuffix(String podName) {
+        return podName.substring(podName.lastIndexOf('-') + 1);
+    }
+}
@@ -0,0 +1,30 @@
+package kr.osci.container.service.resources;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬 사용량 - metrics-server 없는 개발/테스트 환경용 (record 로 넣은 값을 매 수집마다 반환)
+ */
+@Component
+@ConditionalOnProperty(name = "platform.resources.usage-source", havingValue = "local", matchIfMissing = true)
+public class LocalUsageSource implements UsageSource {
+
+    private final Map<String, ResourceUsage> usage = new ConcurrentHashMap<>();
+
+    @Override
+    public Map<String, ResourceUsage> sample() {
+        return Map.copyOf(usage);
+    }
+
+    public void record(String podName, ResourceUsage current) {
+        usage.put(podName, current);
+    }
+
+    public void remove(String podName) {
+        usage.remove(podName);
+    }
+}
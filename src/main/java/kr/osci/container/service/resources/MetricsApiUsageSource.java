@@ -0,0 +1,54 @@
+package kr.osci.container.service.resources;
+
+import io.kubernetes.client.custom.ContainerMetrics;
+import io.kubernetes.client.custom.PodMetrics;
+import kr.osci.container.service.placement.ClusterTarget;
+import kr.osci.container.service.placement.ClusterTargets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * metrics.k8s.io(metrics-server) 기반 사용량 - 배치 대상마다 네임스페이스 단위 1회 조회
+ * - 관리 대상(managed-by=container-platform) Pod 만, app 라벨(= podName) 기준으로 컨테이너 합산
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "platform.resources.usage-source", havingValue = "metrics-api")
+public class MetricsApiUsageSource implements UsageSource {
+
+    private final ClusterTargets clusterTargets;
+
+    @Override
+    public Map<String, ResourceUsage> sample() {
+        Map<String, ResourceUsage> usage = new HashMap<>();
+        for (ClusterTarget target : clusterTargets.all()) {
+            try {
+                for (PodMetrics pod : target.kubernetes().listPodMetrics()) {
+                    Map<String, String> labels = pod.getMetadata() != null ? pod.getMetadata().getLabels() : null;
+                    if (labels == null || labels.get("app") == null
+                            || !"container-platform".equals(labels.get("managed-by"))) {
+                        continue;
+                    }
+                    ResourceUsage total = ResourceUsage.NONE;
+                    if (pod.getContainers() != null) {
+                        for (ContainerMetrics container : pod.getContainers()) {
+                            total = total.plus(ResourceUsage.of(container.getUsage()));
+                        }
+                    }
+                    // 롤링 중 같은 app 의 Pod 가 여럿이면 메모리가 큰 쪽
+                    usage.merge(labels.get("app"), total,
+                            (a, b) -> a.memoryBytes() >= b.memoryBytes() ? a : b);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to sample pod metrics for target {}: {}", target.name(), e.getMessage());
+            }
+        }
+        return usage;
+    }
+}
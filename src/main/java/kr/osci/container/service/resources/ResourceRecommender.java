@@ -0,0 +1,217 @@
+package kr.osci.container.service.resources;
+
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.entity.ResourceProfile;
+import kr.osci.container.event.TemplateChangedEvent;
+import kr.osci.container.repository.ContainerTemplateRepository;
+import kr.osci.container.service.PodSpecCompiler;
+import kr.osci.container.service.SchedulerLeaseService;
+import kr.osci.container.service.TemplateCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관측 사용량 기반 템플릿 리소스 프로필 추천
+ * - cpu request = p90, memory request = p95 (+ request-margin)
+ * - limit = p99 (+ limit-margin), 최근 OOMKilled 가 있으면 현재 memory limit × oom-bump 이상
+ * - min-samples 미만이면 추천 없음, limit 은 PodSpecCompiler 상한으로 제한
+ * - auto-apply 시 apply-interval 마다 현재 값과 apply-threshold 이상 차이 나는 템플릿에 반영
+ *   (반영 이후 실행분부터 적용, 실행 중 인스턴스는 그대로)
+ * - 히스토그램은 레플리카별이므로 자동 반영은 임대 보유 레플리카 한 곳만 수행 (레플리카마다 다른 값으로 번갈아 덮어쓰지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResourceRecommender {
+
+    static final String AUTO_APPLY_LEASE = "resources.auto-apply";
+
+    private static final long MIN_MILLI_CPU = 10;
+    private static final long MIN_MEMORY_BYTES = 64L * 1024 * 1024;
+    private static final long MEBIBYTE = 1024L * 1024;
+
+    private final UsageCollector usageCollector;
+    private final TemplateCatalog templateCatalog;
+    private final ContainerTemplateRepository templateRepository;
+    private final PodSpecCompiler podSpecCompiler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final SchedulerLeaseService leaseService;
+
+    @Value("${platform.resources.min-samples:60}")
+    private long minSamples;
+
+    @Value("${platform.resources.request-margin:0.15}")
+    private double requestMargin;
+
+    @Value("${platform.resources.limit-margin:0.5}")
+    private double limitMargin;
+
+    @Value("${platform.resources.oom-bump:1.5}")
+    private double oomBump;
+
+    @Value("${platform.resources.max-cpu-limit:4}")
+    private String maxCpuLimit;
+
+    @Value("${platform.resources.max-memory-limit:8Gi}")
+    private String maxMemoryLimit;
+
+    @Value("${platform.resources.auto-apply:false}")
+    private boolean autoApply;
+
+    @Value("${platform.resources.apply-interval:3600000}")
+    private long applyInterval;
+
+    @Value("${platform.resources.apply-threshold:0.1}")
+    private double applyThreshold;
+
+    /**
+     * @param recommended 샘플 부족 시 null
+     * @param stats       수집된 적 없으면 null
+     */
+    public record Recommendation(Long templateId, String templateName, ResourceProfile current,
+                                 ResourceProfile recommended, UsageCollector.Stats stats) {
+    }
+
+    /**
+     * 활성 템플릿 전체 추천
+     */
+    public List<Recommendation> recommendations() {
+        return templateCatalog.snapshot().enabled().stream()
+                .map(this::recommend)
+                .toList();
+    }
+
+    public Recommendation recommend(ContainerTemplate template) {
+        UsageCollector.Stats stats = usageCollector.stats(template.getId()).orElse(null);
+        ResourceProfile recommended = stats != null && stats.samples() >= minSamples
+                ? profile(template, stats) : null;
+        return new Recommendation(template.getId(), template.getName(), template.getResources(), recommended, stats);
+    }
+
+    /**
+     * 추천 프로필을 템플릿에 저장 (카탈로그 갱신은 커밋 후 TemplateChangedEvent)
+     */
+    @Transactional
+    public ResourceProfile apply(Long templateId) {
+        ContainerTemplate template = templateRepository.findById(templateId)
+                .orElseThrow(() -> new IllegalArgumentException("Template not found"));
+        Recommendation recommendation = recommend(template);
+        if (recommendation.recommended() == null) {
+            throw new IllegalArgumentException("Not enough usage samples for template " + templateId);
+        }
+        // 상한/request ≤ limit 재검증
+        podSpecCompiler.resources(recommendation.recommended());
+        template.setResources(recommendation.recommended());
+        templateRepository.save(template);
+        eventPublisher.publishEvent(new TemplateChangedEvent(templateId));
+        meterRegistry.counter("container.resources.applied", "template", template.getName()).increment();
+        log.info("Resource profile applied to template {}: {} -> {}",
+                template.getName(), describe(recommendation.current()), describe(recommendation.recommended()));
+        return recommendation.recommended();
+    }
+
+    @Scheduled(fixedDelayString = "${platform.resources.apply-interval:3600000}",
+            initialDelayString = "${platform.resources.apply-interval:3600000}")
+    public void autoApply() {
+        if (!autoApply) {
+            return;
+        }
+        // 보유자는 주기마다 갱신 - 두 주기 동안 갱신이 없으면 다른 레플리카가 인수
+        if (!leaseService.tryAcquire(AUTO_APPLY_LEASE, Duration.ofMillis(applyInterval * 2))) {
+            log.debug("Resource auto-apply skipped: lease held by another replica");
+            return;
+        }
+        for (Recommendation recommendation : recommendations()) {
+            if (recommendation.recommended() == null
+                    || !changed(recommendation.current(), recommendation.recommended())) {
+                continue;
+            }
+            try {
+                apply(recommendation.templateId());
+            } catch (RuntimeException e) {
+                log.warn("Failed to auto-apply resource profile to template {}: {}",
+                        recommendation.templateId(), e.getMessage());
+            }
+        }
+    }
+
+    private ResourceProfile profile(ContainerTemplate template, UsageCollector.Stats stats) {
+        long maxCpu = new Quantity(maxCpuLimit).getNumber().movePointRight(3).longValue();
+        long maxMemory = new Quantity(maxMemoryLimit).getNumber().longValue();
+
+        long cpuLimit = clamp(scale(stats.cpu().p99(), limitMargin), MIN_MILLI_CPU, maxCpu);
+        long cpuRequest = Math.min(clamp(scale(stats.cpu().p90(), requestMargin), MIN_MILLI_CPU, maxCpu), cpuLimit);
+
+        long memoryLimit = scale(stats.memory().p99(), limitMargin);
+        if (stats.oomKills() > 0) {
+            // 관측값이 OOM 직전까지만 잡히므로 현재 limit 기준으로 올림
+            memoryLimit = Math.max(memoryLimit, scale(currentMemoryLimit(template), oomBump - 1));
+        }
+        memoryLimit = clamp(mebibytes(memoryLimit), MIN_MEMORY_BYTES, maxMemory);
+        long memoryRequest = Math.min(
+                clamp(mebibytes(scale(stats.memory().p95(), requestMargin)), MIN_MEMORY_BYTES, maxMemory),
+                memoryLimit);
+
+        return ResourceProfile.builder()
+                .cpuRequest(cpuRequest + "m")
+                .memoryRequest(memoryRequest / MEBIBYTE + "Mi")
+                .cpuLimit(cpuLimit + "m")
+                .memoryLimit(memoryLimit / MEBIBYTE + "Mi")
+                .build();
+    }
+
+    private long currentMemoryLimit(ContainerTemplate template) {
+        V1ResourceRequirements current = podSpecCompiler.resources(template.getResources());
+        Map<String, Quantity> limits = current.getLimits();
+        return limits != null && limits.get("memory") != null ? limits.get("memory").getNumber().longValue() : 0;
+    }
+
+    // 요청량/limit 중 하나라도 threshold 이상 변하면 반영 대상
+    private boolean changed(ResourceProfile current, ResourceProfile recommended) {
+        V1ResourceRequirements before = podSpecCompiler.resources(current);
+        V1ResourceRequirements after = podSpecCompiler.resources(recommended);
+        return differs(before.getRequests().get("cpu"), after.getRequests().get("cpu"))
+                || differs(before.getRequests().get("memory"), after.getRequests().get("memory"))
+                || differs(before.getLimits().get("cpu"), after.getLimits().get("cpu"))
+                || differs(before.getLimits().get("memory"), after.getLimits().get("memory"));
+    }
+
+    private boolean differs(Quantity current, Quantity next) {
+        double before = current.getNumber().doubleValue();
+        double after = next.getNumber().doubleValue();
+        return before == 0 || Math.abs(after - before) / before >= applyThreshold;
+    }
+
+    private static long scale(long value, double margin) {
+        return (long) Math.ceil(value * (1 + margin));
+    }
+
+    private static long mebibytes(long bytes) {
+        return (bytes + MEBIBYTE - 1) / MEBIBYTE * MEBIBYTE;
+    }
+
+    private static long clamp(long value, long min, long max) {
+        return Math.max(min, Math.min(value, max));
+    }
+
+    private static String describe(ResourceProfile profile) {
+        if (profile == null) {
+            return "default";
+        }
+        return profile.getCpuRequest() + "/" + profile.getMemoryRequest()
+                + " (limit " + profile.getCpuLimit() + "/" + profile.getMemoryLimit() + ")";
+    }
+}
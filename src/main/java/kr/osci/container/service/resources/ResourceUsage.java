@@ -0,0 +1,28 @@
+package kr.osci.container.service.resources;
+
+import io.kubernetes.client.custom.Quantity;
+
+import java.util.Map;
+
+/**
+ * CPU(milli) / 메모리(byte) 사용량
+ */
+public record ResourceUsage(long milliCpu, long memoryBytes) {
+
+    public static final ResourceUsage NONE = new ResourceUsage(0, 0);
+
+    public static ResourceUsage of(Map<String, Quantity> quantities) {
+        if (quantities == null) {
+            return NONE;
+        }
+        Quantity cpu = quantities.get("cpu");
+        Quantity memory = quantities.get("memory");
+        return new ResourceUsage(
+                cpu != null ? cpu.getNumber().movePointRight(3).longValue() : 0,
+                memory != null ? memory.getNumber().longValue() : 0);
+    }
+
+    public ResourceUsage plus(ResourceUsage other) {
+        return new ResourceUsage(milliCpu + other.milliCpu, memoryBytes + other.memoryBytes);
+    }
+}
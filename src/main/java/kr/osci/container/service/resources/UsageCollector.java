@@ -0,0 +1,176 @@
+package kr.osci.container.service.resources;
+
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import kr.osci.container.service.placement.ClusterTarget;
+import kr.osci.container.service.placement.ClusterTargets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * 템플릿별 실제 사용량 수집
+ * - sample-interval 마다 UsageSource 에서 RUNNING 인스턴스 Pod 사용량을 읽어 템플릿별 히스토그램에 기록
+ * - 최근 window 의 백분위만 유지 (템플릿당 고정 크기)
+ * - Pod 워치 캐시에서 OOMKilled 재시작을 템플릿별로 집계 (메모리 limit 추천에 반영)
+ */
+@Component
+@Slf4j
+public class UsageCollector {
+
+    private static final List<ContainerInstance.ContainerStatus> SAMPLED_STATUSES =
+            List.of(ContainerInstance.ContainerStatus.RUNNING);
+
+    private final UsageSource usageSource;
+    private final ContainerInstanceRepository instanceRepository;
+    // K8s 비활성화 시 없음 (OOM 집계 생략)
+    private final ObjectProvider<ClusterTargets> clusterTargets;
+    private final MeterRegistry meterRegistry;
+
+    private final Duration window;
+    private final int slots;
+
+    /**
+     * 템플릿 사용량 백분위 (CPU milli / 메모리 byte)
+     */
+    public record Percentiles(long p50, long p90, long p95, long p99) {
+    }
+
+    public record Stats(long samples, Percentiles cpu, Percentiles memory, int oomKills) {
+    }
+
+    private final class TemplateUsage {
+        private final UsageHistogram cpu = new UsageHistogram(window, slots);
+        private final UsageHistogram memory = new UsageHistogram(window, slots);
+        private final Deque<Long> oomKills = new ConcurrentLinkedDeque<>();
+    }
+
+    private final Map<Long, TemplateUsage> usageByTemplate = new ConcurrentHashMap<>();
+    // podName → 마지막으로 집계한 OOMKilled 재시작 횟수
+    private final Map<String, Integer> countedOomRestarts = new ConcurrentHashMap<>();
+
+    public UsageCollector(UsageSource usageSource, ContainerInstanceRepository instanceRepository,
+                          ObjectProvider<ClusterTargets> clusterTargets, MeterRegistry meterRegistry,
+                          @Value("${platform.resources.window:7d}") Duration window,
+                          @Value("${platform.resources.window-slots:14}") int slots) {
+        this.usageSource = usageSource;
+        this.instanceRepository = instanceRepository;
+        this.clusterTargets = clusterTargets;
+        this.meterRegistry = meterRegistry;
+        this.window = window;
+        this.slots = slots;
+    }
+
+    @Scheduled(fixedDelayString = "${platform.resources.sample-interval:60000}")
+    public void collect() {
+        Map<String, ResourceUsage> samples = usageSource.sample();
+        ClusterTargets targets = clusterTargets.getIfAvailable();
+        if (samples.isEmpty() && targets == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Map<String, Long> templateByPod = new HashMap<>();
+        for (ContainerInstance instance : instanceRepository.findByStatusIn(SAMPLED_STATUSES)) {
+            if (instance.getTemplate() != null) {
+                templateByPod.put(instance.getPodName(), instance.getTemplate().getId());
+            }
+        }
+
+        int recorded = 0;
+        for (Map.Entry<String, ResourceUsage> sample : samples.entrySet()) {
+            Long templateId = templateByPod.get(sample.getKey());
+            if (templateId == null) {
+                continue;
+            }
+            TemplateUsage templateUsage = usage(templateId);
+            templateUsage.cpu.record(sample.getValue().milliCpu(), now);
+            templateUsage.memory.record(sample.getValue().memoryBytes(), now);
+            recorded++;
+        }
+        meterRegistry.counter("container.resources.samples").increment(recorded);
+
+        if (targets != null) {
+            collectOomKills(targets, templateByPod, now);
+        }
+    }
+
+    /**
+     * 템플릿 사용량 통계 - 수집된 적 없으면 empty
+     */
+    public Optional<Stats> stats(Long templateId) {
+        TemplateUsage usage = usageByTemplate.get(templateId);
+        if (usage == null) {
+            return Optional.empty();
+        }
+        long now = System.currentTimeMillis();
+        long from = now - window.toMillis();
+        usage.oomKills.removeIf(at -> at < from);
+        return Optional.of(new Stats(
+                usage.memory.count(now),
+                percentiles(usage.cpu, now),
+                percentiles(usage.memory, now),
+                usage.oomKills.size()));
+    }
+
+    public Set<Long> templateIds() {
+        return Collections.unmodifiableSet(usageByTemplate.keySet());
+    }
+
+    private void collectOomKills(ClusterTargets targets, Map<String, Long> templateByPod, long now) {
+        Set<String> seen = new HashSet<>();
+        for (ClusterTarget target : targets.all()) {
+            for (V1Pod pod : target.pods().listPods()) {
+                String podName = pod.getMetadata() != null && pod.getMetadata().getLabels() != null
+                        ? pod.getMetadata().getLabels().get("app") : null;
+                Long templateId = podName != null ? templateByPod.get(podName) : null;
+                if (templateId == null || pod.getStatus() == null || pod.getStatus().getContainerStatuses() == null) {
+                    continue;
+                }
+                seen.add(podName);
+                int restarts = oomRestarts(pod.getStatus().getContainerStatuses());
+                Integer counted = countedOomRestarts.put(podName, restarts);
+                if (restarts > (counted != null ? counted : 0)) {
+                    usage(templateId).oomKills.add(now);
+                    meterRegistry.counter("container.resources.oom_kills").increment();
+                    log.info("OOMKilled restart observed: {} (template {})", podName, templateId);
+                }
+            }
+        }
+        countedOomRestarts.keySet().retainAll(seen);
+    }
+
+    // 마지막 종료 사유가 OOMKilled 인 컨테이너의 재시작 횟수 합
+    private static int oomRestarts(List<V1ContainerStatus> statuses) {
+        int restarts = 0;
+        for (V1ContainerStatus status : statuses) {
+            if (status.getLastState() != null && status.getLastState().getTerminated() != null
+                    && "OOMKilled".equals(status.getLastState().getTerminated().getReason())) {
+                restarts += status.getRestartCount() != null ? status.getRestartCount() : 0;
+            }
+        }
+        return restarts;
+    }
+
+    private TemplateUsage usage(Long templateId) {
+        return usageByTemplate.computeIfAbsent(templateId, id -> new TemplateUsage());
+    }
+
+    private static Percentiles percentiles(UsageHistogram histogram, long now) {
+        return new Percentiles(
+                histogram.percentile(0.50, now),
+                histogram.percentile(0.90, now),
+                histogram.percentile(0.95, now),
+                histogram.percentile(0.99, now));
+    }
+}
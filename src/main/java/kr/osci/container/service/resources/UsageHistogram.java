@@ -0,0 +1,105 @@
+package kr.osci.container.service.resources;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 최근 window 동안의 값 분포 (템플릿별 CPU/메모리 사용량 백분위용)
+ * - 로그 버킷: 경계가 GROWTH 배씩 증가 - 백분위는 버킷 상한으로 반환 (최대 10% 과대 추정)
+ * - 시간 슬롯 링: window 를 slots 개로 나눠 오래된 슬롯부터 비움 (샘플 수와 무관하게 고정 크기)
+ */
+final class UsageHistogram {
+
+    private static final double GROWTH = 1.1;
+    private static final double LOG_GROWTH = Math.log(GROWTH);
+    // 1.1^320 ≈ 1.8e13 - 메모리(byte) 상한으로 충분
+    private static final int BUCKETS = 320;
+
+    private final long slotMillis;
+    private final int[][] counts;
+    private final long[] slotIndexes;
+
+    UsageHistogram(Duration window, int slots) {
+        this.slotMillis = Math.max(1, window.toMillis() / slots);
+        this.counts = new int[slots][BUCKETS];
+        this.slotIndexes = new long[slots];
+        Arrays.fill(slotIndexes, -1);
+    }
+
+    synchronized void record(long value, long nowMillis) {
+        counts[slot(nowMillis)][bucket(value)]++;
+    }
+
+    synchronized long count(long nowMillis) {
+        long total = 0;
+        for (int[] slot : live(nowMillis)) {
+            for (int count : slot) {
+                total += count;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * p(0~1) 백분위 - 샘플이 없으면 0
+     */
+    synchronized long percentile(double p, long nowMillis) {
+        int[][] live = live(nowMillis);
+        long[] merged = new long[BUCKETS];
+        long total = 0;
+        for (int[] slot : live) {
+            for (int i = 0; i < BUCKETS; i++) {
+                merged[i] += slot[i];
+                total += slot[i];
+            }
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(p * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += merged[i];
+            if (seen >= Math.max(rank, 1)) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    // 현재 시각 슬롯 (재사용 시 이전 값 비움)
+    private int slot(long nowMillis) {
+        long index = nowMillis / slotMillis;
+        int position = (int) Math.floorMod(index, (long) counts.length);
+        if (slotIndexes[position] != index) {
+            Arrays.fill(counts[position], 0);
+            slotIndexes[position] = index;
+        }
+        return position;
+    }
+
+    // window 안의 슬롯만
+    private int[][] live(long nowMillis) {
+        long current = nowMillis / slotMillis;
+        int[][] live = new int[counts.length][];
+        int size = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (slotIndexes[i] >= 0 && current - slotIndexes[i] < counts.length) {
+                live[size++] = counts[i];
+            }
+        }
+        return Arrays.copyOf(live, size);
+    }
+
+    private static int bucket(long value) {
+        if (value <= 1) {
+            return 0;
+        }
+        return Math.min(BUCKETS - 1, (int) Math.ceil(Math.log(value) / LOG_GROWTH));
+    }
+
+    private static long upperBound(int bucket) {
+        return (long) Math.ceil(Math.pow(GROWTH, bucket));
+    }
+}
@@ -0,0 +1,14 @@
+package kr.osci.container.service.resources;
+
+import java.util.Map;
+
+/**
+ * 실행 중 Pod 의 실제 사용량 제공자 (리소스 프로필 추천용)
+ */
+public interface UsageSource {
+
+    /**
+     * 현재 사용량 (podName → 컨테이너 합계), 수집 실패 시 빈 맵
+     */
+    Map<String, ResourceUsage> sample();
+}
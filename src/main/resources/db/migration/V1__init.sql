@@ -0,0 +1,36 @@
+-- 초기 스키마 (persistent 프로필, ddl-auto: validate 기준)
+
+create table container_templates (
+    id              bigint generated by default as identity primary key,
+    name            varchar(255) not null,
+    image           varchar(255) not null,
+    port            integer      not null,
+    icon            varchar(255),
+    description     varchar(255),
+    env_variables   varchar(8192),
+    enabled         boolean,
+    warm_pool_size  integer
+);
+
+-- ContainerInstance.id - allocationSize 50 과 동일한 증가폭 (배치 insert)
+create sequence container_instances_seq start with 1 increment by 50;
+
+create table container_instances (
+    id           bigint       not null primary key,
+    template_id  bigint       not null,
+    user_id      varchar(255) not null,
+    pod_name     varchar(255) not null,
+    namespace    varchar(255) not null,
+    access_url   varchar(255),
+    status       varchar(32),
+    created_at   timestamp(6),
+    stopped_at   timestamp(6),
+    constraint fk_instances_template foreign key (template_id) references container_templates (id)
+);
+
+-- 사용자별 활성 인스턴스 조회 (findSummariesByUser, findByUserIdAndStatusIn)
+create index idx_instances_user_status on container_instances (user_id, status);
+-- Pod 이름 조회 (워치 이벤트 → 인스턴스) 및 중복 방지
+create unique index ux_instances_pod_name on container_instances (pod_name);
+-- 상태별 조회/보정 (reconciler, hibernation, 관리자 목록)
+create index idx_instances_status_created on container_instances (status, created_at);
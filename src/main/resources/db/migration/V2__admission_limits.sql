@@ -0,0 +1,3 @@
+-- 템플릿별 승인 한도 (null 이면 platform.admission 기본값)
+alter table container_templates add column max_instances_per_user integer;
+alter table container_templates add column creates_per_minute integer;
@@ -0,0 +1,3 @@
+-- 인스턴스 배치 대상 (null 이면 기본 대상 - 기존 행 포함)
+alter table container_instances add column target varchar(64);
+create index idx_instances_target_status on container_instances (target, status);
@@ -0,0 +1,7 @@
+-- 용량 대기열 (QUEUED 상태는 varchar 컬럼이라 변경 없음)
+alter table container_instances add column priority integer default 0 not null;
+alter table container_instances add column queued_at timestamp(6);
+-- 대기열 순서 조회 (status = QUEUED, priority desc, id asc)
+create index idx_instances_queue on container_instances (status, priority, id);
+-- 템플릿별 대기열 우선순위 (null 이면 0)
+alter table container_templates add column launch_priority integer;
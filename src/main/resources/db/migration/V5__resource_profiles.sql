@@ -0,0 +1,11 @@
+-- 템플릿별 CPU/메모리 requests·limits (null 이면 기본값)
+alter table container_templates add column cpu_request varchar(32);
+alter table container_templates add column memory_request varchar(32);
+alter table container_templates add column cpu_limit varchar(32);
+alter table container_templates add column memory_limit varchar(32);
+
+-- 인스턴스 실행 시 지정한 값 (null 이면 템플릿 값)
+alter table container_instances add column cpu_request varchar(32);
+alter table container_instances add column memory_request varchar(32);
+alter table container_instances add column cpu_limit varchar(32);
+alter table container_instances add column memory_limit varchar(32);
@@ -0,0 +1,36 @@
+-- 인스턴스 상태 전이 기록 (추가 전용, InstanceEvent.id - allocationSize 50)
+create sequence instance_events_seq start with 1 increment by 50;
+
+create table instance_events (
+    id           bigint       not null primary key,
+    instance_id  bigint       not null,
+    user_id      varchar(255) not null,
+    template_id  bigint,
+    status       varchar(32)  not null,
+    occurred_at  timestamp(6) not null
+);
+
+-- 인스턴스별 이력 조회, 최초 실행 여부 확인
+create index idx_instance_events_instance on instance_events (instance_id, id);
+create index idx_instance_events_occurred on instance_events (occurred_at);
+
+-- 일/사용자/템플릿별 사용량 집계 (증분 갱신)
+create table usage_rollups (
+    usage_date      date         not null,
+    user_id         varchar(255) not null,
+    template_id     bigint       not null,
+    launches        bigint       not null,
+    running_millis  bigint       not null,
+    primary key (usage_date, user_id, template_id)
+);
+
+create index idx_usage_rollups_user_day on usage_rollups (user_id, usage_date);
+create index idx_usage_rollups_template_day on usage_rollups (template_id, usage_date);
+
+-- 진행 중인 RUNNING 구간 (집계 반영 시점)
+create table running_intervals (
+    instance_id    bigint       not null primary key,
+    user_id        varchar(255) not null,
+    template_id    bigint       not null,
+    accrued_until  timestamp(6) not null
+);
@@ -0,0 +1,2 @@
+-- 마지막 사용 시각 (휴면 판단, 모든 레플리카가 같은 값을 읽도록 DB 에 기록)
+alter table container_instances add column last_activity_at timestamp(6);
@@ -0,0 +1,2 @@
+-- 템플릿 변경 버전 (JPA @Version, 레플리카별 카탈로그 변경 감지)
+alter table container_templates add column version bigint default 0 not null;
@@ -0,0 +1,6 @@
+-- 예약 작업 임대 - 여러 레플리카 중 보유자 한 곳만 실행 (만료 전 보유자가 갱신)
+create table scheduler_leases (
+    name       varchar(64)  not null primary key,
+    holder     varchar(255) not null,
+    expires_at timestamp(6) not null
+);
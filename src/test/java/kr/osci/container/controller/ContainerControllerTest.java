@@ -0,0 +1,111 @@
+package kr.osci.container.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.osci.container.dto.InstancePage;
+import kr.osci.container.dto.InstanceSummary;
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.service.BulkInstanceService;
+import kr.osci.container.service.ContainerService;
+import kr.osci.container.service.InstanceEventStream;
+import kr.osci.container.service.TemplateCatalog;
+import kr.osci.container.service.lifecycle.LifecycleEventLog;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ContainerControllerTest {
+
+    private final ContainerService containerService = mock(ContainerService.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final ContainerController controller = new ContainerController(containerService,
+            mock(BulkInstanceService.class), mock(InstanceEventStream.class), mock(LifecycleEventLog.class), objectMapper);
+
+    private static TemplateCatalog.Snapshot snapshot(long version, String... names) {
+        List<ContainerTemplate> enabled = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            enabled.add(ContainerTemplate.builder().id(i + 1L).name(names[i]).build());
+        }
+        return new TemplateCatalog.Snapshot(version, enabled, Map.of(), Map.of());
+    }
+
+    private static InstanceSummary summary(long id) {
+        return new InstanceSummary(id, "alice", 1L, "Jupyter", null, "jupyter-" + id, null,
+                ContainerInstance.ContainerStatus.RUNNING, LocalDateTime.of(2026, 1, 1, 0, 0), null);
+    }
+
+    @Test
+    void matchingTemplateEtagGetsNotModifiedWithoutBody() throws Exception {
+        when(containerService.getTemplateSnapshot()).thenReturn(snapshot(1, "Jupyter"));
+
+        ResponseEntity<byte[]> first = controller.getTemplates(null);
+        String etag = first.getHeaders().getETag();
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(objectMapper.readTree(first.getBody()).get(0).get("name").asText()).isEqualTo("Jupyter");
+        assertThat(etag).isNotBlank();
+
+        ResponseEntity<byte[]> second = controller.getTemplates(etag);
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(second.getBody()).isNull();
+        assertThat(second.getHeaders().getETag()).isEqualTo(etag);
+
+        // 압축 프록시가 약한 ETag 로 바꿔도 일치
+        assertThat(controller.getTemplates("W/" + etag).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    void templateChangeProducesNewEtag() {
+        when(containerService.getTemplateSnapshot()).thenReturn(snapshot(1, "Jupyter"));
+        String before = controller.getTemplates(null).getHeaders().getETag();
+
+        when(containerService.getTemplateSnapshot()).thenReturn(snapshot(2, "Jupyter", "VS Code"));
+        ResponseEntity<byte[]> after = controller.getTemplates(before);
+
+        assertThat(after.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(after.getHeaders().getETag()).isNotEqualTo(before);
+    }
+
+    @Test
+    void olderSnapshotDoesNotReplaceCachedBody() {
+        when(containerService.getTemplateSnapshot()).thenReturn(snapshot(2, "Jupyter", "VS Code"));
+        String latest = controller.getTemplates(null).getHeaders().getETag();
+
+        // 늦게 도착한 요청이 이전 스냅샷을 들고 옴 - 최신 본문 유지
+        when(containerService.getTemplateSnapshot()).thenReturn(snapshot(1, "Jupyter"));
+        assertThat(controller.getTemplates(null).getHeaders().getETag()).isEqualTo(latest);
+    }
+
+    @Test
+    void notModifiedInstanceListKeepsNextCursor() {
+        when(containerService.getUserInstances(eq("alice"), any(), anyInt()))
+                .thenReturn(new InstancePage(List.of(summary(3), summary(2)), 2L));
+
+        ResponseEntity<byte[]> first = controller.getUserInstances("alice", null, 2, null);
+        ResponseEntity<byte[]> second = controller.getUserInstances("alice", null, 2, first.getHeaders().getETag());
+
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(second.getHeaders().getFirst(PageResponses.NEXT_CURSOR_HEADER)).isEqualTo("2");
+        assertThat(second.getHeaders().getCacheControl()).contains("private");
+
+        // 목록이 바뀌면 같은 ETag 로도 본문 전송
+        when(containerService.getUserInstances(eq("alice"), any(), anyInt()))
+                .thenReturn(new InstancePage(List.of(summary(4), summary(3)), 3L));
+        ResponseEntity<byte[]> changed = controller.getUserInstances("alice", null, 2, first.getHeaders().getETag());
+        assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(changed.getHeaders().getFirst(HttpHeaders.ETAG)).isNotEqualTo(first.getHeaders().getETag());
+    }
+}
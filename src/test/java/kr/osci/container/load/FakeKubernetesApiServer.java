@@ -0,0 +1,602 @@
+package kr.osci.container.load;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 테스트용 Kubernetes API 서버 대역 (JDK HttpServer)
+ * - apps/v1 Deployment, core/v1 Service/Pod, networking/v1 Ingress 의 생성/조회/삭제 처리
+ * - Pod 목록 watch 지원 (PodStatusCache informer)
+ * - 응답 지연, 오류율, Pod phase 전이(Pending → Running/Failed) 설정 가능
+ */
+public class FakeKubernetesApiServer implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(FakeKubernetesApiServer.class);
+
+    /**
+     * @param latency         모든 요청에 추가되는 지연
+     * @param errorRate       요청이 500 으로 실패할 확률 (0~1, watch 제외)
+     * @param podStartDelay   Deployment 생성 후 Pod 가 Running/Failed 로 전이되기까지의 시간
+     * @param podFailureRate  Pod 가 Running 대신 Failed 로 전이될 확률 (0~1)
+     */
+    public record Options(Duration latency, double errorRate, Duration podStartDelay, double podFailureRate) {
+
+        public static Options defaults() {
+            return new Options(Duration.ofMillis(20), 0.0, Duration.ofMillis(500), 0.0);
+        }
+    }
+
+    private static final Pattern DEPLOYMENTS = Pattern.compile("^/apis/apps/v1/namespaces/([^/]+)/deployments(?:/([^/]+))?$");
+    private static final Pattern CORE = Pattern.compile("^/api/v1/namespaces/([^/]+)/(services|pods)(?:/([^/]+))?$");
+    private static final Pattern INGRESSES = Pattern.compile("^/apis/networking.k8s.io/v1/namespaces/([^/]+)/ingresses(?:/([^/]+))?$");
+
+    private static final Duration MAX_WATCH = Duration.ofSeconds(30);
+
+    private final Options options;
+    private final JSON json = new JSON();
+    private final HttpServer server;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicLong resourceVersion = new AtomicLong(1);
+
+    private final Map<String, V1Deployment> deployments = new ConcurrentHashMap<>();
+    private final Map<String, V1Service> services = new ConcurrentHashMap<>();
+    private final Map<String, V1Ingress> ingresses = new ConcurrentHashMap<>();
+    private final Map<String, V1Pod> pods = new ConcurrentHashMap<>();
+
+    // Pod watch 이벤트 로그 (resourceVersion 순)
+    private final List<WatchEvent> podEvents = new ArrayList<>();
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+
+    private record WatchEvent(long resourceVersion, String type, V1Pod pod) {
+    }
+
+    public FakeKubernetesApiServer(Options options) throws IOException {
+        this.options = options;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/", this::handle);
+        // watch 요청이 스레드를 오래 점유하므로 가상 스레드 사용
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    public FakeKubernetesApiServer start() {
+        server.start();
+        log.info("Fake Kubernetes API server started: {}", url());
+        return this;
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long requestCount() {
+        return requests.get();
+    }
+
+    public long injectedErrorCount() {
+        return injectedErrors.get();
+    }
+
+    public int deploymentCount() {
+        return deployments.size();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        scheduler.shutdownNow();
+        synchronized (podEvents) {
+            podEvents.notifyAll();
+        }
+    }
+
+    // ===== 라우팅 =====
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+            if ("true".equals(query.get("watch"))) {
+                handleWatch(exchange, path, query);
+                return;
+            }
+
+            sleep(options.latency());
+            if (options.errorRate() > 0 && ThreadLocalRandom.current().nextDouble() < options.errorRate()) {
+                injectedErrors.incrementAndGet();
+                sendStatus(exchange, 500, "InternalError", "injected failure");
+                return;
+            }
+
+            Matcher m;
+            if ((m = DEPLOYMENTS.matcher(path)).matches()) {
+                handleDeployments(exchange, m.group(2), query);
+            } else if ((m = CORE.matcher(path)).matches()) {
+                if ("services".equals(m.group(2))) {
+                    handleServices(exchange, m.group(3), query);
+                } else {
+                    handlePods(exchange, m.group(3), query);
+                }
+            } else if ((m = INGRESSES.matcher(path)).matches()) {
+                handleIngresses(exchange, m.group(2), query);
+            } else {
+                sendStatus(exchange, 404, "NotFound", "unsupported path: " + path);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Fake API server error", e);
+            sendStatus(exchange, 500, "InternalError", String.valueOf(e.getMessage()));
+        }
+    }
+
+    private void handleDeployments(HttpExchange exchange, String name, Map<String, String> query) throws IOException {
+        String method = exchange.getRequestMethod();
+        if (name == null) {
+            switch (method) {
+                case "POST" -> {
+                    V1Deployment deployment = json.deserialize(readBody(exchange), V1Deployment.class);
+                    String key = deployment.getMetadata().getName();
+                    if (deployments.putIfAbsent(key, stamp(deployment, deployment.getMetadata())) != null) {
+                        sendStatus(exchange, 409, "AlreadyExists", "deployment " + key + " already exists");
+                        return;
+                    }
+                    startPod(deployment);
+                    send(exchange, 201, deployment);
+                }
+                case "GET" -> send(exchange, 200, new V1DeploymentList()
+                        .metadata(listMeta())
+                        .items(select(deployments.values(), V1Deployment::getMetadata, query)));
+                case "DELETE" -> {
+                    for (V1Deployment d : select(deployments.values(), V1Deployment::getMetadata, query)) {
+                        removeDeployment(d.getMetadata().getName());
+                    }
+                    sendStatus(exchange, 200, null, null);
+                }
+                default -> sendStatus(exchange, 405, "MethodNotAllowed", method);
+            }
+            return;
+        }
+
+        V1Deployment deployment = deployments.get(name);
+        if (deployment == null) {
+            sendStatus(exchange, 404, "NotFound", "deployment " + name + " not found");
+            return;
+        }
+        switch (method) {
+            case "GET" -> send(exchange, 200, deployment);
+            case "DELETE" -> {
+                removeDeployment(name);
+                sendStatus(exchange, 200, null, null);
+            }
+            case "PATCH" -> patchDeployment(exchange, deployment);
+            default -> sendStatus(exchange, 405, "MethodNotAllowed", method);
+        }
+    }
+
+    private void handleServices(HttpExchange exchange, String name, Map<String, String> query) throws IOException {
+        String method = exchange.getRequestMethod();
+        if (name == null) {
+            switch (method) {
+                case "POST" -> {
+                    V1Service service = json.deserialize(readBody(exchange), V1Service.class);
+                    String key = service.getMetadata().getName();
+                    if (services.putIfAbsent(key, stamp(service, service.getMetadata())) != null) {
+                        sendStatus(exchange, 409, "AlreadyExists", "service " + key + " already exists");
+                        return;
+                    }
+                    send(exchange, 201, service);
+                }
+                case "GET" -> send(exchange, 200, new V1ServiceList()
+                        .metadata(listMeta())
+                        .items(select(services.values(), V1Service::getMetadata, query)));
+                default -> sendStatus(exchange, 405, "MethodNotAllowed", method);
+            }
+            return;
+        }
+
+        switch (method) {
+            case "GET", "DELETE" -> {
+                V1Service service = "DELETE".equals(method) ? services.remove(name) : services.get(name);
+                if (service == null) {
+                    sendStatus(exchange, 404, "NotFound", "service " + name + " not found");
+                } else if ("GET".equals(method)) {
+                    send(exchange, 200, service);
+                } else {
+                    sendStatus(exchange, 200, null, null);
+                }
+            }
+            default -> sendStatus(exchange, 405, "MethodNotAllowed", method);
+        }
+    }
+
+    private void handleIngresses(HttpExchange exchange, String name, Map<String, String> query) throws IOException {
+        String method = exchange.getRequestMethod();
+        if (name == null) {
+            switch (method) {
+                case "POST" -> {
+                    V1Ingress ingress = json.deserialize(readBody(exchange), V1Ingress.class);
+                    String key = ingress.getMetadata().getName();
+                    if (ingresses.putIfAbsent(key, stamp(ingress, ingress.getMetadata())) != null) {
+                        sendStatus(exchange, 409, "AlreadyExists", "ingress " + key + " already exists");
+                        return;
+                    }
+                    send(exchange, 201, ingress);
+                }
+                case "GET" -> send(exchange, 200, new V1IngressList()
+                        .metadata(listMeta())
+                        .items(select(ingresses.values(), V1Ingress::getMetadata, query)));
+                case "DELETE" -> {
+                    select(ingresses.values(), V1Ingress::getMetadata, query)
+                            .forEach(i -> ingresses.remove(i.getMetadata().getName()));
+                    sendStatus(exchange, 200, null, null);
+                }
+                default -> sendStatus(exchange, 405, "MethodNotAllowed", method);
+            }
+            return;
+        }
+
+        switch (method) {
+            case "GET", "DELETE" -> {
+                V1Ingress ingress = "DELETE".equals(method) ? ingresses.remove(name) : ingresses.get(name);
+                if (ingress == null) {
+                    sendStatus(exchange, 404, "NotFound", "ingress " + name + " not found");
+                } else if ("GET".equals(method)) {
+                    send(exchange, 200, ingress);
+                } else {
+                    sendStatus(exchange, 200, null, null);
+                }
+            }
+            default -> sendStatus(exchange, 405, "MethodNotAllowed", method);
+        }
+    }
+
+    private void handlePods(HttpExchange exchange, String name, Map<String, String> query) throws IOException {
+        if (!"GET".equals(exchange.getRequestMethod())) {
+            sendStatus(exchange, 405, "MethodNotAllowed", exchange.getRequestMethod());
+            return;
+        }
+        if (name != null) {
+            V1Pod pod = pods.get(name);
+            if (pod == null) {
+                sendStatus(exchange, 404, "NotFound", "pod " + name + " not found");
+            } else {
+                send(exchange, 200, pod);
+            }
+            return;
+        }
+        send(exchange, 200, new V1PodList()
+                .metadata(listMeta())
+                .items(select(pods.values(), V1Pod::getMetadata, query)));
+    }
+
+    // ===== PATCH (replicas merge patch, 라벨 JSON Patch) =====
+
+    private void patchDeployment(HttpExchange exchange, V1Deployment deployment) throws IOException {
+        JsonElement patch = JsonParser.parseString(readBody(exchange));
+        String name = deployment.getMetadata().getName();
+
+        synchronized (deployment) {
+            if (patch.isJsonArray()) {
+                if (!applyJsonPatch(deployment, patch.getAsJsonArray())) {
+                    sendStatus(exchange, 422, "Invalid", "test operation failed");
+                    return;
+                }
+            } else {
+                JsonObject spec = patch.getAsJsonObject().getAsJsonObject("spec");
+                if (spec != null && spec.has("replicas")) {
+                    int replicas = spec.get("replicas").getAsInt();
+                    deployment.getSpec().setReplicas(replicas);
+                    if (replicas == 0) {
+                        removePods(name);
+                    } else if (podsOf(name).isEmpty()) {
+                        startPod(deployment);
+                    }
+                }
+            }
+            deployment.getMetadata().setResourceVersion(String.valueOf(resourceVersion.incrementAndGet()));
+        }
+        send(exchange, 200, deployment);
+    }
+
+    private boolean applyJsonPatch(V1Deployment deployment, JsonArray operations) {
+        Map<String, String> labels = deployment.getMetadata().getLabels();
+        for (JsonElement element : operations) {
+            JsonObject op = element.getAsJsonObject();
+            String path = op.get("path").getAsString();
+            if (!path.startsWith("/metadata/labels/")) {
+                continue;
+            }
+            String label = path.substring("/metadata/labels/".length()).replace("~1", "/").replace("~0", "~");
+            String value = op.has("value") ? op.get("value").getAsString() : null;
+            switch (op.get("op").getAsString()) {
+                case "test" -> {
+                    if (labels == null || !Objects.equals(labels.get(label), value)) {
+                        return false;
+                    }
+                }
+                case "replace", "add" -> deployment.getMetadata().putLabelsItem(label, value);
+                case "remove" -> {
+                    if (labels != null) {
+                        labels.remove(label);
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return true;
+    }
+
+    // ===== Pod 수명주기 =====
+
+    private void startPod(V1Deployment deployment) {
+        String deploymentName = deployment.getMetadata().getName();
+        Map<String, String> labels = new HashMap<>(deployment.getSpec().getTemplate().getMetadata().getLabels());
+        V1Pod pod = new V1Pod()
+                .metadata(new V1ObjectMeta()
+                        .name(deploymentName + "-" + UUID.randomUUID().toString().substring(0, 5))
+                        .namespace(deployment.getMetadata().getNamespace())
+                        .labels(labels))
+                .spec(deployment.getSpec().getTemplate().getSpec())
+                .status(new V1PodStatus().phase("Pending"));
+        stamp(pod, pod.getMetadata());
+        pods.put(pod.getMetadata().getName(), pod);
+        publish("ADDED", pod);
+
+        scheduler.schedule(() -> {
+            if (!pods.containsKey(pod.getMetadata().getName())) {
+                return;
+            }
+            boolean failed = ThreadLocalRandom.current().nextDouble() < options.podFailureRate();
+            V1Pod updated = copy(pod);
+            updated.getStatus().setPhase(failed ? "Failed" : "Running");
+            updated.getMetadata().setResourceVersion(String.valueOf(resourceVersion.incrementAndGet()));
+            pods.put(updated.getMetadata().getName(), updated);
+            publish("MODIFIED", updated);
+        }, options.podStartDelay().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void removeDeployment(String name) {
+        deployments.remove(name);
+        removePods(name);
+    }
+
+    private void removePods(String deploymentName) {
+        for (V1Pod pod : podsOf(deploymentName)) {
+            if (pods.remove(pod.getMetadata().getName()) != null) {
+                V1Pod deleted = copy(pod);
+                deleted.getMetadata().setResourceVersion(String.valueOf(resourceVersion.incrementAndGet()));
+                publish("DELETED", deleted);
+            }
+        }
+    }
+
+    private List<V1Pod> podsOf(String deploymentName) {
+        return pods.values().stream()
+                .filter(p -> deploymentName.equals(p.getMetadata().getLabels().get("app")))
+                .toList();
+    }
+
+    private void publish(String type, V1Pod pod) {
+        synchronized (podEvents) {
+            podEvents.add(new WatchEvent(Long.parseLong(pod.getMetadata().getResourceVersion()), type, pod));
+            podEvents.notifyAll();
+        }
+    }
+
+    // ===== watch (Pod 만 지원, 그 외는 이벤트 없이 타임아웃까지 유지) =====
+
+    private void handleWatch(HttpExchange exchange, String path, Map<String, String> query) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, 0);
+
+        Matcher m = CORE.matcher(path);
+        boolean podWatch = m.matches() && "pods".equals(m.group(2));
+        long since = parseLong(query.get("resourceVersion"), resourceVersion.get());
+        long timeoutMillis = Math.min(parseLong(query.get("timeoutSeconds"), MAX_WATCH.toSeconds()) * 1000,
+                MAX_WATCH.toMillis());
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        Selector selector = Selector.parse(query.get("labelSelector"));
+
+        OutputStream out = exchange.getResponseBody();
+        int cursor = 0;
+        try {
+            while (System.currentTimeMillis() < deadline && !scheduler.isShutdown()) {
+                List<WatchEvent> pending;
+                synchronized (podEvents) {
+                    if (cursor >= podEvents.size()) {
+                        podEvents.wait(Math.max(1, deadline - System.currentTimeMillis()));
+                    }
+                    pending = podWatch ? List.copyOf(podEvents.subList(cursor, podEvents.size())) : List.of();
+                    cursor = podEvents.size();
+                }
+                for (WatchEvent event : pending) {
+                    if (event.resourceVersion() <= since || !selector.matches(event.pod().getMetadata().getLabels())) {
+                        continue;
+                    }
+                    JsonObject line = new JsonObject();
+                    line.addProperty("type", event.type());
+                    line.add("object", JsonParser.parseString(json.serialize(event.pod())));
+                    out.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+                }
+                out.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // 클라이언트가 watch 연결을 닫은 경우
+        }
+    }
+
+    // ===== 공통 =====
+
+    private <T> T stamp(T object, V1ObjectMeta metadata) {
+        metadata.setUid(UUID.randomUUID().toString());
+        metadata.setResourceVersion(String.valueOf(resourceVersion.incrementAndGet()));
+        metadata.setCreationTimestamp(OffsetDateTime.now());
+        return object;
+    }
+
+    private V1ListMeta listMeta() {
+        return new V1ListMeta().resourceVersion(String.valueOf(resourceVersion.get()));
+    }
+
+    private V1Pod copy(V1Pod pod) {
+        return json.deserialize(json.serialize(pod), V1Pod.class);
+    }
+
+    private <T> List<T> select(Collection<T> objects, java.util.function.Function<T, V1ObjectMeta> metadata,
+                               Map<String, String> query) {
+        Selector selector = Selector.parse(query.get("labelSelector"));
+        return objects.stream()
+                .filter(o -> selector.matches(metadata.apply(o).getLabels()))
+                .toList();
+    }
+
+    private void send(HttpExchange exchange, int code, Object body) throws IOException {
+        byte[] bytes = json.serialize(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(code, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private void sendStatus(HttpExchange exchange, int code, String reason, String message) throws IOException {
+        V1Status status = new V1Status()
+                .apiVersion("v1")
+                .kind("Status")
+                .status(code < 400 ? "Success" : "Failure")
+                .code(code)
+                .reason(reason)
+                .message(message);
+        send(exchange, code, status);
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        return new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int idx = pair.indexOf('=');
+            String key = URLDecoder.decode(idx < 0 ? pair : pair.substring(0, idx), StandardCharsets.UTF_8);
+            String value = idx < 0 ? "" : URLDecoder.decode(pair.substring(idx + 1), StandardCharsets.UTF_8);
+            query.put(key, value);
+        }
+        return query;
+    }
+
+    private static long parseLong(String value, long fallback) {
+        try {
+            return value == null || value.isEmpty() ? fallback : Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero() || duration.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 라벨 셀렉터 (k=v, k==v, k!=v, k in (a,b), k notin (a,b), k, !k)
+     */
+    record Selector(List<java.util.function.Predicate<Map<String, String>>> terms) {
+
+        private static final Pattern SET_TERM = Pattern.compile("^([^\\s]+)\\s+(in|notin)\\s+\\((.*)\\)$");
+
+        static Selector parse(String expression) {
+            List<java.util.function.Predicate<Map<String, String>>> terms = new ArrayList<>();
+            if (expression == null || expression.isBlank()) {
+                return new Selector(terms);
+            }
+            for (String term : splitTerms(expression)) {
+                terms.add(parseTerm(term.trim()));
+            }
+            return new Selector(terms);
+        }
+
+        boolean matches(Map<String, String> labels) {
+            Map<String, String> actual = labels == null ? Map.of() : labels;
+            return terms.stream().allMatch(t -> t.test(actual));
+        }
+
+        private static java.util.function.Predicate<Map<String, String>> parseTerm(String term) {
+            Matcher set = SET_TERM.matcher(term);
+            if (set.matches()) {
+                String key = set.group(1);
+                Set<String> values = new HashSet<>();
+                for (String v : set.group(3).split(",")) {
+                    values.add(v.trim());
+                }
+                boolean in = "in".equals(set.group(2));
+                return labels -> in == (labels.containsKey(key) && values.contains(labels.get(key)));
+            }
+            if (term.contains("!=")) {
+                String[] kv = term.split("!=", 2);
+                return labels -> !kv[1].trim().equals(labels.get(kv[0].trim()));
+            }
+            if (term.contains("=")) {
+                String[] kv = term.split("==?", 2);
+                return labels -> kv[1].trim().equals(labels.get(kv[0].trim()));
+            }
+            if (term.startsWith("!")) {
+                String key = term.substring(1);
+                return labels -> !labels.containsKey(key);
+            }
+            return labels -> labels.containsKey(term);
+        }
+
+        private static List<String> splitTerms(String expression) {
+            List<String> terms = new ArrayList<>();
+            int depth = 0;
+            int start = 0;
+            for (int i = 0; i < expression.length(); i++) {
+                char c = expression.charAt(i);
+                if (c == '(') {
+                    depth++;
+                } else if (c == ')') {
+                    depth--;
+                } else if (c == ',' && depth == 0) {
+                    terms.add(expression.substring(start, i));
+                    start = i + 1;
+                }
+            }
+            terms.add(expression.substring(start));
+            return terms;
+        }
+    }
+}
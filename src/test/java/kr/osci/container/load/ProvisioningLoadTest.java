@@ -0,0 +1,337 @@
+package kr.osci.container.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 생성 → 상태 폴링 → 중지 부하 테스트 (가짜 Kubernetes API 서버 대상)
+ * - 기본 test 태스크에서는 제외, ./gradlew loadTest 로 실행
+ * - 설정: -Dload.users, -Dload.concurrency, -Dload.latency-ms, -Dload.error-rate,
+ *   -Dload.pod-start-ms, -Dload.pod-failure-rate, -Dload.admission,
+ *   -Dload.targets (배치 대상 수 - 대상마다 가짜 API 서버 1개), -Dload.placement (배치 전략)
+ * - 결과: 요청 종류별 처리량, p50/p99 지연, DB 커넥션 풀 포화도
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ProvisioningLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProvisioningLoadTest.class);
+
+    private static final int USERS = Integer.getInteger("load.users", 200);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 50);
+    private static final long TEMPLATE_ID = Long.getLong("load.template-id", 1L);
+    private static final Duration READY_TIMEOUT = Duration.ofSeconds(Long.getLong("load.ready-timeout-s", 60L));
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(200);
+
+    private static final FakeKubernetesApiServer.Options OPTIONS = new FakeKubernetesApiServer.Options(
+            Duration.ofMillis(Long.getLong("load.latency-ms", 20L)),
+            Double.parseDouble(System.getProperty("load.error-rate", "0")),
+            Duration.ofMillis(Long.getLong("load.pod-start-ms", 500L)),
+            Double.parseDouble(System.getProperty("load.pod-failure-rate", "0")));
+
+    private static final int TARGETS = Integer.getInteger("load.targets", 1);
+
+    private static final FakeKubernetesApiServer apiServer = startApiServer();
+    // 추가 배치 대상 (target-1 ..)
+    private static final List<FakeKubernetesApiServer> targetServers = startTargetServers();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient http = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @DynamicPropertySource
+    static void kubernetesProperties(DynamicPropertyRegistry registry) {
+        registry.add("kubernetes.enabled", () -> "true");
+        registry.add("kubernetes.api-url", apiServer::url);
+        registry.add("spring.jpa.show-sql", () -> "false");
+        // 승인 제한(429)은 기본 비활성 - 플랫폼 처리량 측정 목적 (-Dload.admission=true 로 포함)
+        registry.add("platform.admission.enabled", () -> System.getProperty("load.admission", "false"));
+        registry.add("kubernetes.placement.strategy", () -> System.getProperty("load.placement", "least-loaded"));
+        for (int i = 0; i < targetServers.size(); i++) {
+            FakeKubernetesApiServer server = targetServers.get(i);
+            String name = "target-" + (i + 1);
+            registry.add("kubernetes.placement.targets[" + i + "].name", () -> name);
+            registry.add("kubernetes.placement.targets[" + i + "].api-url", server::url);
+            registry.add("kubernetes.placement.targets[" + i + "].namespace", () -> "user-containers");
+        }
+    }
+
+    @AfterAll
+    static void stopApiServer() {
+        apiServer.close();
+        targetServers.forEach(FakeKubernetesApiServer::close);
+    }
+
+    @Test
+    void createPollStop() throws Exception {
+        OperationStats create = new OperationStats("create");
+        OperationStats status = new OperationStats("status");
+        OperationStats list = new OperationStats("list");
+        OperationStats stop = new OperationStats("stop");
+        AtomicInteger ready = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        PoolSampler poolSampler = new PoolSampler(dataSource.unwrap(HikariDataSource.class));
+        Semaphore permits = new Semaphore(CONCURRENCY);
+
+        long started = System.nanoTime();
+        poolSampler.start();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < USERS; i++) {
+                String userId = "load-user-" + i;
+                users.submit(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        runUser(userId, create, status, list, stop, ready, failed);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        poolSampler.stop();
+
+        report(elapsed, List.of(create, status, list, stop), ready.get(), failed.get(), poolSampler);
+
+        if (OPTIONS.errorRate() == 0 && OPTIONS.podFailureRate() == 0) {
+            assertThat(create.errors()).isZero();
+            assertThat(ready.get()).isEqualTo(USERS);
+            assertThat(stop.errors()).isZero();
+        }
+    }
+
+    private void runUser(String userId, OperationStats create, OperationStats status, OperationStats list,
+                         OperationStats stop, AtomicInteger ready, AtomicInteger failed) {
+        HttpResponse<String> created = create.record(() ->
+                send("POST", "/api/containers/instances?templateId=" + TEMPLATE_ID + "&userId=" + userId));
+        if (created.statusCode() != 200) {
+            failed.incrementAndGet();
+            return;
+        }
+        long instanceId = readTree(created.body()).get("id").asLong();
+
+        // READY 또는 실패 상태가 될 때까지 상태 폴링
+        long deadline = System.nanoTime() + READY_TIMEOUT.toNanos();
+        String podStatus = null;
+        while (System.nanoTime() < deadline) {
+            HttpResponse<String> response = status.record(() ->
+                    send("GET", "/api/containers/instances/" + instanceId + "/status"));
+            if (response.statusCode() == 200) {
+                podStatus = readTree(response.body()).get("status").asText();
+                if ("READY".equals(podStatus) || "Failed".equals(podStatus)) {
+                    break;
+                }
+            }
+            sleep(POLL_INTERVAL);
+        }
+        if ("READY".equals(podStatus)) {
+            ready.incrementAndGet();
+        } else {
+            failed.incrementAndGet();
+        }
+
+        list.record(() -> send("GET", "/api/containers/instances?userId=" + userId));
+        stop.record(() -> send("DELETE", "/api/containers/instances/" + instanceId));
+    }
+
+    private HttpResponse<String> send(String method, String path) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .timeout(Duration.ofSeconds(30))
+                .build();
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode readTree(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void report(Duration elapsed, List<OperationStats> operations, int ready, int failed, PoolSampler pool) {
+        double seconds = elapsed.toMillis() / 1000.0;
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%n===== Load test: %d users, concurrency %d, %.1fs =====%n", USERS, CONCURRENCY, seconds));
+        out.append(String.format("fake api: latency=%dms errorRate=%.2f podStart=%dms podFailureRate=%.2f%n",
+                OPTIONS.latency().toMillis(), OPTIONS.errorRate(), OPTIONS.podStartDelay().toMillis(),
+                OPTIONS.podFailureRate()));
+        out.append(String.format("%-8s %8s %7s %10s %9s %9s %9s%n", "op", "count", "errors", "req/s", "p50(ms)", "p99(ms)", "max(ms)"));
+        for (OperationStats op : operations) {
+            out.append(String.format("%-8s %8d %7d %10.1f %9.1f %9.1f %9.1f%n",
+                    op.name, op.count(), op.errors(), op.count() / seconds,
+                    op.percentileMillis(50), op.percentileMillis(99), op.percentileMillis(100)));
+        }
+        out.append(String.format("instances: ready=%d failed=%d, api requests=%d (injected errors=%d)%n",
+                ready, failed, apiServer.requestCount(), apiServer.injectedErrorCount()));
+        for (int i = 0; i < targetServers.size(); i++) {
+            out.append(String.format("target-%d: api requests=%d (injected errors=%d)%n",
+                    i + 1, targetServers.get(i).requestCount(), targetServers.get(i).injectedErrorCount()));
+        }
+        out.append(String.format("db pool: max=%d, peak active=%d, peak waiting=%d, saturated %.1f%% of samples%n",
+                pool.maxPoolSize, pool.peakActive.get(), pool.peakWaiting.get(), pool.saturatedPercent()));
+        log.info("{}", out);
+    }
+
+    private static List<FakeKubernetesApiServer> startTargetServers() {
+        List<FakeKubernetesApiServer> servers = new ArrayList<>();
+        for (int i = 1; i < TARGETS; i++) {
+            servers.add(startApiServer());
+        }
+        return servers;
+    }
+
+    private static FakeKubernetesApiServer startApiServer() {
+        try {
+            return new FakeKubernetesApiServer(OPTIONS).start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 요청 종류별 지연 기록 (2xx 외 응답과 예외는 오류로 집계)
+     */
+    private static final class OperationStats {
+
+        private final String name;
+        private final Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final AtomicLong errors = new AtomicLong();
+
+        OperationStats(String name) {
+            this.name = name;
+        }
+
+        HttpResponse<String> record(Callable<HttpResponse<String>> request) {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<String> response = request.call();
+                if (response.statusCode() / 100 != 2) {
+                    errors.incrementAndGet();
+                }
+                return response;
+            } catch (Exception e) {
+                errors.incrementAndGet();
+                throw new IllegalStateException(name + " request failed", e);
+            } finally {
+                latencies.add(System.nanoTime() - start);
+            }
+        }
+
+        long count() {
+            return latencies.size();
+        }
+
+        long errors() {
+            return errors.get();
+        }
+
+        double percentileMillis(int percentile) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+        }
+    }
+
+    /**
+     * Hikari 커넥션 풀 사용량 주기 샘플링
+     */
+    private static final class PoolSampler {
+
+        private final HikariDataSource dataSource;
+        private final int maxPoolSize;
+        private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        private final AtomicInteger peakActive = new AtomicInteger();
+        private final AtomicInteger peakWaiting = new AtomicInteger();
+        private final AtomicLong samples = new AtomicLong();
+        private final AtomicLong saturatedSamples = new AtomicLong();
+
+        PoolSampler(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+            this.maxPoolSize = dataSource.getMaximumPoolSize();
+        }
+
+        void start() {
+            scheduler.scheduleAtFixedRate(this::sample, 0, 10, TimeUnit.MILLISECONDS);
+        }
+
+        void stop() {
+            scheduler.shutdownNow();
+        }
+
+        private void sample() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            if (pool == null) {
+                return;
+            }
+            int active = pool.getActiveConnections();
+            int waiting = pool.getThreadsAwaitingConnection();
+            peakActive.accumulateAndGet(active, Math::max);
+            peakWaiting.accumulateAndGet(waiting, Math::max);
+            samples.incrementAndGet();
+            if (active >= maxPoolSize) {
+                saturatedSamples.incrementAndGet();
+            }
+        }
+
+        double saturatedPercent() {
+            long total = samples.get();
+            return total == 0 ? 0 : saturatedSamples.get() * 100.0 / total;
+        }
+    }
+}
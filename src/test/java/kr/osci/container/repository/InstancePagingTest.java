@@ -0,0 +1,131 @@
+package kr.osci.container.repository;
+
+import kr.osci.container.dto.InstancePage;
+import kr.osci.container.dto.InstanceSummary;
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.entity.ContainerTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class InstancePagingTest {
+
+    private static final EnumSet<ContainerInstance.ContainerStatus> ACTIVE = EnumSet.of(
+            ContainerInstance.ContainerStatus.PENDING,
+            ContainerInstance.ContainerStatus.RUNNING,
+            ContainerInstance.ContainerStatus.HIBERNATED);
+
+    @Autowired
+    private ContainerInstanceRepository instanceRepository;
+
+    @Autowired
+    private ContainerTemplateRepository templateRepository;
+
+    private ContainerTemplate jupyter;
+    private int created;
+
+    @BeforeEach
+    void setUp() {
+        jupyter = templateRepository.save(ContainerTemplate.builder()
+                .name("Jupyter").image("jupyter/base-notebook").port(8888).enabled(true).build());
+    }
+
+    private Long instance(String userId, ContainerInstance.ContainerStatus status) {
+        created++;
+        return instanceRepository.save(ContainerInstance.builder()
+                .template(jupyter)
+                .userId(userId)
+                .podName("jupyter-p" + created)
+                .namespace("workspaces")
+                .status(status)
+                .createdAt(LocalDateTime.now())
+                .build()).getId();
+    }
+
+    private InstancePage userPage(String userId, Long cursor, int size) {
+        return InstancePage.of(instanceRepository.findSummariesByUser(userId, ACTIVE, cursor, Limit.of(size + 1)), size);
+    }
+
+    // 커서를 따라 끝까지 조회한 id
+    private List<Long> walkUser(String userId, int size) {
+        List<Long> ids = new ArrayList<>();
+        Long cursor = null;
+        do {
+            InstancePage page = userPage(userId, cursor, size);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(size).isNotEmpty();
+            page.items().forEach(item -> ids.add(item.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    @Test
+    void pagesWalkNewestFirstWithoutGapsOrDuplicates() {
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(0, instance("alice", ContainerInstance.ContainerStatus.RUNNING));
+        }
+        instance("alice", ContainerInstance.ContainerStatus.STOPPED);
+        instance("bob", ContainerInstance.ContainerStatus.RUNNING);
+
+        assertThat(walkUser("alice", 2)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void exactMultipleOfPageSizeHasNoTrailingEmptyPage() {
+        for (int i = 0; i < 4; i++) {
+            instance("alice", ContainerInstance.ContainerStatus.RUNNING);
+        }
+
+        InstancePage first = userPage("alice", null, 2);
+        InstancePage second = userPage("alice", first.nextCursor(), 2);
+
+        assertThat(first.nextCursor()).isEqualTo(first.items().get(1).id());
+        assertThat(second.items()).hasSize(2);
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    void newInstancesDoNotShiftLaterPages() {
+        Long oldest = instance("alice", ContainerInstance.ContainerStatus.RUNNING);
+        Long middle = instance("alice", ContainerInstance.ContainerStatus.RUNNING);
+        Long newest = instance("alice", ContainerInstance.ContainerStatus.RUNNING);
+
+        InstancePage first = userPage("alice", null, 2);
+        // 첫 페이지 조회 후 생성된 인스턴스는 다음 페이지에 끼어들지 않음 (offset 방식과 달리)
+        instance("alice", ContainerInstance.ContainerStatus.PENDING);
+        InstancePage second = userPage("alice", first.nextCursor(), 2);
+
+        assertThat(first.items()).extracting(InstanceSummary::id).containsExactly(newest, middle);
+        assertThat(second.items()).extracting(InstanceSummary::id).containsExactly(oldest);
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    void adminListingAppliesFiltersWithCursor() {
+        Long aliceOld = instance("alice", ContainerInstance.ContainerStatus.STOPPED);
+        instance("bob", ContainerInstance.ContainerStatus.RUNNING);
+        Long aliceNew = instance("alice", ContainerInstance.ContainerStatus.RUNNING);
+
+        InstancePage first = InstancePage.of(instanceRepository.findSummaries(
+                EnumSet.allOf(ContainerInstance.ContainerStatus.class), jupyter.getId(), "alice", null, Limit.of(2)), 1);
+        InstancePage second = InstancePage.of(instanceRepository.findSummaries(
+                EnumSet.allOf(ContainerInstance.ContainerStatus.class), jupyter.getId(), "alice",
+                first.nextCursor(), Limit.of(2)), 1);
+
+        assertThat(first.items()).extracting(InstanceSummary::id).containsExactly(aliceNew);
+        assertThat(first.items().get(0).templateName()).isEqualTo("Jupyter");
+        assertThat(second.items()).extracting(InstanceSummary::id).containsExactly(aliceOld);
+        assertThat(second.nextCursor()).isNull();
+    }
+}
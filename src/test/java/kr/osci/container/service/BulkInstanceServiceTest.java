@@ -0,0 +1,209 @@
+package kr.osci.container.service;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import kr.osci.container.dto.BulkItemResult;
+import kr.osci.container.dto.BulkStopRequest;
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import kr.osci.container.service.admission.AdmissionRejectedException;
+import kr.osci.container.service.admission.AdmissionService;
+import kr.osci.container.service.queue.LaunchQueue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BulkInstanceServiceTest {
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private TemplateCatalog templateCatalog;
+
+    @Mock
+    private ContainerInstanceRepository instanceRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AdmissionService admissionService;
+
+    @InjectMocks
+    private BulkInstanceService bulkInstanceService;
+
+    @Test
+    void emptyStopRequestIsInvalid() {
+        assertThat(validator.validate(new BulkStopRequest(null, null, null))).isNotEmpty();
+        assertThat(validator.validate(new BulkStopRequest(List.of(), null, " "))).isNotEmpty();
+        assertThat(validator.validate(new BulkStopRequest(List.of("alice"), null, null))).isEmpty();
+        assertThat(validator.validate(new BulkStopRequest(null, 1L, null))).isEmpty();
+        assertThat(validator.validate(new BulkStopRequest(null, null, "pool=claimed"))).isEmpty();
+    }
+
+    @Test
+    void emptyStopRequestDoesNotStopAnything() {
+        assertThatThrownBy(() -> bulkInstanceService.stopInstances(new BulkStopRequest(null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(instanceRepository, never()).findAll(any(Specification.class));
+    }
+
+    @Test
+    void labelSelectorWithoutKubernetesIsRejected() {
+        // 셀렉터를 무시하면 전체 사용자의 활성 인스턴스가 대상이 됨
+        assertThatThrownBy(() -> bulkInstanceService.stopInstances(new BulkStopRequest(null, null, "pool=claimed")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("labelSelector");
+        verify(instanceRepository, never()).findAll(any(Specification.class));
+    }
+
+    private static ContainerInstance instance(long id, String userId, ContainerInstance.ContainerStatus status) {
+        return ContainerInstance.builder().id(id).userId(userId).podName("jupyter-" + id).status(status).build();
+    }
+
+    private void admitStops(String... userIds) {
+        when(admissionService.admitBulkStop(List.of(userIds))).thenReturn(List.of(userIds).stream()
+                .map(userId -> new AdmissionService.Admission(userId, mock(AdmissionService.Permit.class), null))
+                .toList());
+    }
+
+    @Test
+    void queuedInstancesAreCancelledThroughLaunchQueue() {
+        LaunchQueue launchQueue = mock(LaunchQueue.class);
+        ReflectionTestUtils.setField(bulkInstanceService, "launchQueue", launchQueue);
+        ContainerInstance queued = instance(1L, "alice", ContainerInstance.ContainerStatus.QUEUED);
+        ContainerInstance dispatched = instance(2L, "bob", ContainerInstance.ContainerStatus.QUEUED);
+        ContainerInstance running = instance(3L, "carol", ContainerInstance.ContainerStatus.RUNNING);
+        when(instanceRepository.findAll(any(Specification.class))).thenReturn(List.of(queued, dispatched, running));
+        when(launchQueue.cancel(queued)).thenAnswer(invocation -> {
+            queued.setStatus(ContainerInstance.ContainerStatus.STOPPED);
+            return true;
+        });
+        // 조회 후 취소 전에 dispatch 됨 - 다시 읽은 PENDING 행으로 일반 중지
+        when(launchQueue.cancel(dispatched)).thenReturn(false);
+        when(instanceRepository.findById(2L))
+                .thenReturn(Optional.of(instance(2L, "bob", ContainerInstance.ContainerStatus.PENDING)));
+        admitStops("bob", "carol");
+        when(instanceRepository.updateStatus(eq(List.of(2L)), eq(ContainerInstance.ContainerStatus.PENDING),
+                eq(ContainerInstance.ContainerStatus.STOPPED), any())).thenReturn(1);
+        when(instanceRepository.updateStatus(eq(List.of(3L)), eq(ContainerInstance.ContainerStatus.RUNNING),
+                eq(ContainerInstance.ContainerStatus.STOPPED), any())).thenReturn(1);
+
+        List<BulkItemResult> results = bulkInstanceService.stopInstances(new BulkStopRequest(null, 1L, null));
+
+        assertThat(results).extracting(BulkItemResult::instanceId).containsExactly(1L, 2L, 3L);
+        assertThat(results).extracting(BulkItemResult::status).containsOnly(ContainerInstance.ContainerStatus.STOPPED);
+        assertThat(results).extracting(BulkItemResult::error).containsOnlyNulls();
+        // 대기 항목은 UPDATE 대상에서 빠짐 (큐 깊이는 LaunchQueue.cancel 이 반영)
+        verify(instanceRepository, never()).updateStatus(eq(List.of(1L)), any(), any(), any());
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void stopRejectedByAdmissionLeavesInstanceRunning() {
+        ContainerInstance carol = instance(3L, "carol", ContainerInstance.ContainerStatus.RUNNING);
+        ContainerInstance dave = instance(4L, "dave", ContainerInstance.ContainerStatus.RUNNING);
+        when(instanceRepository.findAll(any(Specification.class))).thenReturn(List.of(carol, dave));
+        when(admissionService.admitBulkStop(List.of("carol", "dave"))).thenReturn(List.of(
+                new AdmissionService.Admission("carol", mock(AdmissionService.Permit.class), null),
+                new AdmissionService.Admission("dave", null, new AdmissionRejectedException("user-rate",
+                        "Too many stop requests for user dave", Duration.ofSeconds(3)))));
+        when(instanceRepository.updateStatus(eq(List.of(3L)), eq(ContainerInstance.ContainerStatus.RUNNING),
+                eq(ContainerInstance.ContainerStatus.STOPPED), any())).thenReturn(1);
+
+        List<BulkItemResult> results = bulkInstanceService.stopInstances(
+                new BulkStopRequest(List.of("carol", "dave"), null, null));
+
+        assertThat(results).extracting(BulkItemResult::status).containsExactly(
+                ContainerInstance.ContainerStatus.STOPPED, ContainerInstance.ContainerStatus.RUNNING);
+        assertThat(results.get(1).error()).isEqualTo("Too many stop requests for user dave");
+        verify(instanceRepository, times(1)).updateStatus(anyList(), any(), any(), any());
+    }
+
+    @Test
+    void rowChangedSinceReadIsRetriedWithItsCurrentStatus() {
+        ContainerInstance started = instance(3L, "carol", ContainerInstance.ContainerStatus.PENDING);
+        ContainerInstance stoppedElsewhere = instance(5L, "erin", ContainerInstance.ContainerStatus.PENDING);
+        when(instanceRepository.findAll(any(Specification.class))).thenReturn(List.of(started, stoppedElsewhere));
+        admitStops("carol", "erin");
+        // 읽은 뒤 3 은 RUNNING 으로, 5 는 다른 요청으로 STOPPING 이 됨 - 묶음 UPDATE 는 한 행도 바꾸지 않음
+        when(instanceRepository.updateStatus(eq(List.of(3L, 5L)), eq(ContainerInstance.ContainerStatus.PENDING),
+                eq(ContainerInstance.ContainerStatus.STOPPED), any())).thenReturn(0);
+        when(instanceRepository.findById(3L))
+                .thenReturn(Optional.of(instance(3L, "carol", ContainerInstance.ContainerStatus.RUNNING)));
+        when(instanceRepository.findById(5L))
+                .thenReturn(Optional.of(instance(5L, "erin", ContainerInstance.ContainerStatus.STOPPING)));
+        when(instanceRepository.updateStatusIf(eq(3L), eq(ContainerInstance.ContainerStatus.RUNNING),
+                eq(ContainerInstance.ContainerStatus.STOPPED), any())).thenReturn(1);
+
+        List<BulkItemResult> results = bulkInstanceService.stopInstances(new BulkStopRequest(null, 1L, null));
+
+        assertThat(results.get(0).status()).isEqualTo(ContainerInstance.ContainerStatus.STOPPED);
+        // 중지 중인 행은 STOPPED 로 덮어쓰지 않음
+        verify(instanceRepository, never()).updateStatusIf(eq(5L), any(), any(), any());
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void rejectedItemsAreReportedWithoutCreatingInstances() {
+        ContainerTemplate template = ContainerTemplate.builder().id(1L).name("Jupyter").build();
+        AdmissionService.Permit alice = mock(AdmissionService.Permit.class);
+        AdmissionService.Permit carol = mock(AdmissionService.Permit.class);
+        when(templateCatalog.find(1L)).thenReturn(Optional.of(template));
+        when(admissionService.admitBulkCreate(List.of("alice", "bob", "carol"), template)).thenReturn(List.of(
+                new AdmissionService.Admission("alice", alice, null),
+                new AdmissionService.Admission("bob", null,
+                        new AdmissionRejectedException("quota", "Instance quota exceeded", Duration.ofMinutes(1))),
+                new AdmissionService.Admission("carol", carol, null)));
+
+        List<BulkItemResult> results = bulkInstanceService.createInstances(1L, List.of("alice", "bob", "carol"));
+
+        assertThat(results).extracting(BulkItemResult::userId).containsExactly("alice", "bob", "carol");
+        assertThat(results).extracting(BulkItemResult::status).containsExactly(
+                ContainerInstance.ContainerStatus.RUNNING, null, ContainerInstance.ContainerStatus.RUNNING);
+        assertThat(results.get(1).error()).isEqualTo("Instance quota exceeded");
+        verify(instanceRepository).saveAll(anyList());
+        verify(alice).releaseReservation();
+        verify(alice).close();
+        verify(carol).close();
+    }
+
+    @Test
+    void allRejectedSavesNothing() {
+        ContainerTemplate template = ContainerTemplate.builder().id(1L).name("Jupyter").build();
+        when(templateCatalog.find(1L)).thenReturn(Optional.of(template));
+        when(admissionService.admitBulkCreate(List.of("bob"), template)).thenReturn(List.of(
+                new AdmissionService.Admission("bob", null,
+                        new AdmissionRejectedException("user-rate", "Too many create requests", Duration.ofSeconds(10)))));
+
+        List<BulkItemResult> results = bulkInstanceService.createInstances(1L, List.of("bob"));
+
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.instanceId()).isNull();
+            assertThat(result.error()).isEqualTo("Too many create requests");
+        });
+        verify(instanceRepository, never()).saveAll(anyList());
+    }
+}
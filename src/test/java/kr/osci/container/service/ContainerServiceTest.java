@@ -0,0 +1,96 @@
+package kr.osci.container.service;
+
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.event.InstanceStatusChangedEvent;
+import kr.osci.container.event.PodPhaseChangedEvent;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import kr.osci.container.repository.ContainerTemplateRepository;
+import kr.osci.container.service.activity.ActivitySource;
+import kr.osci.container.service.admission.AdmissionService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContainerServiceTest {
+
+    @Mock
+    private ContainerTemplateRepository templateRepository;
+
+    @Mock
+    private ContainerInstanceRepository instanceRepository;
+
+    @Mock
+    private TemplateCatalog templateCatalog;
+
+    @Mock
+    private PodSpecCompiler podSpecCompiler;
+
+    @Mock
+    private AdmissionService admissionService;
+
+    @Mock
+    private ActivitySource activitySource;
+
+    @Mock
+    private InstanceMetrics instanceMetrics;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ContainerService containerService;
+
+    private ContainerInstance instance(ContainerInstance.ContainerStatus status) {
+        ContainerInstance instance = ContainerInstance.builder().id(1L).userId("alice").podName("jupyter-a")
+                .status(status).build();
+        when(instanceRepository.findByPodName("jupyter-a")).thenReturn(Optional.of(instance));
+        return instance;
+    }
+
+    @Test
+    void runningPodMovesPendingInstanceConditionally() {
+        ContainerInstance instance = instance(ContainerInstance.ContainerStatus.PENDING);
+        when(instanceRepository.updateStatusIf(1L, ContainerInstance.ContainerStatus.PENDING,
+                ContainerInstance.ContainerStatus.RUNNING, null)).thenReturn(1);
+
+        containerService.onPodPhaseChanged(new PodPhaseChangedEvent("jupyter-a", "Running"));
+
+        assertThat(instance.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.RUNNING);
+        verify(eventPublisher).publishEvent(any(InstanceStatusChangedEvent.class));
+        verify(instanceRepository, never()).save(any());
+    }
+
+    @Test
+    void podEventDoesNotOverwriteConcurrentStop() {
+        ContainerInstance instance = instance(ContainerInstance.ContainerStatus.PENDING);
+        // 조회 후 다른 요청이 STOPPING 으로 변경
+        when(instanceRepository.updateStatusIf(1L, ContainerInstance.ContainerStatus.PENDING,
+                ContainerInstance.ContainerStatus.FAILED, null)).thenReturn(0);
+
+        containerService.onPodPhaseChanged(new PodPhaseChangedEvent("jupyter-a", "Failed"));
+
+        assertThat(instance.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.PENDING);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void stoppingInstanceIgnoresPodEvents() {
+        instance(ContainerInstance.ContainerStatus.STOPPING);
+
+        containerService.onPodPhaseChanged(new PodPhaseChangedEvent("jupyter-a", "Failed"));
+
+        verify(instanceRepository, never()).updateStatusIf(any(), any(), any(), any());
+    }
+}
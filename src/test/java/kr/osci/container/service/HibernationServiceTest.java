@@ -0,0 +1,139 @@
+package kr.osci.container.service;
+
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.event.InstanceStatusChangedEvent;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import kr.osci.container.service.activity.ActivitySource;
+import kr.osci.container.service.placement.ClusterTarget;
+import kr.osci.container.service.placement.ClusterTargets;
+import kr.osci.container.service.placement.PlacementService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HibernationServiceTest {
+
+    private final ClusterTargets clusterTargets = mock(ClusterTargets.class);
+    private final ActivitySource activitySource = mock(ActivitySource.class);
+    private final ContainerInstanceRepository instanceRepository = mock(ContainerInstanceRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final KubernetesService kubernetesService = mock(KubernetesService.class);
+    private final ContainerTemplate jupyter = ContainerTemplate.builder().id(1L).name("Jupyter").build();
+
+    private HibernationService hibernationService;
+
+    @BeforeEach
+    void setUp() {
+        when(clusterTargets.of(any())).thenReturn(new ClusterTarget("default", "workspaces", "example.com", 8080, 0,
+                List.of(), kubernetesService, mock(PodStatusCache.class)));
+        hibernationService = new HibernationService(clusterTargets, mock(PlacementService.class),
+                mock(TemplateCatalog.class), activitySource, instanceRepository, eventPublisher);
+        ReflectionTestUtils.setField(hibernationService, "idleTimeout", Duration.ofHours(2));
+    }
+
+    private ContainerInstance instance(ContainerInstance.ContainerStatus status) {
+        return ContainerInstance.builder().id(1L).userId("alice").podName("jupyter-a").template(jupyter)
+                .status(status).build();
+    }
+
+    private void running(ContainerInstance instance, Instant lastActivity) {
+        when(instanceRepository.findByStatusIn(List.of(ContainerInstance.ContainerStatus.RUNNING)))
+                .thenReturn(List.of(instance));
+        when(activitySource.lastActivity(instance)).thenReturn(Optional.of(lastActivity));
+    }
+
+    private void transition(ContainerInstance.ContainerStatus from, ContainerInstance.ContainerStatus to, int rows) {
+        when(instanceRepository.updateStatusIf(1L, from, to, null)).thenReturn(rows);
+    }
+
+    @Test
+    void idleInstanceIsScaledDownAndHibernated() {
+        ContainerInstance instance = instance(ContainerInstance.ContainerStatus.RUNNING);
+        running(instance, Instant.now().minus(Duration.ofHours(3)));
+        transition(ContainerInstance.ContainerStatus.RUNNING, ContainerInstance.ContainerStatus.HIBERNATED, 1);
+
+        hibernationService.hibernateIdleInstances();
+
+        verify(kubernetesService).scaleDeployment("jupyter-a", 0);
+        assertThat(instance.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.HIBERNATED);
+        verify(eventPublisher).publishEvent(any(InstanceStatusChangedEvent.class));
+        verify(instanceRepository, never()).save(any());
+    }
+
+    @Test
+    void activeInstanceIsLeftRunning() {
+        ContainerInstance instance = instance(ContainerInstance.ContainerStatus.RUNNING);
+        running(instance, Instant.now().minus(Duration.ofMinutes(10)));
+
+        hibernationService.hibernateIdleInstances();
+
+        verify(kubernetesService, never()).scaleDeployment(anyString(), anyInt());
+    }
+
+    @Test
+    void stopDuringScaleDownIsNotOverwritten() {
+        ContainerInstance instance = instance(ContainerInstance.ContainerStatus.RUNNING);
+        running(instance, Instant.now().minus(Duration.ofHours(3)));
+        // 축소 호출 중 사용자가 중지 - 행은 이미 STOPPING
+        transition(ContainerInstance.ContainerStatus.RUNNING, ContainerInstance.ContainerStatus.HIBERNATED, 0);
+
+        hibernationService.hibernateIdleInstances();
+
+        assertThat(instance.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.RUNNING);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void resumeMovesToPendingBeforeScalingUp() {
+        ContainerInstance instance = instance(ContainerInstance.ContainerStatus.HIBERNATED);
+        transition(ContainerInstance.ContainerStatus.HIBERNATED, ContainerInstance.ContainerStatus.PENDING, 1);
+
+        ContainerInstance resumed = hibernationService.resume(instance);
+
+        assertThat(resumed.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.PENDING);
+        verify(kubernetesService).scaleDeployment("jupyter-a", 1);
+        verify(activitySource).recordActivity(instance);
+    }
+
+    @Test
+    void resumeOfInstanceStoppedMeanwhileDoesNotScaleUp() {
+        ContainerInstance instance = instance(ContainerInstance.ContainerStatus.HIBERNATED);
+        transition(ContainerInstance.ContainerStatus.HIBERNATED, ContainerInstance.ContainerStatus.PENDING, 0);
+        when(instanceRepository.findById(1L)).thenReturn(Optional.of(instance(ContainerInstance.ContainerStatus.STOPPING)));
+
+        ContainerInstance current = hibernationService.resume(instance);
+
+        assertThat(current.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.STOPPING);
+        verify(kubernetesService, never()).scaleDeployment(anyString(), anyInt());
+    }
+
+    @Test
+    void failedScaleUpReturnsInstanceToHibernated() {
+        ContainerInstance instance = instance(ContainerInstance.ContainerStatus.HIBERNATED);
+        transition(ContainerInstance.ContainerStatus.HIBERNATED, ContainerInstance.ContainerStatus.PENDING, 1);
+        transition(ContainerInstance.ContainerStatus.PENDING, ContainerInstance.ContainerStatus.HIBERNATED, 1);
+        doThrow(new RuntimeException("Kubernetes API error: boom")).when(kubernetesService).scaleDeployment("jupyter-a", 1);
+
+        assertThatThrownBy(() -> hibernationService.resume(instance)).hasMessageContaining("boom");
+
+        assertThat(instance.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.HIBERNATED);
+    }
+}
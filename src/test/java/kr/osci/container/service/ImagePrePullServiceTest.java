@@ -0,0 +1,158 @@
+package kr.osci.container.service;
+
+import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStateRunning;
+import io.kubernetes.client.openapi.models.V1ContainerStateTerminated;
+import io.kubernetes.client.openapi.models.V1ContainerStateWaiting;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1DaemonSet;
+import io.kubernetes.client.openapi.models.V1DaemonSetStatus;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.service.placement.ClusterTarget;
+import kr.osci.container.service.placement.ClusterTargets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ImagePrePullServiceTest {
+
+    private static final OffsetDateTime PULLED_AT = OffsetDateTime.of(2026, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+
+    private final KubernetesService kubernetesService = mock(KubernetesService.class);
+    private final ClusterTargets clusterTargets = mock(ClusterTargets.class);
+    private final TemplateCatalog templateCatalog = mock(TemplateCatalog.class);
+    private final ClusterTarget target = new ClusterTarget("default", "user-containers", "localhost", 8080, 0,
+            List.of(), kubernetesService, mock(PodStatusCache.class));
+
+    private ImagePrePullService service;
+
+    @BeforeEach
+    void setUp() {
+        when(clusterTargets.all()).thenReturn(List.of(target));
+        ContainerTemplate template = ContainerTemplate.builder().id(1L).name("Jupyter").build();
+        when(templateCatalog.snapshot()).thenReturn(new TemplateCatalog.Snapshot(1, List.of(template),
+                Map.of(1L, template), Map.of()));
+        service = new ImagePrePullService(clusterTargets, templateCatalog, mock(ExecutorService.class));
+    }
+
+    private static V1Pod prePullPod(String node, V1ContainerStatus status) {
+        return new V1Pod()
+                .metadata(new V1ObjectMeta().name("prepull-template-1-" + node)
+                        .labels(Map.of("component", "prepull", ImagePrePullService.TEMPLATE_LABEL, "1")))
+                .spec(new V1PodSpec().nodeName(node))
+                .status(new V1PodStatus().initContainerStatuses(status == null ? null : List.of(status)));
+    }
+
+    private static V1ContainerStatus state(V1ContainerState state) {
+        return new V1ContainerStatus().name("pull").state(state);
+    }
+
+    private void pods() {
+        when(kubernetesService.listPods(anyString())).thenReturn(List.of(
+                prePullPod("node-a", state(new V1ContainerState()
+                        .terminated(new V1ContainerStateTerminated().exitCode(0).startedAt(PULLED_AT)))),
+                prePullPod("node-b", state(new V1ContainerState()
+                        .waiting(new V1ContainerStateWaiting().reason("ImagePullBackOff")))),
+                prePullPod("node-c", null),
+                // 이미지에 셸이 없어 init 컨테이너 재시작 대기 - 이미지는 노드에 있음
+                prePullPod("node-d", state(new V1ContainerState()
+                        .waiting(new V1ContainerStateWaiting().reason("CrashLoopBackOff")))
+                        .lastState(new V1ContainerState()
+                                .terminated(new V1ContainerStateTerminated().exitCode(127).startedAt(PULLED_AT))))));
+    }
+
+    @Test
+    void statusCountsPulledAndFailedNodesPerDaemonSet() {
+        pods();
+        when(kubernetesService.listDaemonSets(anyString())).thenReturn(List.of(new V1DaemonSet()
+                .metadata(new V1ObjectMeta().name("prepull-template-1")
+                        .labels(Map.of(ImagePrePullService.TEMPLATE_LABEL, "1"))
+                        .annotations(Map.of("container-platform/image", "jupyter/base-notebook:latest")))
+                .status(new V1DaemonSetStatus().desiredNumberScheduled(5))));
+
+        ImagePrePullService.PullStatus status = service.status().get(0);
+
+        assertThat(status.templateName()).isEqualTo("Jupyter");
+        assertThat(status.image()).isEqualTo("jupyter/base-notebook:latest");
+        assertThat(status.desired()).isEqualTo(5);
+        assertThat(status.pulled()).isEqualTo(2);
+        assertThat(status.failed()).isEqualTo(1);
+        assertThat(status.nodes()).extracting(ImagePrePullService.NodePullStatus::state).containsExactly(
+                ImagePrePullService.PULLED, ImagePrePullService.FAILED,
+                ImagePrePullService.PULLING, ImagePrePullService.PULLED);
+        assertThat(status.nodes().get(1).reason()).isEqualTo("ImagePullBackOff");
+    }
+
+    private void instanceOn(String node) {
+        when(clusterTargets.findPod("jupyter-1")).thenReturn(Optional.of(
+                Map.entry(target, new V1Pod().spec(new V1PodSpec().nodeName(node)))));
+    }
+
+    private static LocalDateTime requestedAt(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+    @Test
+    void imageIsCachedOnlyIfPulledBeforeLaunchRequest() {
+        pods();
+        service.refreshStatus();
+        instanceOn("node-a");
+
+        assertThat(service.imageCache(1L, "jupyter-1", requestedAt(PULLED_AT.toInstant().plusSeconds(60))))
+                .isEqualTo("cached");
+        assertThat(service.imageCache(1L, "jupyter-1", requestedAt(PULLED_AT.toInstant().minusSeconds(60))))
+                .isEqualTo("uncached");
+
+        instanceOn("node-b");
+        assertThat(service.imageCache(1L, "jupyter-1", requestedAt(PULLED_AT.toInstant().plusSeconds(60))))
+                .isEqualTo("uncached");
+
+        when(clusterTargets.findPod("jupyter-1")).thenReturn(Optional.empty());
+        assertThat(service.imageCache(1L, "jupyter-1", LocalDateTime.now())).isEqualTo("unknown");
+    }
+
+    @Test
+    void failedRefreshKeepsPreviousStatusOfTarget() {
+        pods();
+        service.refreshStatus();
+
+        when(kubernetesService.listPods(anyString())).thenThrow(new RuntimeException("Kubernetes API error: timeout"));
+        service.refreshStatus();
+
+        instanceOn("node-a");
+        assertThat(service.imageCache(1L, "jupyter-1", requestedAt(PULLED_AT.toInstant().plusSeconds(60))))
+                .isEqualTo("cached");
+    }
+
+    @Test
+    void runningInitContainerWithoutStartTimeKeepsFirstObservedTime() {
+        when(kubernetesService.listPods(anyString())).thenReturn(List.of(prePullPod("node-a",
+                state(new V1ContainerState().running(new V1ContainerStateRunning())))));
+        service.refreshStatus();
+        instanceOn("node-a");
+        LocalDateTime afterFirst = LocalDateTime.now();
+
+        service.refreshStatus();
+
+        // 다음 수집에서 pulledAt 이 현재 시각으로 밀리지 않음
+        assertThat(service.imageCache(1L, "jupyter-1", afterFirst)).isEqualTo("cached");
+    }
+}
@@ -0,0 +1,124 @@
+package kr.osci.container.service;
+
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.event.InstanceStatusChangedEvent;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InstanceEventStreamTest {
+
+    private final ContainerInstanceRepository instanceRepository = mock(ContainerInstanceRepository.class);
+
+    /**
+     * 전송된 상태 이벤트를 기록 - release 전까지는 첫 전송에서 멈춤 (소비가 멈춘 클라이언트)
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<InstanceStatusChangedEvent> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch release;
+
+        private RecordingEmitter(boolean stalled) {
+            this.release = new CountDownLatch(stalled ? 1 : 0);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            builder.build().stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .filter(InstanceStatusChangedEvent.class::isInstance)
+                    .map(InstanceStatusChangedEvent.class::cast)
+                    .forEach(sent::add);
+        }
+    }
+
+    private InstanceEventStream stream(SseEmitter emitter) {
+        InstanceEventStream stream = new InstanceEventStream(instanceRepository) {
+            @Override
+            SseEmitter newEmitter() {
+                return emitter;
+            }
+        };
+        ReflectionTestUtils.setField(stream, "bufferSize", 2);
+        return stream;
+    }
+
+    private static ContainerInstance instance(ContainerInstance.ContainerStatus status) {
+        return ContainerInstance.builder().id(1L).userId("alice").podName("jupyter-1").status(status).build();
+    }
+
+    private static ContainerInstance.ContainerStatus next(BlockingQueue<InstanceStatusChangedEvent> sent)
+            throws InterruptedException {
+        InstanceStatusChangedEvent event = sent.poll(5, TimeUnit.SECONDS);
+        assertThat(event).isNotNull();
+        return event.status();
+    }
+
+    @Test
+    void changeDuringSnapshotQueryIsSentAfterSnapshot() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter(false);
+        InstanceEventStream stream = stream(emitter);
+        // 조회 결과(PENDING)가 만들어진 뒤 RUNNING 으로 바뀜 - 최신 상태가 마지막이어야 함
+        when(instanceRepository.findByUserIdAndStatusIn(eq("alice"), any())).thenAnswer(invocation -> {
+            stream.onStatusChanged(InstanceStatusChangedEvent.of(instance(ContainerInstance.ContainerStatus.RUNNING)));
+            return List.of(instance(ContainerInstance.ContainerStatus.PENDING));
+        });
+
+        stream.subscribe("alice");
+
+        assertThat(next(emitter.sent)).isEqualTo(ContainerInstance.ContainerStatus.PENDING);
+        assertThat(next(emitter.sent)).isEqualTo(ContainerInstance.ContainerStatus.RUNNING);
+
+        // 이후 이벤트는 보류 없이 바로 전달
+        stream.onStatusChanged(InstanceStatusChangedEvent.of(instance(ContainerInstance.ContainerStatus.STOPPING)));
+        assertThat(next(emitter.sent)).isEqualTo(ContainerInstance.ContainerStatus.STOPPING);
+    }
+
+    @Test
+    void snapshotQueryFailureUnregistersSubscriber() {
+        InstanceEventStream stream = stream(new RecordingEmitter(false));
+        when(instanceRepository.findByUserIdAndStatusIn(eq("alice"), any()))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        assertThatThrownBy(() -> stream.subscribe("alice")).isInstanceOf(IllegalStateException.class);
+        assertThat(stream.subscriberCount()).isZero();
+    }
+
+    @Test
+    void stalledSubscriberIsClosedWhenHeartbeatDoesNotFit() {
+        InstanceEventStream stream = stream(new RecordingEmitter(true));
+        when(instanceRepository.findByUserIdAndStatusIn(eq("alice"), any())).thenReturn(List.of());
+        stream.subscribe("alice");
+
+        stream.heartbeat();
+        assertThat(stream.subscriberCount()).isEqualTo(1);
+
+        // 전송이 멈춘 채 버퍼(2)가 가득 참
+        for (int i = 0; i < 4; i++) {
+            stream.onStatusChanged(InstanceStatusChangedEvent.of(instance(ContainerInstance.ContainerStatus.RUNNING)));
+        }
+        stream.heartbeat();
+
+        assertThat(stream.subscriberCount()).isZero();
+    }
+}
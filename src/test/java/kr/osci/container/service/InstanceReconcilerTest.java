@@ -0,0 +1,280 @@
+package kr.osci.container.service;
+
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1Ingress;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.event.InstanceStatusChangedEvent;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import kr.osci.container.service.placement.ClusterTarget;
+import kr.osci.container.service.placement.ClusterTargets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InstanceReconcilerTest {
+
+    private final ClusterTargets clusterTargets = mock(ClusterTargets.class);
+    private final ContainerInstanceRepository instanceRepository = mock(ContainerInstanceRepository.class);
+    private final TeardownService teardownService = mock(TeardownService.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final KubernetesService kubernetesService = mock(KubernetesService.class);
+    private final PodStatusCache podStatusCache = mock(PodStatusCache.class);
+
+    private InstanceReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        ClusterTarget target = new ClusterTarget("default", "workspaces", "example.com", 8080, 0, List.of(),
+                kubernetesService, podStatusCache);
+        when(clusterTargets.all()).thenReturn(List.of(target));
+        when(clusterTargets.find("default")).thenReturn(Optional.of(target));
+        when(clusterTargets.nameOf(any())).thenReturn("default");
+        when(instanceRepository.updateStatusIf(any(), any(), any(), any())).thenReturn(1);
+
+        reconciler = new InstanceReconciler(clusterTargets, instanceRepository, teardownService, eventPublisher,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(reconciler, "gracePeriod", Duration.ofMinutes(2));
+    }
+
+    private ContainerInstance instance(String podName, ContainerInstance.ContainerStatus status,
+                                       LocalDateTime createdAt) {
+        ContainerInstance instance = ContainerInstance.builder()
+                .id(1L).userId("alice").podName(podName).namespace("workspaces")
+                .status(status).createdAt(createdAt).build();
+        when(instanceRepository.findByStatusIn(any())).thenReturn(List.of(instance));
+        return instance;
+    }
+
+    private static LocalDateTime old() {
+        return LocalDateTime.now().minusMinutes(10);
+    }
+
+    private static V1ObjectMeta metadata(String name) {
+        return new V1ObjectMeta().name(name).creationTimestamp(OffsetDateTime.now().minusMinutes(10))
+                .labels(Map.of("app", name));
+    }
+
+    private void deployments(String... names) {
+        when(kubernetesService.listDeployments(anyString())).thenReturn(
+                List.of(names).stream().map(name -> new V1Deployment().metadata(metadata(name))).toList());
+    }
+
+    private void pods(String name, String phase) {
+        when(kubernetesService.listPods(anyString())).thenReturn(
+                List.of(new V1Pod().metadata(metadata(name)).status(new V1PodStatus().phase(phase))));
+    }
+
+    @Test
+    void missingDeploymentIsStoppedOnlyOnSecondObservation() {
+        ContainerInstance instance = instance("jupyter-a", ContainerInstance.ContainerStatus.RUNNING, old());
+
+        reconciler.reconcileOnce();
+        verify(instanceRepository, never()).updateStatusIf(any(), any(), any(), any());
+        assertThat(instance.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.RUNNING);
+
+        reconciler.reconcileOnce();
+        assertThat(instance.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.STOPPED);
+        assertThat(instance.getStoppedAt()).isNotNull();
+        verify(eventPublisher).publishEvent(any(InstanceStatusChangedEvent.class));
+    }
+
+    @Test
+    void failedInstanceWithoutDeploymentIsNotCountedAsDrift() {
+        ContainerInstance instance = instance("jupyter-a", ContainerInstance.ContainerStatus.FAILED, old());
+
+        reconciler.reconcileOnce();
+        reconciler.reconcileOnce();
+
+        assertThat(instance.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.FAILED);
+        verify(instanceRepository, never()).updateStatusIf(any(), any(), any(), any());
+    }
+
+    @Test
+    void observationsMustBeConsecutive() {
+        ContainerInstance instance = instance("jupyter-a", ContainerInstance.ContainerStatus.RUNNING, old());
+
+        reconciler.reconcileOnce();
+        // 두 번째 사이클에는 정상 (웜 풀 할당 직후 등 일시적 불일치)
+        deployments("jupyter-a");
+        pods("jupyter-a", "Running");
+        reconciler.reconcileOnce();
+        deployments();
+        reconciler.reconcileOnce();
+
+        assertThat(instance.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.RUNNING);
+        verify(instanceRepository, never()).updateStatusIf(any(), any(), any(), any());
+    }
+
+    @Test
+    void failedListingOfTargetRestartsObservation() {
+        ContainerInstance instance = instance("jupyter-a", ContainerInstance.ContainerStatus.RUNNING, old());
+
+        reconciler.reconcileOnce();
+        when(kubernetesService.listDeployments(anyString())).thenThrow(new RuntimeException("API down"));
+        reconciler.reconcileOnce();
+        doReturn(List.of()).when(kubernetesService).listDeployments(anyString());
+        reconciler.reconcileOnce();
+
+        // 오류 사이클에서 관측이 끊겼으므로 아직 조치 안 함
+        assertThat(instance.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.RUNNING);
+        reconciler.reconcileOnce();
+        assertThat(instance.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.STOPPED);
+    }
+
+    @Test
+    void instanceWithinGracePeriodIsLeftAlone() {
+        ContainerInstance instance = instance("jupyter-a", ContainerInstance.ContainerStatus.PENDING,
+                LocalDateTime.now());
+
+        reconciler.reconcileOnce();
+        reconciler.reconcileOnce();
+
+        assertThat(instance.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.PENDING);
+    }
+
+    @Test
+    void runningPodIsAppliedImmediately() {
+        ContainerInstance instance = instance("jupyter-a", ContainerInstance.ContainerStatus.PENDING, old());
+        deployments("jupyter-a");
+        pods("jupyter-a", "Running");
+
+        reconciler.reconcileOnce();
+
+        assertThat(instance.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.RUNNING);
+    }
+
+    @Test
+    void statusChangedSinceListingIsNotOverwritten() {
+        ContainerInstance instance = instance("jupyter-a", ContainerInstance.ContainerStatus.PENDING, old());
+        deployments("jupyter-a");
+        pods("jupyter-a", "Running");
+        // 목록 조회 후 사용자가 중지 - 조건부 update 가 한 행도 바꾸지 않음
+        when(instanceRepository.updateStatusIf(1L, ContainerInstance.ContainerStatus.PENDING,
+                ContainerInstance.ContainerStatus.RUNNING, null)).thenReturn(0);
+
+        reconciler.reconcileOnce();
+
+        assertThat(instance.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.PENDING);
+        verify(eventPublisher, never()).publishEvent(any(InstanceStatusChangedEvent.class));
+    }
+
+    @Test
+    void runningInstanceWithoutPodFailsOnSecondObservation() {
+        ContainerInstance instance = instance("jupyter-a", ContainerInstance.ContainerStatus.RUNNING, old());
+        deployments("jupyter-a");
+
+        reconciler.reconcileOnce();
+        assertThat(instance.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.RUNNING);
+
+        reconciler.reconcileOnce();
+        assertThat(instance.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.FAILED);
+    }
+
+    @Test
+    void orphanedDeploymentIsDeletedOnSecondObservation() {
+        deployments("jupyter-orphan");
+
+        reconciler.reconcileOnce();
+        verify(kubernetesService, never()).deleteContainer(anyString());
+
+        reconciler.reconcileOnce();
+        verify(kubernetesService).deleteContainer("jupyter-orphan");
+    }
+
+    @Test
+    void warmPoolDeploymentIsNeverOrphaned() {
+        when(kubernetesService.listDeployments(anyString())).thenReturn(List.of(new V1Deployment().metadata(
+                metadata("jupyter-warm").labels(Map.of("app", "jupyter-warm", WarmPoolService.POOL_LABEL, "warm")))));
+
+        reconciler.reconcileOnce();
+        reconciler.reconcileOnce();
+
+        verify(kubernetesService, never()).deleteContainer(anyString());
+    }
+
+    @Test
+    void danglingServiceIsDeletedOnSecondObservation() {
+        when(kubernetesService.listServices(anyString())).thenReturn(
+                List.of(new V1Service().metadata(metadata("jupyter-gone"))));
+
+        reconciler.reconcileOnce();
+        verify(kubernetesService, never()).deleteService(anyString());
+
+        reconciler.reconcileOnce();
+        verify(kubernetesService).deleteService("jupyter-gone");
+    }
+
+    @Test
+    void stoppingInstanceIsConfirmedWithoutWaitingWhenResourcesAreGone() {
+        ContainerInstance instance = instance("jupyter-a", ContainerInstance.ContainerStatus.STOPPING, old());
+
+        reconciler.reconcileOnce();
+
+        verify(teardownService).confirm(instance, "reconciler");
+    }
+
+    @Test
+    void stuckStoppingDeploymentIsDeletedAgainOnSecondObservation() {
+        ContainerInstance instance = instance("jupyter-a", ContainerInstance.ContainerStatus.STOPPING, old());
+        instance.setStoppedAt(old());
+        deployments("jupyter-a");
+
+        reconciler.reconcileOnce();
+        verify(kubernetesService, never()).deleteContainer(anyString());
+
+        reconciler.reconcileOnce();
+        verify(kubernetesService).deleteContainer("jupyter-a");
+        verify(teardownService, never()).confirm(any(), anyString());
+    }
+
+    @Test
+    void legacyObjectsAreAdoptedOrRemoved() {
+        deployments("jupyter-a");
+        when(kubernetesService.hasLegacyObjects()).thenReturn(true);
+        // 이전 버전 객체 - app 라벨만 있고 소유자 없음
+        when(kubernetesService.listServices(InstanceReconciler.LEGACY_SELECTOR)).thenReturn(
+                List.of(new V1Service().metadata(metadata("jupyter-a"))));
+        when(kubernetesService.listIngresses(InstanceReconciler.LEGACY_SELECTOR)).thenReturn(
+                List.of(new V1Ingress().metadata(metadata("jupyter-gone"))));
+
+        reconciler.reconcileOnce();
+        verify(kubernetesService).adoptService(eq("jupyter-a"), any());
+        verify(kubernetesService, never()).deleteIngressObject(anyString());
+
+        reconciler.reconcileOnce();
+        verify(kubernetesService).deleteIngressObject("jupyter-gone");
+        verify(kubernetesService, never()).legacyObjectsMigrated();
+    }
+
+    @Test
+    void emptyLegacySweepEndsNameBasedDeletes() {
+        when(kubernetesService.hasLegacyObjects()).thenReturn(true);
+
+        reconciler.reconcileOnce();
+
+        verify(kubernetesService).legacyObjectsMigrated();
+    }
+}
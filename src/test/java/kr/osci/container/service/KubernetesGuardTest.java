@@ -0,0 +1,224 @@
+package kr.osci.container.service;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+class KubernetesGuardTest {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private KubernetesGuard guard(String... properties) {
+        MockEnvironment environment = new MockEnvironment();
+        for (int i = 0; i < properties.length; i += 2) {
+            environment.setProperty("kubernetes.resilience." + properties[i], properties[i + 1]);
+        }
+        return new KubernetesGuard(environment, executor, meterRegistry);
+    }
+
+    private static ApiException serverError() {
+        return new ApiException(503, "unavailable");
+    }
+
+    private static void fail(KubernetesGuard guard) {
+        assertThatThrownBy(() -> guard.execute("listNamespacedPod", () -> {
+            throw serverError();
+        })).isInstanceOf(ApiException.class);
+    }
+
+    // Call 은 ApiException 만 던질 수 있음 - 시간 초과 시 cancel(true) 의 인터럽트는 삼킴
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void saturatedBulkheadRejectsAfterWait() throws Exception {
+        KubernetesGuard guard = guard("max-concurrent-mutations", "1", "bulkhead-wait", "20ms");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> {
+            try {
+                return guard.execute("createNamespacedDeployment", () -> {
+                    started.countDown();
+                    await(release);
+                    return "created";
+                });
+            } catch (ApiException e) {
+                throw new IllegalStateException(e);
+            }
+        }, executor);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        KubernetesUnavailableException rejection = catchThrowableOfType(KubernetesUnavailableException.class,
+                () -> guard.execute("deleteNamespacedDeployment", () -> "deleted"));
+        assertThat(rejection.getReason()).isEqualTo("bulkhead-full");
+        assertThat(meterRegistry.counter("kubernetes.guard.rejections", "target", "default",
+                "reason", "bulkhead-full").count()).isEqualTo(1);
+        // 조회는 별도 bulkhead
+        assertThat(guard.execute("listNamespacedPod", () -> "pods")).isEqualTo("pods");
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("created");
+        assertThat(guard.execute("deleteNamespacedDeployment", () -> "deleted")).isEqualTo("deleted");
+        // 포화 거절은 API 서버 장애가 아님
+        assertThat(guard.state()).isEqualTo(KubernetesGuard.State.CLOSED);
+    }
+
+    @Test
+    void slowCallTimesOut() {
+        KubernetesGuard guard = guard("read-timeout", "50ms");
+
+        KubernetesUnavailableException rejection = catchThrowableOfType(KubernetesUnavailableException.class,
+                () -> guard.execute("listNamespacedPod", () -> {
+                    sleep(2000);
+                    return "late";
+                }));
+
+        assertThat(rejection.getReason()).isEqualTo("timeout");
+        assertThat(meterRegistry.counter("kubernetes.circuit.failures", "target", "default",
+                "operation", "listNamespacedPod").count()).isEqualTo(1);
+    }
+
+    @Test
+    void perOperationTimeoutOverridesDefault() throws ApiException {
+        KubernetesGuard guard = guard("read-timeout", "20ms", "operations.listNode", "2s");
+
+        assertThat(guard.execute("listNode", () -> {
+            sleep(100);
+            return "nodes";
+        })).isEqualTo("nodes");
+    }
+
+    @Test
+    void circuitOpensAfterConsecutiveFailures() {
+        KubernetesGuard guard = guard("failure-threshold", "2", "open-duration", "10s");
+
+        fail(guard);
+        assertThat(guard.state()).isEqualTo(KubernetesGuard.State.CLOSED);
+        fail(guard);
+        assertThat(guard.state()).isEqualTo(KubernetesGuard.State.OPEN);
+
+        KubernetesUnavailableException rejection = catchThrowableOfType(KubernetesUnavailableException.class,
+                () -> guard.execute("listNamespacedPod", () -> "pods"));
+        assertThat(rejection.getReason()).isEqualTo("circuit-open");
+        assertThat(rejection.getRetryAfter()).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(10));
+        assertThatThrownBy(guard::ensureAvailable).isInstanceOf(KubernetesUnavailableException.class);
+    }
+
+    @Test
+    void clientErrorsAndSuccessResetFailureCount() throws ApiException {
+        KubernetesGuard guard = guard("failure-threshold", "2");
+
+        fail(guard);
+        assertThatThrownBy(() -> guard.execute("readNamespacedDeployment", () -> {
+            throw new ApiException(404, "not found");
+        })).isInstanceOf(ApiException.class);
+        fail(guard);
+        assertThat(guard.state()).isEqualTo(KubernetesGuard.State.CLOSED);
+
+        guard.execute("listNamespacedPod", () -> "pods");
+        fail(guard);
+        assertThat(guard.state()).isEqualTo(KubernetesGuard.State.CLOSED);
+    }
+
+    @Test
+    void successfulProbeClosesCircuit() throws Exception {
+        KubernetesGuard guard = guard("failure-threshold", "1", "open-duration", "50ms");
+        fail(guard);
+        assertThat(guard.state()).isEqualTo(KubernetesGuard.State.OPEN);
+
+        Thread.sleep(80);
+        assertThat(guard.execute("listNamespacedPod", () -> "pods")).isEqualTo("pods");
+
+        assertThat(guard.state()).isEqualTo(KubernetesGuard.State.CLOSED);
+        assertThat(meterRegistry.counter("kubernetes.circuit.transitions", "target", "default",
+                "state", "HALF_OPEN").count()).isEqualTo(1);
+    }
+
+    @Test
+    void failedProbeReopensCircuit() throws Exception {
+        KubernetesGuard guard = guard("failure-threshold", "1", "open-duration", "50ms");
+        fail(guard);
+
+        Thread.sleep(80);
+        fail(guard);
+
+        assertThat(guard.state()).isEqualTo(KubernetesGuard.State.OPEN);
+        assertThatThrownBy(() -> guard.execute("listNamespacedPod", () -> "pods"))
+                .isInstanceOf(KubernetesUnavailableException.class);
+    }
+
+    @Test
+    void onlyOneProbeRunsWhileHalfOpen() throws Exception {
+        KubernetesGuard guard = guard("failure-threshold", "1", "open-duration", "50ms");
+        fail(guard);
+        Thread.sleep(80);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> probe = CompletableFuture.supplyAsync(() -> {
+            try {
+                return guard.execute("listNamespacedPod", () -> {
+                    started.countDown();
+                    await(release);
+                    return "pods";
+                });
+            } catch (ApiException e) {
+                throw new IllegalStateException(e);
+            }
+        }, executor);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(guard.state()).isEqualTo(KubernetesGuard.State.HALF_OPEN);
+
+        KubernetesUnavailableException rejection = catchThrowableOfType(KubernetesUnavailableException.class,
+                () -> guard.execute("listNamespacedPod", () -> "other"));
+        assertThat(rejection.getReason()).isEqualTo("circuit-open");
+
+        release.countDown();
+        assertThat(probe.get(5, TimeUnit.SECONDS)).isEqualTo("pods");
+        assertThat(guard.state()).isEqualTo(KubernetesGuard.State.CLOSED);
+    }
+
+    @Test
+    void targetsHaveIndependentCircuits() {
+        KubernetesGuard primary = guard("failure-threshold", "1", "open-duration", "10s");
+        KubernetesGuard other = primary.forTarget("cluster-b");
+
+        fail(primary);
+
+        assertThat(primary.state()).isEqualTo(KubernetesGuard.State.OPEN);
+        assertThat(other.state()).isEqualTo(KubernetesGuard.State.CLOSED);
+    }
+}
@@ -0,0 +1,147 @@
+package kr.osci.container.service;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KubernetesReadCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private KubernetesReadCache cache(Duration ttl, int maxEntries) {
+        return new KubernetesReadCache("default", ttl, maxEntries, meterRegistry);
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("kubernetes.read.cache", "target", "default", "result", result).count();
+    }
+
+    @Test
+    void concurrentReadsShareOneCall() throws Exception {
+        KubernetesReadCache cache = cache(Duration.ofSeconds(5), 100);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        int readers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.read("pods", () -> {
+                calls.incrementAndGet();
+                loading.countDown();
+                release.await();
+                return "list";
+            })));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 1; i < readers; i++) {
+                results.add(executor.submit(() -> cache.read("pods", () -> {
+                    calls.incrementAndGet();
+                    return "other";
+                })));
+            }
+            // 뒤따른 조회가 모두 진행 중 호출에 합류한 뒤 완료
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (count("coalesced") < readers - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("list");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(calls).hasValue(1);
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("coalesced")).isEqualTo(readers - 1);
+    }
+
+    @Test
+    void resultIsReusedWithinTtl() throws ApiException {
+        KubernetesReadCache cache = cache(Duration.ofSeconds(5), 100);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(cache.read("pods", calls::incrementAndGet)).isEqualTo(1);
+        assertThat(cache.read("pods", calls::incrementAndGet)).isEqualTo(1);
+
+        assertThat(calls).hasValue(1);
+        assertThat(count("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void expiredResultIsReloaded() throws Exception {
+        KubernetesReadCache cache = cache(Duration.ofMillis(20), 100);
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.read("pods", calls::incrementAndGet);
+        Thread.sleep(50);
+
+        assertThat(cache.read("pods", calls::incrementAndGet)).isEqualTo(2);
+        assertThat(count("miss")).isEqualTo(2);
+    }
+
+    @Test
+    void failuresAreNotCached() throws ApiException {
+        KubernetesReadCache cache = cache(Duration.ofSeconds(5), 100);
+
+        assertThatThrownBy(() -> cache.read("pods", () -> {
+            throw new ApiException(500, "boom");
+        })).isInstanceOf(ApiException.class);
+
+        assertThat(cache.read("pods", () -> "recovered")).isEqualTo("recovered");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidateDropsKeysByPrefix() throws ApiException {
+        KubernetesReadCache cache = cache(Duration.ofSeconds(5), 100);
+        cache.read("deployments:a", () -> "a");
+        cache.read("deployments:b", () -> "b");
+        cache.read("pods", () -> "p");
+
+        cache.invalidate("deployments");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.read("deployments:a", () -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() throws ApiException {
+        KubernetesReadCache cache = cache(Duration.ofSeconds(5), 2);
+        cache.read("a", () -> "a");
+        cache.read("b", () -> "b");
+        cache.read("a", () -> "a2");
+        cache.read("c", () -> "c");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.read("a", () -> "a3")).isEqualTo("a");
+        assertThat(cache.read("b", () -> "b2")).isEqualTo("b2");
+    }
+
+    @Test
+    void metersAreTaggedPerTarget() throws ApiException {
+        new KubernetesReadCache("cluster-b", Duration.ofSeconds(5), 100, meterRegistry).read("pods", () -> "p");
+        cache(Duration.ofSeconds(5), 100).read("pods", () -> "p");
+
+        assertThat(meterRegistry.counter("kubernetes.read.cache", "target", "cluster-b", "result", "miss").count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.find("kubernetes.read.cache.size").gauges()).hasSize(2);
+    }
+}
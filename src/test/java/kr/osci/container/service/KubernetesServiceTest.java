@@ -0,0 +1,130 @@
+package kr.osci.container.service;
+
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.apis.AppsV1Api;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.apis.NetworkingV1Api;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1DeploymentSpec;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1PodTemplateSpec;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.osci.container.load.FakeKubernetesApiServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class KubernetesServiceTest {
+
+    private static final String NAMESPACE = "user-containers";
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private FakeKubernetesApiServer apiServer;
+
+    @AfterEach
+    void tearDown() {
+        if (apiServer != null) {
+            apiServer.close();
+        }
+        executor.shutdownNow();
+    }
+
+    private AppsV1Api start(FakeKubernetesApiServer.Options options) throws IOException {
+        apiServer = new FakeKubernetesApiServer(options).start();
+        return new AppsV1Api(new ApiClient().setBasePath(apiServer.url()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private KubernetesService service(AppsV1Api appsV1Api) {
+        ApiClient client = appsV1Api.getApiClient();
+        KubernetesService service = new KubernetesService(new CoreV1Api(client), appsV1Api, new NetworkingV1Api(client),
+                mock(PodStatusCache.class), mock(TemplateCatalog.class),
+                new KubernetesReadCache("default", Duration.ofMillis(500), 100, meterRegistry),
+                new KubernetesGuard(new MockEnvironment(), executor, meterRegistry),
+                mock(ObjectProvider.class), meterRegistry);
+        ReflectionTestUtils.setField(service, "namespace", NAMESPACE);
+        return service;
+    }
+
+    private static V1Deployment warm(String name) {
+        Map<String, String> labels = Map.of("app", name, "pool", "warm");
+        return new V1Deployment()
+                .metadata(new V1ObjectMeta().name(name).labels(labels))
+                .spec(new V1DeploymentSpec().replicas(1)
+                        .template(new V1PodTemplateSpec().metadata(new V1ObjectMeta().labels(labels))));
+    }
+
+    @Test
+    void relabelEscapesKeysAndValuesAndLosesTestOnSecondClaim() throws Exception {
+        AppsV1Api appsV1Api = start(FakeKubernetesApiServer.Options.defaults());
+        appsV1Api.createNamespacedDeployment(NAMESPACE, warm("jupyter-w1"), null, null, null, null);
+        KubernetesService service = service(appsV1Api);
+
+        // '/' 가 들어간 키와 따옴표가 들어간 값도 하나의 패치로 적용
+        assertThat(service.relabelDeployment("jupyter-w1", "pool", "warm", "claimed",
+                Map.of("example.com/owner", "a\"b"))).isTrue();
+
+        Map<String, String> labels = appsV1Api.readNamespacedDeployment("jupyter-w1", NAMESPACE, null)
+                .getMetadata().getLabels();
+        assertThat(labels).containsEntry("pool", "claimed").containsEntry("example.com/owner", "a\"b");
+        // 이미 claimed - test 연산 실패(422)
+        assertThat(service.relabelDeployment("jupyter-w1", "pool", "warm", "claimed")).isFalse();
+    }
+
+    @Test
+    void relabelOfMissingDeploymentReturnsFalse() throws Exception {
+        KubernetesService service = service(start(FakeKubernetesApiServer.Options.defaults()));
+
+        assertThat(service.relabelDeployment("jupyter-gone", "pool", "warm", "claimed")).isFalse();
+    }
+
+    @Test
+    void relabelServerErrorIsNotTreatedAsConflict() throws Exception {
+        KubernetesService service = service(start(
+                new FakeKubernetesApiServer.Options(Duration.ZERO, 1.0, Duration.ofMillis(500), 0.0)));
+
+        // 점유 여부를 알 수 없으므로 false(다른 레플리카가 점유) 로 보고하지 않음
+        assertThatThrownBy(() -> service.relabelDeployment("jupyter-w1", "pool", "warm", "claimed"))
+                .isInstanceOf(RuntimeException.class)
+                .isNotInstanceOf(ApiException.class);
+    }
+
+    @Test
+    void deleteContainerRemovesOwnerlessServiceUntilLegacyObjectsAreMigrated() throws Exception {
+        AppsV1Api appsV1Api = start(FakeKubernetesApiServer.Options.defaults());
+        CoreV1Api coreV1Api = new CoreV1Api(appsV1Api.getApiClient());
+        KubernetesService service = service(appsV1Api);
+        for (String name : new String[]{"jupyter-old", "jupyter-new"}) {
+            appsV1Api.createNamespacedDeployment(NAMESPACE, warm(name), null, null, null, null);
+            // 이전 버전 Service - app 라벨만 있고 소유자 없음
+            coreV1Api.createNamespacedService(NAMESPACE, new V1Service()
+                    .metadata(new V1ObjectMeta().name(name).labels(Map.of("app", name))), null, null, null, null);
+        }
+
+        service.deleteContainer("jupyter-old");
+        assertThat(coreV1Api.listNamespacedService(NAMESPACE, null, null, null, null, null, null, null, null, null, null)
+                .getItems()).extracting(item -> item.getMetadata().getName()).containsExactly("jupyter-new");
+
+        // 정리 완료 후에는 Deployment 연쇄 삭제에만 의존 (추가 호출 없음)
+        service.legacyObjectsMigrated();
+        service.deleteContainer("jupyter-new");
+        assertThat(coreV1Api.listNamespacedService(NAMESPACE, null, null, null, null, null, null, null, null, null, null)
+                .getItems()).hasSize(1);
+        assertThat(apiServer.deploymentCount()).isZero();
+    }
+}
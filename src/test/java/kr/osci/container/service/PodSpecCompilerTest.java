@@ -0,0 +1,181 @@
+package kr.osci.container.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1DeploymentSpec;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodTemplateSpec;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.entity.ResourceProfile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PodSpecCompilerTest {
+
+    private static final String REGISTRY = "registry.local:5000";
+
+    private PodSpecCompiler compiler;
+
+    @BeforeEach
+    void setUp() {
+        compiler = new PodSpecCompiler(new ObjectMapper());
+        ReflectionTestUtils.setField(compiler, "registry", REGISTRY);
+        ReflectionTestUtils.setField(compiler, "maxCpuLimit", "4");
+        ReflectionTestUtils.setField(compiler, "maxMemoryLimit", "8Gi");
+    }
+
+    private static ContainerTemplate template(String image, String envJson) {
+        return ContainerTemplate.builder().id(1L).name("Jupyter").image(image).port(8888).envVariables(envJson).build();
+    }
+
+    /**
+     * 프로토타입 도입 전 KubernetesService.buildDeployment 가 만들던 Deployment (비교 기준)
+     */
+    private static V1Deployment legacyDeployment(String name, String namespace, String image, int port,
+                                                 List<V1EnvVar> env, List<String> args,
+                                                 Map<String, String> extraLabels) {
+        Map<String, String> labels = new HashMap<>();
+        labels.put("app", name);
+        labels.put("managed-by", "container-platform");
+
+        V1Container container = new V1Container()
+                .name(name)
+                .image(image)
+                .ports(List.of(new V1ContainerPort().containerPort(port)))
+                .env(env)
+                .args(args)
+                .resources(new V1ResourceRequirements()
+                        .requests(Map.of("memory", new Quantity("256Mi"), "cpu", new Quantity("100m")))
+                        .limits(Map.of("memory", new Quantity("1Gi"), "cpu", new Quantity("500m"))));
+
+        Map<String, String> deploymentLabels = new HashMap<>(labels);
+        deploymentLabels.putAll(extraLabels);
+
+        return new V1Deployment()
+                .metadata(new V1ObjectMeta().name(name).namespace(namespace).labels(deploymentLabels))
+                .spec(new V1DeploymentSpec()
+                        .replicas(1)
+                        .selector(new V1LabelSelector().matchLabels(labels))
+                        .template(new V1PodTemplateSpec()
+                                .metadata(new V1ObjectMeta().labels(labels))
+                                .spec(new V1PodSpec().containers(List.of(container)))));
+    }
+
+    private static V1Container container(V1Deployment deployment) {
+        return deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
+    }
+
+    @Test
+    void compiledDeploymentMatchesLegacySpec() {
+        PodSpecPrototype prototype = compiler.compile(template("jupyter/base-notebook", "{\"A\":\"1\",\"B\":\"two\"}"));
+
+        V1Deployment deployment = prototype.toDeployment("jupyter-abc", "workspaces", Map.of("pool", "warm"));
+
+        V1Deployment expected = legacyDeployment("jupyter-abc", "workspaces", REGISTRY + "/jupyter/base-notebook",
+                8888,
+                List.of(new V1EnvVar().name("A").value("1"), new V1EnvVar().name("B").value("two")),
+                List.of("jupyter", "notebook", "--ip=0.0.0.0", "--port=8888", "--no-browser", "--allow-root",
+                        "--NotebookApp.token=''", "--NotebookApp.password=''"),
+                Map.of("pool", "warm"));
+        // readiness probe 만 새로 추가됨
+        assertThat(container(deployment).getReadinessProbe().getTcpSocket().getPort()).isEqualTo(new IntOrString(8888));
+        container(deployment).readinessProbe(null);
+        assertThat(deployment).isEqualTo(expected);
+    }
+
+    @Test
+    void codeServerAndPlainImagesMatchLegacyArgs() {
+        V1Deployment codeServer = compiler.compile(template("codercom/code-server", null))
+                .toDeployment("code-1", "workspaces", Map.of());
+        V1Deployment plain = compiler.compile(template("nginx", "{}"))
+                .toDeployment("nginx-1", "workspaces", Map.of());
+
+        assertThat(container(codeServer).getArgs()).containsExactly("--auth", "none", "--bind-addr", "0.0.0.0:8888");
+        assertThat(container(codeServer).getEnv()).isEmpty();
+        assertThat(container(plain).getArgs()).isNull();
+
+        container(plain).readinessProbe(null);
+        assertThat(plain).isEqualTo(legacyDeployment("nginx-1", "workspaces", REGISTRY + "/nginx", 8888,
+                List.of(), null, Map.of()));
+    }
+
+    @Test
+    void deploymentsDoNotShareMutableState() {
+        PodSpecPrototype prototype = compiler.compile(template("jupyter/base-notebook", "{\"A\":\"1\"}"));
+
+        V1Deployment first = prototype.toDeployment("jupyter-a", "workspaces", Map.of());
+        container(first).getEnv().get(0).value("changed");
+        container(first).getEnv().add(new V1EnvVar().name("EXTRA").value("x"));
+        container(first).getResources().getLimits().put("memory", new Quantity("4Gi"));
+        container(first).getReadinessProbe().initialDelaySeconds(99).getTcpSocket().port(new IntOrString(1));
+        container(first).getArgs().add("--debug");
+
+        V1Deployment second = prototype.toDeployment("jupyter-b", "workspaces", Map.of());
+
+        assertThat(container(second).getEnv()).containsExactly(new V1EnvVar().name("A").value("1"));
+        assertThat(container(second).getResources().getLimits().get("memory")).isEqualTo(new Quantity("1Gi"));
+        assertThat(container(second).getReadinessProbe().getInitialDelaySeconds()).isEqualTo(5);
+        assertThat(container(second).getReadinessProbe().getTcpSocket().getPort()).isEqualTo(new IntOrString(8888));
+        assertThat(container(second).getArgs()).doesNotContain("--debug");
+    }
+
+    @Test
+    void scalarEnvValuesAreConvertedToStrings() {
+        PodSpecPrototype prototype = compiler.compile(template("nginx", "{\"N\":3,\"FLAG\":true}"));
+
+        assertThat(prototype.env()).containsExactly(
+                new V1EnvVar().name("N").value("3"),
+                new V1EnvVar().name("FLAG").value("true"));
+    }
+
+    @Test
+    void invalidTemplatesAreRejected() {
+        assertThatThrownBy(() -> compiler.compile(template("nginx", "not json")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> compiler.compile(template("nginx", "[\"A\"]")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> compiler.compile(template("nginx", "{\"1BAD NAME\":\"x\"}")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> compiler.compile(template("nginx", "{\"A\":{\"nested\":1}}")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> compiler.compile(template(" ", null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> compiler.compile(
+                ContainerTemplate.builder().name("x").image("nginx").port(70000).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void resourceProfileOverridesDefaultsAndIsValidated() {
+        V1ResourceRequirements resources = compiler.resources(
+                ResourceProfile.builder().cpuRequest("250m").memoryLimit("2Gi").build());
+
+        assertThat(resources.getRequests()).containsEntry("cpu", new Quantity("250m"))
+                .containsEntry("memory", new Quantity("256Mi"));
+        assertThat(resources.getLimits()).containsEntry("memory", new Quantity("2Gi"))
+                .containsEntry("cpu", new Quantity("500m"));
+
+        assertThatThrownBy(() -> compiler.resources(ResourceProfile.builder().cpuRequest("1").build()))
+                .hasMessageContaining("cpuRequest must not exceed cpuLimit");
+        assertThatThrownBy(() -> compiler.resources(ResourceProfile.builder().memoryLimit("16Gi").build()))
+                .hasMessageContaining("memoryLimit exceeds maximum");
+        assertThatThrownBy(() -> compiler.resources(ResourceProfile.builder().cpuLimit("lots").build()))
+                .hasMessageContaining("Invalid cpuLimit");
+    }
+}
@@ -0,0 +1,79 @@
+package kr.osci.container.service;
+
+import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStateRunning;
+import io.kubernetes.client.openapi.models.V1ContainerStateWaiting;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PodStatusCacheTest {
+
+    private static V1Pod pod(String phase, Duration age, String waitingReason) {
+        V1ContainerState state = waitingReason != null
+                ? new V1ContainerState().waiting(new V1ContainerStateWaiting().reason(waitingReason))
+                : new V1ContainerState().running(new V1ContainerStateRunning());
+        return new V1Pod()
+                .metadata(new V1ObjectMeta().name("jupyter-1").creationTimestamp(OffsetDateTime.now().minus(age)))
+                .status(new V1PodStatus().phase(phase)
+                        .containerStatuses(List.of(new V1ContainerStatus().name("jupyter").state(state))));
+    }
+
+    @Test
+    void imagePullFailureStaysPendingDuringGracePeriod() {
+        // 레지스트리 일시 장애 - 바로 실패 처리하지 않음
+        assertThat(PodStatusCache.effectivePhase(pod("Pending", Duration.ofMinutes(1), "ErrImagePull")))
+                .isEqualTo("Pending");
+        assertThat(PodStatusCache.effectivePhase(pod("Pending", Duration.ofMinutes(1), "ImagePullBackOff")))
+                .isEqualTo("Pending");
+        // Secret/ConfigMap 이 뒤늦게 생성되는 경우
+        assertThat(PodStatusCache.effectivePhase(pod("Pending", Duration.ofMinutes(1), "CreateContainerConfigError")))
+                .isEqualTo("Pending");
+    }
+
+    @Test
+    void imagePullFailureBeyondGracePeriodIsFailed() {
+        Duration expired = PodStatusCache.PENDING_FAILURE_GRACE.plusSeconds(1);
+
+        assertThat(PodStatusCache.effectivePhase(pod("Pending", expired, "ImagePullBackOff"))).isEqualTo("Failed");
+        assertThat(PodStatusCache.effectivePhase(pod("Pending", expired, "InvalidImageName"))).isEqualTo("Failed");
+    }
+
+    @Test
+    void crashLoopFailsImmediately() {
+        assertThat(PodStatusCache.effectivePhase(pod("Running", Duration.ofSeconds(10), "CrashLoopBackOff")))
+                .isEqualTo("Failed");
+    }
+
+    @Test
+    void otherWaitingReasonsKeepPodPhase() {
+        assertThat(PodStatusCache.effectivePhase(pod("Pending", Duration.ofHours(1), "ContainerCreating")))
+                .isEqualTo("Pending");
+        assertThat(PodStatusCache.effectivePhase(pod("Running", Duration.ofHours(1), null))).isEqualTo("Running");
+    }
+
+    @Test
+    void deletionTakesPrecedence() {
+        V1Pod pod = pod("Running", Duration.ofSeconds(10), "CrashLoopBackOff");
+        pod.getMetadata().deletionTimestamp(OffsetDateTime.now());
+
+        assertThat(PodStatusCache.effectivePhase(pod)).isEqualTo("Terminating");
+    }
+
+    @Test
+    void waitingReasonChangeIsVisibleForWatchUpdates() {
+        // pull 재시도 중 ErrImagePull ↔ ImagePullBackOff 전환 - 이 변경으로 유예 시간을 다시 평가
+        assertThat(PodStatusCache.waitingReason(pod("Pending", Duration.ofMinutes(1), "ErrImagePull")))
+                .isEqualTo("ErrImagePull");
+        assertThat(PodStatusCache.waitingReason(pod("Running", Duration.ofMinutes(1), null))).isNull();
+        assertThat(PodStatusCache.waitingReason(new V1Pod())).isNull();
+    }
+}
@@ -0,0 +1,54 @@
+package kr.osci.container.service;
+
+import kr.osci.container.repository.SchedulerLeaseRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SchedulerLeaseServiceTest {
+
+    private static final String LEASE = "resources.auto-apply";
+
+    private final SchedulerLeaseRepository leaseRepository = mock(SchedulerLeaseRepository.class);
+    private final SchedulerLeaseService leaseService = new SchedulerLeaseService(leaseRepository);
+
+    @Test
+    void holderRenewsItsLease() {
+        when(leaseRepository.renew(eq(LEASE), anyString(), any(), any())).thenReturn(1);
+
+        assertThat(leaseService.tryAcquire(LEASE, Duration.ofHours(2))).isTrue();
+        verify(leaseRepository, never()).insert(any(), any(), any());
+    }
+
+    @Test
+    void unexpiredLeaseOfAnotherReplicaIsNotTaken() {
+        when(leaseRepository.renew(eq(LEASE), anyString(), any(), any())).thenReturn(0);
+        when(leaseRepository.existsById(LEASE)).thenReturn(true);
+
+        assertThat(leaseService.tryAcquire(LEASE, Duration.ofHours(2))).isFalse();
+        verify(leaseRepository, never()).insert(any(), any(), any());
+    }
+
+    @Test
+    void firstLeaseIsInsertedAndConcurrentInsertLoses() {
+        when(leaseRepository.renew(eq(LEASE), anyString(), any(), any())).thenReturn(0);
+        when(leaseRepository.existsById(LEASE)).thenReturn(false);
+
+        assertThat(leaseService.tryAcquire(LEASE, Duration.ofHours(2))).isTrue();
+
+        // 조회와 insert 사이에 다른 레플리카가 먼저 넣음
+        when(leaseRepository.insert(eq(LEASE), anyString(), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+        assertThat(leaseService.tryAcquire(LEASE, Duration.ofHours(2))).isFalse();
+    }
+}
@@ -0,0 +1,86 @@
+package kr.osci.container.service;
+
+import io.kubernetes.client.openapi.models.V1HTTPIngressPath;
+import io.kubernetes.client.openapi.models.V1HTTPIngressRuleValue;
+import io.kubernetes.client.openapi.models.V1Ingress;
+import io.kubernetes.client.openapi.models.V1IngressBackend;
+import io.kubernetes.client.openapi.models.V1IngressRule;
+import io.kubernetes.client.openapi.models.V1IngressServiceBackend;
+import io.kubernetes.client.openapi.models.V1IngressSpec;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1ServiceBackendPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SharedIngressRouterTest {
+
+    private final KubernetesService kubernetesService = mock(KubernetesService.class);
+    private SharedIngressRouter router;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        router = new SharedIngressRouter(kubernetesService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(router, "shards", 4);
+        ReflectionTestUtils.setField(router, "shardPrefix", "container-routes");
+        when(kubernetesService.readIngress(anyString())).thenReturn(Optional.empty());
+    }
+
+    // 이전 버전 인스턴스별 Ingress - app 라벨만 있음
+    private static V1Ingress baseline(String name, String host) {
+        V1IngressSpec spec = new V1IngressSpec();
+        if (host != null) {
+            spec.rules(List.of(new V1IngressRule().host(host).http(new V1HTTPIngressRuleValue().paths(List.of(
+                    new V1HTTPIngressPath().path("/").backend(new V1IngressBackend().service(
+                            new V1IngressServiceBackend().name(name).port(new V1ServiceBackendPort().number(8888)))))))));
+        }
+        return new V1Ingress().metadata(new V1ObjectMeta().name(name).labels(Map.of("app", name))).spec(spec);
+    }
+
+    // 마이그레이션은 라우트 반영을 기다리므로 별도 스레드에서 실행하며 배치 적용
+    private int migrate() throws Exception {
+        CompletableFuture<Integer> migrated = CompletableFuture.supplyAsync(router::migrateLegacyIngresses);
+        while (!migrated.isDone()) {
+            router.flush();
+            Thread.sleep(10);
+        }
+        return migrated.get();
+    }
+
+    @Test
+    void baselineIngressWithOnlyAppLabelIsMigrated() throws Exception {
+        when(kubernetesService.listIngresses(SharedIngressRouter.LEGACY_SELECTOR))
+                .thenReturn(List.of(baseline("jupyter-a", "a1b2c3d4.example.com")))
+                .thenReturn(List.of());
+
+        assertThat(migrate()).isEqualTo(1);
+
+        verify(kubernetesService).buildIngressRule("jupyter-a", "a1b2c3d4.example.com", 8888);
+        verify(kubernetesService).deleteIngressObject("jupyter-a");
+        assertThat(router.hasLegacyIngresses()).isFalse();
+    }
+
+    @Test
+    void skippedIngressKeepsNameBasedDeletes() throws Exception {
+        when(kubernetesService.listIngresses(SharedIngressRouter.LEGACY_SELECTOR))
+                .thenReturn(List.of(baseline("jupyter-b", null)));
+
+        assertThat(migrate()).isZero();
+
+        verify(kubernetesService, never()).deleteIngressObject(anyString());
+        assertThat(router.hasLegacyIngresses()).isTrue();
+    }
+}
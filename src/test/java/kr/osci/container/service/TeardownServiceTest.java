@@ -0,0 +1,133 @@
+package kr.osci.container.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.event.InstanceStatusChangedEvent;
+import kr.osci.container.event.PodPhaseChangedEvent;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import kr.osci.container.service.placement.ClusterTarget;
+import kr.osci.container.service.placement.ClusterTargets;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TeardownServiceTest {
+
+    private final ClusterTargets clusterTargets = mock(ClusterTargets.class);
+    private final ContainerInstanceRepository instanceRepository = mock(ContainerInstanceRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final KubernetesService kubernetesService = mock(KubernetesService.class);
+    private final PodStatusCache podStatusCache = mock(PodStatusCache.class);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final LocalDateTime requestedAt = LocalDateTime.now().minusSeconds(5);
+    private ContainerInstance instance;
+    private TeardownService teardownService;
+
+    @BeforeEach
+    void setUp() {
+        ClusterTarget target = new ClusterTarget("default", "workspaces", "example.com", 8080, 0, List.of(),
+                kubernetesService, podStatusCache);
+        instance = ContainerInstance.builder().id(1L).userId("alice").podName("jupyter-a")
+                .status(ContainerInstance.ContainerStatus.STOPPING).stoppedAt(requestedAt).build();
+        when(clusterTargets.of(instance)).thenReturn(target);
+        when(podStatusCache.hasSynced()).thenReturn(true);
+        when(instanceRepository.updateStatusIf(1L, ContainerInstance.ContainerStatus.STOPPING,
+                ContainerInstance.ContainerStatus.STOPPED, requestedAt)).thenReturn(1);
+        teardownService = new TeardownService(clusterTargets, instanceRepository, executor, eventPublisher, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private double confirmed(String via) {
+        return meterRegistry.counter("container.teardown.confirmed", "via", via).count();
+    }
+
+    @Test
+    void podAlreadyGoneIsConfirmedRightAfterDelete() {
+        when(podStatusCache.getPhase("jupyter-a")).thenReturn("NOT_FOUND");
+
+        teardownService.teardown(instance).join();
+
+        verify(kubernetesService).deleteContainer("jupyter-a");
+        // stoppedAt 은 중지 요청 시각 유지
+        assertThat(instance.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.STOPPED);
+        assertThat(instance.getStoppedAt()).isEqualTo(requestedAt);
+        verify(eventPublisher).publishEvent(any(InstanceStatusChangedEvent.class));
+        assertThat(confirmed("deleted")).isEqualTo(1);
+    }
+
+    @Test
+    void terminatingPodWaitsForDeleteEvent() {
+        when(podStatusCache.getPhase("jupyter-a")).thenReturn("Running");
+        when(instanceRepository.findByPodName("jupyter-a")).thenReturn(Optional.of(instance));
+
+        teardownService.teardown(instance).join();
+        assertThat(instance.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.STOPPING);
+
+        // 종료 중 phase 변경은 무시, 마지막 Pod 삭제 이벤트로 확정
+        teardownService.onPodPhaseChanged(new PodPhaseChangedEvent("jupyter-a", "Succeeded"));
+        assertThat(instance.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.STOPPING);
+        teardownService.onPodPhaseChanged(new PodPhaseChangedEvent("jupyter-a", "NOT_FOUND"));
+
+        assertThat(instance.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.STOPPED);
+        assertThat(confirmed("pod_deleted")).isEqualTo(1);
+    }
+
+    @Test
+    void unsyncedCacheLeavesConfirmationToEvents() {
+        when(podStatusCache.hasSynced()).thenReturn(false);
+
+        teardownService.teardown(instance).join();
+
+        verify(instanceRepository, never()).updateStatusIf(any(), any(), any(), any());
+        assertThat(instance.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.STOPPING);
+    }
+
+    @Test
+    void confirmationIsPublishedOnceAcrossReplicas() {
+        assertThat(teardownService.confirm(instance, "pod_deleted")).isTrue();
+        // 다른 레플리카가 같은 삭제 이벤트로 먼저 확정
+        when(instanceRepository.updateStatusIf(1L, ContainerInstance.ContainerStatus.STOPPING,
+                ContainerInstance.ContainerStatus.STOPPED, requestedAt)).thenReturn(0);
+        ContainerInstance other = ContainerInstance.builder().id(1L).podName("jupyter-a")
+                .status(ContainerInstance.ContainerStatus.STOPPING).stoppedAt(requestedAt).build();
+
+        assertThat(teardownService.confirm(other, "pod_deleted")).isFalse();
+
+        assertThat(other.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.STOPPING);
+        verify(eventPublisher).publishEvent(any(InstanceStatusChangedEvent.class));
+    }
+
+    @Test
+    void failedDeleteLeavesInstanceStoppingForReconciler() {
+        doThrow(new RuntimeException("Kubernetes API error: boom")).when(kubernetesService).deleteContainer("jupyter-a");
+
+        assertThatThrownBy(() -> teardownService.teardown(instance).join()).hasRootCauseMessage(
+                "Kubernetes API error: boom");
+
+        assertThat(instance.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.STOPPING);
+        verify(instanceRepository, never()).updateStatusIf(any(), any(), any(), any());
+        assertThat(meterRegistry.counter("container.teardown.failures", "target", "default").count()).isEqualTo(1);
+    }
+}
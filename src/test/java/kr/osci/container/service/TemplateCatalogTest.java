@@ -0,0 +1,58 @@
+package kr.osci.container.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.repository.ContainerTemplateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TemplateCatalogTest {
+
+    private final ContainerTemplateRepository templateRepository = mock(ContainerTemplateRepository.class);
+    private final ContainerTemplate jupyter = ContainerTemplate.builder().id(1L).name("Jupyter").enabled(true).build();
+    private TemplateCatalog templateCatalog;
+
+    @BeforeEach
+    void setUp() {
+        templateCatalog = new TemplateCatalog(templateRepository, mock(PodSpecCompiler.class), new SimpleMeterRegistry());
+        fingerprint(1, 1, 0);
+        when(templateRepository.findAll()).thenReturn(List.of(jupyter));
+        templateCatalog.refresh();
+    }
+
+    private void fingerprint(long count, long maxId, long versions) {
+        when(templateRepository.fingerprint()).thenReturn(List.<Object[]>of(new Object[]{count, maxId, versions}));
+    }
+
+    @Test
+    void unchangedFingerprintKeepsSnapshotAndVersion() {
+        templateCatalog.refreshIfChanged();
+
+        assertThat(templateCatalog.snapshot().version()).isEqualTo(1);
+        verify(templateRepository, times(1)).findAll();
+    }
+
+    @Test
+    void changeOnAnotherReplicaIsPickedUp() {
+        // 다른 레플리카가 템플릿을 비활성화 (version 증가, TemplateChangedEvent 는 그 레플리카에만 발행)
+        ContainerTemplate disabled = ContainerTemplate.builder().id(1L).name("Jupyter").enabled(false).version(1L).build();
+        fingerprint(1, 1, 1);
+        when(templateRepository.findAll()).thenReturn(List.of(disabled));
+
+        templateCatalog.refreshIfChanged();
+
+        assertThat(templateCatalog.snapshot().version()).isEqualTo(2);
+        assertThat(templateCatalog.snapshot().enabled()).isEmpty();
+        // 반영 후에는 다시 적재하지 않음
+        templateCatalog.refreshIfChanged();
+        verify(templateRepository, times(2)).findAll();
+    }
+}
@@ -0,0 +1,181 @@
+package kr.osci.container.service;
+
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.entity.ContainerTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WarmPoolServiceTest {
+
+    private final KubernetesService kubernetesService = mock(KubernetesService.class);
+    private final TemplateCatalog templateCatalog = mock(TemplateCatalog.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ContainerTemplate jupyter = ContainerTemplate.builder().id(1L).name("Jupyter").build();
+
+    // bind 로 저장된 행 / unbind 로 되돌린 행
+    private final AtomicLong ids = new AtomicLong(100);
+    private final List<ContainerInstance> bound = new ArrayList<>();
+    private final List<ContainerInstance> unbound = new ArrayList<>();
+    private final Function<WarmPoolService.PoolEntry, ContainerInstance> bind = entry -> {
+        ContainerInstance instance = ContainerInstance.builder()
+                .id(ids.incrementAndGet()).userId("alice@example.com").podName(entry.podName()).build();
+        bound.add(instance);
+        return instance;
+    };
+    private final Consumer<ContainerInstance> unbind = unbound::add;
+
+    private WarmPoolService warmPoolService;
+
+    @BeforeEach
+    void setUp() {
+        warmPoolService = new WarmPoolService(kubernetesService, mock(ProvisioningService.class),
+                templateCatalog, meterRegistry);
+    }
+
+    // 클러스터에 남아 있는 웜 풀 Deployment 로 풀 구성
+    private void pool(String... podNames) {
+        List<V1Deployment> deployments = new ArrayList<>();
+        for (String podName : podNames) {
+            deployments.add(new V1Deployment().metadata(new V1ObjectMeta().name(podName).labels(Map.of(
+                    "app", podName, "pool", "warm", "template-id", "1", "host-suffix", podName + "-s"))));
+        }
+        when(kubernetesService.listDeployments(anyString())).thenReturn(deployments);
+        warmPoolService.restorePools();
+    }
+
+    private void relabel(String podName, boolean result) {
+        when(kubernetesService.relabelDeployment(eq(podName), eq("pool"), eq("warm"), eq("claimed"), anyMap()))
+                .thenReturn(result);
+    }
+
+    private double claims(String result) {
+        return meterRegistry.counter("container.warmpool.claims", "templateId", "1", "result", result).count();
+    }
+
+    @Test
+    void claimAppliesUserAndInstanceLabelsInSamePatch() {
+        pool("jupyter-w1");
+        relabel("jupyter-w1", true);
+
+        Optional<ContainerInstance> claimed = warmPoolService.claim(jupyter, "alice@example.com", bind, unbind);
+
+        assertThat(claimed).containsSame(bound.get(0));
+        verify(kubernetesService).relabelDeployment("jupyter-w1", "pool", "warm", "claimed", Map.of(
+                WarmPoolService.USER_LABEL, "alice_example.com",
+                WarmPoolService.INSTANCE_LABEL, "101"));
+        assertThat(unbound).isEmpty();
+        assertThat(claims("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void conflictUnbindsRowAndTriesNextEntry() {
+        pool("jupyter-w1", "jupyter-w2");
+        // 다른 레플리카가 w1 을 먼저 점유 - JSON Patch test 연산 실패
+        relabel("jupyter-w1", false);
+        relabel("jupyter-w2", true);
+
+        Optional<ContainerInstance> claimed = warmPoolService.claim(jupyter, "alice", bind, unbind);
+
+        assertThat(claimed).map(ContainerInstance::getPodName).contains("jupyter-w2");
+        assertThat(unbound).extracting(ContainerInstance::getPodName).containsExactly("jupyter-w1");
+        // w2 패치에는 w2 행의 id
+        verify(kubernetesService).relabelDeployment("jupyter-w2", "pool", "warm", "claimed", Map.of(
+                WarmPoolService.USER_LABEL, "alice",
+                WarmPoolService.INSTANCE_LABEL, String.valueOf(bound.get(1).getId())));
+    }
+
+    @Test
+    void allEntriesTakenFallsBackToColdStart() {
+        pool("jupyter-w1", "jupyter-w2");
+        relabel("jupyter-w1", false);
+        relabel("jupyter-w2", false);
+
+        assertThat(warmPoolService.claim(jupyter, "alice", bind, unbind)).isEmpty();
+
+        assertThat(unbound).containsExactlyElementsOf(bound).hasSize(2);
+        assertThat(claims("miss")).isEqualTo(1);
+        // 점유된 항목은 풀에서 빠짐 - 다음 요청은 패치 없이 바로 miss
+        assertThat(warmPoolService.claim(jupyter, "bob", bind, unbind)).isEmpty();
+        assertThat(bound).hasSize(2);
+    }
+
+    @Test
+    void apiFailureReturnsEntryToPoolAndPropagates() {
+        pool("jupyter-w1", "jupyter-w2");
+        when(kubernetesService.relabelDeployment(eq("jupyter-w1"), anyString(), anyString(), anyString(), anyMap()))
+                .thenThrow(new KubernetesUnavailableException("circuit-open", "Kubernetes API unavailable",
+                        Duration.ofSeconds(30)))
+                .thenReturn(true);
+
+        assertThatThrownBy(() -> warmPoolService.claim(jupyter, "alice", bind, unbind))
+                .isInstanceOf(KubernetesUnavailableException.class);
+        assertThat(unbound).containsExactly(bound.get(0));
+
+        // 같은 항목이 다시 맨 앞에서 할당됨
+        Optional<ContainerInstance> retried = warmPoolService.claim(jupyter, "alice", bind, unbind);
+        assertThat(retried).map(ContainerInstance::getPodName).contains("jupyter-w1");
+        verify(kubernetesService, never()).relabelDeployment(eq("jupyter-w2"), anyString(), anyString(),
+                anyString(), anyMap());
+    }
+
+    @Test
+    void trimFailureKeepsEntryForNextCycle() {
+        pool("jupyter-w1", "jupyter-w2");
+        ContainerTemplate shrunk = ContainerTemplate.builder().id(1L).name("Jupyter").warmPoolSize(1).build();
+        when(templateCatalog.snapshot()).thenReturn(new TemplateCatalog.Snapshot(1, List.of(shrunk), Map.of(), Map.of()));
+        when(kubernetesService.relabelDeployment("jupyter-w2", "pool", "warm", "claimed"))
+                .thenThrow(new RuntimeException("Kubernetes API error: injected failure"))
+                .thenReturn(true);
+
+        warmPoolService.refill();
+
+        // 실패한 항목은 풀에 남아 다음 주기에 다시 정리
+        verify(kubernetesService, never()).deleteContainer(anyString());
+        assertThat(meterRegistry.get("container.warmpool.size").tag("templateId", "1").gauge().value()).isEqualTo(2);
+
+        warmPoolService.refill();
+
+        verify(kubernetesService).deleteContainer("jupyter-w2");
+        assertThat(meterRegistry.get("container.warmpool.size").tag("templateId", "1").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void emptyPoolMissesWithoutBinding() {
+        assertThat(warmPoolService.claim(jupyter, "alice", bind, unbind)).isEmpty();
+
+        assertThat(bound).isEmpty();
+        verify(kubernetesService, never()).relabelDeployment(any(), any(), any(), any(), anyMap());
+        assertThat(claims("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void labelValuesAreSanitized() {
+        assertThat(WarmPoolService.labelValue("alice@example.com")).isEqualTo("alice_example.com");
+        assertThat(WarmPoolService.labelValue("-bob-")).isEqualTo("bob");
+        assertThat(WarmPoolService.labelValue("@carol")).isEqualTo("carol");
+        assertThat(WarmPoolService.labelValue("a".repeat(70))).hasSize(63);
+    }
+}
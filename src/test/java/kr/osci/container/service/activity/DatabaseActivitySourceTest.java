@@ -0,0 +1,55 @@
+package kr.osci.container.service.activity;
+
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DatabaseActivitySourceTest {
+
+    private final ContainerInstanceRepository instanceRepository = mock(ContainerInstanceRepository.class);
+    private DatabaseActivitySource source;
+
+    @BeforeEach
+    void setUp() {
+        source = new DatabaseActivitySource(instanceRepository);
+        ReflectionTestUtils.setField(source, "writeInterval", Duration.ofMinutes(1));
+    }
+
+    @Test
+    void heartbeatIsWrittenAtMostOncePerInterval() {
+        ContainerInstance instance = ContainerInstance.builder().id(1L).podName("jupyter-a").build();
+        when(instanceRepository.touchActivity(eq(1L), any(), any())).thenReturn(1, 0);
+
+        source.recordActivity(instance);
+        LocalDateTime recorded = instance.getLastActivityAt();
+        assertThat(recorded).isNotNull();
+        // 간격 안의 두 번째 heartbeat - 조건부 update 가 건너뜀
+        source.recordActivity(instance);
+
+        assertThat(instance.getLastActivityAt()).isEqualTo(recorded);
+        verify(instanceRepository, times(2)).touchActivity(eq(1L), any(), any());
+    }
+
+    @Test
+    void lastActivityIsReadFromTheRowSoEveryReplicaSeesIt() {
+        LocalDateTime at = LocalDateTime.now().minusMinutes(30);
+        ContainerInstance instance = ContainerInstance.builder().id(1L).podName("jupyter-a").lastActivityAt(at).build();
+
+        assertThat(source.lastActivity(instance)).contains(at.atZone(ZoneId.systemDefault()).toInstant());
+        assertThat(source.lastActivity(ContainerInstance.builder().id(2L).build())).isEmpty();
+    }
+}
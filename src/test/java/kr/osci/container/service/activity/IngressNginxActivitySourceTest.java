@@ -0,0 +1,74 @@
+package kr.osci.container.service.activity;
+
+import com.sun.net.httpserver.HttpServer;
+import kr.osci.container.entity.ContainerInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IngressNginxActivitySourceTest {
+
+    private final AtomicReference<String> metrics = new AtomicReference<>("");
+    private HttpServer server;
+    private IngressNginxActivitySource source;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/metrics", exchange -> {
+            byte[] body = metrics.get().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        source = new IngressNginxActivitySource();
+        ReflectionTestUtils.setField(source, "metricsUrl",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/metrics");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void sharedIngressActivityIsKeyedByService() {
+        // 공유 Ingress 샤드 하나에 두 인스턴스 라우트
+        metrics.set(series("container-routes-0", "jupyter-aaaa", 10) + series("container-routes-0", "jupyter-bbbb", 5));
+        source.refresh();
+        metrics.set(series("container-routes-0", "jupyter-aaaa", 12) + series("container-routes-0", "jupyter-bbbb", 5));
+        source.refresh();
+
+        assertThat(source.lastActivity(instance("jupyter-aaaa"))).isPresent();
+        assertThat(source.lastActivity(instance("container-routes-0"))).isEmpty();
+    }
+
+    @Test
+    void perInstanceIngressStillMatchesPodName() {
+        metrics.set(series("jupyter-cccc", "jupyter-cccc", 1));
+        source.refresh();
+
+        assertThat(source.lastActivity(instance("jupyter-cccc"))).isPresent();
+    }
+
+    private static String series(String ingress, String service, int count) {
+        return "nginx_ingress_controller_requests{canary=\"\",controller_class=\"k8s.io/ingress-nginx\","
+                + "exported_service=\"other\",ingress=\"" + ingress + "\",method=\"GET\",namespace=\"user-containers\","
+                + "path=\"/\",service=\"" + service + "\",status=\"200\"} " + count + "\n";
+    }
+
+    private static ContainerInstance instance(String podName) {
+        return ContainerInstance.builder().podName(podName).build();
+    }
+}
@@ -0,0 +1,31 @@
+package kr.osci.container.service.activity;
+
+import kr.osci.container.entity.ContainerInstance;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalActivitySourceTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void refreshPrunesRecordsOlderThanTwiceTheIdleTimeout() {
+        LocalActivitySource source = new LocalActivitySource();
+        ReflectionTestUtils.setField(source, "idleTimeout", Duration.ofHours(2));
+        ContainerInstance recent = ContainerInstance.builder().podName("jupyter-a").build();
+        source.recordActivity(recent);
+        // 오래전에 휴면/중지된 인스턴스의 기록
+        Map<String, Instant> records = (Map<String, Instant>) ReflectionTestUtils.getField(source, "lastActivity");
+        records.put("jupyter-gone", Instant.now().minus(Duration.ofHours(5)));
+
+        source.refresh();
+
+        assertThat(records).containsOnlyKeys("jupyter-a");
+        assertThat(source.lastActivity(recent)).isPresent();
+    }
+}
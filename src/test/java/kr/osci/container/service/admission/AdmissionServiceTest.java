@@ -0,0 +1,203 @@
+package kr.osci.container.service.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.osci.container.controller.ApiExceptionHandler;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AdmissionServiceTest {
+
+    private final ContainerInstanceRepository instanceRepository = mock(ContainerInstanceRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ContainerTemplate jupyter = ContainerTemplate.builder().id(1L).name("Jupyter").build();
+
+    private AdmissionService admissionService;
+
+    @BeforeEach
+    void setUp() {
+        admissionService = new AdmissionService(instanceRepository, meterRegistry);
+        ReflectionTestUtils.setField(admissionService, "enabled", true);
+        ReflectionTestUtils.setField(admissionService, "maxInstancesPerUser", 2);
+        ReflectionTestUtils.setField(admissionService, "quotaRetryAfter", Duration.ofSeconds(60));
+        ReflectionTestUtils.setField(admissionService, "userCreatesPerMinute", 100);
+        ReflectionTestUtils.setField(admissionService, "userStopsPerMinute", 100);
+        ReflectionTestUtils.setField(admissionService, "globalCreatesPerSecond", 100);
+        ReflectionTestUtils.setField(admissionService, "globalStopsPerSecond", 100);
+        ReflectionTestUtils.setField(admissionService, "maxInFlightMutations", 10);
+        admissionService.init();
+    }
+
+    @Test
+    void quotaExceededIsRejectedWith429AndRetryAfter() {
+        when(instanceRepository.countActiveByTemplate(eq("alice"), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 2L}));
+
+        AdmissionRejectedException rejection = catchThrowableOfType(AdmissionRejectedException.class,
+                () -> admissionService.admitCreate("alice", jupyter));
+
+        assertThat(rejection.getReason()).isEqualTo("quota");
+        assertThat(rejection.getRetryAfter()).isEqualTo(Duration.ofSeconds(60));
+        assertThat(meterRegistry.counter("container.admission.rejections", "reason", "quota").count()).isEqualTo(1);
+
+        ResponseEntity<Map<String, String>> response = new ApiExceptionHandler().handleAdmissionRejected(rejection);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("60");
+        assertThat(response.getBody()).containsEntry("reason", "quota");
+    }
+
+    @Test
+    void retryAfterIsRoundedUpToWholeSeconds() {
+        ResponseEntity<Map<String, String>> response = new ApiExceptionHandler().handleAdmissionRejected(
+                new AdmissionRejectedException("global-rate", "Too many create requests", Duration.ofMillis(50)));
+
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    @Test
+    void perTemplateLimitAppliesBeforeUserQuota() {
+        ContainerTemplate limited = ContainerTemplate.builder().id(1L).name("Jupyter").maxInstancesPerUser(1).build();
+        when(instanceRepository.countActiveByTemplate(eq("alice"), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 1L}));
+
+        assertThatThrownBy(() -> admissionService.admitCreate("alice", limited))
+                .isInstanceOf(AdmissionRejectedException.class)
+                .hasMessageContaining("Jupyter");
+    }
+
+    @Test
+    void unsavedReservationsCountTowardQuotaUntilReleased() {
+        AdmissionService.Permit first = admissionService.admitCreate("alice", jupyter);
+        admissionService.admitCreate("alice", jupyter);
+
+        assertThatThrownBy(() -> admissionService.admitCreate("alice", jupyter))
+                .isInstanceOf(AdmissionRejectedException.class)
+                .extracting("reason").isEqualTo("quota");
+
+        // 저장 실패 등으로 반환된 예약은 다시 사용 가능
+        first.close();
+        admissionService.admitCreate("alice", jupyter);
+    }
+
+    @Test
+    void userRateRejectsAndRefundsGlobalToken() {
+        ReflectionTestUtils.setField(admissionService, "userCreatesPerMinute", 1);
+        ReflectionTestUtils.setField(admissionService, "globalCreatesPerSecond", 2);
+        admissionService.init();
+
+        admissionService.admitCreate("alice", jupyter).close();
+        AdmissionRejectedException rejection = catchThrowableOfType(AdmissionRejectedException.class,
+                () -> admissionService.admitCreate("alice", jupyter));
+
+        assertThat(rejection.getReason()).isEqualTo("user-rate");
+        assertThat(rejection.getRetryAfter()).isPositive().isLessThanOrEqualTo(Duration.ofMinutes(1));
+        // 거절된 요청이 쓴 전체 토큰은 반환됨 - 남은 1개로 다른 사용자 생성 가능
+        admissionService.admitCreate("bob", jupyter).close();
+    }
+
+    @Test
+    void globalRateRejectsWithSubSecondRetry() {
+        ReflectionTestUtils.setField(admissionService, "globalCreatesPerSecond", 1);
+        admissionService.init();
+
+        admissionService.admitCreate("alice", jupyter).close();
+        AdmissionRejectedException rejection = catchThrowableOfType(AdmissionRejectedException.class,
+                () -> admissionService.admitCreate("bob", jupyter));
+
+        assertThat(rejection.getReason()).isEqualTo("global-rate");
+        assertThat(rejection.getRetryAfter()).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void inFlightLimitRejectsUntilPermitClosed() {
+        ReflectionTestUtils.setField(admissionService, "maxInFlightMutations", 1);
+        admissionService.init();
+
+        AdmissionService.Permit permit = admissionService.admitCreate("alice", jupyter);
+        permit.releaseReservation();
+
+        AdmissionRejectedException rejection = catchThrowableOfType(AdmissionRejectedException.class,
+                () -> admissionService.admitStop("bob"));
+        assertThat(rejection.getReason()).isEqualTo("in-flight");
+        assertThat(rejection.getRetryAfter()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(admissionService.admitDispatch()).isEmpty();
+
+        permit.close();
+        admissionService.admitStop("bob").close();
+    }
+
+    @Test
+    void permitCloseIsIdempotent() {
+        ReflectionTestUtils.setField(admissionService, "maxInFlightMutations", 1);
+        admissionService.init();
+
+        AdmissionService.Permit permit = admissionService.admitCreate("alice", jupyter);
+        permit.close();
+        permit.close();
+
+        // 두 번 닫아도 슬롯은 하나만 반환
+        AdmissionService.Permit next = admissionService.admitDispatch().orElseThrow();
+        assertThat(admissionService.admitDispatch()).isEmpty();
+        next.close();
+    }
+
+    @Test
+    void bulkCreateRejectsItemsIndividually() {
+        when(instanceRepository.countActiveByTemplate(eq("bob"), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 2L}));
+
+        List<AdmissionService.Admission> admissions =
+                admissionService.admitBulkCreate(List.of("alice", "bob", "carol"), jupyter);
+
+        assertThat(admissions).extracting(AdmissionService.Admission::userId).containsExactly("alice", "bob", "carol");
+        assertThat(admissions.get(0).permit()).isNotNull();
+        assertThat(admissions.get(1).permit()).isNull();
+        assertThat(admissions.get(1).rejection().getReason()).isEqualTo("quota");
+        assertThat(admissions.get(2).permit()).isNotNull();
+    }
+
+    @Test
+    void bulkStopAppliesUserStopRateAndTakesSlotsPerCall() {
+        ReflectionTestUtils.setField(admissionService, "userStopsPerMinute", 1);
+        ReflectionTestUtils.setField(admissionService, "maxInFlightMutations", 1);
+        admissionService.init();
+
+        List<AdmissionService.Admission> admissions = admissionService.admitBulkStop(List.of("alice", "alice", "bob"));
+
+        assertThat(admissions).extracting(admission -> admission.permit() != null).containsExactly(true, false, true);
+        assertThat(admissions.get(1).rejection().getReason()).isEqualTo("user-rate");
+        // 항목 승인은 작업 슬롯을 잡지 않음 - 삭제 호출마다 awaitSlot()
+        AdmissionService.Permit slot = admissionService.awaitSlot();
+        assertThat(admissionService.admitDispatch()).isEmpty();
+        slot.close();
+        admissionService.admitDispatch().orElseThrow().close();
+    }
+
+    @Test
+    void disabledAdmitsWithoutChecks() {
+        ReflectionTestUtils.setField(admissionService, "enabled", false);
+
+        for (int i = 0; i < 20; i++) {
+            admissionService.admitCreate("alice", jupyter);
+        }
+        verifyNoInteractions(instanceRepository);
+    }
+}
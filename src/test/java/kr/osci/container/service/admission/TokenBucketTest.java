@@ -0,0 +1,67 @@
+package kr.osci.container.service.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    @Test
+    void burstUpToCapacityThenWait() {
+        TokenBucket bucket = new TokenBucket(3, Duration.ofMinutes(1));
+
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isZero();
+
+        // 분당 3개 - 다음 토큰까지 최대 20초
+        long waitNanos = bucket.tryConsume();
+        assertThat(waitNanos).isPositive();
+        assertThat(Duration.ofNanos(waitNanos)).isLessThanOrEqualTo(Duration.ofSeconds(20));
+    }
+
+    @Test
+    void refillsOverTime() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(2, Duration.ofMillis(100));
+        bucket.tryConsume();
+        bucket.tryConsume();
+        assertThat(bucket.tryConsume()).isPositive();
+
+        // 50ms 당 1개 보충
+        Thread.sleep(120);
+        assertThat(bucket.tryConsume()).isZero();
+    }
+
+    @Test
+    void refillNeverExceedsCapacity() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(2, Duration.ofMillis(10));
+        Thread.sleep(50);
+
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isPositive();
+    }
+
+    @Test
+    void refundRestoresToken() {
+        TokenBucket bucket = new TokenBucket(1, Duration.ofMinutes(1));
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.isFull()).isFalse();
+
+        bucket.refund();
+        assertThat(bucket.isFull()).isTrue();
+        assertThat(bucket.tryConsume()).isZero();
+    }
+
+    @Test
+    void refundIsCappedAtCapacity() {
+        TokenBucket bucket = new TokenBucket(1, Duration.ofMinutes(1));
+        bucket.refund();
+        bucket.refund();
+
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isPositive();
+    }
+}
@@ -0,0 +1,235 @@
+package kr.osci.container.service.lifecycle;
+
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.entity.RunningInterval;
+import kr.osci.container.entity.UsageRollup;
+import kr.osci.container.event.InstanceStatusChangedEvent;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import kr.osci.container.repository.InstanceEventRepository;
+import kr.osci.container.repository.RunningIntervalRepository;
+import kr.osci.container.repository.UsageRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LifecycleEventWriterTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 1);
+
+    @Mock
+    private InstanceEventRepository eventRepository;
+
+    @Mock
+    private RunningIntervalRepository intervalRepository;
+
+    @Mock
+    private ContainerInstanceRepository instanceRepository;
+
+    @Mock
+    private UsageRollupRepository rollupRepository;
+
+    @InjectMocks
+    private LifecycleEventWriter writer;
+
+    private static LocalDateTime at(int dayOffset, int hour, int minute) {
+        return DAY.plusDays(dayOffset).atTime(hour, minute);
+    }
+
+    private static InstanceStatusChangedEvent event(long instanceId, ContainerInstance.ContainerStatus status,
+                                                    LocalDateTime occurredAt) {
+        return new InstanceStatusChangedEvent(instanceId, "alice", 1L, "jupyter-" + instanceId, null,
+                status, occurredAt, occurredAt);
+    }
+
+    private static RunningInterval interval(long instanceId, LocalDateTime accruedUntil) {
+        return new RunningInterval(instanceId, "alice", 1L, accruedUntil);
+    }
+
+    // 새로 만든 집계 행 (increment 대상 행이 없으면 save)
+    private Map<LocalDate, UsageRollup> savedRollups() {
+        ArgumentCaptor<UsageRollup> captor = ArgumentCaptor.forClass(UsageRollup.class);
+        verify(rollupRepository, atLeastOnce()).save(captor.capture());
+        return captor.getAllValues().stream()
+                .collect(Collectors.toMap(rollup -> rollup.getKey().getUsageDate(), rollup -> rollup));
+    }
+
+    private static long hours(double hours) {
+        return (long) (hours * Duration.ofHours(1).toMillis());
+    }
+
+    @Test
+    void closedIntervalIsSplitAtDayBoundaries() {
+        when(intervalRepository.findById(1L)).thenReturn(Optional.of(interval(1L, at(0, 22, 0))));
+        when(intervalRepository.close(1L, at(0, 22, 0))).thenReturn(1);
+
+        writer.write(List.of(event(1L, ContainerInstance.ContainerStatus.STOPPED, at(2, 2, 30))));
+
+        Map<LocalDate, UsageRollup> rollups = savedRollups();
+        assertThat(rollups).hasSize(3);
+        assertThat(rollups.get(DAY).getRunningMillis()).isEqualTo(hours(2));
+        assertThat(rollups.get(DAY.plusDays(1)).getRunningMillis()).isEqualTo(hours(24));
+        assertThat(rollups.get(DAY.plusDays(2)).getRunningMillis()).isEqualTo(hours(2.5));
+        // 중지는 실행 수에 포함하지 않음
+        assertThat(rollups.values()).allSatisfy(rollup -> assertThat(rollup.getLaunches()).isZero());
+    }
+
+    @Test
+    void checkpointAccruesAcrossMidnightAndAdvancesInterval() {
+        when(intervalRepository.findAll()).thenReturn(List.of(interval(1L, at(0, 23, 30))));
+        when(intervalRepository.advance(1L, at(0, 23, 30), at(1, 0, 15))).thenReturn(1);
+
+        assertThat(writer.checkpoint(at(1, 0, 15))).isEqualTo(1);
+
+        Map<LocalDate, UsageRollup> rollups = savedRollups();
+        assertThat(rollups.get(DAY).getRunningMillis()).isEqualTo(Duration.ofMinutes(30).toMillis());
+        assertThat(rollups.get(DAY.plusDays(1)).getRunningMillis()).isEqualTo(Duration.ofMinutes(15).toMillis());
+    }
+
+    @Test
+    void checkpointLosingRaceAccruesNothing() {
+        when(intervalRepository.findAll()).thenReturn(List.of(interval(1L, at(0, 10, 0))));
+        when(intervalRepository.advance(1L, at(0, 10, 0), at(0, 11, 0))).thenReturn(0);
+
+        // 다른 레플리카가 먼저 반영
+        assertThat(writer.checkpoint(at(0, 11, 0))).isZero();
+
+        verify(rollupRepository, never()).increment(any(), anyLong(), anyLong());
+        verify(rollupRepository, never()).save(any());
+    }
+
+    @Test
+    void closeRetriesFromPointAdvancedByConcurrentCheckpoint() {
+        when(intervalRepository.findById(1L)).thenReturn(
+                Optional.of(interval(1L, at(0, 10, 0))),
+                Optional.of(interval(1L, at(0, 11, 0))));
+        when(intervalRepository.close(1L, at(0, 10, 0))).thenReturn(0);
+        when(intervalRepository.close(1L, at(0, 11, 0))).thenReturn(1);
+
+        writer.write(List.of(event(1L, ContainerInstance.ContainerStatus.STOPPED, at(0, 11, 30))));
+
+        // 10:00~11:00 은 checkpoint 가 이미 반영 - 남은 30분만
+        assertThat(savedRollups().get(DAY).getRunningMillis()).isEqualTo(Duration.ofMinutes(30).toMillis());
+    }
+
+    @Test
+    void closeGivesUpAfterRepeatedConflicts() {
+        when(intervalRepository.findById(1L)).thenReturn(Optional.of(interval(1L, at(0, 10, 0))));
+        when(intervalRepository.close(1L, at(0, 10, 0))).thenReturn(0);
+
+        writer.write(List.of(event(1L, ContainerInstance.ContainerStatus.STOPPED, at(0, 11, 0))));
+
+        verify(intervalRepository, times(3)).close(1L, at(0, 10, 0));
+        verify(rollupRepository, never()).save(any());
+    }
+
+    @Test
+    void intervalAlreadyClosedElsewhereAccruesNothing() {
+        when(intervalRepository.findById(1L)).thenReturn(Optional.empty());
+
+        writer.write(List.of(event(1L, ContainerInstance.ContainerStatus.STOPPED, at(0, 11, 0))));
+
+        verify(intervalRepository, never()).close(any(), any());
+        verify(rollupRepository, never()).save(any());
+    }
+
+    @Test
+    void firstLaunchIsCountedOncePerInstance() {
+        when(eventRepository.findRecordedInstanceIds(Set.of(1L))).thenReturn(Set.of());
+
+        writer.write(List.of(
+                event(1L, ContainerInstance.ContainerStatus.QUEUED, at(0, 9, 0)),
+                event(1L, ContainerInstance.ContainerStatus.PENDING, at(0, 9, 1)),
+                event(1L, ContainerInstance.ContainerStatus.RUNNING, at(0, 9, 2))));
+
+        UsageRollup rollup = savedRollups().get(DAY);
+        assertThat(rollup.getLaunches()).isEqualTo(1);
+        assertThat(rollup.getRunningMillis()).isZero();
+        verify(intervalRepository).save(any(RunningInterval.class));
+    }
+
+    @Test
+    void resumeOfRecordedInstanceIsNotALaunch() {
+        when(eventRepository.findRecordedInstanceIds(Set.of(2L))).thenReturn(Set.of(2L));
+        when(intervalRepository.existsById(2L)).thenReturn(false);
+
+        // 휴면 재개 - 이전에 기록된 인스턴스의 RUNNING
+        writer.write(List.of(event(2L, ContainerInstance.ContainerStatus.RUNNING, at(0, 9, 0))));
+
+        verify(rollupRepository, never()).save(any());
+        verify(intervalRepository).save(any(RunningInterval.class));
+    }
+
+    @Test
+    void existingRollupRowIsIncremented() {
+        when(eventRepository.findRecordedInstanceIds(Set.of(1L))).thenReturn(Set.of());
+        UsageRollup.Key key = new UsageRollup.Key(DAY, "alice", 1L);
+        when(rollupRepository.increment(key, 1, 0)).thenReturn(1);
+
+        writer.write(List.of(event(1L, ContainerInstance.ContainerStatus.PENDING, at(0, 9, 0))));
+
+        verify(rollupRepository, never()).save(any());
+    }
+
+    @Test
+    void repairClosesStaleIntervalAtStoppedTimeAndOpensMissing() {
+        ContainerTemplate template = ContainerTemplate.builder().id(1L).build();
+        ContainerInstance stopped = ContainerInstance.builder().id(1L).userId("alice").template(template)
+                .status(ContainerInstance.ContainerStatus.STOPPED).stoppedAt(at(1, 1, 0)).build();
+        ContainerInstance running = ContainerInstance.builder().id(2L).userId("alice").template(template)
+                .status(ContainerInstance.ContainerStatus.RUNNING).build();
+        when(intervalRepository.findStale(ContainerInstance.ContainerStatus.RUNNING))
+                .thenReturn(List.of(interval(1L, at(0, 23, 0))));
+        when(instanceRepository.findAllById(List.of(1L))).thenReturn(List.of(stopped));
+        when(intervalRepository.close(1L, at(0, 23, 0))).thenReturn(1);
+        when(instanceRepository.findWithoutRunningInterval(ContainerInstance.ContainerStatus.RUNNING))
+                .thenReturn(List.of(running));
+
+        assertThat(writer.repair(at(1, 6, 0))).isEqualTo(2);
+
+        // 중지 시각까지만 반영 (보정 시각까지 늘리지 않음)
+        Map<LocalDate, UsageRollup> rollups = savedRollups();
+        assertThat(rollups.get(DAY).getRunningMillis()).isEqualTo(hours(1));
+        assertThat(rollups.get(DAY.plusDays(1)).getRunningMillis()).isEqualTo(hours(1));
+        ArgumentCaptor<RunningInterval> opened = ArgumentCaptor.forClass(RunningInterval.class);
+        verify(intervalRepository).save(opened.capture());
+        assertThat(opened.getValue().getInstanceId()).isEqualTo(2L);
+        assertThat(opened.getValue().getAccruedUntil()).isEqualTo(at(1, 6, 0));
+    }
+
+    @Test
+    void repairWithoutStoppedTimeAddsNoUsage() {
+        ContainerInstance failed = ContainerInstance.builder().id(1L).userId("alice")
+                .status(ContainerInstance.ContainerStatus.FAILED).build();
+        when(intervalRepository.findStale(ContainerInstance.ContainerStatus.RUNNING))
+                .thenReturn(List.of(interval(1L, at(0, 10, 0))));
+        when(instanceRepository.findAllById(List.of(1L))).thenReturn(List.of(failed));
+        when(intervalRepository.close(1L, at(0, 10, 0))).thenReturn(1);
+
+        assertThat(writer.repair(at(0, 18, 0))).isEqualTo(1);
+
+        verify(rollupRepository, never()).save(any());
+    }
+}
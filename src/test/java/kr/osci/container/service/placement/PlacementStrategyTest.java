@@ -0,0 +1,138 @@
+package kr.osci.container.service.placement;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PlacementStrategyTest {
+
+    private final ContainerTemplate jupyter = ContainerTemplate.builder().id(1L).name("Jupyter").build();
+    private final ContainerTemplate gpu = ContainerTemplate.builder().id(2L).name("PyTorch").build();
+
+    private static ClusterTarget target(String name, int capacity, String... templates) {
+        return new ClusterTarget(name, "default", name + ".example.com", 8080, capacity,
+                List.of(templates), null, null);
+    }
+
+    private static TargetLoad load(ClusterTarget target, long active) {
+        return new TargetLoad(target, active);
+    }
+
+    @Test
+    void targetLoadUtilizationAndFull() {
+        assertThat(load(target("a", 10), 5).utilization()).isEqualTo(0.5);
+        assertThat(load(target("a", 10), 10).full()).isTrue();
+        // 무제한 대상은 사용률 0, 가득 차지 않음
+        assertThat(load(target("b", 0), 1000).utilization()).isZero();
+        assertThat(load(target("b", 0), 1000).full()).isFalse();
+    }
+
+    @Test
+    void leastLoadedPicksLowestUtilization() {
+        ClusterTarget small = target("small", 10);
+        ClusterTarget large = target("large", 100);
+
+        // 활성 수는 large 가 많지만 사용률은 낮음
+        ClusterTarget selected = new LeastLoadedPlacement().select(
+                List.of(load(small, 5), load(large, 20)), "alice", jupyter);
+
+        assertThat(selected).isEqualTo(large);
+    }
+
+    @Test
+    void leastLoadedBreaksTiesByActiveCount() {
+        ClusterTarget a = target("a", 0);
+        ClusterTarget b = target("b", 0);
+
+        assertThat(new LeastLoadedPlacement().select(List.of(load(a, 3), load(b, 1)), "alice", jupyter))
+                .isEqualTo(b);
+    }
+
+    @Test
+    void templateAffinityPrefersListedTarget() {
+        ClusterTarget general = target("general", 100);
+        ClusterTarget gpuCluster = target("gpu", 10, "PyTorch");
+
+        TemplateAffinityPlacement placement = new TemplateAffinityPlacement();
+
+        assertThat(placement.select(List.of(load(general, 0), load(gpuCluster, 9)), "alice", gpu))
+                .isEqualTo(gpuCluster);
+        // 선호 대상이 없는 템플릿은 범용 대상으로
+        assertThat(placement.select(List.of(load(general, 90), load(gpuCluster, 0)), "alice", jupyter))
+                .isEqualTo(general);
+    }
+
+    @Test
+    void templateAffinityFallsBackToAnyCandidate() {
+        ClusterTarget gpuCluster = target("gpu", 10, "PyTorch");
+        ClusterTarget other = target("other", 10, "RStudio");
+
+        // 선호/범용 대상 모두 후보에 없으면 나머지 중 사용률 최저
+        assertThat(new TemplateAffinityPlacement().select(List.of(load(gpuCluster, 5), load(other, 2)), "alice", jupyter))
+                .isEqualTo(other);
+    }
+
+    @Test
+    void userHashIsStablePerUser() {
+        List<TargetLoad> candidates = List.of(load(target("a", 0), 0), load(target("b", 0), 0), load(target("c", 0), 0));
+        UserHashPlacement placement = new UserHashPlacement();
+
+        ClusterTarget first = placement.select(candidates, "alice", jupyter);
+
+        // 부하/순서가 바뀌어도 같은 사용자는 같은 대상
+        List<TargetLoad> reordered = List.of(load(target("c", 0), 50), load(target("a", 0), 7), load(target("b", 0), 0));
+        assertThat(placement.select(reordered, "alice", jupyter).name()).isEqualTo(first.name());
+    }
+
+    @Test
+    void userHashSpreadsUsersAndMovesOnlyRemovedTargetsShare() {
+        List<TargetLoad> all = List.of(load(target("a", 0), 0), load(target("b", 0), 0), load(target("c", 0), 0));
+        List<TargetLoad> withoutC = all.subList(0, 2);
+        UserHashPlacement placement = new UserHashPlacement();
+
+        Set<String> used = new HashSet<>();
+        for (String userId : IntStream.range(0, 100).mapToObj(i -> "user" + i).toList()) {
+            String before = placement.select(all, userId, jupyter).name();
+            String after = placement.select(withoutC, userId, jupyter).name();
+            used.add(before);
+            if (!before.equals("c")) {
+                assertThat(after).isEqualTo(before);
+            }
+        }
+        assertThat(used).containsExactlyInAnyOrder("a", "b", "c");
+    }
+
+    @Test
+    void placeAllSpreadsBatchAndSkipsFullTargets() {
+        ClusterTarget a = target("a", 2);
+        ClusterTarget b = target("b", 2);
+        ClusterTargets clusterTargets = mock(ClusterTargets.class);
+        when(clusterTargets.primary()).thenReturn(a);
+        when(clusterTargets.all()).thenReturn(List.of(a, b));
+        ContainerInstanceRepository instanceRepository = mock(ContainerInstanceRepository.class);
+        when(instanceRepository.countByTarget(any())).thenReturn(List.<Object[]>of(new Object[]{"a", 1L}));
+        @SuppressWarnings("unchecked")
+        ObjectProvider<ClusterCapacity> clusterCapacity = mock(ObjectProvider.class);
+
+        PlacementService placementService = new PlacementService(clusterTargets, new LeastLoadedPlacement(),
+                instanceRepository, new SimpleMeterRegistry(), clusterCapacity);
+
+        // 배치할 때마다 메모리에서 부하 반영 - a(1/2) b(0/2) → b, a, b 후 자리 없음
+        List<ClusterTarget> placed = placementService.placeAll(List.of("u1", "u2", "u3", "u4"), jupyter);
+
+        assertThat(placed.subList(0, 3)).extracting(ClusterTarget::name).containsExactly("b", "a", "b");
+        assertThat(placed.get(3)).isNull();
+    }
+}
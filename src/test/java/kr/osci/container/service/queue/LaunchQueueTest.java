@@ -0,0 +1,256 @@
+package kr.osci.container.service.queue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.osci.container.entity.ContainerInstance;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.repository.ContainerInstanceRepository;
+import kr.osci.container.service.ProvisioningService;
+import kr.osci.container.service.TemplateCatalog;
+import kr.osci.container.service.admission.AdmissionRejectedException;
+import kr.osci.container.service.admission.AdmissionService;
+import kr.osci.container.service.placement.ClusterTarget;
+import kr.osci.container.service.placement.PlacementService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LaunchQueueTest {
+
+    private static final ContainerInstance.ContainerStatus QUEUED = ContainerInstance.ContainerStatus.QUEUED;
+    private static final ContainerInstance.ContainerStatus PENDING = ContainerInstance.ContainerStatus.PENDING;
+
+    @Mock
+    private ContainerInstanceRepository instanceRepository;
+
+    @Mock
+    private TemplateCatalog templateCatalog;
+
+    @Mock
+    private PlacementService placementService;
+
+    @Mock
+    private ProvisioningService provisioningService;
+
+    @Mock
+    private AdmissionService admissionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ExecutorService provisioningExecutor;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ContainerTemplate jupyter = ContainerTemplate.builder().id(1L).name("Jupyter").build();
+    private final ClusterTarget target = new ClusterTarget("a", "workspaces", "a.example.com", 8080, 0,
+            List.of(), null, null);
+
+    private LaunchQueue launchQueue;
+
+    @BeforeEach
+    void setUp() {
+        launchQueue = new LaunchQueue(instanceRepository, templateCatalog, placementService, provisioningService,
+                admissionService, eventPublisher, provisioningExecutor, meterRegistry);
+        ReflectionTestUtils.setField(launchQueue, "maxDepth", 10);
+        ReflectionTestUtils.setField(launchQueue, "dispatchBatch", 2);
+        ReflectionTestUtils.setField(launchQueue, "retryAfter", Duration.ofSeconds(30));
+    }
+
+    private ContainerInstance queued(long id, String userId, int priority) {
+        return ContainerInstance.builder()
+                .id(id)
+                .template(jupyter)
+                .userId(userId)
+                .podName("jupyter-s" + id)
+                .namespace("workspaces")
+                .status(QUEUED)
+                .priority(priority)
+                .queuedAt(LocalDateTime.now().minusSeconds(10))
+                .build();
+    }
+
+    private AdmissionService.Permit admitted(ContainerInstance instance) {
+        AdmissionService.Permit permit = mock(AdmissionService.Permit.class);
+        when(placementService.place(instance.getUserId(), jupyter, null)).thenReturn(target);
+        when(instanceRepository.assignTarget(eq(instance.getId()), eq(QUEUED), eq(PENDING), eq("a"),
+                eq("workspaces"), anyString(), any())).thenReturn(1);
+        when(provisioningService.provision(eq(instance), eq(jupyter), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        return permit;
+    }
+
+    @Test
+    void dispatchRunsHeadInOrderAndStopsAtFirstThatDoesNotFit() {
+        ContainerInstance first = queued(1L, "alice", 5);
+        ContainerInstance blocked = queued(2L, "bob", 0);
+        when(instanceRepository.findQueue(QUEUED, Limit.of(2))).thenReturn(List.of(first, blocked));
+        when(templateCatalog.find(1L)).thenReturn(Optional.of(jupyter));
+        AdmissionService.Permit permit = admitted(first);
+        when(admissionService.admitDispatch()).thenReturn(Optional.of(permit));
+        when(placementService.place("bob", jupyter, null)).thenReturn(null);
+
+        launchQueue.dispatch();
+
+        InOrder order = inOrder(placementService, provisioningService);
+        order.verify(placementService).place("alice", jupyter, null);
+        order.verify(provisioningService).provision(first, jupyter, "s1");
+        order.verify(placementService).place("bob", jupyter, null);
+        // 맨 앞이 들어가지 않으면 다음 배치를 읽지 않음 (새치기 방지)
+        verify(instanceRepository, times(1)).findQueue(QUEUED, Limit.of(2));
+        verify(permit).close();
+
+        assertThat(first.getStatus()).isEqualTo(PENDING);
+        assertThat(first.getTarget()).isEqualTo("a");
+        assertThat(first.getAccessUrl()).isEqualTo("http://s1.a.example.com:8080");
+        assertThat(blocked.getStatus()).isEqualTo(QUEUED);
+    }
+
+    @Test
+    void dispatchDrainsAcrossBatches() {
+        ContainerInstance a = queued(1L, "alice", 0);
+        ContainerInstance b = queued(2L, "bob", 0);
+        ContainerInstance c = queued(3L, "carol", 0);
+        when(instanceRepository.findQueue(QUEUED, Limit.of(2))).thenReturn(List.of(a, b), List.of(c));
+        when(templateCatalog.find(1L)).thenReturn(Optional.of(jupyter));
+        AdmissionService.Permit permitA = admitted(a);
+        AdmissionService.Permit permitB = admitted(b);
+        AdmissionService.Permit permitC = admitted(c);
+        when(admissionService.admitDispatch())
+                .thenReturn(Optional.of(permitA), Optional.of(permitB), Optional.of(permitC));
+
+        launchQueue.dispatch();
+
+        verify(provisioningService).provision(a, jupyter, "s1");
+        verify(provisioningService).provision(b, jupyter, "s2");
+        verify(provisioningService).provision(c, jupyter, "s3");
+        verify(instanceRepository, times(2)).findQueue(QUEUED, Limit.of(2));
+        assertThat(meterRegistry.get("container.launch.queue.wait").tag("outcome", "dispatched").timer().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void noDispatchSlotLeavesQueueUntouched() {
+        ContainerInstance first = queued(1L, "alice", 0);
+        when(instanceRepository.findQueue(QUEUED, Limit.of(2))).thenReturn(List.of(first));
+        when(templateCatalog.find(1L)).thenReturn(Optional.of(jupyter));
+        when(placementService.place("alice", jupyter, null)).thenReturn(target);
+        when(admissionService.admitDispatch()).thenReturn(Optional.empty());
+
+        launchQueue.dispatch();
+
+        verify(instanceRepository, never()).assignTarget(any(), any(), any(), any(), any(), any(), any());
+        verify(provisioningService, never()).provision(any(), any(), any());
+        assertThat(first.getStatus()).isEqualTo(QUEUED);
+    }
+
+    @Test
+    void itemTakenByAnotherReplicaIsSkipped() {
+        ContainerInstance taken = queued(1L, "alice", 0);
+        ContainerInstance next = queued(2L, "bob", 0);
+        when(instanceRepository.findQueue(QUEUED, Limit.of(2))).thenReturn(List.of(taken, next), List.of());
+        when(templateCatalog.find(1L)).thenReturn(Optional.of(jupyter));
+        AdmissionService.Permit unused = mock(AdmissionService.Permit.class);
+        when(placementService.place("alice", jupyter, null)).thenReturn(target);
+        when(instanceRepository.assignTarget(eq(1L), eq(QUEUED), eq(PENDING), any(), any(), any(), any()))
+                .thenReturn(0);
+        AdmissionService.Permit permit = admitted(next);
+        when(admissionService.admitDispatch()).thenReturn(Optional.of(unused), Optional.of(permit));
+
+        launchQueue.dispatch();
+
+        // 실행 확정 경합에서 지면 슬롯 반환 후 다음 항목 진행
+        verify(unused).close();
+        verify(provisioningService, never()).provision(eq(taken), any(), any());
+        verify(provisioningService).provision(next, jupyter, "s2");
+    }
+
+    @Test
+    void queuedItemOfDeletedTemplateIsFailed() {
+        ContainerInstance orphan = queued(1L, "alice", 0);
+        when(instanceRepository.findQueue(QUEUED, Limit.of(2))).thenReturn(List.of(orphan));
+        when(templateCatalog.find(1L)).thenReturn(Optional.empty());
+        when(instanceRepository.updateStatusIf(1L, QUEUED, ContainerInstance.ContainerStatus.FAILED, null))
+                .thenReturn(1);
+
+        launchQueue.dispatch();
+
+        assertThat(orphan.getStatus()).isEqualTo(ContainerInstance.ContainerStatus.FAILED);
+        verify(placementService, never()).place(any(), any(), any());
+    }
+
+    @Test
+    void dispatchRequestsAreCoalesced() {
+        when(instanceRepository.countByStatus(QUEUED)).thenReturn(3L);
+        launchQueue.init();
+
+        launchQueue.requestDispatch();
+        launchQueue.requestDispatch();
+
+        verify(provisioningExecutor, times(1)).execute(any());
+    }
+
+    @Test
+    void emptyQueueDoesNotScheduleDispatch() {
+        launchQueue.init();
+
+        launchQueue.requestDispatch();
+
+        verify(provisioningExecutor, never()).execute(any());
+    }
+
+    @Test
+    void newRequestWaitsBehindQueuedItemsOfSamePriority() {
+        when(instanceRepository.countByStatus(QUEUED)).thenReturn(1L);
+        when(instanceRepository.existsByStatusAndPriorityGreaterThanEqual(QUEUED, 0)).thenReturn(true);
+        launchQueue.init();
+
+        assertThat(launchQueue.mustWait(jupyter)).isTrue();
+    }
+
+    @Test
+    void positionCountsItemsAhead() {
+        ContainerInstance instance = queued(7L, "alice", 0);
+        when(instanceRepository.countAhead(QUEUED, 0, 7L)).thenReturn(2L);
+        when(instanceRepository.countByStatus(QUEUED)).thenReturn(5L);
+
+        LaunchQueue.Position position = launchQueue.position(instance).orElseThrow();
+
+        assertThat(position.position()).isEqualTo(3);
+        assertThat(position.depth()).isEqualTo(5);
+    }
+
+    @Test
+    void fullQueueRejectsWith429Reason() {
+        when(instanceRepository.countByStatus(QUEUED)).thenReturn(9L);
+
+        assertThatThrownBy(() -> launchQueue.ensureRoom(2))
+                .isInstanceOf(AdmissionRejectedException.class)
+                .extracting("reason").isEqualTo("queue-full");
+    }
+}
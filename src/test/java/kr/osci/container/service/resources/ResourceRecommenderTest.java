@@ -0,0 +1,177 @@
+package kr.osci.container.service.resources;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.osci.container.entity.ContainerTemplate;
+import kr.osci.container.entity.ResourceProfile;
+import kr.osci.container.event.TemplateChangedEvent;
+import kr.osci.container.repository.ContainerTemplateRepository;
+import kr.osci.container.service.PodSpecCompiler;
+import kr.osci.container.service.SchedulerLeaseService;
+import kr.osci.container.service.TemplateCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ResourceRecommenderTest {
+
+    private static final long MI = 1024L * 1024;
+
+    private final UsageCollector usageCollector = mock(UsageCollector.class);
+    private final ContainerTemplateRepository templateRepository = mock(ContainerTemplateRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final TemplateCatalog templateCatalog = mock(TemplateCatalog.class);
+    private final SchedulerLeaseService leaseService = mock(SchedulerLeaseService.class);
+
+    private ResourceRecommender recommender;
+
+    @BeforeEach
+    void setUp() {
+        PodSpecCompiler podSpecCompiler = new PodSpecCompiler(new ObjectMapper());
+        ReflectionTestUtils.setField(podSpecCompiler, "maxCpuLimit", "4");
+        ReflectionTestUtils.setField(podSpecCompiler, "maxMemoryLimit", "8Gi");
+
+        recommender = new ResourceRecommender(usageCollector, templateCatalog, templateRepository,
+                podSpecCompiler, eventPublisher, new SimpleMeterRegistry(), leaseService);
+        ReflectionTestUtils.setField(recommender, "minSamples", 60L);
+        ReflectionTestUtils.setField(recommender, "requestMargin", 0.15);
+        ReflectionTestUtils.setField(recommender, "limitMargin", 0.5);
+        ReflectionTestUtils.setField(recommender, "oomBump", 1.5);
+        ReflectionTestUtils.setField(recommender, "maxCpuLimit", "4");
+        ReflectionTestUtils.setField(recommender, "maxMemoryLimit", "8Gi");
+        ReflectionTestUtils.setField(recommender, "applyThreshold", 0.1);
+        ReflectionTestUtils.setField(recommender, "applyInterval", 3_600_000L);
+    }
+
+    private static ContainerTemplate template(ResourceProfile resources) {
+        return ContainerTemplate.builder().id(1L).name("Jupyter").resources(resources).build();
+    }
+
+    // cpu milli / memory byte 백분위
+    private void observed(long samples, long cpuP90, long cpuP99, long memoryP95, long memoryP99, int oomKills) {
+        when(usageCollector.stats(1L)).thenReturn(Optional.of(new UsageCollector.Stats(samples,
+                new UsageCollector.Percentiles(cpuP90 / 2, cpuP90, cpuP90, cpuP99),
+                new UsageCollector.Percentiles(memoryP95 / 2, memoryP95, memoryP95, memoryP99),
+                oomKills)));
+    }
+
+    @Test
+    void requestsAndLimitsFollowPercentilesWithMargins() {
+        observed(100, 200, 400, 300 * MI, 400 * MI, 0);
+
+        ResourceProfile recommended = recommender.recommend(template(null)).recommended();
+
+        // cpu request = p90 × 1.15, limit = p99 × 1.5 / memory request = p95 × 1.15, limit = p99 × 1.5
+        assertThat(recommended.getCpuRequest()).isEqualTo("230m");
+        assertThat(recommended.getCpuLimit()).isEqualTo("600m");
+        assertThat(recommended.getMemoryRequest()).isEqualTo("345Mi");
+        assertThat(recommended.getMemoryLimit()).isEqualTo("600Mi");
+    }
+
+    @Test
+    void memoryIsRoundedUpToWholeMebibytes() {
+        observed(100, 200, 400, 100 * MI + 1, 200 * MI + 1, 0);
+
+        ResourceProfile recommended = recommender.recommend(template(null)).recommended();
+
+        assertThat(recommended.getMemoryRequest()).isEqualTo("116Mi");
+        assertThat(recommended.getMemoryLimit()).isEqualTo("301Mi");
+    }
+
+    @Test
+    void recentOomRaisesMemoryLimitFromCurrentLimit() {
+        observed(100, 200, 400, 300 * MI, 400 * MI, 1);
+
+        ResourceProfile recommended = recommender.recommend(template(
+                ResourceProfile.builder().memoryLimit("1Gi").build())).recommended();
+
+        // OOM 직전까지만 관측되므로 현재 limit(1Gi) × oom-bump
+        assertThat(recommended.getMemoryLimit()).isEqualTo("1536Mi");
+        assertThat(recommended.getMemoryRequest()).isEqualTo("345Mi");
+    }
+
+    @Test
+    void valuesAreClampedToMinimumsAndMaximums() {
+        observed(100, 20_000, 40_000, 16_384 * MI, 16_384 * MI, 0);
+        ResourceProfile large = recommender.recommend(template(null)).recommended();
+
+        assertThat(large.getCpuLimit()).isEqualTo("4000m");
+        assertThat(large.getCpuRequest()).isEqualTo("4000m");
+        assertThat(large.getMemoryLimit()).isEqualTo("8192Mi");
+        assertThat(large.getMemoryRequest()).isEqualTo("8192Mi");
+
+        observed(100, 1, 2, MI, MI, 0);
+        ResourceProfile small = recommender.recommend(template(null)).recommended();
+
+        assertThat(small.getCpuRequest()).isEqualTo("10m");
+        assertThat(small.getCpuLimit()).isEqualTo("10m");
+        assertThat(small.getMemoryRequest()).isEqualTo("64Mi");
+        assertThat(small.getMemoryLimit()).isEqualTo("64Mi");
+    }
+
+    @Test
+    void tooFewSamplesGiveNoRecommendation() {
+        observed(59, 200, 400, 300 * MI, 400 * MI, 0);
+
+        ResourceRecommender.Recommendation recommendation = recommender.recommend(template(null));
+
+        assertThat(recommendation.recommended()).isNull();
+        assertThat(recommendation.stats().samples()).isEqualTo(59);
+    }
+
+    @Test
+    void applySavesProfileAndPublishesChange() {
+        ContainerTemplate template = template(null);
+        when(templateRepository.findById(1L)).thenReturn(Optional.of(template));
+        observed(100, 200, 400, 300 * MI, 400 * MI, 0);
+
+        ResourceProfile applied = recommender.apply(1L);
+
+        assertThat(template.getResources()).isSameAs(applied);
+        verify(templateRepository).save(template);
+        verify(eventPublisher).publishEvent(new TemplateChangedEvent(1L));
+    }
+
+    @Test
+    void applyWithoutEnoughSamplesIsRejected() {
+        when(templateRepository.findById(1L)).thenReturn(Optional.of(template(null)));
+        when(usageCollector.stats(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> recommender.apply(1L)).isInstanceOf(IllegalArgumentException.class);
+        verify(templateRepository, never()).save(any());
+    }
+
+    @Test
+    void autoApplyRunsOnlyOnLeaseHolder() {
+        ContainerTemplate template = template(null);
+        when(templateCatalog.snapshot()).thenReturn(new TemplateCatalog.Snapshot(1, List.of(template),
+                Map.of(1L, template), Map.of()));
+        when(templateRepository.findById(1L)).thenReturn(Optional.of(template));
+        observed(100, 200, 400, 300 * MI, 400 * MI, 0);
+        ReflectionTestUtils.setField(recommender, "autoApply", true);
+
+        // 다른 레플리카가 보유 - 자기 히스토그램 값으로 덮어쓰지 않음
+        when(leaseService.tryAcquire(eq(ResourceRecommender.AUTO_APPLY_LEASE), any())).thenReturn(false);
+        recommender.autoApply();
+        verify(templateRepository, never()).save(any());
+
+        when(leaseService.tryAcquire(ResourceRecommender.AUTO_APPLY_LEASE, Duration.ofHours(2))).thenReturn(true);
+        recommender.autoApply();
+        verify(templateRepository).save(template);
+    }
+}
@@ -0,0 +1,65 @@
+package kr.osci.container.service.resources;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UsageHistogramTest {
+
+    // 1분 window, 10초 슬롯 6개
+    private final UsageHistogram histogram = new UsageHistogram(Duration.ofMinutes(1), 6);
+
+    @Test
+    void emptyHistogramReturnsZero() {
+        assertThat(histogram.percentile(0.9, 0)).isZero();
+        assertThat(histogram.count(0)).isZero();
+    }
+
+    @Test
+    void percentileIsBucketUpperBoundWithinTenPercent() {
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value, 0);
+        }
+
+        assertThat(histogram.count(0)).isEqualTo(100);
+        for (double p : new double[]{0.5, 0.9, 0.95, 0.99}) {
+            long exact = (long) Math.ceil(p * 100);
+            // 과소 추정하지 않고, 과대 추정은 버킷 폭(10%) 이내
+            assertThat(histogram.percentile(p, 0))
+                    .isGreaterThanOrEqualTo(exact)
+                    .isLessThanOrEqualTo((long) Math.ceil(exact * 1.1) + 1);
+        }
+    }
+
+    @Test
+    void smallValuesShareFirstBucket() {
+        histogram.record(0, 0);
+        histogram.record(1, 0);
+
+        assertThat(histogram.percentile(1, 0)).isEqualTo(1);
+    }
+
+    @Test
+    void samplesOutsideWindowAreDropped() {
+        histogram.record(100, 0);
+        histogram.record(200, 30_000);
+
+        assertThat(histogram.count(59_999)).isEqualTo(2);
+        // 첫 슬롯이 window 밖으로
+        assertThat(histogram.count(60_000)).isEqualTo(1);
+        assertThat(histogram.percentile(0.5, 60_000)).isGreaterThanOrEqualTo(200);
+        assertThat(histogram.count(90_000)).isZero();
+    }
+
+    @Test
+    void reusedSlotIsClearedBeforeRecording() {
+        histogram.record(100, 0);
+        // 같은 위치 슬롯을 한 바퀴 뒤에 재사용
+        histogram.record(1_000_000, 60_000);
+
+        assertThat(histogram.count(60_000)).isEqualTo(1);
+        assertThat(histogram.percentile(0.01, 60_000)).isGreaterThanOrEqualTo(1_000_000);
+    }
+}